@@ -20,7 +20,9 @@ import org.eclipse.birt.core.archive.compound.ArchiveFileFactoryTest;
 import org.eclipse.birt.core.archive.compound.ArchiveFileTest;
 import org.eclipse.birt.core.archive.compound.ArchivePerformanceTest;
 import org.eclipse.birt.core.archive.compound.ArchiveRemoveTest;
+import org.eclipse.birt.core.archive.compound.ArchiveTransferTest;
 import org.eclipse.birt.core.archive.compound.ArchiveViewTest;
+import org.eclipse.birt.core.archive.compound.ArchiveWriterTest;
 import org.eclipse.birt.core.archive.compound.UpgradeArchiveTest;
 
 import junit.framework.Test;
@@ -45,7 +47,9 @@ public class AllArchiveTests {
 		test.addTestSuite(ArchiveFileTest.class);
 		test.addTestSuite(ArchivePerformanceTest.class);
 		test.addTestSuite(ArchiveRemoveTest.class);
+		test.addTestSuite(ArchiveTransferTest.class);
 		test.addTestSuite(ArchiveViewTest.class);
+		test.addTestSuite(ArchiveWriterTest.class);
 		test.addTestSuite(UpgradeArchiveTest.class);
 		test.addTestSuite(ArchiveFileCacheTest.class);
 		test.addTestSuite(ArchiveFileSaveTest.class);
@@ -87,6 +87,63 @@ public class FileCacheManagerTest extends TestCase {
 		assertEquals(1, o2.getReferenceCount().get());
 		assertEquals(0, oldO2.getReferenceCount().get());
 	}
+
+	@Test
+	public void testSystemCacheManager() {
+		SystemCacheManager systemCache = new SystemCacheManager(1024);
+		FileCacheManager cacheManager1 = new FileCacheManager();
+		FileCacheManager cacheManager2 = new FileCacheManager();
+		cacheManager1.setSystemCacheManager(systemCache);
+		cacheManager2.setSystemCacheManager(systemCache);
+		final int[] releasedCount = new int[1];
+		cacheManager2.setCacheListener(new CacheListener() {
+
+			@Override
+			public void onCacheRelease(Cacheable cache) {
+				releasedCount[0]++;
+			}
+		});
+
+		// the same key in different files
+		CachedObject o1 = new CachedObject(cacheManager1, 1);
+		CachedObject o2 = new CachedObject(cacheManager2, 1);
+		cacheManager1.addCache(o1);
+		cacheManager2.addCache(o2);
+		cacheManager1.releaseCache(o1);
+		cacheManager2.releaseCache(o2);
+		// the released caches are written back and kept in the system cache
+		assertEquals(1, releasedCount[0]);
+		assertEquals(2, systemCache.getUsedCacheSize());
+		assertEquals(0, cacheManager1.getUsedCacheSize());
+		assertEquals(1, cacheManager1.getTotalUsedCacheSize());
+		assertEquals(-1, o1.getReferenceCount().get());
+
+		assertSame(o1, cacheManager1.getCache(1));
+		assertEquals(1, o1.getReferenceCount().get());
+		assertEquals(1, systemCache.getUsedCacheSize());
+		assertNull(cacheManager1.getCache(2));
+		assertEquals(1, systemCache.getHitCount());
+		assertEquals(1, systemCache.getMissCount());
+		assertEquals(0.5, systemCache.getHitRatio(), 0.001);
+		cacheManager1.releaseCache(o1);
+		assertEquals(2, systemCache.getUsedCacheSize());
+
+		// closing the file removes its caches from the system cache
+		cacheManager1.clear();
+		assertEquals(1, systemCache.getUsedCacheSize());
+		assertEquals(-2, o1.getReferenceCount().get());
+		assertNull(cacheManager1.getCache(1));
+		// the caches of the other file are kept
+		assertEquals(-1, o2.getReferenceCount().get());
+		assertEquals(1, cacheManager2.getTotalUsedCacheSize());
+
+		// shrinking the system cache drops the caches from the files
+		systemCache.setMaxCacheSize(0);
+		assertEquals(0, systemCache.getUsedCacheSize());
+		assertEquals(1, systemCache.getEvictionCount());
+		assertEquals(0, cacheManager2.getTotalUsedCacheSize());
+		assertNull(cacheManager2.getCache(1));
+	}
 }
 
 class CachedObject extends Cacheable {
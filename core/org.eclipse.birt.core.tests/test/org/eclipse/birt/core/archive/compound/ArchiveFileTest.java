@@ -15,6 +15,10 @@ package org.eclipse.birt.core.archive.compound;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
@@ -155,6 +159,189 @@ public class ArchiveFileTest extends TestCase {
 		archive.close();
 	}
 
+	@Test
+	public void testMappedRead() throws Exception {
+		ArchiveFile archive = new ArchiveFile(ARCHIVE_FILE, "rw");
+		createArchive(archive);
+		createDataArchive(archive);
+		archive.close();
+
+		ArchiveFile mapped = new ArchiveFile(ARCHIVE_FILE, "rm");
+		checkArchive(mapped);
+		checkDataArchiveConcurrently(mapped);
+		mapped.close();
+	}
+
+	@Test
+	public void testMappedReadV2() throws Exception {
+		ArchiveFileV2 archive = new ArchiveFileV2(ARCHIVE_FILE, "rw");
+		createDataArchive(archive);
+		archive.close();
+
+		ArchiveFileV2 mapped = new ArchiveFileV2(ARCHIVE_FILE, "rm");
+		checkDataArchiveConcurrently(mapped);
+		try {
+			// the entries are read without the lock, so they are never rebuilt
+			mapped.refresh();
+			fail();
+		} catch (UnsupportedOperationException ex) {
+		}
+		mapped.close();
+	}
+
+	@Test
+	public void testCompressedEntries() throws Exception {
+		ArchiveFile archive = new ArchiveFile(ARCHIVE_FILE, "rwc");
+		createArchive(archive);
+		createDataArchive(archive);
+
+		// a stream crossing several chunks, rewritten in the middle
+		byte[] expected = new byte[300000];
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = (byte) (i / 100);
+		}
+		ArchiveEntry entry = archive.createEntry("/big");
+		for (int off = 0; off < expected.length; off += 1000) {
+			entry.write(off, expected, off, 1000);
+			if (off == 150000) {
+				archive.flush();
+			}
+		}
+		for (int i = 60000; i < 70000; i++) {
+			expected[i] = (byte) i;
+		}
+		entry.write(60000, expected, 60000, 10000);
+		checkEntry(entry, expected);
+		entry.close();
+		archive.close();
+
+		RandomAccessFile rf = new RandomAccessFile(ARCHIVE_FILE, "r");
+		try {
+			assertEquals(ArchiveFile.ARCHIVE_V3_TAG, rf.readLong());
+			assertEquals(1, rf.readInt());
+		} finally {
+			rf.close();
+		}
+
+		ArchiveFile reader = new ArchiveFile(ARCHIVE_FILE, "r");
+		checkArchive(reader);
+		checkDataArchiveConcurrently(reader);
+		entry = reader.openEntry("/big");
+		checkEntry(entry, expected);
+		entry.close();
+		// save the entries uncompressed
+		reader.saveAs(TRANSIENT_ARCHIVE_FILE);
+		reader.close();
+		assertTrue(new File(ARCHIVE_FILE).length() < new File(TRANSIENT_ARCHIVE_FILE).length());
+
+		ArchiveFile mapped = new ArchiveFile(ARCHIVE_FILE, "rm");
+		checkDataArchiveConcurrently(mapped);
+		mapped.close();
+	}
+
+	@Test
+	public void testTruncateCompressedEntries() throws Exception {
+		// random data does not shrink, so its chunks are stored uncompressed
+		byte[] data = new byte[100000];
+		new Random(0).nextBytes(data);
+		ArchiveFile archive = new ArchiveFile(ARCHIVE_FILE, "rwc");
+		ArchiveEntry entry = archive.createEntry("/random");
+		entry.write(0, data, 0, data.length);
+		entry.close();
+		archive.flush();
+
+		// truncate the last chunk without loading it
+		entry = archive.openEntry("/random");
+		entry.setLength(80000);
+		entry.close();
+		byte[] expected = new byte[80000];
+		System.arraycopy(data, 0, expected, 0, expected.length);
+		entry = archive.openEntry("/random");
+		checkEntry(entry, expected);
+		entry.close();
+		archive.close();
+
+		ArchiveFile reader = new ArchiveFile(ARCHIVE_FILE, "r");
+		entry = reader.openEntry("/random");
+		checkEntry(entry, expected);
+		entry.close();
+		reader.close();
+	}
+
+	void checkEntry(ArchiveEntry entry, byte[] expected) throws IOException {
+		assertEquals(expected.length, entry.getLength());
+		// read backward so that each read seeks to another chunk
+		byte[] b = new byte[7000];
+		for (int off = expected.length - b.length; off > -b.length; off -= b.length) {
+			int pos = Math.max(off, 0);
+			int size = entry.read(pos, b, 0, Math.min(b.length, off + b.length - pos));
+			for (int i = 0; i < size; i++) {
+				assertEquals(expected[pos + i], b[i]);
+			}
+		}
+	}
+
+	void createDataArchive(IArchiveFile archive) throws IOException {
+		for (int i = 0; i < 16; i++) {
+			byte[] b = createData(i);
+			ArchiveEntry entry = archive.createEntry("/data/" + i);
+			entry.write(0, b, 0, b.length);
+			entry.close();
+		}
+	}
+
+	void checkDataArchiveConcurrently(final IArchiveFile archive) throws Exception {
+		final List<Throwable> errors = new ArrayList<>();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread() {
+
+				@Override
+				public void run() {
+					try {
+						for (int i = 0; i < 16; i++) {
+							byte[] expected = createData(i);
+							ArchiveEntry entry = archive.openEntry("/data/" + i);
+							try {
+								assertEquals(expected.length, entry.getLength());
+								byte[] b = new byte[expected.length];
+								// read in pieces which cross the block boundaries
+								int off = 0;
+								while (off < b.length) {
+									int size = entry.read(off, b, off, Math.min(5000, b.length - off));
+									assertTrue(size > 0);
+									off += size;
+								}
+								for (int j = 0; j < b.length; j++) {
+									assertEquals(expected[j], b[j]);
+								}
+							} finally {
+								entry.close();
+							}
+						}
+					} catch (Throwable ex) {
+						synchronized (errors) {
+							errors.add(ex);
+						}
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertTrue(errors.toString(), errors.isEmpty());
+	}
+
+	static byte[] createData(int index) {
+		byte[] b = new byte[index * 3001];
+		for (int j = 0; j < b.length; j++) {
+			b[j] = (byte) (index + j);
+		}
+		return b;
+	}
+
 	void createArchive(ArchiveFile archive) throws IOException {
 		int entryCount = 1024;
 		byte[] b = new byte[entryCount];
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.core.archive.compound;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.birt.core.archive.ArchiveUtil;
+import org.eclipse.birt.core.archive.FolderArchiveReader;
+import org.eclipse.birt.core.archive.FolderArchiveWriter;
+import org.eclipse.birt.core.archive.RAInputStream;
+import org.eclipse.birt.core.archive.RAOutputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+public class ArchiveTransferTest extends TestCase {
+
+	static final String ARCHIVE_FOLDER = "./utest/";
+	static final String ARCHIVE_FILE = ARCHIVE_FOLDER + "transfer.rptdocument";
+	static final String ARCHIVE_DOCUMENT_FOLDER = ARCHIVE_FOLDER + "transfer/";
+
+	private byte[][] expected;
+
+	@Override
+	@Before
+	public void setUp() {
+		new File(ARCHIVE_FOLDER).mkdirs();
+		Random random = new Random(0);
+		// the sizes cover the empty entry, the partial block and the entries
+		// across several blocks
+		int[] sizes = { 0, 100, 4096, 40000, 100001 };
+		expected = new byte[sizes.length][];
+		for (int i = 0; i < sizes.length; i++) {
+			expected[i] = new byte[sizes[i]];
+			random.nextBytes(expected[i]);
+		}
+	}
+
+	@Override
+	@After
+	public void tearDown() {
+		new File(ARCHIVE_FILE).delete();
+		ArchiveUtil.deleteAllFiles(new File(ARCHIVE_DOCUMENT_FOLDER));
+		new File(ARCHIVE_FOLDER).delete();
+	}
+
+	@Test
+	public void testTransferFromArchive() throws IOException {
+		ArchiveFile archive = new ArchiveFile(ARCHIVE_FILE, "rw");
+		try {
+			writeEntries(new ArchiveWriter(archive));
+			// the writable archive copies the data through the cache
+			checkEntries(new ArchiveReader(archive));
+		} finally {
+			archive.close();
+		}
+
+		archive = new ArchiveFile(ARCHIVE_FILE, "r");
+		try {
+			checkEntries(new ArchiveReader(archive));
+		} finally {
+			archive.close();
+		}
+
+		archive = new ArchiveFile(ARCHIVE_FILE, "rm");
+		try {
+			checkEntries(new ArchiveReader(archive));
+		} finally {
+			archive.close();
+		}
+	}
+
+	@Test
+	public void testTransferFromFolder() throws IOException {
+		FolderArchiveWriter writer = new FolderArchiveWriter(ARCHIVE_DOCUMENT_FOLDER);
+		writer.initialize();
+		for (int i = 0; i < expected.length; i++) {
+			RAOutputStream out = writer.createRandomAccessStream("/stream" + i);
+			out.write(expected[i]);
+			out.close();
+		}
+		writer.finish();
+
+		FolderArchiveReader reader = new FolderArchiveReader(ARCHIVE_DOCUMENT_FOLDER);
+		reader.open();
+		try {
+			for (int i = 0; i < expected.length; i++) {
+				checkTransfer(reader.getStream("/stream" + i), expected[i]);
+			}
+		} finally {
+			reader.close();
+		}
+	}
+
+	private void writeEntries(ArchiveWriter writer) throws IOException {
+		RAOutputStream[] streams = new RAOutputStream[expected.length];
+		for (int i = 0; i < expected.length; i++) {
+			streams[i] = writer.createRandomAccessStream("/stream" + i);
+		}
+		// interleave the writes, so the blocks of an entry are not continuous
+		int chunkSize = 6000;
+		for (int off = 0; off < 100001; off += chunkSize) {
+			for (int i = 0; i < expected.length; i++) {
+				if (off < expected[i].length) {
+					streams[i].write(expected[i], off, Math.min(chunkSize, expected[i].length - off));
+				}
+			}
+		}
+		for (int i = 0; i < expected.length; i++) {
+			streams[i].close();
+		}
+		writer.flush();
+	}
+
+	private void checkEntries(ArchiveReader reader) throws IOException {
+		for (int i = 0; i < expected.length; i++) {
+			checkTransfer(reader.getStream("/stream" + i), expected[i]);
+		}
+	}
+
+	private void checkTransfer(RAInputStream in, byte[] content) throws IOException {
+		try {
+			// transfer the whole stream
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			assertEquals(content.length, in.transferTo(Channels.newChannel(buffer)));
+			assertTrue(Arrays.equals(content, buffer.toByteArray()));
+			assertEquals(content.length, in.getOffset());
+			assertEquals(0, in.transferTo(Channels.newChannel(buffer)));
+
+			if (content.length > 10) {
+				// transfer the remaining bytes after a buffered read
+				in.seek(0);
+				byte[] head = new byte[10];
+				in.readFully(head, 0, head.length);
+				buffer = new ByteArrayOutputStream();
+				assertEquals(content.length - 10, in.transferTo(Channels.newChannel(buffer)));
+				assertTrue(Arrays.equals(Arrays.copyOfRange(content, 10, content.length), buffer.toByteArray()));
+				assertEquals(-1, in.read());
+			}
+		} finally {
+			in.close();
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.core.archive.compound;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.birt.core.archive.RAInputStream;
+import org.eclipse.birt.core.archive.RAOutputStream;
+import org.eclipse.birt.core.i18n.CoreMessages;
+import org.eclipse.birt.core.i18n.ResourceConstants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+public class ArchiveWriterTest extends TestCase {
+
+	static final String ARCHIVE_FOLDER = "./utest/";
+	static final String ARCHIVE_FILE = ARCHIVE_FOLDER + "async.rptdocument";
+
+	@Override
+	@Before
+	public void setUp() {
+		new File(ARCHIVE_FOLDER).mkdirs();
+	}
+
+	@Override
+	@After
+	public void tearDown() {
+		new File(ARCHIVE_FILE).delete();
+		new File(ARCHIVE_FOLDER).delete();
+	}
+
+	@Test
+	public void testAsyncWrite() throws IOException {
+		Random random = new Random(0);
+		byte[][] expected = new byte[8][];
+		ArchiveWriter writer = new ArchiveWriter(ARCHIVE_FILE, true);
+		try {
+			RAOutputStream[] streams = new RAOutputStream[expected.length];
+			for (int i = 0; i < expected.length; i++) {
+				streams[i] = writer.createRandomAccessStream("/stream" + i);
+				expected[i] = new byte[0];
+			}
+			// interleave the writes of all the streams
+			for (int round = 0; round < 64; round++) {
+				for (int i = 0; i < expected.length; i++) {
+					byte[] data = new byte[random.nextInt(round % 8 == 0 ? 100000 : 1000)];
+					random.nextBytes(data);
+					expected[i] = write(streams[i], expected[i], data);
+				}
+			}
+			// overwrite the head and write beyond the end
+			for (int i = 0; i < expected.length; i++) {
+				streams[i].seek(0);
+				streams[i].writeInt(i);
+				streams[i].seek(expected[i].length + 10);
+				streams[i].writeLong(i);
+				expected[i] = Arrays.copyOf(expected[i], expected[i].length + 18);
+				Arrays.fill(expected[i], 0, 4, (byte) 0);
+				expected[i][3] = (byte) i;
+				expected[i][expected[i].length - 1] = (byte) i;
+				assertEquals(expected[i].length, streams[i].length());
+				streams[i].close();
+			}
+
+			// reopen the stream to append
+			RAOutputStream out = writer.openRandomAccessStream("/stream0");
+			out.seek(out.length());
+			out.writeInt(100);
+			out.close();
+			expected[0] = Arrays.copyOf(expected[0], expected[0].length + 4);
+			expected[0][expected[0].length - 1] = 100;
+
+			// the pending writes are finished before reading the stream
+			checkStream(writer.getInputStream("/stream0"), expected[0]);
+		} finally {
+			writer.finish();
+		}
+
+		ArchiveFile archive = new ArchiveFile(ARCHIVE_FILE, "r");
+		try {
+			ArchiveReader reader = new ArchiveReader(archive);
+			for (int i = 0; i < expected.length; i++) {
+				checkStream(reader.getInputStream("/stream" + i), expected[i]);
+			}
+		} finally {
+			archive.close();
+		}
+	}
+
+	@Test
+	public void testAsyncFlush() throws IOException {
+		ArchiveFile archive = new ArchiveFile(ARCHIVE_FILE, "rw");
+		try {
+			ArchiveWriter writer = new ArchiveWriter(archive, true);
+			ArchiveReader reader = new ArchiveReader(archive);
+			RAOutputStream out = writer.createRandomAccessStream("/test");
+			out.writeInt(1);
+			out.write(new byte[AsyncArchiveEntryOutputStream.BUFFER_SIZE * 3]);
+			out.writeInt(2);
+
+			// the data is in the archive once the writer is flushed
+			writer.flush();
+			RAInputStream in = reader.getInputStream("/test");
+			assertEquals(AsyncArchiveEntryOutputStream.BUFFER_SIZE * 3 + 8, in.length());
+			assertEquals(1, in.readInt());
+			in.seek(AsyncArchiveEntryOutputStream.BUFFER_SIZE * 3 + 4);
+			assertEquals(2, in.readInt());
+			in.close();
+
+			out.close();
+			writer.finish();
+			assertTrue(archive.exists("/test"));
+		} finally {
+			archive.close();
+		}
+	}
+
+	@Test
+	public void testWriteAfterClose() throws IOException {
+		ArchiveWriter writer = new ArchiveWriter(ARCHIVE_FILE, true);
+		try {
+			RAOutputStream out = writer.createRandomAccessStream("/test");
+			out.writeInt(1);
+			out.close();
+			String message = CoreMessages.getString(ResourceConstants.FILE_HAS_BEEN_CLOSED);
+			for (int i = 0; i < 5; i++) {
+				try {
+					switch (i) {
+					case 0:
+						out.write(1);
+						break;
+					case 1:
+						out.writeInt(1);
+						break;
+					case 2:
+						out.writeLong(1);
+						break;
+					case 3:
+						out.write(new byte[4], 0, 4);
+						break;
+					default:
+						out.write(new byte[0], 0, 0);
+					}
+					fail();
+				} catch (IOException ex) {
+					assertEquals(message, ex.getMessage());
+				}
+			}
+		} finally {
+			writer.finish();
+		}
+	}
+
+	private byte[] write(RAOutputStream out, byte[] content, byte[] data) throws IOException {
+		out.write(data);
+		byte[] result = Arrays.copyOf(content, content.length + data.length);
+		System.arraycopy(data, 0, result, content.length, data.length);
+		return result;
+	}
+
+	private void checkStream(RAInputStream in, byte[] expected) throws IOException {
+		try {
+			assertEquals(expected.length, in.length());
+			byte[] content = new byte[expected.length];
+			in.readFully(content, 0, content.length);
+			assertTrue(Arrays.equals(expected, content));
+		} finally {
+			in.close();
+		}
+	}
+}
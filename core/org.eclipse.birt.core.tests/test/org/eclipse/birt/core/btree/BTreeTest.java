@@ -16,13 +16,16 @@ package org.eclipse.birt.core.btree;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
+import java.util.TreeMap;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -274,6 +277,181 @@ public class BTreeTest extends BTreeTestCase {
 		}
 	}
 
+	@Test
+	public void testBulkLoad() throws Exception {
+		TreeMap<String, Integer> entries = new TreeMap<>();
+		for (int i = 0; i < 20000; i++) {
+			entries.put("bookmark_" + i, i);
+		}
+
+		RAMBTreeFile file = new RAMBTreeFile();
+		BTreeOption<String, Integer> option = new BTreeOption<>();
+		option.setHasValue(true);
+		option.setValueSize(4);
+		option.setValueSerializer(new IntegerSerializer());
+		option.setFile(file);
+		BTree<String, Integer> btree = new BTree<>(option);
+		btree.bulkLoad(entries.entrySet().iterator());
+		checkEntries(btree, entries);
+		btree.close();
+
+		// the bulk loaded tree can be updated as usual
+		btree = new BTree<>(option);
+		checkEntries(btree, entries);
+		for (int i = 20000; i < 25000; i++) {
+			btree.insert("bookmark_" + i, i);
+			entries.put("bookmark_" + i, i);
+		}
+		checkEntries(btree, entries);
+		btree.close();
+
+		// the keys must be sorted
+		btree = new BTree<>(new BTreeOption<String, Integer>());
+		TreeMap<String, Integer> reversed = new TreeMap<>(Collections.reverseOrder());
+		reversed.putAll(entries);
+		try {
+			btree.bulkLoad(reversed.entrySet().iterator());
+			fail();
+		} catch (IOException ex) {
+		}
+		btree.close();
+	}
+
+	@Test
+	public void testBulkLoadDuplicate() throws Exception {
+		ArrayList<Map.Entry<Integer, String>> input = new ArrayList<>();
+		input.add(new AbstractMap.SimpleEntry<Integer, String>(null, "NULL"));
+		for (int i = 0; i < 10000; i++) {
+			for (int j = 0; j < i % 4; j++) {
+				input.add(new AbstractMap.SimpleEntry<>(i, i + "." + j));
+			}
+		}
+
+		RAMBTreeFile file = new RAMBTreeFile();
+		BTreeOption<Integer, String> option = new BTreeOption<>();
+		option.setHasValue(true);
+		option.setKeySize(4);
+		option.setAllowDuplicate(true);
+		option.setAllowNullKey(true);
+		option.setPrefixCompression(true);
+		option.setKeySerializer(new IntegerSerializer());
+		option.setFile(file);
+		BTree<Integer, String> btree = new BTree<>(option);
+		btree.bulkLoad(input.iterator());
+		btree.close();
+
+		btree = new BTree<>(option);
+		assertEquals(7501, btree.getTotalKeys());
+		assertEquals(input.size(), btree.getTotalValues());
+		assertEquals("NULL", btree.getValue((Integer) null));
+		for (int i = 0; i < 10000; i++) {
+			Collection<String> values = btree.getValues(i);
+			if (i % 4 == 0) {
+				assertTrue(values == null);
+			} else {
+				assertEquals(i % 4, values.size());
+				assertTrue(values.contains(i + "." + (i % 4 - 1)));
+			}
+		}
+		btree.close();
+	}
+
+	@Test
+	public void testPrefixCompression() throws Exception {
+		TreeMap<String, Integer> entries = new TreeMap<>();
+		Random random = new Random(0);
+		while (entries.size() < 20000) {
+			int value = random.nextInt(1000000);
+			entries.put("__TOC_" + value + "_" + (value % 7) + "_row_" + (value % 13), value);
+		}
+
+		int[] totalBlocks = new int[2];
+		for (int i = 0; i < 2; i++) {
+			RAMBTreeFile file = new RAMBTreeFile();
+			BTreeOption<String, Integer> option = new BTreeOption<>();
+			option.setHasValue(true);
+			option.setValueSize(4);
+			option.setValueSerializer(new IntegerSerializer());
+			option.setPrefixCompression(i == 1);
+			option.setFile(file);
+			BTree<String, Integer> btree = new BTree<>(option);
+			// insert the keys in random order to split the nodes
+			ArrayList<Map.Entry<String, Integer>> shuffled = new ArrayList<>(entries.entrySet());
+			Collections.shuffle(shuffled, random);
+			for (Map.Entry<String, Integer> entry : shuffled) {
+				btree.insert(entry.getKey(), entry.getValue());
+			}
+			checkEntries(btree, entries);
+			btree.close();
+
+			// the compression option is saved in the tree
+			option.setPrefixCompression(false);
+			btree = new BTree<>(option);
+			checkEntries(btree, entries);
+			btree.close();
+			totalBlocks[i] = file.getTotalBlock();
+		}
+		assertTrue(totalBlocks[1] < totalBlocks[0]);
+	}
+
+	@Test
+	public void testPinnedLevels() throws Exception {
+		TreeMap<String, Integer> entries = new TreeMap<>();
+		for (int i = 0; i < 50000; i++) {
+			entries.put(String.valueOf(i), i);
+		}
+		RAMBTreeFile file = new RAMBTreeFile();
+		BTreeOption<String, Integer> option = new BTreeOption<>();
+		option.setHasValue(true);
+		option.setValueSize(4);
+		option.setValueSerializer(new IntegerSerializer());
+		option.setPrefixCompression(true);
+		option.setCacheSize(4);
+		option.setPinnedLevels(2);
+		option.setFile(file);
+		BTree<String, Integer> btree = new BTree<>(option);
+		btree.bulkLoad(entries.entrySet().iterator());
+		btree.close();
+
+		btree = new BTree<>(option);
+		checkEntries(btree, entries);
+		BTreeNode<String, Integer> root = btree.loadRootNode();
+		try {
+			assertEquals(BTreeConstants.NODE_INDEX, root.getNodeType());
+			assertEquals(0, root.pinnedLevel);
+			IndexNode<String, Integer> indexNode = (IndexNode<String, Integer>) root;
+			BTreeNode<String, Integer> child = btree.loadChildNode(indexNode, indexNode.getFirstChild());
+			assertEquals(1, child.pinnedLevel);
+			child.unlock();
+		} finally {
+			root.unlock();
+		}
+		btree.close();
+	}
+
+	private void checkEntries(BTree<String, Integer> btree, TreeMap<String, Integer> entries) throws IOException {
+		assertEquals(entries.size(), btree.getTotalKeys());
+		assertEquals(entries.size(), btree.getTotalValues());
+		for (Map.Entry<String, Integer> entry : entries.entrySet()) {
+			assertEquals(entry.getValue(), btree.getValue(entry.getKey()));
+		}
+		assertFalse(btree.exist("~"));
+
+		BTreeCursor<String, Integer> cursor = btree.createCursor();
+		try {
+			for (Map.Entry<String, Integer> entry : entries.entrySet()) {
+				assertTrue(cursor.next());
+				assertEquals(entry.getKey(), cursor.getKey());
+				assertEquals(entry.getValue(), cursor.getValue());
+			}
+			assertFalse(cursor.next());
+			assertTrue(cursor.last());
+			assertEquals(entries.lastKey(), cursor.getKey());
+		} finally {
+			cursor.close();
+		}
+	}
+
 	private String createTestKey(int value, int entryCount) {
 		int a = value % 3;
 		int b = value / 3;
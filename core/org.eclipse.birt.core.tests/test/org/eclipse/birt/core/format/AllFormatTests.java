@@ -30,7 +30,8 @@ public class AllFormatTests {
 	public static Test suite() {
 		TestSuite test = new TestSuite();
 
-		test.addTestSuite(DateFormatterTest.class);
+		test.addTestSuite(DateFormatterTest.class);
+		test.addTestSuite(FormatterFactoryTest.class);
 		test.addTestSuite(NumberFormatterTest.class);
 		test.addTestSuite(StringFormatterTest.class);
 
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.core.format;
+
+import java.util.Calendar;
+import java.util.Date;
+
+import org.junit.Test;
+
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+
+import junit.framework.TestCase;
+
+public class FormatterFactoryTest extends TestCase {
+
+	@Test
+	public void testNumberFormatter() {
+		NumberFormatter formatter = FormatterFactory.getNumberFormatter("###,##0.00", ULocale.US);
+		assertEquals("1,002.20", formatter.format(1002.2));
+		assertEquals("###,##0.00", formatter.getPattern());
+
+		// each call returns a new formatter
+		NumberFormatter other = FormatterFactory.getNumberFormatter("###,##0.00", ULocale.US);
+		assertNotSame(formatter, other);
+
+		// changing the formatter doesn't change the cached one
+		formatter.applyPattern("#");
+		assertEquals("1002", formatter.format(1002.2));
+		assertEquals("1,002.20", other.format(1002.2));
+		assertEquals("1,002.20", FormatterFactory.getNumberFormatter("###,##0.00", ULocale.US).format(1002.2));
+
+		assertEquals("1.002,20", FormatterFactory.getNumberFormatter("###,##0.00", ULocale.GERMANY).format(1002.2));
+	}
+
+	@Test
+	public void testDateFormatter() {
+		Calendar calendar = Calendar.getInstance(java.util.TimeZone.getTimeZone("GMT"));
+		calendar.clear();
+		calendar.set(2026, 0, 2, 3, 4, 5);
+		Date date = calendar.getTime();
+
+		DateFormatter gmt = FormatterFactory.getDateFormatter("yyyy-MM-dd HH:mm", ULocale.US,
+				TimeZone.getTimeZone("GMT"));
+		assertEquals("2026-01-02 03:04", gmt.format(date));
+		DateFormatter tokyo = FormatterFactory.getDateFormatter("yyyy-MM-dd HH:mm", ULocale.US,
+				TimeZone.getTimeZone("Asia/Tokyo"));
+		assertEquals("2026-01-02 12:04", tokyo.format(date));
+		assertNotSame(gmt, FormatterFactory.getDateFormatter("yyyy-MM-dd HH:mm", ULocale.US,
+				TimeZone.getTimeZone("GMT")));
+	}
+
+	@Test
+	public void testStringFormatter() {
+		StringFormatter formatter = FormatterFactory.getStringFormatter(">", ULocale.US);
+		assertEquals("ABC", formatter.format("abc"));
+		formatter.applyPattern("<");
+		assertEquals("abc", formatter.format("ABC"));
+		assertEquals("ABC", FormatterFactory.getStringFormatter(">", ULocale.US).format("abc"));
+	}
+
+	@Test
+	public void testConcurrentFormat() throws Exception {
+		final String expected = new NumberFormatter("###,##0.000", ULocale.US).format(12345.678);
+		final boolean[] failed = new boolean[1];
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < 1000; j++) {
+						NumberFormatter formatter = FormatterFactory.getNumberFormatter("###,##0.000", ULocale.US);
+						if (!expected.equals(formatter.format(12345.678))) {
+							failed[0] = true;
+						}
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertFalse(failed[0]);
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.core.framework.jar;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.birt.core.framework.PlatformConfig;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtension;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+public class RegistryCacheTest extends TestCase {
+
+	static final String TEST_FOLDER = "./utest/registry/";
+	static final String BUNDLE_FOLDER = TEST_FOLDER + "bundle/";
+	static final String CACHE_FILE = TEST_FOLDER + "registry.cache";
+
+	static final String MANIFEST = "Manifest-Version: 1.0\n" + "Bundle-SymbolicName: test.bundle;singleton:=true\n"
+			+ "Bundle-Version: 1.0.0\n";
+
+	static final String PLUGIN = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<plugin>\n"
+			+ "<extension-point id=\"service\" name=\"%point.name\" schema=\"schema/service.exsd\"/>\n"
+			+ "<extension id=\"impl\" name=\"Impl\" point=\"test.bundle.service\">\n"
+			+ "<service class=\"test.Impl\" label=\"%label\"><option name=\"a\" value=\"1\"/></service>\n"
+			+ "</extension>\n</plugin>\n";
+
+	@Override
+	@Before
+	public void setUp() throws IOException {
+		new File(BUNDLE_FOLDER, "META-INF").mkdirs();
+		write(new File(BUNDLE_FOLDER, BundleLoader.MANIFEST_ENTRY), MANIFEST);
+		write(new File(BUNDLE_FOLDER, BundleLoader.PLUGIN_ENTRY), PLUGIN);
+		write(new File(BUNDLE_FOLDER, BundleLoader.PROPERTIES_ENTRY), "point.name=Service\nlabel=Label\n");
+	}
+
+	@Override
+	@After
+	public void tearDown() {
+		removeFile(new File(TEST_FOLDER));
+	}
+
+	@Test
+	public void testCachedBundle() throws Exception {
+		URL root = new File(BUNDLE_FOLDER).toURI().toURL();
+		ServicePlatform platform = createPlatform();
+		assertFalse(platform.registryCache.isCached(root));
+		platform.installBundle(root);
+		platform.saveRegistryCache();
+		assertTrue(new File(CACHE_FILE).exists());
+		checkRegistry(platform);
+
+		platform = createPlatform();
+		assertTrue(platform.registryCache.isCached(root));
+		platform.installBundle(root);
+		checkRegistry(platform);
+
+		// the changed bundle is parsed again
+		File plugin = new File(BUNDLE_FOLDER, BundleLoader.PLUGIN_ENTRY);
+		write(plugin, PLUGIN.replace("test.Impl", "test.NewImpl"));
+		plugin.setLastModified(plugin.lastModified() + 2000);
+		platform = createPlatform();
+		assertFalse(platform.registryCache.isCached(root));
+		platform.installBundle(root);
+		IExtension extension = platform.extensionRegistry.getExtension("test.bundle.impl");
+		assertEquals("test.NewImpl", extension.getConfigurationElements()[0].getAttribute("class"));
+	}
+
+	private ServicePlatform createPlatform() {
+		PlatformConfig config = new PlatformConfig();
+		config.setRegistryCache(CACHE_FILE);
+		return new ServicePlatform(config);
+	}
+
+	private void checkRegistry(ServicePlatform platform) {
+		Bundle bundle = (Bundle) platform.getBundle("test.bundle");
+		assertNotNull(bundle);
+		assertEquals("1.0.0", bundle.getVersion());
+
+		ExtensionPoint point = (ExtensionPoint) platform.extensionRegistry.getExtensionPoint("test.bundle.service");
+		assertNotNull(point);
+		assertEquals("schema/service.exsd", point.getSchemaReference());
+		assertEquals("service", point.getSimpleIdentifier());
+
+		IExtension[] extensions = point.getExtensions();
+		assertEquals(1, extensions.length);
+		IExtension extension = extensions[0];
+		assertEquals("test.bundle.impl", extension.getUniqueIdentifier());
+		assertEquals("Impl", extension.getLabel());
+
+		IConfigurationElement[] configs = extension.getConfigurationElements();
+		assertEquals(1, configs.length);
+		assertEquals("service", configs[0].getName());
+		assertEquals("test.Impl", configs[0].getAttribute("class"));
+		assertEquals("Label", configs[0].getAttribute("label"));
+		assertSame(extension, configs[0].getDeclaringExtension());
+		IConfigurationElement[] children = configs[0].getChildren("option");
+		assertEquals(1, children.length);
+		assertEquals("1", children[0].getAttribute("value"));
+		assertSame(configs[0], children[0].getParent());
+	}
+
+	private void write(File file, String content) throws IOException {
+		OutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content.getBytes(StandardCharsets.UTF_8));
+		} finally {
+			out.close();
+		}
+	}
+
+	private void removeFile(File file) {
+		if (file.isDirectory()) {
+			File[] files = file.listFiles();
+			if (files != null) {
+				for (File child : files) {
+					removeFile(child);
+				}
+			}
+		}
+		file.delete();
+	}
+}
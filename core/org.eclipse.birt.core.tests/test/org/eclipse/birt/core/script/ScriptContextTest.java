@@ -142,6 +142,47 @@ public class ScriptContextTest extends TestCase {
 		context.close();
 	}
 
+	/**
+	 * the engines created by the same factory share the sealed root scope, but
+	 * keep their globals and imported packages in their own scope.
+	 */
+	@Test
+	public void testSharedRootScope() throws BirtException {
+		ScriptContext other = new ScriptContext();
+		try {
+			assertSame(context.getScriptEngine("javascript").getFactory(),
+					other.getScriptEngine("javascript").getFactory());
+
+			// the standard objects in the root scope are sealed
+			boolean hasException = false;
+			try {
+				eval(context, "Object.prototype.shared = 'A'");
+			} catch (Exception ex) {
+				hasException = true;
+			}
+			assertTrue(hasException);
+			assertEquals("undefined", evalIn(other, "typeof ({}).shared"));
+
+			// the script function categories are registered in the root scope
+			assertEquals("ABC", eval(context, "BirtStr.toUpper('abc')"));
+			assertEquals("ABC", evalIn(other, "BirtStr.toUpper('abc')"));
+
+			eval(context, "var local = 'A'; importPackage(java.util)");
+			assertEquals("A", eval(context, "local"));
+			assertTrue(eval(context, "new ArrayList()") instanceof ArrayList);
+			assertEquals("undefined", evalIn(other, "typeof local"));
+			assertEquals("undefined", evalIn(other, "typeof ArrayList"));
+			// each engine has its own Packages and java class cache
+			assertTrue(evalIn(other, "new java.util.ArrayList()") instanceof ArrayList);
+		} finally {
+			other.close();
+		}
+	}
+
+	private Object evalIn(ScriptContext scriptContext, String script) throws BirtException {
+		return scriptContext.evaluate(scriptContext.compile("javascript", "<inline>", 1, script));
+	}
+
 	/**
 	 * In javascript, the "this" always point to the current scope.
 	 */
@@ -26,4 +26,21 @@ public class FileArchiveWriter extends ArchiveWriter {
 	public FileArchiveWriter(String fileName) throws IOException {
 		super(fileName);
 	}
+
+	/**
+	 * @param fileName the archive file name
+	 * @param async    true to write the streams in a background thread
+	 */
+	public FileArchiveWriter(String fileName, boolean async) throws IOException {
+		super(fileName, async);
+	}
+
+	/**
+	 * @param fileName the archive file name
+	 * @param async    true to write the streams in a background thread
+	 * @param compress true to compress the streams
+	 */
+	public FileArchiveWriter(String fileName, boolean async, boolean compress) throws IOException {
+		super(fileName, async, compress);
+	}
 }
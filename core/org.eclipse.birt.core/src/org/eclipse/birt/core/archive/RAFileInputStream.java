@@ -17,6 +17,8 @@ package org.eclipse.birt.core.archive;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 
 import org.eclipse.birt.core.i18n.CoreMessages;
 import org.eclipse.birt.core.i18n.ResourceConstants;
@@ -282,6 +284,30 @@ public class RAFileInputStream extends RAInputStream {
 
 	}
 
+	/**
+	 * Transfer the remaining bytes of the stream by the channel of the parent
+	 * file. The positional transfer doesn't change the file pointer of the
+	 * parent, so the parent needn't be locked.
+	 */
+	@Override
+	public long transferTo(WritableByteChannel channel) throws IOException {
+		long position = getOffset();
+		long remainSize = endPos - localPosToGlobalPos(position);
+		FileChannel fileChannel = parent.getChannel();
+		long count = 0;
+		while (count < remainSize) {
+			long size = fileChannel.transferTo(localPosToGlobalPos(position + count), remainSize - count, channel);
+			if (size <= 0) {
+				break;
+			}
+			count += size;
+		}
+		cur = position + count;
+		bufLen = 0;
+		bufCur = 0;
+		return count;
+	}
+
 	@Override
 	public long getOffset() throws IOException {
 		return cur - bufLen + bufCur;
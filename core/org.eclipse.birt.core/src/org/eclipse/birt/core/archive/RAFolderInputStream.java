@@ -19,6 +19,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.HashSet;
 
 import org.eclipse.birt.core.util.IOUtil;
@@ -283,6 +285,30 @@ public class RAFolderInputStream extends RAInputStream {
 		}
 	}
 
+	/**
+	 * Transfer the remaining bytes of the file by the file channel, the bytes may
+	 * be sent to the channel without copying into the java heap.
+	 */
+	@Override
+	public long transferTo(WritableByteChannel channel) throws IOException {
+		long position = getOffset();
+		long remainSize = randomFile.length() - position;
+		FileChannel fileChannel = randomFile.getChannel();
+		long count = 0;
+		while (count < remainSize) {
+			long size = fileChannel.transferTo(position + count, remainSize - count, channel);
+			if (size <= 0) {
+				break;
+			}
+			count += size;
+		}
+		// the transfer doesn't change the file pointer
+		randomFile.seek(position + count);
+		bufLen = 0;
+		bufCur = 0;
+		return count;
+	}
+
 	@Override
 	public long getOffset() throws IOException {
 		return randomFile.getFilePointer() - bufLen + bufCur;
@@ -16,6 +16,10 @@ package org.eclipse.birt.core.archive;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import org.eclipse.birt.core.util.IOUtil;
 
 public abstract class RAInputStream extends InputStream {
 	/**
@@ -40,6 +44,34 @@ public abstract class RAInputStream extends InputStream {
 
 	public abstract void refresh() throws IOException;
 
+	/**
+	 * Transfers the bytes from the current position to the end of the stream into
+	 * the channel, the stream is positioned after the transferred bytes.
+	 * <P>
+	 * This implementation copies the bytes through a buffer, the streams backed
+	 * by a file transfer the bytes from the file channel directly if possible.
+	 *
+	 * @param channel the target channel, it must be in blocking mode
+	 * @return the number of bytes transferred
+	 * @throws IOException
+	 */
+	public long transferTo(WritableByteChannel channel) throws IOException {
+		byte[] buffer = new byte[IOUtil.RA_STREAM_BUFFER_LENGTH];
+		ByteBuffer bytes = ByteBuffer.wrap(buffer);
+		long count = 0;
+		int size = read(buffer, 0, buffer.length);
+		while (size > 0) {
+			bytes.clear();
+			bytes.limit(size);
+			while (bytes.hasRemaining()) {
+				channel.write(bytes);
+			}
+			count += size;
+			size = read(buffer, 0, buffer.length);
+		}
+		return count;
+	}
+
 	/**
 	 * Returns the number of bytes that can be read (or skipped over) from this
 	 * random access input stream without blocking by the next caller of a method
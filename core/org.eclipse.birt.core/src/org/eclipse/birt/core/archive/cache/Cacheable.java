@@ -23,6 +23,15 @@ public class Cacheable {
 	protected AtomicInteger referenceCount;
 	protected Cacheable prev;
 	protected Cacheable next;
+	/**
+	 * the list of the system cache which contains this cache, null if it is not
+	 * in the system cache.
+	 */
+	CacheList systemList;
+	/**
+	 * the cache has been reused from the system cache.
+	 */
+	boolean reused;
 
 	public Cacheable(FileCacheManager manager, Comparable cacheKey) {
 		this.manager = manager;
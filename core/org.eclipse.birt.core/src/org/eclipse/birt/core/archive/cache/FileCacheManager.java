@@ -39,6 +39,12 @@ public class FileCacheManager {
 
 	private CacheListener listener;
 
+	/**
+	 * the system cache which keeps the caches released by this file, null if the
+	 * released caches are dropped directly.
+	 */
+	private SystemCacheManager systemCacheManager;
+
 	public FileCacheManager() {
 		this(0);
 	}
@@ -54,6 +60,17 @@ public class FileCacheManager {
 		this.listener = listener;
 	}
 
+	/**
+	 * share the released caches with other files through the system cache. The
+	 * caches are written back through the cache listener before they are added
+	 * into the system cache.
+	 *
+	 * @param systemCacheManager
+	 */
+	public void setSystemCacheManager(SystemCacheManager systemCacheManager) {
+		this.systemCacheManager = systemCacheManager;
+	}
+
 	synchronized public void setMaxCacheSize(int maxCacheSize) {
 		this.maxCacheSize = maxCacheSize;
 		adjustFreeCaches();
@@ -82,11 +99,22 @@ public class FileCacheManager {
 			if (listener != null) {
 				listener.onCacheRelease(freeCache);
 			}
-			caches.remove(freeCache.getCacheKey());
+			releaseToSystem(freeCache);
+		}
+	}
+
+	private void releaseToSystem(Cacheable cache) {
+		if (systemCacheManager != null) {
+			systemCacheManager.addCache(cache);
+		} else {
+			caches.remove(cache.getCacheKey());
 		}
 	}
 
 	synchronized public void clear() {
+		if (systemCacheManager != null) {
+			systemCacheManager.removeCaches(this);
+		}
 		caches.clear();
 		lockedCacheSize = 0;
 		freeCaches.clear();
@@ -152,7 +180,7 @@ public class FileCacheManager {
 			if (listener != null) {
 				listener.onCacheRelease(cache);
 			}
-			caches.remove(cache.getCacheKey());
+			releaseToSystem(cache);
 		}
 	}
 
@@ -165,26 +193,41 @@ public class FileCacheManager {
 	 */
 	synchronized public Cacheable getCache(Object cacheKey) {
 		Cacheable cache = caches.get(cacheKey);
-		if (cache == null) {
-			return null;
-		}
-		int referenceCount = cache.getReferenceCount().incrementAndGet();
-		if (referenceCount > 1) {
-			return cache;
-		}
-		if (referenceCount == 1) {
-			freeCaches.remove(cache);
-			lockedCacheSize++;
-			return cache;
+		if (cache != null) {
+			int referenceCount = cache.getReferenceCount().get();
+			if (referenceCount > 0) {
+				cache.getReferenceCount().incrementAndGet();
+				recordHit();
+				return cache;
+			}
+			if (referenceCount == 0) {
+				cache.getReferenceCount().set(1);
+				freeCaches.remove(cache);
+				lockedCacheSize++;
+				recordHit();
+				return cache;
+			}
+			// the cache is in the system cache
+			if (systemCacheManager != null && systemCacheManager.removeCache(cache)) {
+				lockedCacheSize++;
+				recordHit();
+				return cache;
+			}
+			// it has been removed from the system cache
+			caches.remove(cacheKey, cache);
 		}
-		if (referenceCount == 0) {
-			lockedCacheSize++;
-			cache.getReferenceCount().set(1);
-			return cache;
+		if (systemCacheManager != null) {
+			systemCacheManager.recordMiss();
 		}
 		return null;
 	}
 
+	private void recordHit() {
+		if (systemCacheManager != null) {
+			systemCacheManager.recordHit();
+		}
+	}
+
 	/**
 	 * add a cache object into the cache system.
 	 *
@@ -203,6 +246,9 @@ public class FileCacheManager {
 			if (referenceCount == 0) {
 				// the cache exist in the free cache
 				freeCaches.remove(oldCache);
+			} else if (systemCacheManager != null) {
+				// the cache may exist in the system cache
+				systemCacheManager.removeCache(oldCache);
 			}
 		}
 		caches.put(cacheKey, cache);
@@ -14,102 +14,231 @@
 
 package org.eclipse.birt.core.archive.cache;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 /**
  * The cache is divided into four levels:
  *
- * System Cache: It is the File Cache: the cache shared by a single archive
- * file. Once the file is closed, the cached data is release. The user can set
- * the max cache used by a single file. Stream Cache: Each opened stream locks
- * at most 4 blocks, 1 data block, 3 FAT block.
+ * System Cache: the cache shared by all the archive files in the process. The
+ * blocks released by the file caches are kept here until the total size
+ * exceeds the max system cache size. File Cache: the cache shared by a single
+ * archive file. Once the file is closed, the cached data is release. The user
+ * can set the max cache used by a single file. Stream Cache: Each opened stream
+ * locks at most 4 blocks, 1 data block, 3 FAT block.
  *
+ * The blocks are written back by the file cache before they are added into the
+ * system cache, so the system cache only contains clean blocks and can drop
+ * them without any I/O.
+ *
+ * The system cache is split into segments by the owner file and the cache key,
+ * each segment is a segmented LRU list guarded by its own lock: a released
+ * block enters the probation list, the block which is reused from the system
+ * cache enters the protected list. The blocks are removed from the probation
+ * list first, so a scan of a large document doesn't flush the blocks which are
+ * read repeatedly.
+ *
+ * The reference count of the cache is -1 if it is in the system cache, -2 if it
+ * has been removed from the system cache.
  */
 public class SystemCacheManager {
 
 	protected static Logger logger = Logger.getLogger(SystemCacheManager.class.getName());
 
+	static final int SEGMENT_COUNT = 16;
+	/**
+	 * the percent of the protected list in a segment
+	 */
+	static final int PROTECTED_PERCENT = 80;
+
 	protected int maxCacheSize;
-	protected int usedCacheSize;
-	protected CacheList caches;
-	protected boolean enableSystemCache;
+	protected final Segment[] segments;
+	protected final AtomicInteger usedCacheSize = new AtomicInteger();
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
 
 	public SystemCacheManager() {
 		this(0);
 	}
 
 	public SystemCacheManager(int maxCacheSize) {
-		this.maxCacheSize = maxCacheSize;
-		this.usedCacheSize = 0;
-		this.caches = new CacheList();
+		this.segments = new Segment[SEGMENT_COUNT];
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			segments[i] = new Segment();
+		}
+		setMaxCacheSize(maxCacheSize);
 	}
 
-	public void setMaxCacheSize(int size) {
+	/**
+	 * set the max blocks kept in the system cache.
+	 *
+	 * @param size
+	 */
+	public synchronized void setMaxCacheSize(int size) {
 		maxCacheSize = size;
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			int segmentSize = size / SEGMENT_COUNT;
+			if (i < size % SEGMENT_COUNT) {
+				segmentSize++;
+			}
+			segments[i].setMaxCacheSize(segmentSize);
+		}
 	}
 
-	void increaseUsedCacheSize(int size) {
-		usedCacheSize += size;
+	public int getMaxCacheSize() {
+		return maxCacheSize;
 	}
 
+	/**
+	 * @return the blocks kept in the system cache
+	 */
 	public int getUsedCacheSize() {
-		return usedCacheSize;
+		return usedCacheSize.get();
+	}
+
+	/**
+	 * @return the count of the block requests which are served from the file
+	 *         caches or the system cache
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * @return the count of the block requests which must be read from the file
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * @return the count of the blocks removed from the system cache for the size
+	 *         limit
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	public double getHitRatio() {
+		long hits = hitCount.get();
+		long total = hits + missCount.get();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	public void resetStatistics() {
+		hitCount.set(0);
+		missCount.set(0);
+		evictionCount.set(0);
+	}
+
+	void recordHit() {
+		hitCount.incrementAndGet();
+	}
+
+	void recordMiss() {
+		missCount.incrementAndGet();
+	}
+
+	private Segment getSegment(Cacheable cache) {
+		int hash = System.identityHashCode(cache.manager) * 31 + cache.getCacheKey().hashCode();
+		hash ^= (hash >>> 16);
+		return segments[hash & (SEGMENT_COUNT - 1)];
 	}
 
+	/**
+	 * add a released cache into the system cache. The cache must be written back
+	 * and still be in the cache map of its file cache.
+	 *
+	 * @param cache
+	 */
+	void addCache(Cacheable cache) {
+		getSegment(cache).add(cache);
+	}
+
+	/**
+	 * remove the cache from the system cache to reuse it.
+	 *
+	 * @param cache
+	 * @return true if the cache is removed and locked by the caller, false if it
+	 *         has been removed from the system cache.
+	 */
+	boolean removeCache(Cacheable cache) {
+		return getSegment(cache).remove(cache);
+	}
+
+	/**
+	 * remove all the caches of the file cache. The caches in the system cache are
+	 * still in the cache map of the file cache, so only the caches of the file
+	 * are visited.
+	 *
+	 * @param manager
+	 */
 	void removeCaches(FileCacheManager manager) {
-		Cacheable cache = caches.first();
-		while (cache != null) {
-			Cacheable next = cache.getNext();
-			if (cache.manager == manager) {
-				caches.remove(cache);
-				manager.caches.remove(cache.getCacheKey());
-				usedCacheSize--;
-			}
-			cache = next;
+		for (Cacheable cache : manager.caches.values()) {
+			getSegment(cache).drop(cache);
 		}
 	}
 
-	void removeCache(Cacheable cache) {
-		caches.remove(cache);
-	}
+	class Segment {
 
-	void addCaches(Cacheable[] caches) {
-		if (maxCacheSize == 0) {
-			// remove the cache directly
-			for (Cacheable cache : caches) {
-				cache.getReferenceCount().set(-2);
-				cache.manager.caches.remove(cache.getCacheKey());
-			}
-		} else {
-			for (Cacheable cache : caches) {
-				cache.getReferenceCount().set(-1);
-				this.caches.add(cache);
+		private final CacheList probation = new CacheList();
+		private final CacheList protectedList = new CacheList();
+		private int maxCacheSize;
+
+		synchronized void setMaxCacheSize(int maxCacheSize) {
+			this.maxCacheSize = maxCacheSize;
+			adjust();
+		}
+
+		synchronized void add(Cacheable cache) {
+			cache.getReferenceCount().set(-1);
+			CacheList list = cache.reused ? protectedList : probation;
+			list.add(cache);
+			cache.systemList = list;
+			usedCacheSize.incrementAndGet();
+			adjust();
+		}
+
+		synchronized boolean remove(Cacheable cache) {
+			if (cache.systemList == null || !cache.getReferenceCount().compareAndSet(-1, 1)) {
+				return false;
 			}
-			adjustSystemCaches();
+			cache.systemList.remove(cache);
+			cache.systemList = null;
+			cache.reused = true;
+			usedCacheSize.decrementAndGet();
+			return true;
 		}
-	}
 
-	void addCache(Cacheable cache) {
-		if (maxCacheSize == 0) {
-			// remove the cache directly
+		synchronized void drop(Cacheable cache) {
+			if (cache.systemList == null) {
+				return;
+			}
+			cache.systemList.remove(cache);
+			cache.systemList = null;
 			cache.getReferenceCount().set(-2);
-			cache.manager.caches.remove(cache.getCacheKey());
-		} else {
-			cache.getReferenceCount().set(-1);
-			caches.add(cache);
-			adjustSystemCaches();
+			usedCacheSize.decrementAndGet();
 		}
-	}
 
-	private void adjustSystemCaches() {
-		int releaseCacheSize = caches.size() - maxCacheSize;
-		if (releaseCacheSize > 0) {
-			for (int i = 0; i < releaseCacheSize; i++) {
-				Cacheable removed = caches.remove();
-				if (removed.getReferenceCount().compareAndSet(-1, -2)) {
-					removed.manager.caches.remove(removed.getCacheKey());
-					usedCacheSize--;
-				}
+		private void adjust() {
+			// move the least recently used protected caches to the probation list
+			int maxProtectedSize = (int) ((long) maxCacheSize * PROTECTED_PERCENT / 100);
+			while (protectedList.size() > maxProtectedSize) {
+				Cacheable cache = protectedList.remove();
+				probation.add(cache);
+				cache.systemList = probation;
+			}
+			while (probation.size() + protectedList.size() > maxCacheSize) {
+				Cacheable cache = probation.size() > 0 ? probation.remove() : protectedList.remove();
+				cache.systemList = null;
+				cache.getReferenceCount().set(-2);
+				// the cache is clean, drop it from the file cache directly
+				cache.manager.caches.remove(cache.getCacheKey(), cache);
+				usedCacheSize.decrementAndGet();
+				evictionCount.incrementAndGet();
 			}
 		}
 	}
@@ -15,6 +15,8 @@
 package org.eclipse.birt.core.archive.compound;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
 import org.eclipse.birt.core.archive.RAOutputStream;
 
@@ -58,5 +60,35 @@ abstract public class ArchiveEntry {
 
 	abstract public void write(long pos, byte[] b, int off, int len) throws IOException;
 
+	/**
+	 * transfer the data from pos to the end of the entry into the channel.
+	 *
+	 * The default implementation copies the data through read(), the entries
+	 * stored in a file should transfer the data from the file directly.
+	 *
+	 * @param pos     the position in the entry
+	 * @param channel the channel in blocking mode
+	 * @return the size of the transferred data
+	 */
+	public long transferTo(long pos, WritableByteChannel channel) throws IOException {
+		byte[] buffer = new byte[8192];
+		ByteBuffer bytes = ByteBuffer.wrap(buffer);
+		long length = getLength();
+		long count = 0;
+		while (pos + count < length) {
+			int size = read(pos + count, buffer, 0, (int) Math.min(buffer.length, length - pos - count));
+			if (size <= 0) {
+				break;
+			}
+			bytes.clear();
+			bytes.limit(size);
+			while (bytes.hasRemaining()) {
+				channel.write(bytes);
+			}
+			count += size;
+		}
+		return count;
+	}
+
 	abstract public void close() throws IOException;
 }
@@ -15,6 +15,7 @@
 package org.eclipse.birt.core.archive.compound;
 
 import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
 
 import org.eclipse.birt.core.archive.RAOutputStream;
 
@@ -57,6 +58,11 @@ public class ArchiveEntryAdapter extends ArchiveEntry {
 		entry.write(offset, b, off, size);
 	}
 
+	@Override
+	public long transferTo(long pos, WritableByteChannel channel) throws IOException {
+		return entry.transferTo(pos, channel);
+	}
+
 	@Override
 	public void close() throws IOException {
 		entry.close();
@@ -16,6 +16,7 @@ package org.eclipse.birt.core.archive.compound;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
 
 import org.eclipse.birt.core.archive.ArchiveUtil;
 import org.eclipse.birt.core.archive.RAInputStream;
@@ -136,6 +137,20 @@ public class ArchiveEntryInputStream extends RAInputStream {
 		return size;
 	}
 
+	/**
+	 * transfer the data by the entry, the data in the buffer is dropped and
+	 * transferred by the entry again.
+	 */
+	@Override
+	public long transferTo(WritableByteChannel channel) throws IOException {
+		offset += buffer_offset;
+		buffer_offset = 0;
+		buffer_size = 0;
+		long count = entry.transferTo(offset, channel);
+		offset += count;
+		return count;
+	}
+
 	@Override
 	public int readInt() throws IOException {
 		if (buffer_offset + 4 > buffer_size) {
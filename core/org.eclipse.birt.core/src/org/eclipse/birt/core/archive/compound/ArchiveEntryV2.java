@@ -88,6 +88,10 @@ class ArchiveEntryV2 extends ArchiveEntry implements ArchiveConstants {
 			return 0;
 		}
 
+		if (af.isMapped()) {
+			return readMapped(pos, b, off, len);
+		}
+
 		// read first block
 		int blockId = (int) (pos / BLOCK_SIZE);
 		int blockOff = (int) (pos % BLOCK_SIZE);
@@ -159,6 +163,28 @@ class ArchiveEntryV2 extends ArchiveEntry implements ArchiveConstants {
 		}
 	}
 
+	/**
+	 * read the data from the mapped archive directly, the archive is read only in
+	 * that mode so the block cache is not used.
+	 */
+	private int readMapped(long pos, byte[] b, int off, int len) throws IOException {
+		int readSize = 0;
+		while (readSize < len) {
+			int blockId = (int) (pos / BLOCK_SIZE);
+			int blockOff = (int) (pos % BLOCK_SIZE);
+			int size = Math.min(BLOCK_SIZE - blockOff, len - readSize);
+			int fileBlockId = index.getBlock(blockId);
+			if (fileBlockId == -1) {
+				throw new IOException(
+						CoreMessages.getFormattedString(ResourceConstants.INVALID_INDEX, new Object[] { blockId }));
+			}
+			af.read(fileBlockId, blockOff, b, off + readSize, size);
+			readSize += size;
+			pos += size;
+		}
+		return readSize;
+	}
+
 	protected void ensureSize(long newLength) throws IOException {
 		if (index == null) {
 			index = af.allocTbl.createEntry();
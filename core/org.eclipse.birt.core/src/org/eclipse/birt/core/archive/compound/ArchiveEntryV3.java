@@ -15,6 +15,7 @@
 package org.eclipse.birt.core.archive.compound;
 
 import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
 
 import org.eclipse.birt.core.archive.compound.v3.Ext2File;
 
@@ -35,6 +36,12 @@ public class ArchiveEntryV3 extends ArchiveEntry {
 		return file.length();
 	}
 
+	@Override
+	public void flush() throws IOException {
+		super.flush();
+		file.flush();
+	}
+
 	@Override
 	public void close() throws IOException {
 		archive.closeEntry(this);
@@ -47,6 +54,12 @@ public class ArchiveEntryV3 extends ArchiveEntry {
 		return file.read(b, off, len);
 	}
 
+	@Override
+	public long transferTo(long pos, WritableByteChannel channel) throws IOException {
+		file.seek(pos);
+		return file.transferTo(channel);
+	}
+
 	@Override
 	public void setLength(long length) throws IOException {
 		file.setLength(length);
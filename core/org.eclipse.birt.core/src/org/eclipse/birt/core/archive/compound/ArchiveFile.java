@@ -73,7 +73,9 @@ public class ArchiveFile implements IArchiveFile {
 		this.archiveName = fileName;
 		this.systemId = systemId;
 		if ("r".equals(mode)) {
-			openArchiveForReading();
+			openArchiveForReading("r");
+		} else if ("rm".equals(mode)) {
+			openArchiveForReading("rm");
 		} else if ("rw+".equals(mode)) {
 			openArchiveForAppending();
 		} else if ("rwz".equals(mode)) {
@@ -96,16 +98,28 @@ public class ArchiveFile implements IArchiveFile {
 	}
 
 	protected void openArchiveForReading() throws IOException {
+		openArchiveForReading("r");
+	}
+
+	/**
+	 * open the archive for reading.
+	 *
+	 * @param mode either "r" or "rm". In "rm" mode the compound archive is mapped
+	 *             into memory; the zipped and the old format archives are opened
+	 *             as "r".
+	 * @throws IOException
+	 */
+	protected void openArchiveForReading(String mode) throws IOException {
 		// test if we need upgrade the document
 		RandomAccessFile rf = new RandomAccessFile(archiveName, "r");
 		try {
 			long magicTag = rf.readLong();
 			if (magicTag == ARCHIVE_V2_TAG) {
-				ArchiveFileV2 v2 = new ArchiveFileV2(archiveName, rf, "r");
+				ArchiveFileV2 v2 = new ArchiveFileV2(archiveName, rf, mode);
 				upgradeSystemId(v2);
 				af = v2;
 			} else if (magicTag == ARCHIVE_V3_TAG) {
-				ArchiveFileV3 fs = new ArchiveFileV3(archiveName, rf, "r");
+				ArchiveFileV3 fs = new ArchiveFileV3(archiveName, rf, mode);
 				upgradeSystemId(fs);
 				af = fs;
 			} else if (isZipFile(magicTag)) {
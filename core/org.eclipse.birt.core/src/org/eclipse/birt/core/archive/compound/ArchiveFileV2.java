@@ -18,6 +18,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
@@ -36,6 +38,8 @@ import org.eclipse.birt.core.i18n.ResourceConstants;
  * <li>"rw" create the file for read/write
  * <li>"rw+" open file is open for read/write
  * <li>"rwt" create the transient file, it will be removed after closing.
+ * <li>"rm" open the file for read only, the file is mapped into memory. The
+ * file must be complete, it can't be refreshed.
  */
 public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 
@@ -61,6 +65,26 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 	 */
 	protected boolean isAppend;
 
+	/**
+	 * the archive file is mapped into memory, it is read only.
+	 */
+	protected boolean isMapped;
+
+	/**
+	 * size of a mapped segment, it is times of any valid block size.
+	 */
+	static final int MAPPED_SEGMENT_SIZE = 1 << 30;
+
+	/**
+	 * the mapped segments of the file in "rm" mode.
+	 */
+	protected volatile ByteBuffer[] mappedBuffers;
+
+	/**
+	 * the file length in "rm" mode.
+	 */
+	protected long mappedLength;
+
 	/**
 	 * the archive file name.
 	 */
@@ -115,6 +139,8 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 	 * open the file.
 	 * <li>rwt</li> open the archive file for read and write. The exits file will be
 	 * removed. The file will be removed after close.
+	 * <li>rm</li> open the archive file for read only through a memory mapping. The
+	 * blocks are read without locking the archive.
 	 *
 	 * @param mode the open mode.
 	 */
@@ -123,6 +149,11 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 			isWritable = false;
 			isTransient = false;
 			isAppend = false;
+		} else if ("rm".equals(mode)) {
+			isWritable = false;
+			isTransient = false;
+			isAppend = false;
+			isMapped = true;
 		} else if ("rw".equals(mode)) {
 			isWritable = true;
 			isTransient = false;
@@ -187,6 +218,9 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 		this.dependId = dependId;
 		this.caches = new FileCacheManager();
 		caches.setCacheListener(new ArchiveFileV2CacheListener());
+		if (ArchiveFile.enableSystemCache) {
+			caches.setSystemCacheManager(ArchiveFile.systemCacheManager);
+		}
 
 		setupArchiveMode(mode);
 
@@ -257,6 +291,9 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 					rf = new RandomAccessFile(archiveName, "rw");
 				}
 			}
+			if (isMapped) {
+				mapDocument();
+			}
 
 			head = ArchiveHeader.read(rf);
 			if (systemId == null) {
@@ -283,6 +320,26 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 		}
 	}
 
+	/**
+	 * map the whole file into memory, in segments as a mapping can't exceed 2G
+	 * bytes.
+	 *
+	 * @throws IOException
+	 */
+	private void mapDocument() throws IOException {
+		FileChannel channel = rf.getChannel();
+		long size = channel.size();
+		int count = (int) ((size + MAPPED_SEGMENT_SIZE - 1) / MAPPED_SEGMENT_SIZE);
+		ByteBuffer[] buffers = new ByteBuffer[count];
+		for (int i = 0; i < count; i++) {
+			long offset = (long) i * MAPPED_SEGMENT_SIZE;
+			buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+					Math.min(MAPPED_SEGMENT_SIZE, size - offset));
+		}
+		mappedLength = size;
+		mappedBuffers = buffers;
+	}
+
 	/**
 	 * create the document
 	 *
@@ -347,6 +404,7 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 			rf.close();
 			rf = null;
 		}
+		mappedBuffers = null;
 		if (isTransient) {
 			new File(archiveName).delete();
 		}
@@ -378,9 +436,17 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 		flush();
 	}
 
+	/**
+	 * reload the tables of an archive which is written by another process. It is
+	 * not supported in "rm" mode: the entries, the tables and the mapped segments
+	 * are read without the lock there, so they can't be rebuilt.
+	 */
 	@Override
 	public synchronized void refresh() throws IOException {
 		assertOpen();
+		if (isMapped) {
+			throw new UnsupportedOperationException("refresh");
+		}
 		if (!isWritable) {
 			totalBlocks = (int) ((rf.length() + BLOCK_SIZE - 1) / BLOCK_SIZE);
 			totalDiskBlocks = totalBlocks;
@@ -392,8 +458,14 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 	}
 
 	@Override
-	public synchronized boolean exists(String name) {
-		return entries.containsKey(name);
+	public boolean exists(String name) {
+		if (isMapped) {
+			// the entries are a read-only snapshot in mapped mode
+			return entries.containsKey(name);
+		}
+		synchronized (this) {
+			return entries.containsKey(name);
+		}
 	}
 
 	@Override
@@ -402,7 +474,16 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 	}
 
 	@Override
-	public synchronized ArchiveEntry openEntry(String name) throws IOException {
+	public ArchiveEntry openEntry(String name) throws IOException {
+		if (isMapped) {
+			return doOpenEntry(name);
+		}
+		synchronized (this) {
+			return doOpenEntry(name);
+		}
+	}
+
+	private ArchiveEntry doOpenEntry(String name) throws IOException {
 		NameEntry nameEnt = entries.get(name);
 		if (nameEnt != null) {
 			return new ArchiveEntryV2(this, nameEnt);
@@ -411,7 +492,16 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 	}
 
 	@Override
-	public synchronized List<String> listEntries(String namePattern) {
+	public List<String> listEntries(String namePattern) {
+		if (isMapped) {
+			return doListEntries(namePattern);
+		}
+		synchronized (this) {
+			return doListEntries(namePattern);
+		}
+	}
+
+	private List<String> doListEntries(String namePattern) {
 		ArrayList<String> list = new ArrayList<>();
 		for (String name : entries.keySet()) {
 			if (namePattern == null || name.startsWith(namePattern)) {
@@ -480,6 +570,15 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 		}
 	}
 
+	/**
+	 * return true if the archive is opened in "rm" mode.
+	 *
+	 * @return
+	 */
+	boolean isMapped() {
+		return isMapped;
+	}
+
 	/**
 	 * return the total blocks of the archive file.
 	 *
@@ -523,7 +622,41 @@ public class ArchiveFileV2 implements IArchiveFile, ArchiveConstants {
 	 * @param len      read length
 	 * @throws IOException
 	 */
-	synchronized int read(int blockId, int blockOff, byte[] b, int off, int len) throws IOException {
+	int read(int blockId, int blockOff, byte[] b, int off, int len) throws IOException {
+		ByteBuffer[] buffers = mappedBuffers;
+		if (buffers != null) {
+			return readMapped(buffers, (long) blockId * BLOCK_SIZE + blockOff, b, off, len);
+		}
+		synchronized (this) {
+			return readFile(blockId, blockOff, b, off, len);
+		}
+	}
+
+	/**
+	 * read the data from the mapped segments, the data may cross two segments if
+	 * it is longer than a block.
+	 */
+	private int readMapped(ByteBuffer[] buffers, long pos, byte[] b, int off, int len) {
+		if (pos >= mappedLength) {
+			return 0;
+		}
+		if (pos + len > mappedLength) {
+			len = (int) (mappedLength - pos);
+		}
+		int readSize = 0;
+		while (readSize < len) {
+			// duplicate the segment so the readers never share the buffer position
+			ByteBuffer segment = buffers[(int) (pos / MAPPED_SEGMENT_SIZE)].duplicate();
+			segment.position((int) (pos % MAPPED_SEGMENT_SIZE));
+			int size = Math.min(len - readSize, segment.remaining());
+			segment.get(b, off + readSize, size);
+			readSize += size;
+			pos += size;
+		}
+		return readSize;
+	}
+
+	private int readFile(int blockId, int blockOff, byte[] b, int off, int len) throws IOException {
 		assertOpen();
 		long pos = (long) blockId * BLOCK_SIZE + blockOff;
 		int readSize = 0;
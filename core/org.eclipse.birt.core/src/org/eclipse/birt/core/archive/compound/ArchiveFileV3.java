@@ -43,6 +43,9 @@ public class ArchiveFileV3 implements IArchiveFile {
 
 	{
 		fs = new Ext2FileSystem(fileName, rf, mode);
+		if (ArchiveFile.enableSystemCache) {
+			fs.setSystemCacheManager(ArchiveFile.systemCacheManager);
+		}
 		if (ArchiveFile.enableFileCache && fs.isRemoveOnExit()) {
 			fs.setCacheSize(ArchiveFile.FILE_CACHE_SIZE);
 		}
@@ -159,7 +162,8 @@ public class ArchiveFileV3 implements IArchiveFile {
 	@Override
 	public void save() throws IOException {
 		fs.setRemoveOnExit(false);
-		fs.flush();
+		// the compressed entries buffer the data until they are flushed
+		flush();
 	}
 
 	@Override
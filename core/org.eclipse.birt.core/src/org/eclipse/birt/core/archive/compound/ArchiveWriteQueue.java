@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.core.archive.compound;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The write queue of an archive writer in asynchronous mode.
+ *
+ * The write tasks are executed in order by a single background thread. At most
+ * queueDepth tasks can be pending, the caller blocks until a task is finished
+ * if the queue is full.
+ *
+ * The first exception thrown by a task is kept, the following tasks are
+ * skipped and the exception is thrown to the caller by the next submit or wait.
+ */
+class ArchiveWriteQueue {
+
+	static final int DEFAULT_QUEUE_DEPTH = 16;
+
+	interface WriteTask {
+
+		void run() throws IOException;
+	}
+
+	private final ExecutorService executor;
+	private final Semaphore slots;
+
+	/**
+	 * the last task submitted for each entry
+	 */
+	private final HashMap<String, Future<?>> entryTasks = new HashMap<>();
+	private Future<?> lastTask;
+
+	/**
+	 * the streams which have been opened but not closed yet
+	 */
+	private final LinkedHashSet<AsyncArchiveEntryOutputStream> streams = new LinkedHashSet<>();
+
+	private volatile IOException exception;
+
+	ArchiveWriteQueue(final String name, int queueDepth) {
+		this.slots = new Semaphore(queueDepth);
+		this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+			@Override
+			public Thread newThread(Runnable task) {
+				Thread thread = new Thread(task, "Archive Writer - " + name); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * submit a task writing to the entry.
+	 *
+	 * @param name name of the entry
+	 * @param task the write task
+	 * @return the future of the task
+	 * @throws IOException the exception thrown by the previous tasks
+	 */
+	Future<?> submit(String name, final WriteTask task) throws IOException {
+		checkException();
+		try {
+			slots.acquire();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		try {
+			Future<?> future = executor.submit(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						if (exception == null) {
+							task.run();
+						}
+					} catch (IOException ex) {
+						setException(ex);
+					} catch (RuntimeException ex) {
+						setException(new IOException(ex));
+					} finally {
+						slots.release();
+					}
+				}
+			});
+			synchronized (this) {
+				entryTasks.put(name, future);
+				lastTask = future;
+			}
+			return future;
+		} catch (RuntimeException ex) {
+			slots.release();
+			throw ex;
+		}
+	}
+
+	private synchronized void setException(IOException ex) {
+		if (exception == null) {
+			exception = ex;
+		}
+	}
+
+	private void checkException() throws IOException {
+		IOException ex = exception;
+		if (ex != null) {
+			throw new IOException(ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * wait until the task is finished.
+	 */
+	void waitFor(Future<?> future) throws IOException {
+		if (future != null) {
+			try {
+				future.get();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			} catch (ExecutionException ex) {
+				// the task never throws exception
+				throw new IOException(ex.getCause());
+			}
+		}
+		checkException();
+	}
+
+	/**
+	 * wait until all the tasks of the entry are finished.
+	 */
+	void waitFor(String name) throws IOException {
+		Future<?> future;
+		synchronized (this) {
+			future = entryTasks.get(name);
+		}
+		waitFor(future);
+		synchronized (this) {
+			if (entryTasks.get(name) == future) {
+				entryTasks.remove(name);
+			}
+		}
+	}
+
+	/**
+	 * wait until all the submitted tasks are finished.
+	 */
+	void waitForAll() throws IOException {
+		Future<?> future;
+		synchronized (this) {
+			future = lastTask;
+		}
+		waitFor(future);
+	}
+
+	synchronized void addStream(AsyncArchiveEntryOutputStream stream) {
+		streams.add(stream);
+	}
+
+	synchronized void removeStream(AsyncArchiveEntryOutputStream stream) {
+		streams.remove(stream);
+	}
+
+	/**
+	 * hand the buffers of all the opened streams to the background thread and
+	 * wait until they are written.
+	 */
+	void flush() throws IOException {
+		ArrayList<AsyncArchiveEntryOutputStream> openedStreams;
+		synchronized (this) {
+			openedStreams = new ArrayList<>(streams);
+		}
+		for (AsyncArchiveEntryOutputStream stream : openedStreams) {
+			stream.flush();
+		}
+		waitForAll();
+	}
+
+	/**
+	 * stop the background thread and wait until the pending tasks are finished.
+	 */
+	void shutdown() {
+		executor.shutdown();
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -28,15 +28,64 @@ public class ArchiveWriter implements IDocArchiveWriter {
 
 	boolean shareArchive;
 	IArchiveFile archive;
+	/**
+	 * the write queue in asynchronous mode, null otherwise.
+	 */
+	ArchiveWriteQueue writeQueue;
 
 	public ArchiveWriter(String archiveName) throws IOException {
-		archive = new ArchiveFile(archiveName, "rw");
+		this(archiveName, false);
+	}
+
+	/**
+	 * create a writer of the archive file.
+	 *
+	 * In asynchronous mode the data of the streams is written to the archive by
+	 * a background thread, so the caller can continue while the data is being
+	 * written. flush() and finish() wait until all the data is written.
+	 *
+	 * @param archiveName the archive file name
+	 * @param async       true to write the streams asynchronously
+	 * @throws IOException
+	 */
+	public ArchiveWriter(String archiveName, boolean async) throws IOException {
+		this(archiveName, async, false);
+	}
+
+	/**
+	 * create a writer of the archive file.
+	 *
+	 * @param archiveName the archive file name
+	 * @param async       true to write the streams asynchronously
+	 * @param compress    true to compress the streams, the archive is created in
+	 *                    the "rwc" mode of <code>ArchiveFile</code>
+	 * @throws IOException
+	 */
+	public ArchiveWriter(String archiveName, boolean async, boolean compress) throws IOException {
+		archive = new ArchiveFile(archiveName, compress ? "rwc" : "rw");
 		shareArchive = false;
+		if (async) {
+			writeQueue = new ArchiveWriteQueue(archiveName, ArchiveWriteQueue.DEFAULT_QUEUE_DEPTH);
+		}
 	}
 
 	public ArchiveWriter(IArchiveFile archive) throws IOException {
+		this(archive, false);
+	}
+
+	/**
+	 * create a writer of a shared archive.
+	 *
+	 * @param archive the archive, it isn't closed by finish()
+	 * @param async   true to write the streams asynchronously
+	 * @throws IOException
+	 */
+	public ArchiveWriter(IArchiveFile archive, boolean async) throws IOException {
 		this.archive = archive;
 		shareArchive = true;
+		if (async) {
+			writeQueue = new ArchiveWriteQueue(archive.getName(), ArchiveWriteQueue.DEFAULT_QUEUE_DEPTH);
+		}
 	}
 
 	/**
@@ -58,6 +107,10 @@ public class ArchiveWriter implements IDocArchiveWriter {
 		if (!relativePath.startsWith(ArchiveUtil.UNIX_SEPERATOR)) {
 			relativePath = ArchiveUtil.UNIX_SEPERATOR + relativePath;
 		}
+		if (writeQueue != null) {
+			writeQueue.waitFor(relativePath);
+			return new AsyncArchiveEntryOutputStream(writeQueue, archive.createEntry(relativePath));
+		}
 		ArchiveEntry entry = archive.createEntry(relativePath);
 		return new ArchiveEntryOutputStream(entry);
 	}
@@ -67,12 +120,18 @@ public class ArchiveWriter implements IDocArchiveWriter {
 		if (!relativePath.startsWith(ArchiveUtil.UNIX_SEPERATOR)) {
 			relativePath = ArchiveUtil.UNIX_SEPERATOR + relativePath;
 		}
+		if (writeQueue != null) {
+			writeQueue.waitFor(relativePath);
+		}
 		ArchiveEntry entry;
 		if (archive.exists(relativePath)) {
 			entry = archive.openEntry(relativePath);
 		} else {
 			entry = archive.createEntry(relativePath);
 		}
+		if (writeQueue != null) {
+			return new AsyncArchiveEntryOutputStream(writeQueue, entry);
+		}
 		return new ArchiveEntryOutputStream(entry);
 	}
 
@@ -91,6 +150,10 @@ public class ArchiveWriter implements IDocArchiveWriter {
 		if (!relativePath.startsWith(ArchiveUtil.UNIX_SEPERATOR)) {
 			relativePath = ArchiveUtil.UNIX_SEPERATOR + relativePath;
 		}
+		if (writeQueue != null) {
+			// the data of the entry must be written before reading it
+			writeQueue.waitFor(relativePath);
+		}
 		ArchiveEntry entry = archive.openEntry(relativePath);
 		return new ArchiveEntryInputStream(entry);
 	}
@@ -101,6 +164,9 @@ public class ArchiveWriter implements IDocArchiveWriter {
 			relativePath = ArchiveUtil.UNIX_SEPERATOR + relativePath;
 		}
 		try {
+			if (writeQueue != null) {
+				writeQueue.waitFor(relativePath);
+			}
 			return archive.removeEntry(relativePath);
 		} catch (IOException ex) {
 			return false;
@@ -118,9 +184,15 @@ public class ArchiveWriter implements IDocArchiveWriter {
 	@Override
 	public void finish() throws IOException {
 		try {
+			if (writeQueue != null) {
+				writeQueue.flush();
+			}
 			// flush the archvies
 			archive.flush();
 		} finally {
+			if (writeQueue != null) {
+				writeQueue.shutdown();
+			}
 			if (!shareArchive) {
 				archive.close();
 			}
@@ -129,6 +201,10 @@ public class ArchiveWriter implements IDocArchiveWriter {
 
 	@Override
 	public void flush() throws IOException {
+		if (writeQueue != null) {
+			// wait until the streams are written into the archive
+			writeQueue.flush();
+		}
 		archive.flush();
 	}
 
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.core.archive.compound;
+
+import java.io.IOException;
+import java.util.concurrent.Future;
+
+import org.eclipse.birt.core.archive.ArchiveUtil;
+import org.eclipse.birt.core.archive.RAOutputStream;
+import org.eclipse.birt.core.i18n.CoreMessages;
+import org.eclipse.birt.core.i18n.ResourceConstants;
+
+/**
+ * An output stream which writes the entry in the background thread of the
+ * write queue.
+ *
+ * The stream uses two buffers: the filled buffer is handed to the write queue
+ * while the other one is filled by the caller. The caller only waits if the
+ * other buffer is still being written.
+ *
+ * The stream is not registered to the entry, so the archive's flush doesn't
+ * flush it. ArchiveWriteQueue.flush() flushes all the opened streams instead.
+ */
+class AsyncArchiveEntryOutputStream extends RAOutputStream {
+
+	static final int BUFFER_SIZE = 32 * 1024;
+
+	private final ArchiveWriteQueue queue;
+	private final ArchiveEntry entry;
+	private final String name;
+	private boolean closed;
+
+	private byte[] buffer;
+	private int buffer_offset;
+
+	/**
+	 * the buffer handed to the write queue and the task writing it
+	 */
+	private byte[] spare;
+	private Future<?> spareTask;
+
+	/** the output position of the buffer */
+	private long offset;
+
+	/** the entry length including the data still in the write queue */
+	private long length;
+
+	AsyncArchiveEntryOutputStream(ArchiveWriteQueue queue, ArchiveEntry entry) throws IOException {
+		this.queue = queue;
+		this.entry = entry;
+		this.name = entry.getName();
+		this.buffer = new byte[BUFFER_SIZE];
+		this.length = entry.getLength();
+		queue.addStream(this);
+	}
+
+	@Override
+	public long getOffset() throws IOException {
+		return offset + buffer_offset;
+	}
+
+	@Override
+	public void seek(long localPos) throws IOException {
+		if (localPos < 0) {
+			throw new IOException(
+					CoreMessages.getFormattedString(ResourceConstants.INVALID_SEEK_OFFSET, new Object[] { localPos }));
+		}
+		ensureOpen();
+		if (offset + buffer_offset != localPos) {
+			flushBuffer();
+			offset = localPos;
+		}
+		if (localPos > length) {
+			final long newLength = localPos;
+			queue.submit(name, new ArchiveWriteQueue.WriteTask() {
+
+				@Override
+				public void run() throws IOException {
+					entry.setLength(newLength);
+				}
+			});
+			length = localPos;
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		ensureOpen();
+		if (buffer_offset >= BUFFER_SIZE) {
+			flushBuffer();
+		}
+		buffer[buffer_offset] = (byte) b;
+		buffer_offset++;
+	}
+
+	@Override
+	public void writeInt(int value) throws IOException {
+		ensureOpen();
+		if (buffer_offset + 4 > BUFFER_SIZE) {
+			flushBuffer();
+		}
+		ArchiveUtil.integerToBytes(value, buffer, buffer_offset);
+		buffer_offset += 4;
+	}
+
+	@Override
+	public void writeLong(long value) throws IOException {
+		ensureOpen();
+		if (buffer_offset + 8 > BUFFER_SIZE) {
+			flushBuffer();
+		}
+		ArchiveUtil.longToBytes(value, buffer, buffer_offset);
+		buffer_offset += 8;
+	}
+
+	@Override
+	public void write(byte b[], int off, int len) throws IOException {
+		ensureOpen();
+		if (buffer_offset + len <= BUFFER_SIZE) {
+			System.arraycopy(b, off, buffer, buffer_offset, len);
+			buffer_offset += len;
+			return;
+		}
+		flushBuffer();
+		if (len <= BUFFER_SIZE) {
+			System.arraycopy(b, off, buffer, 0, len);
+			buffer_offset = len;
+			return;
+		}
+		// the caller may change the data after return, so write a copy
+		final byte[] data = new byte[len];
+		System.arraycopy(b, off, data, 0, len);
+		final long position = offset;
+		queue.submit(name, new ArchiveWriteQueue.WriteTask() {
+
+			@Override
+			public void run() throws IOException {
+				entry.write(position, data, 0, data.length);
+			}
+		});
+		offset += len;
+		if (offset > length) {
+			length = offset;
+		}
+	}
+
+	/**
+	 * hand the buffer to the write queue. It doesn't wait for the data being
+	 * written, use ArchiveWriter.flush() to make sure the data is in the archive.
+	 */
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!closed) {
+			queue.removeStream(this);
+			Exception failure = null;
+			try {
+				flushBuffer();
+			} catch (IOException | RuntimeException ex) {
+				failure = ex;
+				throw ex;
+			} finally {
+				closed = true;
+				buffer = null;
+				spare = null;
+				spareTask = null;
+				try {
+					queue.submit(name, new ArchiveWriteQueue.WriteTask() {
+
+						@Override
+						public void run() throws IOException {
+							entry.close();
+						}
+					});
+				} catch (IOException | RuntimeException ex) {
+					// don't hide the failure of the flush, which may be the same
+					// exception reported by the write queue again
+					if (failure == null) {
+						throw ex;
+					}
+					if (ex != failure) {
+						failure.addSuppressed(ex);
+					}
+				}
+			}
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if (buffer_offset == 0) {
+			return;
+		}
+		ensureOpen();
+		final byte[] data = buffer;
+		final int size = buffer_offset;
+		final long position = offset;
+		Future<?> task = queue.submit(name, new ArchiveWriteQueue.WriteTask() {
+
+			@Override
+			public void run() throws IOException {
+				entry.write(position, data, 0, size);
+			}
+		});
+		offset += size;
+		if (offset > length) {
+			length = offset;
+		}
+		buffer_offset = 0;
+
+		// switch to the spare buffer once it has been written
+		if (spare == null) {
+			spare = new byte[BUFFER_SIZE];
+		} else {
+			queue.waitFor(spareTask);
+		}
+		buffer = spare;
+		spare = data;
+		spareTask = task;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException(CoreMessages.getString(ResourceConstants.FILE_HAS_BEEN_CLOSED));
+		}
+	}
+
+	@Override
+	public long length() throws IOException {
+		long offset = getOffset();
+		if (offset > length) {
+			return offset;
+		}
+		return length;
+	}
+}
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.core.archive.compound.v3;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The chunk index of a compressed file. It maps each chunk to the position and
+ * the size of its compressed data in the underlying file.
+ *
+ * The index is shared by all the files opened on the same node, the caller
+ * should synchronize on it if the file system is writable.
+ */
+class ChunkIndex {
+
+	static final int ENTRY_SIZE = 16;
+
+	/**
+	 * set in the saved compressed size of the chunks which are stored
+	 * uncompressed.
+	 */
+	private static final int STORED_FLAG = 0x80000000;
+
+	/**
+	 * the length of the uncompressed content.
+	 */
+	private long length;
+	/**
+	 * the end of the compressed data, the index is written here.
+	 */
+	private long end;
+	private int count;
+	private long[] positions = new long[16];
+	private int[] sizes = new int[16];
+	private int[] compressedSizes = new int[16];
+	/**
+	 * the chunks stored uncompressed. The size of such a chunk no longer equals
+	 * its compressed size once the chunk is truncated.
+	 */
+	private boolean[] stored = new boolean[16];
+	private boolean dirty;
+	/**
+	 * increased each time a chunk is changed
+	 */
+	private int modCount;
+
+	ChunkIndex(long end) {
+		this.end = end;
+	}
+
+	long getLength() {
+		return length;
+	}
+
+	void setLength(long length) {
+		if (length < this.length) {
+			int chunkCount = (int) ((length + Ext2CompressedFile.CHUNK_SIZE - 1) / Ext2CompressedFile.CHUNK_SIZE);
+			if (chunkCount < count) {
+				count = chunkCount;
+			}
+			if (count > 0) {
+				// the last chunk only keeps the data before the new length
+				long start = (long) (count - 1) * Ext2CompressedFile.CHUNK_SIZE;
+				if (sizes[count - 1] > length - start) {
+					sizes[count - 1] = (int) (length - start);
+				}
+			}
+			modCount++;
+		}
+		this.length = length;
+		this.dirty = true;
+	}
+
+	long getEnd() {
+		return end;
+	}
+
+	int getCount() {
+		return count;
+	}
+
+	int getModCount() {
+		return modCount;
+	}
+
+	boolean isDirty() {
+		return dirty;
+	}
+
+	/**
+	 * @param chunkId
+	 * @return the position of the chunk data, -1 if the chunk is not written
+	 */
+	long getPosition(int chunkId) {
+		if (chunkId < count) {
+			return positions[chunkId];
+		}
+		return -1;
+	}
+
+	int getSize(int chunkId) {
+		if (chunkId < count) {
+			return sizes[chunkId];
+		}
+		return 0;
+	}
+
+	int getCompressedSize(int chunkId) {
+		if (chunkId < count) {
+			return compressedSizes[chunkId];
+		}
+		return 0;
+	}
+
+	boolean isStored(int chunkId) {
+		return chunkId < count && stored[chunkId];
+	}
+
+	/**
+	 * the chunk which is stored at the end of the compressed data can be rewritten
+	 * at the same position.
+	 */
+	boolean isLastChunk(int chunkId) {
+		long position = getPosition(chunkId);
+		return position != -1 && position + compressedSizes[chunkId] == end;
+	}
+
+	void setChunk(int chunkId, long position, int size, int compressedSize, boolean stored) {
+		ensureCapacity(chunkId + 1);
+		for (int i = count; i < chunkId; i++) {
+			positions[i] = -1;
+			sizes[i] = 0;
+			compressedSizes[i] = 0;
+			this.stored[i] = false;
+		}
+		if (chunkId >= count) {
+			count = chunkId + 1;
+		}
+		positions[chunkId] = position;
+		sizes[chunkId] = size;
+		compressedSizes[chunkId] = compressedSize;
+		this.stored[chunkId] = stored;
+		end = position + compressedSize;
+		long chunkEnd = (long) chunkId * Ext2CompressedFile.CHUNK_SIZE + size;
+		if (chunkEnd > length) {
+			length = chunkEnd;
+		}
+		modCount++;
+		dirty = true;
+	}
+
+	void clear(long end) {
+		this.length = 0;
+		this.end = end;
+		this.count = 0;
+		this.modCount++;
+		this.dirty = true;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > positions.length) {
+			int newCapacity = Math.max(capacity, positions.length * 2);
+			long[] newPositions = new long[newCapacity];
+			int[] newSizes = new int[newCapacity];
+			int[] newCompressedSizes = new int[newCapacity];
+			boolean[] newStored = new boolean[newCapacity];
+			System.arraycopy(positions, 0, newPositions, 0, count);
+			System.arraycopy(sizes, 0, newSizes, 0, count);
+			System.arraycopy(compressedSizes, 0, newCompressedSizes, 0, count);
+			System.arraycopy(stored, 0, newStored, 0, count);
+			positions = newPositions;
+			sizes = newSizes;
+			compressedSizes = newCompressedSizes;
+			stored = newStored;
+		}
+	}
+
+	void read(DataInput in, long length, long end, int count) throws IOException {
+		ensureCapacity(count);
+		for (int i = 0; i < count; i++) {
+			positions[i] = in.readLong();
+			sizes[i] = in.readInt();
+			int compressedSize = in.readInt();
+			compressedSizes[i] = compressedSize & ~STORED_FLAG;
+			stored[i] = (compressedSize & STORED_FLAG) != 0;
+		}
+		this.length = length;
+		this.end = end;
+		this.count = count;
+		this.dirty = false;
+	}
+
+	void write(DataOutput out) throws IOException {
+		for (int i = 0; i < count; i++) {
+			out.writeLong(positions[i]);
+			out.writeInt(sizes[i]);
+			out.writeInt(stored[i] ? compressedSizes[i] | STORED_FLAG : compressedSizes[i]);
+		}
+	}
+
+	void setDirty(boolean dirty) {
+		this.dirty = dirty;
+	}
+}
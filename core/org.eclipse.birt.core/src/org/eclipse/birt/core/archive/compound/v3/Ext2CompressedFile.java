@@ -0,0 +1,417 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.core.archive.compound.v3;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.birt.core.i18n.CoreMessages;
+import org.eclipse.birt.core.i18n.ResourceConstants;
+
+/**
+ * A file whose content is compressed in chunks.
+ *
+ * The content is split into chunks of CHUNK_SIZE bytes, each chunk is
+ * compressed separately and appended to the blocks of the file. The chunk index
+ * maps each chunk to its compressed data, so seeking to any position only
+ * needs to decompress one chunk.
+ *
+ * the layout of the blocks:
+ * <li>header: codec(int), chunk size(int), length(long), index position(long),
+ * chunk count(int), reserved(int)</li>
+ * <li>the compressed chunks</li>
+ * <li>the chunk index: position(long), size(int), compressed size(int) of each
+ * chunk</li>
+ *
+ * The chunk which is changed is appended to the end of the compressed data,
+ * unless it is the last one, which is rewritten in place. A chunk whose
+ * compressed size is not smaller than its size is stored uncompressed.
+ *
+ * The chunk index is loaded once and shared by all the files opened on the
+ * node. It is written out when the file is flushed or closed.
+ */
+public class Ext2CompressedFile extends Ext2File {
+
+	static final int CODEC_DEFLATE = 1;
+	static final int CHUNK_SIZE = 64 * 1024;
+	static final int HEADER_SIZE = 32;
+
+	private final ChunkIndex index;
+	private final boolean readOnly;
+
+	/**
+	 * current position in the uncompressed content
+	 */
+	private long position;
+
+	/**
+	 * the uncompressed data of the current chunk
+	 */
+	private byte[] chunk;
+	private int chunkId;
+	private int chunkSize;
+	private boolean chunkDirty;
+	private int chunkModCount;
+
+	private byte[] compressed;
+	private Deflater deflater;
+	private Inflater inflater;
+
+	Ext2CompressedFile(Ext2FileSystem fs, Ext2Entry entry, Ext2Node node) throws IOException {
+		super(fs, entry, node);
+		this.readOnly = fs.isReadOnly();
+		this.chunkId = -1;
+		try {
+			synchronized (node) {
+				ChunkIndex chunkIndex = node.getChunkIndex();
+				if (chunkIndex == null) {
+					chunkIndex = new ChunkIndex(HEADER_SIZE);
+					if (super.length() >= HEADER_SIZE) {
+						readIndex(chunkIndex);
+					}
+					node.setChunkIndex(chunkIndex);
+				}
+				this.index = chunkIndex;
+			}
+		} catch (IOException ex) {
+			super.close();
+			throw ex;
+		}
+	}
+
+	private void readIndex(ChunkIndex chunkIndex) throws IOException {
+		byte[] header = new byte[HEADER_SIZE];
+		super.seek(0);
+		super.read(header, 0, HEADER_SIZE);
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(header));
+		int codec = in.readInt();
+		int size = in.readInt();
+		if (codec != CODEC_DEFLATE || size != CHUNK_SIZE) {
+			throw new IOException(
+					CoreMessages.getFormattedString(ResourceConstants.UNSUPPORTED_VERSION, new Object[] { codec }));
+		}
+		long length = in.readLong();
+		long end = in.readLong();
+		int count = in.readInt();
+
+		byte[] bytes = new byte[count * ChunkIndex.ENTRY_SIZE];
+		super.seek(end);
+		super.read(bytes, 0, bytes.length);
+		chunkIndex.read(new DataInputStream(new ByteArrayInputStream(bytes)), length, end, count);
+	}
+
+	private void writeIndex() throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(index.getCount() * ChunkIndex.ENTRY_SIZE);
+		DataOutputStream out = new DataOutputStream(buffer);
+		index.write(out);
+		byte[] bytes = buffer.toByteArray();
+		super.seek(index.getEnd());
+		super.write(bytes, 0, bytes.length);
+		super.setLength(index.getEnd() + bytes.length);
+
+		buffer = new ByteArrayOutputStream(HEADER_SIZE);
+		out = new DataOutputStream(buffer);
+		out.writeInt(CODEC_DEFLATE);
+		out.writeInt(CHUNK_SIZE);
+		out.writeLong(index.getLength());
+		out.writeLong(index.getEnd());
+		out.writeInt(index.getCount());
+		out.writeInt(0);
+		super.seek(0);
+		super.write(buffer.toByteArray(), 0, HEADER_SIZE);
+		index.setDirty(false);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (fs == null || readOnly) {
+			return;
+		}
+		flushChunk();
+		synchronized (index) {
+			if (index.isDirty()) {
+				writeIndex();
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (fs == null) {
+			// the file has been closed
+			return;
+		}
+		try {
+			flush();
+		} finally {
+			chunk = null;
+			compressed = null;
+			if (deflater != null) {
+				deflater.end();
+				deflater = null;
+			}
+			if (inflater != null) {
+				inflater.end();
+				inflater = null;
+			}
+			super.close();
+		}
+	}
+
+	@Override
+	public long length() throws IOException {
+		long length = index.getLength();
+		if (chunkDirty) {
+			long chunkEnd = (long) chunkId * CHUNK_SIZE + chunkSize;
+			if (chunkEnd > length) {
+				return chunkEnd;
+			}
+		}
+		return length;
+	}
+
+	@Override
+	public void setLength(long length) throws IOException {
+		if (fs == null) {
+			throw new IOException(CoreMessages.getString(ResourceConstants.FILE_HAS_BEEN_CLOSED));
+		}
+		if (readOnly) {
+			throw new IOException(CoreMessages.getString(ResourceConstants.FILE_IN_READONLY_MODE));
+		}
+		if (chunkId != -1) {
+			long chunkStart = (long) chunkId * CHUNK_SIZE;
+			if (length <= chunkStart) {
+				chunkId = -1;
+				chunkDirty = false;
+			} else if (length - chunkStart < chunkSize) {
+				int size = (int) (length - chunkStart);
+				Arrays.fill(chunk, size, chunkSize, (byte) 0);
+				chunkSize = size;
+				chunkDirty = true;
+			}
+		}
+		synchronized (index) {
+			if (length == 0) {
+				index.clear(HEADER_SIZE);
+			} else {
+				index.setLength(length);
+			}
+			chunkModCount = index.getModCount();
+		}
+		if (position >= length) {
+			position = length;
+		}
+	}
+
+	@Override
+	public void seek(long position) throws IOException {
+		this.position = position;
+	}
+
+	@Override
+	public long getPointer() throws IOException {
+		return position;
+	}
+
+	@Override
+	public int read(byte[] buffer, int off, int size) throws IOException {
+		if (fs == null) {
+			throw new IOException(CoreMessages.getString(ResourceConstants.FILE_HAS_BEEN_CLOSED));
+		}
+
+		assert buffer != null;
+		assert off >= 0;
+		assert off + size <= buffer.length;
+
+		if (size == 0) {
+			return 0;
+		}
+
+		long length = length();
+		if (position + size > length) {
+			size = (int) (length - position);
+			if (size <= 0) {
+				return -1;
+			}
+		}
+
+		int remainSize = size;
+		while (remainSize > 0) {
+			int chunkOff = (int) (position % CHUNK_SIZE);
+			int readSize = Math.min(remainSize, CHUNK_SIZE - chunkOff);
+			loadChunk((int) (position / CHUNK_SIZE), false);
+			System.arraycopy(chunk, chunkOff, buffer, off, readSize);
+			off += readSize;
+			remainSize -= readSize;
+			position += readSize;
+		}
+		return size;
+	}
+
+	/**
+	 * the compressed chunks must be inflated, so the data is always copied.
+	 */
+	@Override
+	public long transferTo(WritableByteChannel channel) throws IOException {
+		if (fs == null) {
+			throw new IOException(CoreMessages.getString(ResourceConstants.FILE_HAS_BEEN_CLOSED));
+		}
+		return copyTo(channel);
+	}
+
+	@Override
+	public void write(byte[] buffer, int off, int size) throws IOException {
+		if (fs == null) {
+			throw new IOException(CoreMessages.getString(ResourceConstants.FILE_HAS_BEEN_CLOSED));
+		}
+		if (readOnly) {
+			throw new IOException(CoreMessages.getString(ResourceConstants.FILE_IN_READONLY_MODE));
+		}
+
+		assert buffer != null;
+		assert off >= 0;
+		assert off + size <= buffer.length;
+
+		while (size > 0) {
+			int chunkOff = (int) (position % CHUNK_SIZE);
+			int writeSize = Math.min(size, CHUNK_SIZE - chunkOff);
+			// the chunk needn't be loaded if it is overwritten entirely
+			loadChunk((int) (position / CHUNK_SIZE), writeSize == CHUNK_SIZE);
+			System.arraycopy(buffer, off, chunk, chunkOff, writeSize);
+			if (chunkOff + writeSize > chunkSize) {
+				chunkSize = chunkOff + writeSize;
+			}
+			chunkDirty = true;
+			off += writeSize;
+			size -= writeSize;
+			position += writeSize;
+		}
+	}
+
+	private void loadChunk(int id, boolean overwrite) throws IOException {
+		if (id == chunkId) {
+			// the chunk may be changed by the writer of the same node
+			if (chunkDirty || readOnly || chunkModCount == index.getModCount()) {
+				return;
+			}
+		}
+		flushChunk();
+		if (chunk == null) {
+			chunk = new byte[CHUNK_SIZE];
+		}
+		chunkId = id;
+		if (overwrite) {
+			chunkSize = 0;
+		} else if (readOnly) {
+			chunkSize = readChunk(id);
+		} else {
+			synchronized (index) {
+				chunkModCount = index.getModCount();
+				chunkSize = readChunk(id);
+			}
+		}
+		Arrays.fill(chunk, chunkSize, CHUNK_SIZE, (byte) 0);
+	}
+
+	/**
+	 * read the chunk into the chunk buffer.
+	 *
+	 * @return the size of the chunk, 0 if the chunk is not written yet.
+	 */
+	private int readChunk(int id) throws IOException {
+		long chunkPosition = index.getPosition(id);
+		if (chunkPosition == -1) {
+			return 0;
+		}
+		int size = index.getSize(id);
+		int compressedSize = index.getCompressedSize(id);
+		super.seek(chunkPosition);
+		if (index.isStored(id)) {
+			super.read(chunk, 0, size);
+			return size;
+		}
+		if (compressed == null) {
+			compressed = new byte[CHUNK_SIZE];
+		}
+		super.read(compressed, 0, compressedSize);
+		if (inflater == null) {
+			inflater = new Inflater();
+		}
+		inflater.reset();
+		inflater.setInput(compressed, 0, compressedSize);
+		try {
+			int inflated = 0;
+			while (inflated < size) {
+				int count = inflater.inflate(chunk, inflated, size - inflated);
+				if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				inflated += count;
+			}
+			if (inflated != size) {
+				throw new IOException(
+						CoreMessages.getFormattedString(ResourceConstants.INVALID_INDEX, new Object[] { id }));
+			}
+		} catch (DataFormatException ex) {
+			throw new IOException(
+					CoreMessages.getFormattedString(ResourceConstants.INVALID_INDEX, new Object[] { id }), ex);
+		}
+		return size;
+	}
+
+	private void flushChunk() throws IOException {
+		if (!chunkDirty) {
+			return;
+		}
+		if (compressed == null) {
+			compressed = new byte[CHUNK_SIZE];
+		}
+		if (deflater == null) {
+			deflater = new Deflater(Deflater.BEST_SPEED);
+		}
+		deflater.reset();
+		deflater.setInput(chunk, 0, chunkSize);
+		deflater.finish();
+		int compressedSize = 0;
+		while (!deflater.finished() && compressedSize < chunkSize) {
+			compressedSize += deflater.deflate(compressed, compressedSize, chunkSize - compressedSize);
+		}
+		byte[] data = compressed;
+		boolean stored = !deflater.finished() || compressedSize >= chunkSize;
+		if (stored) {
+			data = chunk;
+			compressedSize = chunkSize;
+		}
+
+		synchronized (index) {
+			long chunkPosition = index.getEnd();
+			if (index.isLastChunk(chunkId)) {
+				chunkPosition = index.getPosition(chunkId);
+			}
+			super.seek(chunkPosition);
+			super.write(data, 0, compressedSize);
+			index.setChunk(chunkId, chunkPosition, chunkSize, compressedSize, stored);
+			chunkModCount = index.getModCount();
+		}
+		chunkDirty = false;
+	}
+}
@@ -15,6 +15,9 @@
 package org.eclipse.birt.core.archive.compound.v3;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
 
 import org.eclipse.birt.core.i18n.CoreMessages;
 import org.eclipse.birt.core.i18n.ResourceConstants;
@@ -43,7 +46,7 @@ public class Ext2File {
 	/**
 	 * the file system this file belongs to
 	 */
-	private Ext2FileSystem fs;
+	protected Ext2FileSystem fs;
 
 	private final Ext2Entry entry;
 
@@ -119,6 +122,15 @@ public class Ext2File {
 		}
 	}
 
+	/**
+	 * write the data buffered by the file into the blocks. The data is written to
+	 * the blocks directly, so there is nothing to do here.
+	 *
+	 * @throws IOException
+	 */
+	public void flush() throws IOException {
+	}
+
 	public long length() throws IOException {
 		return node.getLength();
 	}
@@ -158,7 +170,9 @@ public class Ext2File {
 			return 0;
 		}
 
-		if (enableCache) {
+		// the mapped file system reads the blocks without locking, the shared
+		// block cache would only add contention
+		if (enableCache && !fs.isMapped()) {
 			return read_with_cache(buffer, off, size);
 		}
 		return read_without_cache(buffer, off, size);
@@ -179,33 +193,41 @@ public class Ext2File {
 		int blockSize = BLOCK_SIZE - blockOff;
 		int fileBlockId = getDataBlock(blockId);
 		if (size <= blockSize) {
-			fs.readBlock(fileBlockId, blockOff, buffer, off, size);
+			readDataBlock(fileBlockId, blockOff, buffer, off, size);
 		} else {
-			fs.readBlock(fileBlockId, blockOff, buffer, off, blockSize);
+			readDataBlock(fileBlockId, blockOff, buffer, off, blockSize);
 			off += blockSize;
 			int remainSize = size - blockSize;
 			int wholeBlocks = remainSize >> BLOCK_SIZE_BITS;
 			for (int i = 0; i < wholeBlocks; i++) {
 				blockId++;
 				fileBlockId = getDataBlock(blockId);
-				if (fileBlockId != -1) {
-					fs.readBlock(fileBlockId, 0, buffer, off, BLOCK_SIZE);
-				}
+				readDataBlock(fileBlockId, 0, buffer, off, BLOCK_SIZE);
 				off += BLOCK_SIZE;
 			}
 			remainSize = remainSize & BLOCK_OFFSET_MASK;
 			if (remainSize > 0) {
 				blockId++;
 				fileBlockId = getDataBlock(blockId);
-				if (fileBlockId != -1) {
-					fs.readBlock(fileBlockId, 0, buffer, off, remainSize);
-				}
+				readDataBlock(fileBlockId, 0, buffer, off, remainSize);
 			}
 		}
 		position += size;
 		return size;
 	}
 
+	/**
+	 * read the data from the file block, the block which is not allocated yet is
+	 * read as zeros, the same as DataBlock.READ_ONLY_BLOCK.
+	 */
+	private void readDataBlock(int fileBlockId, int blockOff, byte[] buffer, int off, int size) throws IOException {
+		if (fileBlockId != -1) {
+			fs.readBlock(fileBlockId, blockOff, buffer, off, size);
+		} else {
+			Arrays.fill(buffer, off, off + size, (byte) 0);
+		}
+	}
+
 	private int read_with_cache(byte[] buffer, int off, int size) throws IOException {
 		long length = node.getLength();
 		if (position + size > length) {
@@ -244,6 +266,85 @@ public class Ext2File {
 		return size;
 	}
 
+	/**
+	 * transfer the data from the current position to the end of the file into
+	 * the channel, the position is moved to the end of the transferred data.
+	 *
+	 * The continuous blocks of a read-only file system are transferred from the
+	 * archive file directly. If the file system is writable, the cached blocks may
+	 * be newer than the archive file, so the data is copied through read().
+	 *
+	 * @param channel the channel in blocking mode
+	 * @return the size of the transferred data
+	 * @throws IOException
+	 */
+	public long transferTo(WritableByteChannel channel) throws IOException {
+		if (fs == null) {
+			throw new IOException(CoreMessages.getString(ResourceConstants.FILE_HAS_BEEN_CLOSED));
+		}
+		if (!fs.isReadOnly()) {
+			return copyTo(channel);
+		}
+
+		long length = node.getLength();
+		long count = 0;
+		while (position < length) {
+			int blockId = (int) (position >> BLOCK_SIZE_BITS);
+			int blockOff = (int) (position & BLOCK_OFFSET_MASK);
+			int fileBlockId = blocks.getFileBlock(blockId);
+
+			// merge the following blocks which are continuous in the archive file
+			long runSize = BLOCK_SIZE - blockOff;
+			int blockCount = 1;
+			while (position + runSize < length) {
+				int nextBlockId = blocks.getFileBlock(blockId + blockCount);
+				if (fileBlockId == -1 ? nextBlockId != -1 : nextBlockId != fileBlockId + blockCount) {
+					break;
+				}
+				runSize += BLOCK_SIZE;
+				blockCount++;
+			}
+			if (runSize > length - position) {
+				runSize = length - position;
+			}
+
+			long size;
+			if (fileBlockId == -1) {
+				// the blocks are not allocated, read as zeros
+				size = Ext2FileSystem.transferZeros(runSize, channel);
+			} else {
+				size = fs.transferTo((((long) fileBlockId) << BLOCK_SIZE_BITS) + blockOff, runSize, channel);
+			}
+			position += size;
+			count += size;
+			if (size < runSize) {
+				break;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * copy the data from the current position to the end of the file into the
+	 * channel through read().
+	 */
+	protected long copyTo(WritableByteChannel channel) throws IOException {
+		byte[] buffer = new byte[BLOCK_SIZE * 4];
+		ByteBuffer bytes = ByteBuffer.wrap(buffer);
+		long count = 0;
+		int size = read(buffer, 0, buffer.length);
+		while (size > 0) {
+			bytes.clear();
+			bytes.limit(size);
+			while (bytes.hasRemaining()) {
+				channel.write(bytes);
+			}
+			count += size;
+			size = read(buffer, 0, buffer.length);
+		}
+		return count;
+	}
+
 	public void write(byte[] buffer, int off, int size) throws IOException {
 		if (fs == null) {
 			throw new IOException(CoreMessages.getString(ResourceConstants.FILE_HAS_BEEN_CLOSED));
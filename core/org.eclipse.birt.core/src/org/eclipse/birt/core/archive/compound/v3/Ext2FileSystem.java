@@ -22,14 +22,20 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.birt.core.archive.cache.CacheListener;
 import org.eclipse.birt.core.archive.cache.Cacheable;
 import org.eclipse.birt.core.archive.cache.FileCacheManager;
+import org.eclipse.birt.core.archive.cache.SystemCacheManager;
 import org.eclipse.birt.core.i18n.CoreMessages;
 import org.eclipse.birt.core.i18n.ResourceConstants;
 
@@ -49,6 +55,17 @@ public class Ext2FileSystem {
 	private String fileName;
 	private boolean readOnly;
 	private boolean removeOnExit;
+	/**
+	 * the new files are compressed, see Ext2CompressedFile. The archive is saved
+	 * as EXT2_VERSION_1 so that the readers which don't support the compressed
+	 * files refuse to open it.
+	 */
+	private boolean compressFiles;
+
+	/**
+	 * the mapped segments of the file in "rm" mode, null in other modes.
+	 */
+	private volatile ByteBuffer[] mappedBuffers;
 
 	/**
 	 * properties saved in the file header
@@ -71,7 +88,7 @@ public class Ext2FileSystem {
 	/**
 	 * opened streams
 	 */
-	private final HashSet<Ext2File> openedFiles = new HashSet<>();
+	private final Set<Ext2File> openedFiles = Collections.newSetFromMap(new ConcurrentHashMap<Ext2File, Boolean>());
 
 	/**
 	 * mode
@@ -82,6 +99,10 @@ public class Ext2FileSystem {
 	 *                 read write mode, if the file exist, open the exits file.
 	 *                 "rwt": read write cache mode, if the file exist, create a
 	 *                 empty one. the file is removed after the file is closed.
+	 *                 "rm": read mode, the file is mapped into memory and blocks
+	 *                 are read without locking the file system. "rwc": read write
+	 *                 mode, if the file exist, create a empty one. the files
+	 *                 created in it are compressed.
 	 * @throws IOException
 	 */
 	public Ext2FileSystem(String filePath, String mode) throws IOException {
@@ -124,6 +145,21 @@ public class Ext2FileSystem {
 			createFileSystem();
 			return;
 		}
+
+		if ("rwc".equals(mode)) {
+			readOnly = false;
+			removeOnExit = false;
+			compressFiles = true;
+			createFileSystem();
+			return;
+		}
+
+		if ("rm".equals(mode)) {
+			readOnly = true;
+			removeOnExit = false;
+			openMappedFileSystem();
+			return;
+		}
 		throw new IOException(
 				CoreMessages.getFormattedString(ResourceConstants.UNSUPPORTED_FILE_MODE, new Object[] { mode }));
 	}
@@ -146,6 +182,30 @@ public class Ext2FileSystem {
 		readProperties();
 	}
 
+	/**
+	 * open the file system and map the file into memory. The file is mapped in
+	 * segments of MAPPED_SEGMENT_SIZE bytes as one mapping can't exceed 2G
+	 * bytes.
+	 *
+	 * @throws IOException
+	 */
+	private void openMappedFileSystem() throws IOException {
+		if (rf == null) {
+			rf = new RandomAccessFile(fileName, "r");
+		}
+		FileChannel channel = rf.getChannel();
+		long size = channel.size();
+		int count = (int) ((size + MAPPED_SEGMENT_SIZE - 1) / MAPPED_SEGMENT_SIZE);
+		ByteBuffer[] buffers = new ByteBuffer[count];
+		for (int i = 0; i < count; i++) {
+			long offset = (long) i * MAPPED_SEGMENT_SIZE;
+			buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+					Math.min(MAPPED_SEGMENT_SIZE, size - offset));
+		}
+		mappedBuffers = buffers;
+		openFileSystem();
+	}
+
 	private void ensureParentFolderCreated(String fileName) {
 		// try to create the parent folder
 		File parentFile = new File(fileName).getParentFile();
@@ -193,6 +253,7 @@ public class Ext2FileSystem {
 			nodeTable.clear();
 			cacheManager.clear();
 			freeTable.clear();
+			mappedBuffers = null;
 		} finally {
 			if (rf != null) {
 				rf.close();
@@ -237,6 +298,15 @@ public class Ext2FileSystem {
 		throw new UnsupportedOperationException("refresh");
 	}
 
+	/**
+	 * return true if the files created in the file system are compressed.
+	 *
+	 * @return
+	 */
+	public boolean isCompressFiles() {
+		return compressFiles;
+	}
+
 	public boolean isReadOnly() {
 		return readOnly;
 	}
@@ -245,14 +315,29 @@ public class Ext2FileSystem {
 		return removeOnExit;
 	}
 
-	synchronized void registerOpenedFile(Ext2File file) {
+	/**
+	 * return true if the file is opened in "rm" mode. The entries and nodes are
+	 * read-only snapshots in this mode and the blocks are read from the mapped
+	 * file directly, so the readers needn't lock the file system.
+	 *
+	 * @return
+	 */
+	public boolean isMapped() {
+		return mappedBuffers != null;
+	}
+
+	void registerOpenedFile(Ext2File file) {
 		openedFiles.add(file);
 	}
 
-	synchronized void unregisterOpenedFile(Ext2File file) {
+	void unregisterOpenedFile(Ext2File file) {
 		openedFiles.remove(file);
 	}
 
+	public void setSystemCacheManager(SystemCacheManager systemCacheManager) {
+		cacheManager.setSystemCacheManager(systemCacheManager);
+	}
+
 	public void setCacheSize(int cacheSize) {
 		cacheManager.setMaxCacheSize(cacheSize);
 	}
@@ -272,34 +357,66 @@ public class Ext2FileSystem {
 			entryTable.addEntry(entry);
 		}
 		Ext2Node node = nodeTable.getNode(entry.inode);
-		Ext2File file = new Ext2File(this, entry, node);
+		node.setCompressed(compressFiles);
+		Ext2File file = createFileObject(entry, node);
 		file.setLength(0);
 		return file;
 	}
 
-	synchronized public Ext2File openFile(String name) throws IOException {
-		Ext2Entry entry = entryTable.getEntry(name);
-		if (entry != null) {
-			Ext2Node node = nodeTable.getNode(entry.inode);
-			return new Ext2File(this, entry, node);
+	public Ext2File openFile(String name) throws IOException {
+		if (isMapped()) {
+			Ext2Entry entry = entryTable.getEntry(name);
+			if (entry != null) {
+				return createFileObject(entry, nodeTable.getNode(entry.inode));
+			}
+			throw new FileNotFoundException(name);
 		}
+		synchronized (this) {
+			Ext2Entry entry = entryTable.getEntry(name);
+			if (entry != null) {
+				Ext2Node node = nodeTable.getNode(entry.inode);
+				return createFileObject(entry, node);
+			}
 
-		if (!readOnly) {
-			return createFile(name);
+			if (!readOnly) {
+				return createFile(name);
+			}
+			throw new FileNotFoundException(name);
 		}
-		throw new FileNotFoundException(name);
 	}
 
-	synchronized public boolean existFile(String name) {
-		return entryTable.getEntry(name) != null;
+	private Ext2File createFileObject(Ext2Entry entry, Ext2Node node) throws IOException {
+		if (node.isCompressed()) {
+			return new Ext2CompressedFile(this, entry, node);
+		}
+		return new Ext2File(this, entry, node);
 	}
 
-	synchronized public Iterable<String> listAllFiles() {
-		return entryTable.listAllEntries();
+	public boolean existFile(String name) {
+		if (isMapped()) {
+			return entryTable.getEntry(name) != null;
+		}
+		synchronized (this) {
+			return entryTable.getEntry(name) != null;
+		}
 	}
 
-	synchronized public Iterable<String> listFiles(String fromName) {
-		return entryTable.listEntries(fromName);
+	public Iterable<String> listAllFiles() {
+		if (isMapped()) {
+			return entryTable.listAllEntries();
+		}
+		synchronized (this) {
+			return entryTable.listAllEntries();
+		}
+	}
+
+	public Iterable<String> listFiles(String fromName) {
+		if (isMapped()) {
+			return entryTable.listEntries(fromName);
+		}
+		synchronized (this) {
+			return entryTable.listEntries(fromName);
+		}
 	}
 
 	synchronized public void removeFile(String name) throws IOException {
@@ -347,9 +464,16 @@ public class Ext2FileSystem {
 	/** the document tag: RPTDOCV2 */
 	public static final long EXT2_MAGIC_TAG = 0x525054444f435632L;
 	static final int EXT2_VERSION_0 = 0;
+	/** the version which may contain compressed files */
+	static final int EXT2_VERSION_1 = 1;
 	static final int BLOCK_SIZE = 4096;
 	static final int BLOCK_SIZE_BITS = 12;
 	static final int BLOCK_OFFSET_MASK = 0xFFF;
+	/**
+	 * size of a mapped segment in "rm" mode, it is times of the block size so a
+	 * block never crosses two segments.
+	 */
+	static final int MAPPED_SEGMENT_SIZE = 1 << 30;
 
 	private void readHeader() throws IOException {
 		byte[] bytes = new byte[HEADER_SIZE];
@@ -363,10 +487,11 @@ public class Ext2FileSystem {
 					CoreMessages.getFormattedString(ResourceConstants.NOT_EXT2_ARCHIVE, new Object[] { magicTag }));
 		}
 		int version = in.readInt();
-		if (version != EXT2_VERSION_0) {
+		if (version != EXT2_VERSION_0 && version != EXT2_VERSION_1) {
 			throw new IOException(CoreMessages.getFormattedString(ResourceConstants.UNSUPPORTED_ARCHIVE_VERSION,
 					new Object[] { version }));
 		}
+		compressFiles = version == EXT2_VERSION_1;
 
 		int blockSize = in.readInt();
 		if (blockSize != BLOCK_SIZE) {
@@ -400,7 +525,7 @@ public class Ext2FileSystem {
 		ByteArrayOutputStream bytes = new ByteArrayOutputStream(BLOCK_SIZE);
 		DataOutputStream out = new DataOutputStream(bytes);
 		out.writeLong(EXT2_MAGIC_TAG);
-		out.writeInt(EXT2_VERSION_0);
+		out.writeInt(compressFiles ? EXT2_VERSION_1 : EXT2_VERSION_0);
 		out.writeInt(BLOCK_SIZE);
 		rf.seek(0);
 		rf.write(bytes.toByteArray());
@@ -457,18 +582,33 @@ public class Ext2FileSystem {
 		return block;
 	}
 
-	synchronized protected void unloadBlock(Block block) throws IOException {
-		cacheManager.releaseCache(block);
+	protected void unloadBlock(Block block) throws IOException {
+		if (isMapped()) {
+			// the blocks are not managed by the cache manager in mapped mode
+			return;
+		}
+		synchronized (this) {
+			cacheManager.releaseCache(block);
+		}
 	}
 
-	synchronized protected FatBlock loadFatBlock(int blockId) throws IOException {
-		FatBlock block = (FatBlock) cacheManager.getCache(blockId);
-		if (block == null) {
-			block = new FatBlock(this, blockId);
+	protected FatBlock loadFatBlock(int blockId) throws IOException {
+		if (isMapped()) {
+			// the fat block is private to the FatBlockList which loads it, there is
+			// no need to share it through the cache manager
+			FatBlock block = new FatBlock(this, blockId);
 			block.refresh();
-			cacheManager.addCache(block);
+			return block;
+		}
+		synchronized (this) {
+			FatBlock block = (FatBlock) cacheManager.getCache(blockId);
+			if (block == null) {
+				block = new FatBlock(this, blockId);
+				block.refresh();
+				cacheManager.addCache(block);
+			}
+			return block;
 		}
-		return block;
 	}
 
 	synchronized DataBlock loadDataBlock(int blockId) throws IOException {
@@ -486,7 +626,7 @@ public class Ext2FileSystem {
 		readBlock(blockId, offset, buffer, offset, size);
 	}
 
-	synchronized void readBlock(int blockId, int blockOff, byte[] buffer, int offset, int size) throws IOException {
+	void readBlock(int blockId, int blockOff, byte[] buffer, int offset, int size) throws IOException {
 		assert buffer != null;
 		assert blockId >= 0;
 		assert offset >= 0;
@@ -495,15 +635,95 @@ public class Ext2FileSystem {
 		assert blockOff + size <= BLOCK_SIZE;
 
 		long position = (((long) blockId) << BLOCK_SIZE_BITS) + blockOff;
-		if (position < length) {
-			long remainSize = length - position;
-			rf.seek(position);
-			if (remainSize < size) {
-				size = (int) remainSize;
+		ByteBuffer[] buffers = mappedBuffers;
+		if (buffers != null) {
+			if (position < length) {
+				long remainSize = length - position;
+				if (remainSize < size) {
+					size = (int) remainSize;
+				}
+				// duplicate the segment so the readers never share the buffer position
+				ByteBuffer segment = buffers[(int) (position / MAPPED_SEGMENT_SIZE)].duplicate();
+				segment.position((int) (position % MAPPED_SEGMENT_SIZE));
+				segment.get(buffer, offset, size);
+			}
+			return;
+		}
+		synchronized (this) {
+			if (position < length) {
+				long remainSize = length - position;
+				rf.seek(position);
+				if (remainSize < size) {
+					size = (int) remainSize;
+				}
+				rf.readFully(buffer, offset, size);
 			}
-			rf.readFully(buffer, offset, size);
 		}
+	}
 
+	/**
+	 * transfer the data of the archive file into the channel. The data is
+	 * written from the mapped segments in "rm" mode, otherwise it is transferred
+	 * by the file channel, which may not copy the data into the java heap. The
+	 * data beyond the end of the archive file is transferred as zeros.
+	 *
+	 * The file system must be read-only, the cached blocks are not checked.
+	 *
+	 * @param position position in the archive file
+	 * @param size     size of the data
+	 * @param channel  the channel in blocking mode
+	 * @return the size of the transferred data
+	 */
+	long transferTo(long position, long size, WritableByteChannel channel) throws IOException {
+		long fileSize = Math.max(0, Math.min(size, length - position));
+		long count = 0;
+		ByteBuffer[] buffers = mappedBuffers;
+		if (buffers != null) {
+			while (count < fileSize) {
+				long segmentPos = position + count;
+				ByteBuffer segment = buffers[(int) (segmentPos / MAPPED_SEGMENT_SIZE)].duplicate();
+				int segmentOff = (int) (segmentPos % MAPPED_SEGMENT_SIZE);
+				segment.position(segmentOff);
+				segment.limit((int) Math.min(segment.capacity(), segmentOff + fileSize - count));
+				while (segment.hasRemaining()) {
+					count += channel.write(segment);
+				}
+			}
+		} else {
+			RandomAccessFile file = rf;
+			if (file == null) {
+				throw new IOException(CoreMessages.getString(ResourceConstants.FILE_HAS_BEEN_CLOSED));
+			}
+			// the transfer doesn't change the file pointer, so needn't lock
+			FileChannel fileChannel = file.getChannel();
+			while (count < fileSize) {
+				long transferSize = fileChannel.transferTo(position + count, fileSize - count, channel);
+				if (transferSize <= 0) {
+					return count;
+				}
+				count += transferSize;
+			}
+		}
+		if (count < size) {
+			count += transferZeros(size - count, channel);
+		}
+		return count;
+	}
+
+	/**
+	 * write size zeros into the channel.
+	 */
+	static long transferZeros(long size, WritableByteChannel channel) throws IOException {
+		ByteBuffer zeros = ByteBuffer.allocate((int) Math.min(size, BLOCK_SIZE));
+		long count = 0;
+		while (count < size) {
+			zeros.clear();
+			zeros.limit((int) Math.min(zeros.capacity(), size - count));
+			while (zeros.hasRemaining()) {
+				count += channel.write(zeros);
+			}
+		}
+		return count;
 	}
 
 	void writeBlock(int blockId, byte[] buffer, int offset, int size) throws IOException {
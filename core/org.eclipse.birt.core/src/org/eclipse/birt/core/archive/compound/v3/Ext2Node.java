@@ -27,6 +27,13 @@ public class Ext2Node implements Ext2Constants {
 
 	static final int STATUS_UNUSED = 0;
 	static final int STATUS_USED = 1;
+	static final int STATUS_MASK = 0xFFFF;
+
+	/**
+	 * the content of the node is compressed, see Ext2CompressedFile. The flags are
+	 * saved in the high bits of the status.
+	 */
+	static final int FLAG_COMPRESSED = 0x10000;
 
 	static final int NODE_SIZE = 64;
 	static final int DIRECT_BLOCK_COUNT = 9;
@@ -35,10 +42,15 @@ public class Ext2Node implements Ext2Constants {
 	private boolean dirty;
 	private int nodeId;
 	private int status;
+	private int flags;
 	private long length;
 	private int blockCount;
 	private int[] directBlocks = new int[DIRECT_BLOCK_COUNT];
 	private int[] indirectBlocks = new int[INDIRECT_BLOCK_COUNT];
+	/**
+	 * the chunk index shared by the compressed files opened on this node.
+	 */
+	private ChunkIndex chunkIndex;
 
 	Ext2Node() {
 		this(-1);
@@ -65,6 +77,8 @@ public class Ext2Node implements Ext2Constants {
 
 	public void reset() {
 		this.status = STATUS_UNUSED;
+		this.flags = 0;
+		this.chunkIndex = null;
 		this.blockCount = 0;
 		this.length = 0;
 		for (int i = 0; i < DIRECT_BLOCK_COUNT; i++) {
@@ -101,6 +115,27 @@ public class Ext2Node implements Ext2Constants {
 		this.dirty = true;
 	}
 
+	boolean isCompressed() {
+		return (flags & FLAG_COMPRESSED) != 0;
+	}
+
+	void setCompressed(boolean compressed) {
+		int newFlags = compressed ? flags | FLAG_COMPRESSED : flags & ~FLAG_COMPRESSED;
+		if (newFlags != flags) {
+			flags = newFlags;
+			chunkIndex = null;
+			dirty = true;
+		}
+	}
+
+	ChunkIndex getChunkIndex() {
+		return chunkIndex;
+	}
+
+	void setChunkIndex(ChunkIndex chunkIndex) {
+		this.chunkIndex = chunkIndex;
+	}
+
 	public long getLength() {
 		return length;
 	}
@@ -120,7 +155,9 @@ public class Ext2Node implements Ext2Constants {
 	}
 
 	void read(DataInput in) throws IOException {
-		status = in.readInt();
+		int value = in.readInt();
+		status = value & STATUS_MASK;
+		flags = value & ~STATUS_MASK;
 		length = in.readLong();
 		blockCount = in.readInt();
 		for (int i = 0; i < DIRECT_BLOCK_COUNT; i++) {
@@ -133,7 +170,7 @@ public class Ext2Node implements Ext2Constants {
 	}
 
 	void write(DataOutput out) throws IOException {
-		out.writeInt(status);
+		out.writeInt(status | flags);
 		out.writeLong(length);
 		out.writeInt(blockCount);
 		for (int i = 0; i < DIRECT_BLOCK_COUNT; i++) {
@@ -60,6 +60,9 @@ public class BTree<K, V> implements BTreeConstants {
 	private int totalKeys;
 	private int totalValues;
 	private int cacheSize;
+	private int pinnedLevels;
+	private int pinnedNodes;
+	private boolean prefixCompression;
 
 	protected boolean readOnly;
 	protected BTreeSerializer<K> keySerializer;
@@ -98,6 +101,11 @@ public class BTree<K, V> implements BTreeConstants {
 		this.valueSize = option.valueSize;
 		this.headNodeId = option.headNodeId;
 		this.cacheSize = option.cacheSize;
+		this.pinnedLevels = option.pinnedLevels;
+		this.prefixCompression = option.prefixCompression;
+		if (prefixCompression) {
+			this.version = BTREE_VERSION_1;
+		}
 
 		if (file != null) {
 			if (file.getTotalBlock() > headNodeId) {
@@ -145,38 +153,43 @@ public class BTree<K, V> implements BTreeConstants {
 	}
 
 	LeafEntry<K, V> getFirstEntry() throws IOException {
-		int nodeId = rootNodeId;
-		while (nodeId != -1) {
-			BTreeNode<K, V> node = loadBTreeNode(nodeId);
+		if (rootNodeId == -1) {
+			return null;
+		}
+		BTreeNode<K, V> node = loadRootNode();
+		while (node.getNodeType() == NODE_INDEX) {
+			IndexNode<K, V> indexNode = (IndexNode<K, V>) node;
 			try {
-				if (node.getNodeType() == NODE_LEAF) {
-					return ((LeafNode<K, V>) node).getFirstEntry();
-				} else {
-					nodeId = ((IndexNode<K, V>) node).getFirstChild();
-				}
+				node = loadChildNode(indexNode, indexNode.getFirstChild());
 			} finally {
-				node.unlock();
+				indexNode.unlock();
 			}
 		}
-		return null;
+		try {
+			return ((LeafNode<K, V>) node).getFirstEntry();
+		} finally {
+			node.unlock();
+		}
 	}
 
 	LeafEntry<K, V> getLastEntry() throws IOException {
-		int nodeId = rootNodeId;
-		while (nodeId != -1) {
-			BTreeNode<K, V> node = loadBTreeNode(nodeId);
+		if (rootNodeId == -1) {
+			return null;
+		}
+		BTreeNode<K, V> node = loadRootNode();
+		while (node.getNodeType() == NODE_INDEX) {
+			IndexNode<K, V> indexNode = (IndexNode<K, V>) node;
 			try {
-				if (node.getNodeType() == NODE_LEAF) {
-					return ((LeafNode<K, V>) node).getLastEntry();
-				} else {
-					nodeId = ((IndexNode<K, V>) node).getLastChild();
-				}
-
+				node = loadChildNode(indexNode, indexNode.getLastChild());
 			} finally {
-				node.unlock();
+				indexNode.unlock();
 			}
 		}
-		return null;
+		try {
+			return ((LeafNode<K, V>) node).getLastEntry();
+		} finally {
+			node.unlock();
+		}
 	}
 
 	protected LeafEntry<K, V> findEntry(K k) throws IOException {
@@ -185,7 +198,7 @@ public class BTree<K, V> implements BTreeConstants {
 		}
 		if (rootNodeId != -1) {
 			BTreeValue<K> key = createKey(k);
-			BTreeNode<K, V> root = loadBTreeNode(rootNodeId);
+			BTreeNode<K, V> root = loadRootNode();
 			try {
 				int nodeType = root.getNodeType();
 				if (nodeType == NODE_INDEX) {
@@ -246,7 +259,7 @@ public class BTree<K, V> implements BTreeConstants {
 				root.unlock();
 			}
 		} else {
-			BTreeNode<K, V> root = loadBTreeNode(rootNodeId);
+			BTreeNode<K, V> root = loadRootNode();
 			try {
 				int nodeType = root.getNodeType();
 				if (nodeType == NODE_INDEX) {
@@ -295,6 +308,128 @@ public class BTree<K, V> implements BTreeConstants {
 		}
 	}
 
+	/**
+	 * load the entries sorted by the key into the tree.
+	 *
+	 * If the tree is empty, the leaf nodes are filled one by one from left to
+	 * right and the index nodes are built from bottom up, so each node is written
+	 * only once and is fully used. Otherwise the entries are inserted one by one.
+	 *
+	 * The entries with the same key must be adjacent, their values are appended
+	 * if the tree allows duplicate values, otherwise the last value is kept.
+	 *
+	 * @param entries the entries in ascending order of the keys.
+	 * @throws IOException
+	 */
+	public void bulkLoad(Iterator<? extends Map.Entry<K, V>> entries) throws IOException {
+		if (readOnly) {
+			throw new IOException(CoreMessages.getString(ResourceConstants.READ_ONLY_TREE));
+		}
+		if (rootNodeId != -1) {
+			while (entries.hasNext()) {
+				Map.Entry<K, V> entry = entries.next();
+				insertEntry(entry.getKey(), entry.getValue());
+			}
+			return;
+		}
+
+		// the last index node of each level, from bottom to top
+		ArrayList<IndexNode<K, V>> levels = new ArrayList<>();
+		LeafNode<K, V> leafNode = null;
+		BTreeValue<K> lastKey = null;
+		try {
+			while (entries.hasNext()) {
+				Map.Entry<K, V> entry = entries.next();
+				K k = entry.getKey();
+				if (k == null && !allowNullKey) {
+					throw new NullPointerException("key can not be null");
+				}
+				BTreeValue<K> key = createKey(k);
+				@SuppressWarnings("unchecked")
+				BTreeValue<V>[] values = (BTreeValue<V>[]) new BTreeValue[1];
+				if (hasValue()) {
+					values[0] = createValue(entry.getValue());
+				}
+				if (leafNode == null) {
+					leafNode = createLeafNode();
+					leafNode.setPrevNodeId(-1);
+					leafNode.setNextNodeId(-1);
+					rootNodeId = leafNode.getNodeId();
+					totalLevels = 1;
+					leafNode.insert(key, values);
+				} else {
+					int result = compare(lastKey, key);
+					if (result > 0) {
+						throw new IOException(CoreMessages.getString(ResourceConstants.UNSORTED_KEYS));
+					}
+					if (result == 0) {
+						// merge the values into the last entry
+						leafNode.insert(key, values);
+					} else {
+						BTreeValues<V> entryValues = leafNode.createValues(values);
+						if (!leafNode.append(key, entryValues)) {
+							LeafNode<K, V> newNode = createLeafNode();
+							int prevNodeId = leafNode.getNodeId();
+							newNode.setPrevNodeId(prevNodeId);
+							newNode.setNextNodeId(-1);
+							leafNode.setNextNodeId(newNode.getNodeId());
+							leafNode.unlock();
+							leafNode = newNode;
+							leafNode.append(key, entryValues);
+							appendIndex(levels, 0, key, newNode.getNodeId(), prevNodeId);
+						}
+					}
+				}
+				lastKey = key;
+			}
+		} finally {
+			if (leafNode != null) {
+				leafNode.unlock();
+			}
+			for (IndexNode<K, V> indexNode : levels) {
+				indexNode.unlock();
+			}
+			if (!levels.isEmpty()) {
+				rootNodeId = levels.get(levels.size() - 1).getNodeId();
+				totalLevels = levels.size() + 1;
+			}
+		}
+	}
+
+	/**
+	 * append the child to the last index node of the level. If the node is full,
+	 * a new node is created and the key moves to the upper level, the same as
+	 * the node is split.
+	 *
+	 * @param levels          the last index node of each level
+	 * @param level           the level of the index node
+	 * @param key             the key of the child
+	 * @param childNodeId     the child node
+	 * @param prevChildNodeId the child before it, it becomes the first child of
+	 *                        the index node if the level doesn't exist.
+	 */
+	private void appendIndex(ArrayList<IndexNode<K, V>> levels, int level, BTreeValue<K> key, int childNodeId,
+			int prevChildNodeId) throws IOException {
+		if (level == levels.size()) {
+			IndexNode<K, V> indexNode = createIndexNode();
+			indexNode.setPrevNodeId(-1);
+			indexNode.setNextNodeId(-1);
+			indexNode.setFirstChild(prevChildNodeId);
+			levels.add(indexNode);
+		}
+		IndexNode<K, V> indexNode = levels.get(level);
+		if (!indexNode.appendIndex(key, childNodeId)) {
+			IndexNode<K, V> newNode = createIndexNode();
+			newNode.setFirstChild(childNodeId);
+			newNode.setPrevNodeId(indexNode.getNodeId());
+			newNode.setNextNodeId(-1);
+			indexNode.setNextNodeId(newNode.getNodeId());
+			levels.set(level, newNode);
+			indexNode.unlock();
+			appendIndex(levels, level + 1, key, newNode.getNodeId(), indexNode.getNodeId());
+		}
+	}
+
 	public int getTotalKeys() {
 		return totalKeys;
 	}
@@ -406,7 +541,7 @@ public class BTree<K, V> implements BTreeConstants {
 				// we never remove the cache out if there is no file.
 				return false;
 			}
-			if (size() >= cacheSize) {
+			if (size() - pinnedNodes >= cacheSize) {
 				BTreeNode<K, V> node = arg.getValue();
 				if (node.isLocked()) {
 					Iterator<Map.Entry<Integer, BTreeNode<K, V>>> iter = this.entrySet().iterator();
@@ -494,6 +629,38 @@ public class BTree<K, V> implements BTreeConstants {
 		}
 	}
 
+	/**
+	 * load the root node, which is pinned if the upper levels are pinned.
+	 */
+	BTreeNode<K, V> loadRootNode() throws IOException {
+		BTreeNode<K, V> node = loadBTreeNode(rootNodeId);
+		pinNode(node, 0);
+		return node;
+	}
+
+	/**
+	 * load the child of the index node, the child is pinned if the parent is
+	 * pinned and it is in the pinned levels.
+	 */
+	BTreeNode<K, V> loadChildNode(IndexNode<K, V> parent, int childNodeId) throws IOException {
+		BTreeNode<K, V> node = loadBTreeNode(childNodeId);
+		if (parent.pinnedLevel != -1) {
+			pinNode(node, parent.pinnedLevel + 1);
+		}
+		return node;
+	}
+
+	/**
+	 * a pinned node is locked once more, so it is never removed from the cache.
+	 */
+	private synchronized void pinNode(BTreeNode<K, V> node, int level) {
+		if (node.pinnedLevel == -1 && level < pinnedLevels) {
+			node.pinnedLevel = level;
+			node.lock();
+			pinnedNodes++;
+		}
+	}
+
 	IndexNode<K, V> loadIndexNode(int nodeId) throws IOException {
 		BTreeNode<K, V> node = loadBTreeNode(nodeId);
 		if (node instanceof IndexNode) {
@@ -634,6 +801,84 @@ public class BTree<K, V> implements BTreeConstants {
 		return size + bytes.length;
 	}
 
+	/**
+	 * write the key of the node entry. If the prefix compression is enabled, only
+	 * the bytes after the common prefix with the previous key are written:
+	 *
+	 * <pre>
+	 * IS_NULL			BOOLEAN		if null key is allowed
+	 * PREFIX_SIZE		VARINT		size of the common prefix
+	 * SUFFIX_SIZE		VARINT		size of the remain bytes, only for variable size key
+	 * SUFFIX			...			the remain bytes
+	 * </pre>
+	 *
+	 * @param prevKey the previous key in the node, null for the first key.
+	 * @return the written size
+	 */
+	int writeKey(DataOutput out, BTreeValue<K> key, BTreeValue<K> prevKey) throws IOException {
+		if (!prefixCompression) {
+			return writeKey(out, key);
+		}
+		int size = 0;
+		if (allowNullKey) {
+			if (key == NULL_KEY) {
+				out.writeBoolean(true);
+				return 1;
+			}
+			out.writeBoolean(false);
+			size = 1;
+		}
+		byte[] bytes = key.getBytes();
+		int keySize = getKeySize();
+		if (keySize != 0 && keySize != bytes.length) {
+			throw new IOException(CoreMessages.getString(ResourceConstants.MISMATCH_KEY_LENGTH));
+		}
+		int prefixSize = getPrefixSize(bytes, prevKey);
+		int suffixSize = bytes.length - prefixSize;
+		size += BTreeUtils.writeVarInt(out, prefixSize);
+		if (keySize == 0) {
+			size += BTreeUtils.writeVarInt(out, suffixSize);
+		}
+		out.write(bytes, prefixSize, suffixSize);
+		return size + suffixSize;
+	}
+
+	BTreeValue<K> readKey(DataInput in, BTreeValue<K> prevKey) throws IOException {
+		if (!prefixCompression) {
+			return readKey(in);
+		}
+		if (allowNullKey) {
+			boolean isNull = in.readBoolean();
+			if (isNull) {
+				return NULL_KEY;
+			}
+		}
+		int prefixSize = BTreeUtils.readVarInt(in);
+		int keySize = getKeySize();
+		if (keySize == 0) {
+			keySize = prefixSize + BTreeUtils.readVarInt(in);
+		}
+		byte[] keyBytes = new byte[keySize];
+		if (prefixSize > 0) {
+			System.arraycopy(prevKey.getBytes(), 0, keyBytes, 0, prefixSize);
+		}
+		in.readFully(keyBytes, prefixSize, keySize - prefixSize);
+		return new BTreeValue<>(keyBytes);
+	}
+
+	private int getPrefixSize(byte[] bytes, BTreeValue<K> prevKey) {
+		if (prevKey == null || prevKey == NULL_KEY) {
+			return 0;
+		}
+		byte[] prevBytes = prevKey.getBytes();
+		int length = Math.min(bytes.length, prevBytes.length);
+		int prefixSize = 0;
+		while (prefixSize < length && bytes[prefixSize] == prevBytes[prefixSize]) {
+			prefixSize++;
+		}
+		return prefixSize;
+	}
+
 	BTreeValue<K> readKey(DataInput in) throws IOException {
 		if (allowNullKey) {
 			boolean isNull = in.readBoolean();
@@ -737,6 +982,23 @@ public class BTree<K, V> implements BTreeConstants {
 		return keySize;
 	}
 
+	int getKeySize(BTreeValue<K> key, BTreeValue<K> prevKey) {
+		if (!prefixCompression) {
+			return getKeySize(key);
+		}
+		int size = allowNullKey ? 1 : 0;
+		if (key == NULL_KEY) {
+			return size;
+		}
+		byte[] bytes = key.getBytes();
+		int suffixSize = bytes.length - getPrefixSize(bytes, prevKey);
+		size += BTreeUtils.getVarIntSize(bytes.length - suffixSize);
+		if (keySize == 0) {
+			size += BTreeUtils.getVarIntSize(suffixSize);
+		}
+		return size + suffixSize;
+	}
+
 	int getValueSize(BTreeValue<V> value) {
 		if (valueSize == 0) {
 			return 4 + value.getBytes().length;
@@ -823,11 +1085,15 @@ public class BTree<K, V> implements BTreeConstants {
 					new Object[] { Long.toHexString(tag) }));
 		}
 		version = in.readInt();
-		if (version != BTREE_VERSION_0) {
+		if (version != BTREE_VERSION_0 && version != BTREE_VERSION_1) {
 			throw new IOException(
 					CoreMessages.getFormattedString(ResourceConstants.UNSUPPORTED_VERSION, new Object[] { version }));
 		}
 		readV0(in);
+		prefixCompression = false;
+		if (version == BTREE_VERSION_1) {
+			prefixCompression = in.readBoolean();
+		}
 	}
 
 	private void readV0(DataInput in) throws IOException {
@@ -845,7 +1111,7 @@ public class BTree<K, V> implements BTreeConstants {
 
 	protected void writeTreeHead(DataOutput out) throws IOException {
 		out.writeLong(MAGIC_TAG);
-		out.writeInt(BTREE_VERSION_0);
+		out.writeInt(version);
 		out.writeBoolean(allowDuplicate);
 		out.writeInt(keySize);
 		out.writeBoolean(hasValue);
@@ -856,6 +1122,9 @@ public class BTree<K, V> implements BTreeConstants {
 		out.writeInt(totalKeys);
 		out.writeInt(totalValues);
 		out.writeBoolean(allowNullKey);
+		if (version == BTREE_VERSION_1) {
+			out.writeBoolean(prefixCompression);
+		}
 	}
 
 	void increaseTotalKeys() {
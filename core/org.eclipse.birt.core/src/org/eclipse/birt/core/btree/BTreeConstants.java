@@ -19,6 +19,10 @@ public interface BTreeConstants {
 	// HEX value of 'BTREE'
 	long MAGIC_TAG = 0x4254524545L;
 	int BTREE_VERSION_0 = 0;
+	/**
+	 * the keys in the node are prefix compressed
+	 */
+	int BTREE_VERSION_1 = 1;
 
 	int BLOCK_SIZE = 4096;
 
@@ -40,6 +40,11 @@ abstract public class BTreeNode<K, V> implements BTreeConstants {
 	protected int usedBlocks[];
 	protected int lockCount;
 	protected boolean dirty;
+	/**
+	 * the level counted from the root if the node is pinned in the cache, -1
+	 * otherwise
+	 */
+	int pinnedLevel;
 
 	BTreeNode(BTree<K, V> tree, int type, int id) {
 		this.btree = tree;
@@ -49,6 +54,7 @@ abstract public class BTreeNode<K, V> implements BTreeConstants {
 
 		this.dirty = true;
 		this.lockCount = 0;
+		this.pinnedLevel = -1;
 		this.usedBlocks = new int[] { id };
 	}
 
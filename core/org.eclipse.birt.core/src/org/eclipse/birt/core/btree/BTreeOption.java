@@ -32,6 +32,8 @@ public class BTreeOption<K, V> {
 
 	int headNodeId;
 	int cacheSize;
+	int pinnedLevels;
+	boolean prefixCompression;
 
 	public BTreeOption() {
 		readOnly = false;
@@ -47,6 +49,8 @@ public class BTreeOption<K, V> {
 
 		headNodeId = BTreeConstants.HEAD_BLOCK_ID;
 		cacheSize = 13;
+		pinnedLevels = 0;
+		prefixCompression = false;
 
 		file = null;
 	}
@@ -115,4 +119,25 @@ public class BTreeOption<K, V> {
 	public void setCacheSize(int cacheSize) {
 		this.cacheSize = cacheSize;
 	}
+
+	/**
+	 * keep the nodes of the upper levels in the cache once they are loaded. The
+	 * pinned nodes are not counted in the cache size.
+	 *
+	 * @param pinnedLevels the levels counted from the root, 0 to pin nothing.
+	 */
+	public void setPinnedLevels(int pinnedLevels) {
+		this.pinnedLevels = pinnedLevels;
+	}
+
+	/**
+	 * store only the bytes which differ from the previous key in the node. It
+	 * takes effect only for a new tree, the tree is saved in a format which
+	 * can't be read by the old versions.
+	 *
+	 * @param prefixCompression
+	 */
+	public void setPrefixCompression(boolean prefixCompression) {
+		this.prefixCompression = prefixCompression;
+	}
 }
@@ -14,6 +14,10 @@
 
 package org.eclipse.birt.core.btree;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 public class BTreeUtils {
 
 	static public int bytesToInteger(byte[] b) {
@@ -26,4 +30,39 @@ public class BTreeUtils {
 		b[2] = (byte) ((v >>> 8) & 0xFF);
 		b[3] = (byte) ((v >>> 0) & 0xFF);
 	}
+
+	/**
+	 * write the integer with 7 bits per byte, the small values take less bytes.
+	 */
+	static public int writeVarInt(DataOutput out, int v) throws IOException {
+		int size = 1;
+		while ((v & ~0x7F) != 0) {
+			out.writeByte((v & 0x7F) | 0x80);
+			v >>>= 7;
+			size++;
+		}
+		out.writeByte(v);
+		return size;
+	}
+
+	static public int readVarInt(DataInput in) throws IOException {
+		int v = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			v |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				break;
+			}
+		}
+		return v;
+	}
+
+	static public int getVarIntSize(int v) {
+		int size = 1;
+		while ((v & ~0x7F) != 0) {
+			v >>>= 7;
+			size++;
+		}
+		return size;
+	}
 }
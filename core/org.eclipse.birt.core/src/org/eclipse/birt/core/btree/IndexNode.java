@@ -111,13 +111,17 @@ public class IndexNode<K, V> extends BTreeNode<K, V> {
 	}
 
 	public int getLastChild() {
+		if (entries.isEmpty()) {
+			// the last node of a bulk loaded level may have only the first child
+			return firstChild;
+		}
 		return entries.get(entries.size() - 1).getChildNodeId();
 	}
 
 	public LeafEntry<K, V> find(BTreeValue<K> key) throws IOException {
 		int childNodeId = findChildNode(key);
 		if (childNodeId != -1) {
-			BTreeNode<K, V> node = btree.loadBTreeNode(childNodeId);
+			BTreeNode<K, V> node = btree.loadChildNode(this, childNodeId);
 			try {
 				if (node.nodeType == NODE_INDEX) {
 					return ((IndexNode<K, V>) node).find(key);
@@ -170,7 +174,7 @@ public class IndexNode<K, V> extends BTreeNode<K, V> {
 	public LeafEntry<K, V> insert(BTreeValue<K> key, BTreeValue<V>[] values) throws IOException {
 		int childNodeId = findChildNode(key);
 		if (childNodeId != -1) {
-			BTreeNode<K, V> node = btree.loadBTreeNode(childNodeId);
+			BTreeNode<K, V> node = btree.loadChildNode(this, childNodeId);
 			try {
 				if (node.nodeType == NODE_INDEX) {
 					IndexNode<K, V> indexNode = (IndexNode<K, V>) node;
@@ -213,20 +217,47 @@ public class IndexNode<K, V> extends BTreeNode<K, V> {
 		index = -(index + 1);
 		// insert at the last entry
 		IndexEntry<K, V> newEntry = new IndexEntry<>(this, insertKey, childNodeId);
+		BTreeValue<K> prevKey = index > 0 ? entries.get(index - 1).getKey() : null;
+		nodeSize += getEntrySize(newEntry, prevKey);
+		if (index < entries.size()) {
+			// the next key is compressed with the inserted key now
+			BTreeValue<K> nextKey = entries.get(index).getKey();
+			nodeSize += btree.getKeySize(nextKey, insertKey) - btree.getKeySize(nextKey, prevKey);
+		}
 		entries.add(index, newEntry);
-		nodeSize += getEntrySize(newEntry);
 
 		dirty = true;
 	}
 
+	/**
+	 * append an index entry after the last entry, it is used to bulk load the
+	 * sorted entries. The key must be greater than the last key.
+	 *
+	 * @return false if the node is full
+	 */
+	boolean appendIndex(BTreeValue<K> key, int childNodeId) {
+		IndexEntry<K, V> newEntry = new IndexEntry<>(this, key, childNodeId);
+		BTreeValue<K> prevKey = entries.isEmpty() ? null : entries.get(entries.size() - 1).getKey();
+		int entrySize = getEntrySize(newEntry, prevKey);
+		if (entries.size() >= MIN_ENTRY_COUNT && nodeSize + entrySize > MAX_NODE_SIZE) {
+			return false;
+		}
+		entries.add(newEntry);
+		nodeSize += entrySize;
+		dirty = true;
+		return true;
+	}
+
 	public boolean needSplit() {
 		return nodeSize > MAX_NODE_SIZE && entries.size() > MIN_ENTRY_COUNT;
 	}
 
 	protected void resetNodeSize() {
 		nodeSize = EMPTY_NODE_SIZE;
+		BTreeValue<K> prevKey = null;
 		for (IndexEntry<K, V> entry : entries) {
-			nodeSize += getEntrySize(entry);
+			nodeSize += getEntrySize(entry, prevKey);
+			prevKey = entry.getKey();
 		}
 	}
 
@@ -282,9 +313,11 @@ public class IndexNode<K, V> extends BTreeNode<K, V> {
 		firstChild = in.readInt();
 		entries.clear();
 		entries.ensureCapacity(entryCount);
+		BTreeValue<K> prevKey = null;
 		for (int i = 0; i < entryCount; i++) {
-			IndexEntry<K, V> entry = readEntry(in);
+			IndexEntry<K, V> entry = readEntry(in, prevKey);
 			entries.add(entry);
+			prevKey = entry.getKey();
 		}
 	}
 
@@ -295,24 +328,26 @@ public class IndexNode<K, V> extends BTreeNode<K, V> {
 		out.writeInt(nextNodeId);
 		out.writeInt(entries.size());
 		out.writeInt(firstChild);
+		BTreeValue<K> prevKey = null;
 		for (IndexEntry<K, V> entry : entries) {
-			writeEntry(out, entry);
+			writeEntry(out, entry, prevKey);
+			prevKey = entry.getKey();
 		}
 	}
 
-	private IndexEntry<K, V> readEntry(DataInput in) throws IOException {
-		BTreeValue<K> key = btree.readKey(in);
+	private IndexEntry<K, V> readEntry(DataInput in, BTreeValue<K> prevKey) throws IOException {
+		BTreeValue<K> key = btree.readKey(in, prevKey);
 		int childNodeId = in.readInt();
 		return new IndexEntry<>(this, key, childNodeId);
 	}
 
-	private void writeEntry(DataOutput out, IndexEntry<K, V> entry) throws IOException {
-		btree.writeKey(out, entry.getKey());
+	private void writeEntry(DataOutput out, IndexEntry<K, V> entry, BTreeValue<K> prevKey) throws IOException {
+		btree.writeKey(out, entry.getKey(), prevKey);
 		out.writeInt(entry.getChildNodeId());
 	}
 
-	private int getEntrySize(IndexEntry<K, V> entry) {
-		return 4 + btree.getKeySize(entry.getKey());
+	private int getEntrySize(IndexEntry<K, V> entry, BTreeValue<K> prevKey) {
+		return 4 + btree.getKeySize(entry.getKey(), prevKey);
 	}
 
 	@Override
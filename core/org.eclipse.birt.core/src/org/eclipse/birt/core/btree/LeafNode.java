@@ -180,6 +180,19 @@ class LeafNode<K, V> extends BTreeNode<K, V> {
 
 		index = -(index + 1);
 		// now we should insert the entry before the insert point
+		BTreeValues<V> values = createValues(vs);
+		LeafEntry<K, V> entry = new LeafEntry<>(this, key, values);
+		insert(index, entry);
+
+		// if the node size is larger than the block size, split into two nodes.
+		if (btree.hasValue()) {
+			btree.increaseTotalValues(vs.length);
+		}
+		btree.increaseTotalKeys();
+		return entry;
+	}
+
+	BTreeValues<V> createValues(BTreeValue<V>[] vs) throws IOException {
 		BTreeValues<V> values = null;
 		if (btree.hasValue()) {
 			if (btree.allowDuplicate()) {
@@ -194,15 +207,30 @@ class LeafNode<K, V> extends BTreeNode<K, V> {
 				values = new SingleValueList<>(btree, vs[0]);
 			}
 		}
-		LeafEntry<K, V> entry = new LeafEntry<>(this, key, values);
-		insert(index, entry);
+		return values;
+	}
 
-		// if the node size is larger than the block size, split into two nodes.
-		if (btree.hasValue()) {
-			btree.increaseTotalValues(vs.length);
+	/**
+	 * append an entry after the last entry, it is used to bulk load the sorted
+	 * entries. The key must be greater than the last key.
+	 *
+	 * @return false if the node is full
+	 */
+	boolean append(BTreeValue<K> key, BTreeValues<V> values) throws IOException {
+		LeafEntry<K, V> entry = new LeafEntry<>(this, key, values);
+		if (entries.size() >= MIN_ENTRY_COUNT) {
+			LeafEntry<K, V> last = entries.get(entries.size() - 1);
+			if (nodeSize + getEntrySize(entry, last.getKey()) > MAX_NODE_SIZE) {
+				return false;
+			}
+		}
+		dirty = true;
+		insert(entries.size(), entry);
+		if (values != null) {
+			btree.increaseTotalValues(values.getValueCount());
 		}
 		btree.increaseTotalKeys();
-		return entry;
+		return true;
 	}
 
 	private void insert(int index, LeafEntry<K, V> entry) throws IOException {
@@ -228,7 +256,12 @@ class LeafNode<K, V> extends BTreeNode<K, V> {
 			next.setPrev(entry);
 		}
 
-		nodeSize += getEntrySize(entry);
+		BTreeValue<K> prevKey = prev == null ? null : prev.getKey();
+		nodeSize += getEntrySize(entry, prevKey);
+		if (next != null) {
+			// the next key is compressed with the inserted key now
+			nodeSize += btree.getKeySize(next.getKey(), entry.getKey()) - btree.getKeySize(next.getKey(), prevKey);
+		}
 	}
 
 	public boolean needSplit() {
@@ -237,8 +270,10 @@ class LeafNode<K, V> extends BTreeNode<K, V> {
 
 	private void resetNodeSize() throws IOException {
 		nodeSize = EMPTY_NODE_SIZE;
+		BTreeValue<K> prevKey = null;
 		for (LeafEntry<K, V> entry : entries) {
-			nodeSize += getEntrySize(entry);
+			nodeSize += getEntrySize(entry, prevKey);
+			prevKey = entry.getKey();
 		}
 	}
 
@@ -298,7 +333,7 @@ class LeafNode<K, V> extends BTreeNode<K, V> {
 		int entryCount = in.readInt();
 		LeafEntry<K, V> prev = null;
 		for (int i = 0; i < entryCount; i++) {
-			LeafEntry<K, V> entry = readEntry(in);
+			LeafEntry<K, V> entry = readEntry(in, prev == null ? null : prev.getKey());
 			entry.setPrev(prev);
 			if (prev != null) {
 				prev.setNext(entry);
@@ -314,13 +349,15 @@ class LeafNode<K, V> extends BTreeNode<K, V> {
 		out.writeInt(prevNodeId);
 		out.writeInt(nextNodeId);
 		out.writeInt(entries.size());
+		BTreeValue<K> prevKey = null;
 		for (LeafEntry<K, V> entry : entries) {
-			writeEntry(out, entry);
+			writeEntry(out, entry, prevKey);
+			prevKey = entry.getKey();
 		}
 	}
 
-	private int getEntrySize(LeafEntry<K, V> entry) {
-		int keySize = btree.getKeySize(entry.getKey());
+	private int getEntrySize(LeafEntry<K, V> entry, BTreeValue<K> prevKey) {
+		int keySize = btree.getKeySize(entry.getKey(), prevKey);
 		if (btree.hasValue()) {
 			BTreeValues<V> values = entry.getValues();
 			if (btree.allowDuplicate()) {
@@ -331,8 +368,8 @@ class LeafNode<K, V> extends BTreeNode<K, V> {
 		return keySize;
 	}
 
-	protected LeafEntry<K, V> readEntry(DataInput in) throws IOException {
-		BTreeValue<K> key = btree.readKey(in);
+	protected LeafEntry<K, V> readEntry(DataInput in, BTreeValue<K> prevKey) throws IOException {
+		BTreeValue<K> key = btree.readKey(in, prevKey);
 		BTreeValues<V> values = readValues(in);
 		return new LeafEntry<>(this, key, values);
 	}
@@ -361,8 +398,8 @@ class LeafNode<K, V> extends BTreeNode<K, V> {
 		return null;
 	}
 
-	private void writeEntry(DataOutput out, LeafEntry<K, V> entry) throws IOException {
-		btree.writeKey(out, entry.getKey());
+	private void writeEntry(DataOutput out, LeafEntry<K, V> entry, BTreeValue<K> prevKey) throws IOException {
+		btree.writeKey(out, entry.getKey(), prevKey);
 		if (btree.hasValue()) {
 			BTreeValues<V> values = entry.getValues();
 			if (btree.allowDuplicate()) {
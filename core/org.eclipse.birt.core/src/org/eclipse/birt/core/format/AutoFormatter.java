@@ -55,14 +55,14 @@ public class AutoFormatter implements IFormatter {
 			// java.sql.Time and java.sql.Timestamp
 			if (value instanceof java.util.Date) {
 				if (pattern != null || defaultDateFormatter == null) {
-					directFormatter = new DateFormatter(pattern, this.locale, this.timeZone);
+					directFormatter = FormatterFactory.getDateFormatter(pattern, this.locale, this.timeZone);
 				} else {
 					directFormatter = defaultDateFormatter;
 				}
 			} else if (value instanceof Number) {
-				directFormatter = new NumberFormatter(pattern, this.locale);
+				directFormatter = FormatterFactory.getNumberFormatter(pattern, this.locale);
 			} else if (pattern != null && value instanceof String) {
-				directFormatter = new StringFormatter(pattern, this.locale);
+				directFormatter = FormatterFactory.getStringFormatter(pattern, this.locale);
 			} else {
 				directFormatter = new DefaultFormatter(locale);
 			}
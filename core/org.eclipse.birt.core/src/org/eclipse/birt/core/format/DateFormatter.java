@@ -33,7 +33,7 @@ import com.ibm.icu.util.ULocale;
  * future
  *
  */
-public class DateFormatter implements IFormatter {
+public class DateFormatter implements IFormatter, Cloneable {
 
 	private static final String UNFORMATTED = "Unformatted";
 	public static final String DATETIME_UNFORMATTED = "DateTime" + UNFORMATTED;
@@ -552,6 +552,29 @@ public class DateFormatter implements IFormatter {
 		}
 	}
 
+	/**
+	 * creates a copy of the formatter. The format objects are cloned too, so the
+	 * copy can be used by another thread.
+	 */
+	@Override
+	public DateFormatter clone() {
+		try {
+			DateFormatter formatter = (DateFormatter) super.clone();
+			if (dateTimeFormat != null) {
+				formatter.dateTimeFormat = (com.ibm.icu.text.DateFormat) dateTimeFormat.clone();
+			}
+			if (dateFormat != null) {
+				formatter.dateFormat = (com.ibm.icu.text.DateFormat) dateFormat.clone();
+			}
+			if (timeFormat != null) {
+				formatter.timeFormat = (com.ibm.icu.text.DateFormat) timeFormat.clone();
+			}
+			return formatter;
+		} catch (CloneNotSupportedException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	@Override
 	public String formatValue(Object value) {
 		assert value instanceof Date;
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.core.format;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+
+/**
+ * Creates the formatters for the whole process.
+ *
+ * Creating the ICU format objects is expensive, so the factory keeps a
+ * prototype of each formatter, keyed by the pattern, locale and time zone. The
+ * prototype is never returned, each call returns a clone of it which can be
+ * changed and used by the caller only.
+ */
+public class FormatterFactory {
+
+	static final int CACHE_SIZE = 512;
+
+	private static final FormatterCache<StringFormatter> stringFormatters = new FormatterCache<>();
+	private static final FormatterCache<NumberFormatter> numberFormatters = new FormatterCache<>();
+	private static final FormatterCache<DateFormatter> dateFormatters = new FormatterCache<>();
+
+	private FormatterFactory() {
+	}
+
+	/**
+	 * get a string formatter
+	 *
+	 * @param pattern the format pattern
+	 * @param locale  the locale, null for the default locale
+	 * @return a new formatter
+	 */
+	public static StringFormatter getStringFormatter(String pattern, ULocale locale) {
+		if (locale == null) {
+			locale = ULocale.getDefault();
+		}
+		FormatterKey key = new FormatterKey(pattern, locale, null);
+		StringFormatter formatter = stringFormatters.get(key);
+		if (formatter == null) {
+			formatter = stringFormatters.put(key, new StringFormatter(pattern, locale));
+		}
+		return formatter.clone();
+	}
+
+	/**
+	 * get a number formatter
+	 *
+	 * @param pattern the format pattern
+	 * @param locale  the locale, null for the default locale
+	 * @return a new formatter
+	 */
+	public static NumberFormatter getNumberFormatter(String pattern, ULocale locale) {
+		if (locale == null) {
+			locale = ULocale.getDefault();
+		}
+		FormatterKey key = new FormatterKey(pattern, locale, null);
+		NumberFormatter formatter = numberFormatters.get(key);
+		if (formatter == null) {
+			formatter = numberFormatters.put(key, new NumberFormatter(pattern, locale));
+		}
+		return formatter.clone();
+	}
+
+	/**
+	 * get a date formatter
+	 *
+	 * @param pattern  the format pattern
+	 * @param locale   the locale, null for the default locale
+	 * @param timeZone the time zone, null for the default time zone
+	 * @return a new formatter
+	 */
+	public static DateFormatter getDateFormatter(String pattern, ULocale locale, TimeZone timeZone) {
+		if (locale == null) {
+			locale = ULocale.getDefault();
+		}
+		if (timeZone == null) {
+			// the default time zone may be changed, so keep it in the key
+			timeZone = TimeZone.getDefault();
+		}
+		FormatterKey key = new FormatterKey(pattern, locale, timeZone);
+		DateFormatter formatter = dateFormatters.get(key);
+		if (formatter == null) {
+			formatter = dateFormatters.put(key, new DateFormatter(pattern, locale, timeZone));
+		}
+		return formatter.clone();
+	}
+
+	/**
+	 * remove all the cached formatters.
+	 */
+	public static void clear() {
+		stringFormatters.clear();
+		numberFormatters.clear();
+		dateFormatters.clear();
+	}
+
+	private static class FormatterCache<T> {
+
+		// access-ordered LRU cache
+		private final LinkedHashMap<FormatterKey, T> formatters = new LinkedHashMap<FormatterKey, T>(16, 0.75f,
+				true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<FormatterKey, T> eldest) {
+				return size() > CACHE_SIZE;
+			}
+		};
+
+		synchronized T get(FormatterKey key) {
+			return formatters.get(key);
+		}
+
+		/**
+		 * put the formatter into the cache, the formatter created by another
+		 * thread in the meantime is kept.
+		 *
+		 * @return the cached formatter
+		 */
+		synchronized T put(FormatterKey key, T formatter) {
+			T cachedFormatter = formatters.get(key);
+			if (cachedFormatter != null) {
+				return cachedFormatter;
+			}
+			formatters.put(key, formatter);
+			return formatter;
+		}
+
+		synchronized void clear() {
+			formatters.clear();
+		}
+	}
+
+	private static class FormatterKey {
+
+		private final String pattern;
+		private final ULocale locale;
+		private final TimeZone timeZone;
+		private final int hashCode;
+
+		FormatterKey(String pattern, ULocale locale, TimeZone timeZone) {
+			this.pattern = pattern;
+			this.locale = locale;
+			this.timeZone = timeZone;
+			int hash = locale.hashCode();
+			if (pattern != null) {
+				hash = hash * 31 + pattern.hashCode();
+			}
+			if (timeZone != null) {
+				hash = hash * 31 + timeZone.getID().hashCode();
+			}
+			this.hashCode = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof FormatterKey)) {
+				return false;
+			}
+			FormatterKey key = (FormatterKey) obj;
+			if (hashCode != key.hashCode || !locale.equals(key.locale)) {
+				return false;
+			}
+			if (pattern == null ? key.pattern != null : !pattern.equals(key.pattern)) {
+				return false;
+			}
+			if (timeZone == null) {
+				return key.timeZone == null;
+			}
+			return key.timeZone != null && timeZone.equals(key.timeZone);
+		}
+	}
+}
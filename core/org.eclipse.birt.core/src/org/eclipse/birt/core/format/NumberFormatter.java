@@ -35,7 +35,7 @@ import com.ibm.icu.util.ULocale;
  * which does the following: a. Format number using Java format string b. Do
  * some post-processing, i.e., e or E, minus sign handling, etc.
  */
-public class NumberFormatter implements IFormatter {
+public class NumberFormatter implements IFormatter, Cloneable {
 
 	private static final String DIGIT_SUBSTITUTION = "DigitSubstitution";
 	private static final String ROUNDING_MODE = "RoundingMode";
@@ -583,6 +583,26 @@ public class NumberFormatter implements IFormatter {
 		return precision;
 	}
 
+	/**
+	 * creates a copy of the formatter. The format objects are cloned too, so the
+	 * copy can be used by another thread.
+	 */
+	@Override
+	public NumberFormatter clone() {
+		try {
+			NumberFormatter formatter = (NumberFormatter) super.clone();
+			if (numberFormat != null) {
+				formatter.numberFormat = (NumberFormat) numberFormat.clone();
+			}
+			if (decimalFormat != null) {
+				formatter.decimalFormat = (DecimalFormat) decimalFormat.clone();
+			}
+			return formatter;
+		} catch (CloneNotSupportedException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	@Override
 	public String formatValue(Object value) {
 		assert value instanceof Number;
@@ -31,7 +31,7 @@ import com.ibm.icu.util.ULocale;
  * formatting, locale is irrelevant in string formatting
  *
  */
-public class StringFormatter implements IFormatter {
+public class StringFormatter implements IFormatter, Cloneable {
 
 	/**
 	 * logger used to log syntax errors.
@@ -424,6 +424,18 @@ public class StringFormatter implements IFormatter {
 		this.trim = trim;
 	}
 
+	/**
+	 * creates a copy of the formatter.
+	 */
+	@Override
+	public StringFormatter clone() {
+		try {
+			return (StringFormatter) super.clone();
+		} catch (CloneNotSupportedException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	@Override
 	public String formatValue(Object value) {
 		assert value instanceof String;
@@ -43,4 +43,11 @@ public interface IPlatformConfig {
 	 */
 	String TEMP_DIR = "tmpDir"; //$NON-NLS-1$
 
+	/**
+	 * defines the file caching the extension registry when the platform is
+	 * started from the classpath, the value is a string. The cache is created at
+	 * the first startup and is updated if any bundle is changed.
+	 */
+	String REGISTRY_CACHE = "REGISTRY_CACHE"; //$NON-NLS-1$
+
 }
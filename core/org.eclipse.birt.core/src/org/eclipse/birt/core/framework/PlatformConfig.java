@@ -102,6 +102,24 @@ public class PlatformConfig implements IPlatformConfig {
 		properties.put(PLATFORM_CONTEXT, context);
 	}
 
+	/**
+	 * sets the file caching the extension registry of the bundles in the
+	 * classpath
+	 *
+	 * @param cacheFile the cache file, null to disable the cache
+	 */
+	public void setRegistryCache(String cacheFile) {
+		setProperty(REGISTRY_CACHE, cacheFile);
+	}
+
+	public String getRegistryCache() {
+		Object cacheFile = properties.get(REGISTRY_CACHE);
+		if (cacheFile instanceof String) {
+			return (String) cacheFile;
+		}
+		return null;
+	}
+
 	/**
 	 * sets the directory for temporary files
 	 *
@@ -31,6 +31,14 @@ public class Extension implements IExtension {
 
 	protected ConfigurationElement[] configuration;
 
+	/**
+	 * constructor used by the registry cache, the identifiers are set by the
+	 * cache.
+	 */
+	Extension(Bundle bundle) {
+		this.bundle = bundle;
+	}
+
 	Extension(Bundle bundle, String id) {
 		this.bundle = bundle;
 		int dotAt = id.lastIndexOf('.');
@@ -32,6 +32,14 @@ public class ExtensionPoint implements IExtensionPoint {
 	protected ConfigurationElement[] allExtConfigurations;
 	protected String schema;
 
+	/**
+	 * constructor used by the registry cache, the identifiers are set by the
+	 * cache.
+	 */
+	ExtensionPoint(Bundle bundle) {
+		this.bundle = bundle;
+	}
+
 	ExtensionPoint(Bundle bundle, String id) {
 		this.bundle = bundle;
 		int dotAt = id.lastIndexOf('.');
@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.core.framework.jar;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The binary cache of the bundles installed from the classpath.
+ *
+ * Parsing the manifest and plugin.xml of every bundle takes most of the startup
+ * time of the platform. The cache keeps the parsed bundles in a file, so the
+ * next startup only needs to check the stamp of each bundle. The stamp is the
+ * length and last modified time of the jar file, or of the manifest, plugin.xml
+ * and plugin.properties of a bundle folder. Bundles which are not loaded from
+ * the file system are never cached.
+ *
+ * The entries are kept in memory as bytes and are decoded when the bundle is
+ * installed. Only the bundles installed in this run are written back.
+ *
+ * the file layout:
+ * <li>magic(int), version(int), entry count(int)</li>
+ * <li>each entry: root(string), stamp(long[]), bundle data(bytes)</li>
+ */
+class RegistryCache {
+
+	static Logger logger = Logger.getLogger(RegistryCache.class.getName());
+
+	static final int MAGIC = 0x42524331; // BRC1
+	static final int VERSION = 0;
+
+	private final File file;
+
+	/**
+	 * the entries loaded from the file
+	 */
+	private final HashMap<String, Entry> cachedEntries = new HashMap<>();
+
+	/**
+	 * the entries of the bundles installed in this run
+	 */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+	private boolean dirty;
+
+	private static class Entry {
+
+		long[] stamp;
+		byte[] data;
+
+		Entry(long[] stamp, byte[] data) {
+			this.stamp = stamp;
+			this.data = data;
+		}
+	}
+
+	RegistryCache(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * load the entries from the cache file. An invalid file is ignored.
+	 */
+	void load() {
+		if (!file.isFile()) {
+			return;
+		}
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			try {
+				if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+					return;
+				}
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String root = in.readUTF();
+					long[] stamp = new long[in.readInt()];
+					for (int j = 0; j < stamp.length; j++) {
+						stamp[j] = in.readLong();
+					}
+					byte[] data = new byte[in.readInt()];
+					in.readFully(data);
+					cachedEntries.put(root, new Entry(stamp, data));
+				}
+			} finally {
+				in.close();
+			}
+		} catch (IOException ex) {
+			logger.log(Level.WARNING, "Failed to load the registry cache " + file, ex);
+			cachedEntries.clear();
+		}
+	}
+
+	/**
+	 * write the entries into the cache file if any bundle has been changed.
+	 */
+	void save() throws IOException {
+		if (!dirty && entries.size() == cachedEntries.size()) {
+			return;
+		}
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		// write to a temporary file first, other processes may read the cache
+		File tempFile = new File(file.getPath() + ".tmp");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(entries.size());
+			for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+				out.writeUTF(entry.getKey());
+				long[] stamp = entry.getValue().stamp;
+				out.writeInt(stamp.length);
+				for (long value : stamp) {
+					out.writeLong(value);
+				}
+				byte[] data = entry.getValue().data;
+				out.writeInt(data.length);
+				out.write(data);
+			}
+		} finally {
+			out.close();
+		}
+		if (!tempFile.renameTo(file)) {
+			file.delete();
+			if (!tempFile.renameTo(file)) {
+				tempFile.delete();
+				throw new IOException("Failed to write the registry cache " + file);
+			}
+		}
+		dirty = false;
+	}
+
+	/**
+	 * check whether the bundle at root is cached and is not changed.
+	 */
+	boolean isCached(URL root) {
+		String key = root.toExternalForm();
+		Entry entry = cachedEntries.get(key);
+		if (entry == null) {
+			return false;
+		}
+		long[] stamp = getStamp(root);
+		if (stamp == null || !Arrays.equals(stamp, entry.stamp)) {
+			return false;
+		}
+		entries.put(key, entry);
+		return true;
+	}
+
+	/**
+	 * get the bundle from the cache, isCached() must be checked first.
+	 *
+	 * @return the cached bundle, null if the root is not a bundle.
+	 */
+	Bundle getBundle(ServicePlatform platform, URL root) throws IOException {
+		Entry entry = entries.get(root.toExternalForm());
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry.data));
+		if (!in.readBoolean()) {
+			return null;
+		}
+		return readBundle(in, platform, root);
+	}
+
+	/**
+	 * put the bundle loaded from root into the cache.
+	 *
+	 * @param bundle the loaded bundle, null if the root is not a bundle.
+	 */
+	void putBundle(URL root, Bundle bundle) throws IOException {
+		long[] stamp = getStamp(root);
+		if (stamp == null) {
+			return;
+		}
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(buffer);
+		out.writeBoolean(bundle != null);
+		if (bundle != null) {
+			writeBundle(out, bundle);
+		}
+		entries.put(root.toExternalForm(), new Entry(stamp, buffer.toByteArray()));
+		dirty = true;
+	}
+
+	/**
+	 * get the stamp of the bundle.
+	 *
+	 * @return the stamp, null if the bundle is not in the file system.
+	 */
+	static long[] getStamp(URL root) {
+		String protocol = root.getProtocol();
+		if ("jar".equals(protocol)) {
+			String path = root.getPath();
+			int index = path.indexOf("!/");
+			if (index == -1) {
+				return null;
+			}
+			try {
+				URL jarUrl = new URL(path.substring(0, index));
+				if (!"file".equals(jarUrl.getProtocol())) {
+					return null;
+				}
+				return getStamp(new File(jarUrl.toURI()));
+			} catch (IOException | URISyntaxException | IllegalArgumentException ex) {
+				return null;
+			}
+		}
+		if ("file".equals(protocol)) {
+			try {
+				File folder = new File(root.toURI());
+				long[] manifest = getStamp(new File(folder, BundleLoader.MANIFEST_ENTRY));
+				long[] plugin = getStamp(new File(folder, BundleLoader.PLUGIN_ENTRY));
+				long[] properties = getStamp(new File(folder, BundleLoader.PROPERTIES_ENTRY));
+				return new long[] { manifest[0], manifest[1], plugin[0], plugin[1], properties[0], properties[1] };
+			} catch (URISyntaxException | IllegalArgumentException ex) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	private static long[] getStamp(File file) {
+		if (!file.exists()) {
+			return new long[] { -1, -1 };
+		}
+		return new long[] { file.length(), file.lastModified() };
+	}
+
+	private void writeBundle(DataOutputStream out, Bundle bundle) throws IOException {
+		writeString(out, bundle.getSymbolicName());
+		writeString(out, bundle.version);
+		ExtensionPoint[] points = bundle.getExtensionPoints();
+		out.writeInt(points.length);
+		for (ExtensionPoint point : points) {
+			writeString(out, point.uniqueId);
+			writeString(out, point.namespace);
+			writeString(out, point.name);
+			writeString(out, point.schema);
+		}
+		Extension[] extensions = bundle.getExtensions();
+		out.writeInt(extensions.length);
+		for (Extension extension : extensions) {
+			writeString(out, extension.uniqueId);
+			writeString(out, extension.namespace);
+			writeString(out, extension.name);
+			writeString(out, extension.extensionPointId);
+			writeString(out, extension.label);
+			writeConfigurations(out, extension.configuration);
+		}
+	}
+
+	private Bundle readBundle(DataInputStream in, ServicePlatform platform, URL root) throws IOException {
+		Bundle bundle = new Bundle(platform, root, readString(in));
+		bundle.version = readString(in);
+		ExtensionPoint[] points = new ExtensionPoint[in.readInt()];
+		for (int i = 0; i < points.length; i++) {
+			ExtensionPoint point = new ExtensionPoint(bundle);
+			point.uniqueId = readString(in);
+			point.namespace = readString(in);
+			point.name = readString(in);
+			point.schema = readString(in);
+			points[i] = point;
+		}
+		bundle.extensionPoints = points;
+		Extension[] extensions = new Extension[in.readInt()];
+		for (int i = 0; i < extensions.length; i++) {
+			Extension extension = new Extension(bundle);
+			extension.uniqueId = readString(in);
+			extension.namespace = readString(in);
+			extension.name = readString(in);
+			extension.extensionPointId = readString(in);
+			extension.label = readString(in);
+			extension.configuration = readConfigurations(in, extension);
+			extensions[i] = extension;
+		}
+		bundle.extensions = extensions;
+		return bundle;
+	}
+
+	private void writeConfigurations(DataOutputStream out, ConfigurationElement[] configs) throws IOException {
+		out.writeInt(configs.length);
+		for (ConfigurationElement config : configs) {
+			writeString(out, config.name);
+			writeString(out, config.value);
+			out.writeInt(config.attributes.size());
+			for (Map.Entry<String, String> attribute : config.attributes.entrySet()) {
+				writeString(out, attribute.getKey());
+				writeString(out, attribute.getValue());
+			}
+			writeConfigurations(out, config.children);
+		}
+	}
+
+	private ConfigurationElement[] readConfigurations(DataInputStream in, Object parent) throws IOException {
+		ConfigurationElement[] configs = new ConfigurationElement[in.readInt()];
+		for (int i = 0; i < configs.length; i++) {
+			ConfigurationElement config = new ConfigurationElement();
+			config.parent = parent;
+			config.name = readString(in);
+			config.value = readString(in);
+			int count = in.readInt();
+			config.attributes = new HashMap<>();
+			for (int j = 0; j < count; j++) {
+				String name = readString(in);
+				config.attributes.put(name, readString(in));
+			}
+			config.children = readConfigurations(in, config);
+			configs[i] = config;
+		}
+		return configs;
+	}
+
+	/**
+	 * write a string which may be null or longer than 64K.
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == -1) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -66,6 +66,7 @@ public class ServiceLauncher extends PlatformLauncher {
 					logger.log(Level.WARNING, "Failed to install plugin from " + root, ex);
 				}
 			}
+			platform.saveRegistryCache();
 			platform.startup();
 
 			Platform.setPlatform(platform);
@@ -46,13 +46,40 @@ public class ServicePlatform implements IPlatform {
 	protected HashMap<String, Bundle> bundles = new HashMap<>();
 	protected ExtensionRegistry extensionRegistry = new ExtensionRegistry();
 	protected File workspace;
+	protected RegistryCache registryCache;
 
 	ServicePlatform(PlatformConfig config) {
 		this.config = config;
+		String cacheFile = config.getRegistryCache();
+		if (cacheFile != null) {
+			registryCache = new RegistryCache(new File(cacheFile));
+			registryCache.load();
+		}
+	}
+
+	/**
+	 * write the bundles installed from the classpath into the registry cache.
+	 */
+	void saveRegistryCache() {
+		if (registryCache != null) {
+			try {
+				registryCache.save();
+			} catch (IOException ex) {
+				logger.log(Level.WARNING, ex.getMessage(), ex);
+			}
+		}
 	}
 
 	public void installBundle(URL root) throws IOException, ParserConfigurationException, SAXException {
-		Bundle bundle = new BundleLoader(this, root).load();
+		Bundle bundle;
+		if (registryCache != null && registryCache.isCached(root)) {
+			bundle = registryCache.getBundle(this, root);
+		} else {
+			bundle = new BundleLoader(this, root).load();
+			if (registryCache != null) {
+				registryCache.putBundle(root, bundle);
+			}
+		}
 		if (bundle != null) {
 			bundles.put(bundle.getSymbolicName(), bundle);
 			extensionRegistry.addBundle(bundle);
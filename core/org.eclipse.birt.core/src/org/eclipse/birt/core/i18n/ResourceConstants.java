@@ -66,6 +66,7 @@ public class ResourceConstants {
 	public static final String INVALID_CURSOR = "error.InvalidCursor";
 	public static final String CURSOR_NOT_INITIALIZED = "error.CusorNotInitialized";
 	public static final String UNEXPECTED_EQUAL_KEYS = "error.UnexpectedEqualKeys";
+	public static final String UNSORTED_KEYS = "error.UnsortedKeys";
 	public static final String UNKNOWN_VALUE_TYPE = "error.UnknownValueType";
 	public static final String EXCEED_MAX_BLOCK = "error.ExceedMaxBlock";
 	public static final String NOT_SUPPORTED_SERIALIZABLE = "error.NotSupportedSerializable";
@@ -108,4 +108,38 @@ public class FunctionProvider {
 			provider.registerScriptFunction(cx, scope);
 		}
 	}
+
+	/**
+	 * Register the script function categories to a scope which is shared by
+	 * several contexts. registerScriptLibraries() must be called for each context
+	 * to complete the registration.
+	 *
+	 * @param scope
+	 * @throws BirtException
+	 */
+	public static void registerScriptCategories(Scriptable scope) throws BirtException {
+		IFunctionProvider provider = getFunctionProvider();
+		if (provider instanceof FunctionProviderBaseImpl) {
+			((FunctionProviderBaseImpl) provider).registerCategories(scope);
+		}
+	}
+
+	/**
+	 * Register the script libraries to the context and its scope, the categories
+	 * are expected in the prototype of the scope, which is registered by
+	 * registerScriptCategories().
+	 *
+	 * @param cx
+	 * @param scope
+	 * @throws BirtException
+	 */
+	public static void registerScriptLibraries(Context cx, Scriptable scope) throws BirtException {
+		IFunctionProvider provider = getFunctionProvider();
+		if (provider instanceof FunctionProviderBaseImpl) {
+			((FunctionProviderBaseImpl) provider).registerLibraries(cx, scope);
+		} else if (provider != null) {
+			// the categories can't be shared by other providers
+			provider.registerScriptFunction(cx, scope);
+		}
+	}
 }
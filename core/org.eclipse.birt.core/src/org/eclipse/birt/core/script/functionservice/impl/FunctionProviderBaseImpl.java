@@ -113,11 +113,33 @@ public class FunctionProviderBaseImpl implements IFunctionProvider {
 	 */
 	@Override
 	public void registerScriptFunction(Context cx, Scriptable scope) throws BirtException {
+		registerCategories(scope);
+		registerLibraries(cx, scope);
+	}
+
+	/**
+	 * Register the script function categories to scope. The categories are
+	 * stateless, so the scope can be shared by several contexts.
+	 *
+	 * @param scope
+	 * @throws BirtException
+	 */
+	public void registerCategories(Scriptable scope) throws BirtException {
 		List<CategoryWrapper> wrapperedCategories = getWrapperedCategories();
 		for (CategoryWrapper category : wrapperedCategories) {
 			ScriptableObject.putProperty(scope, category.getClassName(), category);
 		}
+	}
 
+	/**
+	 * Install the java libraries to the context and execute the script libraries
+	 * in scope.
+	 *
+	 * @param cx
+	 * @param scope
+	 * @throws BirtException
+	 */
+	public void registerLibraries(Context cx, Scriptable scope) throws BirtException {
 		if (!jarLibs.isEmpty()) {
 			ClassLoader classLoader = cx.getApplicationClassLoader();
 			URLClassLoader scriptClassLoader = createScriptClassLoader(jarLibs, classLoader);
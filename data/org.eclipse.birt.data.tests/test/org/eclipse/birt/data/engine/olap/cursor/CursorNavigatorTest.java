@@ -13,12 +13,15 @@
  *******************************************************************************/
 package org.eclipse.birt.data.engine.olap.cursor;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.olap.OLAPException;
 import javax.olap.cursor.CubeCursor;
@@ -336,6 +339,49 @@ public class CursorNavigatorTest extends BaseTestCase {
 		close(dataCursor);
 	}
 
+	@Test
+	public void testNavigatorWithEdgeWindow() throws DataException, OLAPException {
+		String expected = navigateEdges(null);
+
+		Map appContext = new HashMap();
+		appContext.put(DataEngine.CUBECURSOR_EDGE_WINDOW_SIZE, "2");
+		assertEquals(expected, navigateEdges(appContext));
+	}
+
+	private String navigateEdges(Map appContext) throws DataException, OLAPException {
+		ICubeQueryDefinition cqd = creator.createQueryDefinition();
+		BirtCubeView cubeView = new BirtCubeView(
+				new CubeQueryExecutor(null, cqd, de.getSession(), this.scope, de.getContext()), null, appContext,
+				null);
+		CubeCursor dataCursor = cubeView.getCubeCursor(new StopSign(), cube);
+
+		String out = "";
+		EdgeCursor[] edgeCursors = { cubeView.getColumnEdgeView().getEdgeCursor(),
+				cubeView.getRowEdgeView().getEdgeCursor() };
+		for (int i = 0; i < edgeCursors.length; i++) {
+			EdgeCursor edgeCursor = edgeCursors[i];
+			List dimCursors = edgeCursor.getDimensionCursor();
+			edgeCursor.beforeFirst();
+			while (edgeCursor.next()) {
+				out += edgeCursor.getPosition() + (edgeCursor.isLast() ? " last:" : ":");
+				for (int j = 0; j < dimCursors.size(); j++) {
+					DimensionCursor dimCursor = (DimensionCursor) dimCursors.get(j);
+					out += " " + dimCursor.getObject(0) + "[" + dimCursor.getPosition() + ","
+							+ dimCursor.getEdgeStart() + "," + dimCursor.getEdgeEnd() + "]";
+				}
+				out += "\n";
+			}
+			// jump backwards and forwards across windows
+			for (long position = edgeCursor.getPosition() - 1; position >= 0; position -= 3) {
+				edgeCursor.setPosition(position);
+				DimensionCursor innerMost = (DimensionCursor) dimCursors.get(dimCursors.size() - 1);
+				out += position + ": " + innerMost.getObject(0) + "[" + innerMost.getPosition() + "]\n";
+			}
+		}
+		close(dataCursor);
+		return out;
+	}
+
 //	@Test
 	public void testNavigatorOnSubCursor() throws DataException, OLAPException, IOException {
 		/*
@@ -17,6 +17,7 @@ package org.eclipse.birt.data.engine.olap.data.document;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Date;
@@ -103,6 +104,83 @@ public class DocumentManagerTest {
 
 	}
 
+	@Test
+	public void testChannelDirectoryDocumentManager() throws IOException, DataException {
+		IDocumentManager documentManager = DocumentManagerFactory.createDirectoryDocumentManager(true,
+				System.getProperty("java.io.tmpdir") + File.separator + "channelDocumentManager",
+				DocumentManagerFactory.ACCESS_MODE_CHANNEL);
+		IDocumentObject documentObject = documentManager.createDocumentObject("dimension_student");
+		assertTrue(documentObject != null);
+		testDocumentObject3(documentObject);
+		documentObject.close();
+		documentObject = documentManager.createDocumentObject("dimension_level_year");
+		testDocumentObject4(documentObject);
+		documentObject.close();
+		documentManager.close();
+	}
+
+	@Test
+	public void testMappedDirectoryDocumentManager() throws IOException, DataException {
+		IDocumentManager documentManager = DocumentManagerFactory.createDirectoryDocumentManager(true,
+				System.getProperty("java.io.tmpdir") + File.separator + "mappedDocumentManager",
+				DocumentManagerFactory.ACCESS_MODE_MAPPED);
+		IDocumentObject documentObject = documentManager.createDocumentObject("dimension_student");
+		int objectNumber = 2000;
+		for (int i = 0; i < objectNumber; i++) {
+			documentObject.writeString("string" + i);
+			documentObject.writeInt(i);
+		}
+		documentObject.close();
+
+		IDocumentObject reader1 = documentManager.openDocumentObject("dimension_student");
+		IDocumentObject reader2 = documentManager.openDocumentObject("dimension_student");
+		for (int i = 0; i < objectNumber; i++) {
+			assertEquals(reader1.readString(), "string" + i);
+			assertEquals(reader1.readInt(), i);
+		}
+		// the second reader keeps its own position over the shared mapping
+		assertEquals(reader2.readString(), "string0");
+		assertEquals(reader2.readInt(), 0);
+		reader2.seek(0);
+		assertEquals(reader2.readString(), "string0");
+		assertEquals(reader1.read(new byte[10], 0, 10), -1);
+		reader1.close();
+		reader2.close();
+		documentManager.close();
+	}
+
+	@Test
+	public void testMappedDirectoryDocumentManagerWrite() throws IOException, DataException {
+		IDocumentManager documentManager = DocumentManagerFactory.createDirectoryDocumentManager(true,
+				System.getProperty("java.io.tmpdir") + File.separator + "mappedDocumentManager",
+				DocumentManagerFactory.ACCESS_MODE_MAPPED);
+		IDocumentObject documentObject = documentManager.createDocumentObject("delta_list");
+		documentObject.writeInt(1);
+		documentObject.writeString("delta0");
+		documentObject.close();
+
+		IDocumentObject reader = documentManager.openDocumentObject("delta_list");
+		assertEquals(reader.readInt(), 1);
+		assertEquals(reader.readString(), "delta0");
+
+		// the opened object is writable and the later readers see the new content
+		IDocumentObject writer = documentManager.openDocumentObject("delta_list");
+		assertEquals(writer.readInt(), 1);
+		writer.seek(writer.length());
+		writer.writeString("delta1");
+		writer.seek(0);
+		writer.writeInt(2);
+		writer.close();
+		reader.close();
+
+		reader = documentManager.openDocumentObject("delta_list");
+		assertEquals(reader.readInt(), 2);
+		assertEquals(reader.readString(), "delta0");
+		assertEquals(reader.readString(), "delta1");
+		reader.close();
+		documentManager.close();
+	}
+
 	private void testDocumentObject1(IDocumentObject documentObject) throws IOException {
 		int objectNumber = 200;
 		for (int i = 0; i < objectNumber; i++) {
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.data.engine.olap.data.impl.aggregation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+
+import org.eclipse.birt.data.engine.core.DataException;
+import org.eclipse.birt.data.engine.olap.data.api.DimLevel;
+import org.eclipse.birt.data.engine.olap.data.api.IAggregationResultSet;
+import org.eclipse.birt.data.engine.olap.data.impl.AggregationDefinition;
+import org.eclipse.birt.data.engine.olap.data.impl.AggregationFunctionDefinition;
+import org.eclipse.birt.data.engine.olap.data.impl.dimension.Member;
+import org.eclipse.birt.data.engine.olap.data.impl.facttable.FactTable;
+import org.eclipse.birt.data.engine.olap.data.impl.facttable.FactTableForTest;
+import org.eclipse.birt.data.engine.olap.data.util.BufferedStructureArray;
+import org.eclipse.birt.data.engine.olap.data.util.IDiskArray;
+import org.eclipse.birt.data.engine.olap.data.util.PositionBitmap;
+import org.junit.Test;
+
+/**
+ *
+ */
+
+public class AggregationResultCacheTest {
+
+	private static final DimLevel LEVEL1 = new DimLevel("dimension", "level1");
+	private static final DimLevel LEVEL2 = new DimLevel("dimension", "level2");
+
+	// the estimated size of the result of createResultSet
+	private static final long RESULT_SIZE = 3 * (48 + 2 * 64 + 2 * 24);
+
+	@Test
+	public void testGetPut() throws IOException, DataException {
+		AggregationResultCache cache = new AggregationResultCache(1024 * 1024);
+		FactTable factTable = FactTableForTest.createFactTable("factTable", null);
+		PositionBitmap[] positions = { PositionBitmap.valueOf(new int[] { 1, 2 }) };
+		AggregationDefinition aggregation = createAggregation(new DimLevel[] { LEVEL1, LEVEL2 }, "SUM", "COUNT");
+
+		assertNull(cache.get(factTable, positions, aggregation));
+		cache.put(factTable, positions, aggregation, createResultSet(aggregation));
+
+		IAggregationResultSet result = cache.get(factTable, positions, aggregation);
+		assertNotNull(result);
+		assertEquals(3, result.length());
+		result.seek(2);
+		assertEquals("b", result.getLevelKeyValue(0)[0]);
+		assertEquals("x", result.getLevelKeyValue(1)[0]);
+		assertEquals(Integer.valueOf(3), result.getAggregationValue(0));
+		assertEquals(Integer.valueOf(1), result.getAggregationValue(1));
+
+		// the same positions selected by another filter
+		PositionBitmap[] samePositions = { PositionBitmap.valueOf(new int[] { 2, 1 }) };
+		assertNotNull(cache.get(factTable, samePositions, aggregation));
+
+		// a subset of the cached functions
+		result = cache.get(factTable, positions, createAggregation(new DimLevel[] { LEVEL1, LEVEL2 }, "COUNT"));
+		assertNotNull(result);
+		result.seek(0);
+		assertEquals(Integer.valueOf(1), result.getAggregationValue(0));
+
+		// other positions, functions or levels are not cached
+		assertNull(cache.get(factTable, new PositionBitmap[] { PositionBitmap.valueOf(new int[] { 1 }) },
+				aggregation));
+		assertNull(cache.get(factTable, positions, createAggregation(new DimLevel[] { LEVEL1, LEVEL2 }, "MAX")));
+		assertNull(cache.get(factTable, positions, createAggregation(new DimLevel[] { LEVEL2 }, "SUM")));
+		assertNull(cache.get(FactTableForTest.createFactTable("other", null), positions, aggregation));
+	}
+
+	@Test
+	public void testRollUp() throws IOException, DataException {
+		AggregationResultCache cache = new AggregationResultCache(1024 * 1024);
+		FactTable factTable = FactTableForTest.createFactTable("factTable", null);
+		AggregationDefinition aggregation = createAggregation(new DimLevel[] { LEVEL1, LEVEL2 }, "SUM", "COUNT");
+		cache.put(factTable, null, aggregation, createResultSet(aggregation));
+
+		IAggregationResultSet result = cache.get(factTable, null,
+				createAggregation(new DimLevel[] { LEVEL1 }, "COUNT", "SUM"));
+		assertNotNull(result);
+		assertEquals(2, result.length());
+		result.seek(0);
+		assertEquals("a", result.getLevelKeyValue(0)[0]);
+		assertEquals(Integer.valueOf(2), result.getAggregationValue(0));
+		assertEquals(3.0, ((Number) result.getAggregationValue(1)).doubleValue(), 0);
+		result.seek(1);
+		assertEquals("b", result.getLevelKeyValue(0)[0]);
+		assertEquals(Integer.valueOf(1), result.getAggregationValue(0));
+		assertEquals(3.0, ((Number) result.getAggregationValue(1)).doubleValue(), 0);
+
+		// the grand total
+		result = cache.get(factTable, null, createAggregation(new DimLevel[0], "SUM"));
+		assertNotNull(result);
+		assertEquals(1, result.length());
+		result.seek(0);
+		assertEquals(6.0, ((Number) result.getAggregationValue(0)).doubleValue(), 0);
+	}
+
+	@Test
+	public void testEviction() throws IOException, DataException {
+		// room for two results
+		AggregationResultCache cache = new AggregationResultCache(RESULT_SIZE * 2 + RESULT_SIZE / 2);
+		FactTable factTable = FactTableForTest.createFactTable("factTable", null);
+		AggregationDefinition aggregation = createAggregation(new DimLevel[] { LEVEL1, LEVEL2 }, "SUM", "COUNT");
+		PositionBitmap[] positions1 = { PositionBitmap.valueOf(new int[] { 1 }) };
+		PositionBitmap[] positions2 = { PositionBitmap.valueOf(new int[] { 2 }) };
+		PositionBitmap[] positions3 = { PositionBitmap.valueOf(new int[] { 3 }) };
+
+		cache.put(factTable, positions1, aggregation, createResultSet(aggregation));
+		cache.put(factTable, positions2, aggregation, createResultSet(aggregation));
+		// the first result is used recently, so the second one is evicted
+		assertNotNull(cache.get(factTable, positions1, aggregation));
+		cache.put(factTable, positions3, aggregation, createResultSet(aggregation));
+		assertNotNull(cache.get(factTable, positions1, aggregation));
+		assertNull(cache.get(factTable, positions2, aggregation));
+		assertNotNull(cache.get(factTable, positions3, aggregation));
+
+		// a result larger than the budget is not cached
+		AggregationResultCache smallCache = new AggregationResultCache(RESULT_SIZE - 1);
+		smallCache.put(factTable, positions1, aggregation, createResultSet(aggregation));
+		assertNull(smallCache.get(factTable, positions1, aggregation));
+	}
+
+	@Test
+	public void testInvalidation() throws IOException, DataException {
+		AggregationResultCache cache = new AggregationResultCache(1024 * 1024);
+		FactTable factTable = FactTableForTest.createFactTable("factTable", null);
+		AggregationDefinition aggregation = createAggregation(new DimLevel[] { LEVEL1, LEVEL2 }, "SUM", "COUNT");
+		cache.put(factTable, null, aggregation, createResultSet(aggregation));
+		assertNotNull(cache.get(factTable, null, aggregation));
+
+		// the rows appended by an incremental refresh invalidate the results
+		FactTableForTest.appendDelta(factTable);
+		assertNull(cache.get(factTable, null, aggregation));
+
+		cache.put(factTable, null, aggregation, createResultSet(aggregation));
+		assertNotNull(cache.get(factTable, null, aggregation));
+		cache.clear();
+		assertNull(cache.get(factTable, null, aggregation));
+	}
+
+	private AggregationDefinition createAggregation(DimLevel[] levels, String... functions) {
+		AggregationFunctionDefinition[] definitions = new AggregationFunctionDefinition[functions.length];
+		for (int i = 0; i < functions.length; i++) {
+			definitions[i] = new AggregationFunctionDefinition(functions[i].toLowerCase(), "measure", functions[i]);
+		}
+		return new AggregationDefinition(levels, null, definitions);
+	}
+
+	private IAggregationResultSet createResultSet(AggregationDefinition aggregation) throws IOException {
+		IDiskArray rows = new BufferedStructureArray(AggregationResultRow.getCreator(), 10);
+		rows.add(createRow("a", "x", 1, 1));
+		rows.add(createRow("a", "y", 2, 1));
+		rows.add(createRow("b", "x", 3, 1));
+		return new AggregationResultSet(aggregation, rows, new String[][] { { "key" }, { "key" } }, null);
+	}
+
+	private AggregationResultRow createRow(String key1, String key2, int sum, int count) {
+		return new AggregationResultRow(new Member[] { createMember(key1), createMember(key2) },
+				new Object[] { Integer.valueOf(sum), Integer.valueOf(count) });
+	}
+
+	private Member createMember(String key) {
+		Member member = new Member();
+		member.setKeyValues(new Object[] { key });
+		return member;
+	}
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.data.engine.olap.data.impl.facttable;
+
+import org.eclipse.birt.data.engine.olap.data.api.MeasureInfo;
+import org.eclipse.birt.data.engine.olap.data.document.IDocumentManager;
+import org.eclipse.birt.data.engine.olap.data.impl.facttable.DimensionDivider.DimensionPositionSeeker.DimensionInfo;
+
+/**
+ * Creates the fact tables without dimensions and rows for the tests which only
+ * need the identity of a fact table.
+ */
+
+public class FactTableForTest {
+
+	public static FactTable createFactTable(String name, IDocumentManager documentManager) {
+		return new FactTable(name, documentManager, new DimensionInfo[0], new MeasureInfo[0], new MeasureInfo[0], 1,
+				new DimensionDivision[0]);
+	}
+
+	public static void appendDelta(FactTable factTable) {
+		FactTable[] deltas = factTable.getDeltas();
+		FactTable[] newDeltas = new FactTable[deltas.length + 1];
+		System.arraycopy(deltas, 0, newDeltas, 0, deltas.length);
+		newDeltas[deltas.length] = createFactTable(factTable.getName() + deltas.length, null);
+		factTable.setDeltas(newDeltas);
+	}
+}
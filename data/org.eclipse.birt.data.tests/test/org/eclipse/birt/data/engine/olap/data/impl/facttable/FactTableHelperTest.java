@@ -17,7 +17,9 @@ package org.eclipse.birt.data.engine.olap.data.impl.facttable;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -26,6 +28,7 @@ import java.util.Date;
 import java.util.List;
 
 import org.eclipse.birt.core.exception.BirtException;
+import org.eclipse.birt.data.engine.core.DataException;
 import org.eclipse.birt.data.engine.impl.StopSign;
 import org.eclipse.birt.data.engine.olap.cursor.CubeUtility;
 import org.eclipse.birt.data.engine.olap.data.api.cube.IDatasetIterator;
@@ -300,6 +303,97 @@ public class FactTableHelperTest {
 		assertFalse(facttableRowIterator.next());
 	}
 
+	/**
+	 *
+	 * @throws IOException
+	 * @throws BirtException
+	 */
+	@Test
+	public void testFactTableAppend() throws IOException, BirtException {
+		testFactTableAppend(DocumentManagerFactory.createFileDocumentManager());
+	}
+
+	/**
+	 *
+	 * @throws IOException
+	 * @throws BirtException
+	 */
+	@Test
+	public void testMappedFactTableAppend() throws IOException, BirtException {
+		testFactTableAppend(DocumentManagerFactory.createDirectoryDocumentManager(true,
+				System.getProperty("java.io.tmpdir") + File.separator + "mappedFactTable",
+				DocumentManagerFactory.ACCESS_MODE_MAPPED));
+	}
+
+	private void testFactTableAppend(IDocumentManager documentManager) throws IOException, BirtException {
+		Dimension[] dimensions = new Dimension[3];
+		String[] dimensionCols = { "dimension1", "dimension2", "dimension3" };
+		String[][] dimensionMembers = { LevelsAndFactTableDataset.dimension1Col,
+				LevelsAndFactTableDataset.dimension2Col, LevelsAndFactTableDataset.dimension3Col };
+		for (int i = 0; i < dimensions.length; i++) {
+			DimensionForTest iterator = new DimensionForTest(new String[] { dimensionCols[i] });
+			iterator.setLevelMember(0, distinct(dimensionMembers[i]));
+			ILevelDefn[] levelDefs = { new LevelDefinition(dimensionCols[i], new String[] { dimensionCols[i] }, null) };
+			dimensions[i] = (Dimension) DimensionFactory.createDimension(dimensionCols[i], documentManager, iterator,
+					levelDefs, false, new StopSign());
+		}
+		String[] measureColumnName = { "measure1", "measure2" };
+		FactTableAccessor factTableConstructor = new FactTableAccessor(documentManager);
+		factTableConstructor.saveFactTable("appended", CubeUtility.getKeyColNames(dimensions),
+				CubeUtility.getKeyColNames(dimensions), new LevelsAndFactTableDataset(), dimensions, measureColumnName,
+				new StopSign());
+		FactTable factTable = factTableConstructor.appendFactTable("appended", CubeUtility.getKeyColNames(dimensions),
+				CubeUtility.getKeyColNames(dimensions), new LevelsAndFactTableDataset(), dimensions, measureColumnName,
+				null, new StopSign());
+		assertEquals(1, factTable.getDeltas().length);
+		assertEquals(NamingUtil.getFactTableDeltaName("appended", 0), factTable.getDeltas()[0].getName());
+
+		factTable = factTableConstructor.load("appended", new StopSign());
+		assertEquals(1, factTable.getDeltas().length);
+
+		IDiskArray[] dimensionPosition = new IDiskArray[1];
+		dimensionPosition[0] = new BufferedPrimitiveDiskArray();
+		dimensionPosition[0].add(Integer.valueOf(1));
+		dimensionPosition[0].add(Integer.valueOf(2));
+		FactTableRowIterator facttableRowIterator = new FactTableRowIterator(factTable, new String[] { "dimension2" },
+				dimensionPosition, new StopSign());
+		int[] expected = { 121, 122, 211, 212 };
+		// rows of the fact table followed by the rows of the delta
+		for (int i = 0; i < expected.length * 2; i++) {
+			assertTrue(facttableRowIterator.next());
+			assertEquals(Integer.valueOf(expected[i % expected.length]), facttableRowIterator.getMeasure(0));
+		}
+		assertFalse(facttableRowIterator.next());
+		facttableRowIterator.close();
+
+		// the second append rewrites the delta list
+		factTable = factTableConstructor.appendFactTable("appended", CubeUtility.getKeyColNames(dimensions),
+				CubeUtility.getKeyColNames(dimensions), new LevelsAndFactTableDataset(), dimensions, measureColumnName,
+				null, new StopSign());
+		assertEquals(2, factTable.getDeltas().length);
+		factTable = factTableConstructor.load("appended", new StopSign());
+		assertEquals(2, factTable.getDeltas().length);
+		assertEquals(NamingUtil.getFactTableDeltaName("appended", 0), factTable.getDeltas()[0].getName());
+		assertEquals(NamingUtil.getFactTableDeltaName("appended", 1), factTable.getDeltas()[1].getName());
+		facttableRowIterator = new FactTableRowIterator(factTable, new String[] { "dimension2" }, dimensionPosition,
+				new StopSign());
+		for (int i = 0; i < expected.length * 3; i++) {
+			assertTrue(facttableRowIterator.next());
+			assertEquals(Integer.valueOf(expected[i % expected.length]), facttableRowIterator.getMeasure(0));
+		}
+		assertFalse(facttableRowIterator.next());
+		facttableRowIterator.close();
+
+		try {
+			factTableConstructor.appendFactTable("appended", CubeUtility.getKeyColNames(dimensions),
+					CubeUtility.getKeyColNames(dimensions), new LevelsAndFactTableDataset(), dimensions,
+					new String[] { "measure1" }, null, new StopSign());
+			fail("should not arrive here");
+		} catch (DataException e) {
+		}
+		documentManager.close();
+	}
+
 	/**
 	 *
 	 * @throws IOException
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.birt.data.engine.olap.data.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+/**
+ *
+ */
+
+public class PositionBitmapTest {
+
+	@Test
+	public void testAddAndContains() throws IOException {
+		PositionBitmap bitmap = new PositionBitmap();
+		bitmap.add(3);
+		bitmap.add(70000);
+		bitmap.add(1);
+		bitmap.add(3);
+		assertEquals(3, bitmap.cardinality());
+		assertTrue(bitmap.contains(1));
+		assertTrue(bitmap.contains(70000));
+		assertFalse(bitmap.contains(2));
+		assertFalse(bitmap.contains(-1));
+
+		IDiskArray array = bitmap.toDiskArray();
+		assertEquals(3, array.size());
+		assertEquals(Integer.valueOf(1), array.get(0));
+		assertEquals(Integer.valueOf(3), array.get(1));
+		assertEquals(Integer.valueOf(70000), array.get(2));
+	}
+
+	@Test
+	public void testSetOperations() {
+		Random random = new Random(0);
+		for (int round = 0; round < 20; round++) {
+			// mix sparse and dense partitions
+			int range = round % 2 == 0 ? 70000 : 1000000;
+			TreeSet<Integer> set1 = new TreeSet<>();
+			TreeSet<Integer> set2 = new TreeSet<>();
+			PositionBitmap bitmap1 = new PositionBitmap();
+			PositionBitmap bitmap2 = new PositionBitmap();
+			for (int i = 0; i < 20000; i++) {
+				int v1 = random.nextInt(range);
+				int v2 = random.nextInt(range);
+				set1.add(v1);
+				set2.add(v2);
+				bitmap1.add(v1);
+				bitmap2.add(v2);
+			}
+			TreeSet<Integer> intersection = new TreeSet<>(set1);
+			intersection.retainAll(set2);
+			TreeSet<Integer> union = new TreeSet<>(set1);
+			union.addAll(set2);
+
+			assertContent(set1, bitmap1);
+			assertContent(intersection, bitmap1.and(bitmap2));
+			assertContent(union, bitmap1.or(bitmap2));
+			assertContent(intersection, SetUtil.getIntersection(new PositionBitmap[] { bitmap1, bitmap2 }));
+			assertContent(union, SetUtil.getUnion(new PositionBitmap[] { bitmap1, bitmap2 }));
+		}
+	}
+
+	@Test
+	public void testEquals() {
+		PositionBitmap bitmap1 = PositionBitmap.valueOf(new int[] { 1, 5, 70000 });
+		PositionBitmap bitmap2 = new PositionBitmap();
+		bitmap2.add(70000);
+		bitmap2.add(5);
+		bitmap2.add(1);
+		assertEquals(bitmap1, bitmap2);
+		assertEquals(bitmap1.hashCode(), bitmap2.hashCode());
+		bitmap2.add(2);
+		assertFalse(bitmap1.equals(bitmap2));
+	}
+
+	@Test
+	public void testEqualsDense() {
+		PositionBitmap bitmap1 = new PositionBitmap();
+		PositionBitmap bitmap2 = new PositionBitmap();
+		for (int i = 0; i < 10000; i++) {
+			bitmap1.add(i * 3);
+			bitmap2.add(i * 3);
+		}
+		// the dense partition is a bitmap in one and built by a union in the other
+		PositionBitmap bitmap3 = bitmap2.and(bitmap2.or(PositionBitmap.valueOf(new int[] { 1 })));
+		assertEquals(bitmap1, bitmap2);
+		assertEquals(bitmap1, bitmap3);
+		assertEquals(bitmap1.hashCode(), bitmap3.hashCode());
+		assertEquals(Arrays.hashCode(bitmap1.toArray()), bitmap1.hashCode());
+		bitmap2.add(1);
+		assertFalse(bitmap1.equals(bitmap2));
+		assertFalse(bitmap2.equals(bitmap1));
+	}
+
+	private void assertContent(TreeSet<Integer> expected, PositionBitmap bitmap) {
+		int[] positions = bitmap.toArray();
+		assertEquals(expected.size(), bitmap.cardinality());
+		assertEquals(expected.size(), positions.length);
+		int i = 0;
+		for (Integer value : expected) {
+			assertEquals(value.intValue(), positions[i++]);
+			assertTrue(bitmap.contains(value.intValue()));
+		}
+	}
+}
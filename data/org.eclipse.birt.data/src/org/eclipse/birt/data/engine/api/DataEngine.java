@@ -142,6 +142,15 @@ abstract public class DataEngine {
 	public static String CUBECURSOR_FETCH_LIMIT_ON_COLUMN_EDGE = "org.eclipse.birt.data.engine.olap.cursor.onColumn";
 	public static String CUBECUSROR_FETCH_LIMIT_ON_ROW_EDGE = "org.eclipse.birt.data.engine.olap.cursor.onRow";
 
+	/**
+	 * The window size of the edges in cube cursor.
+	 *
+	 * Positive integer: the navigation information of the edge tuples is kept for
+	 * this number of tuples at a time instead of for the whole edge. Zero or
+	 * Negative number: Disable the paged edges.
+	 */
+	public static String CUBECURSOR_EDGE_WINDOW_SIZE = "org.eclipse.birt.data.engine.olap.cursor.edgeWindowSize";
+
 	/**
 	 * The fetch size of the member numbers for all levels.
 	 *
@@ -161,6 +170,16 @@ abstract public class DataEngine {
 	 */
 	public static String IN_MEMORY_CUBE_SIZE = "org.eclipse.birt.data.engine.cube.inmemory.size";
 
+	/**
+	 * The memory size of the cache of cube aggregation results which is shared by
+	 * the cube queries of a data engine. The unit is MB. The cache is disabled by
+	 * default, and zero or negative number disables it. Each result is copied
+	 * into the cache and out of it for every cube query, so enable it only for
+	 * reports which repeat the same aggregations, such as several cross tabs or
+	 * charts over one cube.
+	 */
+	public static String CUBE_AGGREGATION_CACHE_SIZE = "org.eclipse.birt.data.engine.cube.aggregation.cache.size";
+
 	/**
 	 * Creates a new instance of DataEngine, using the specified DataEngineContext
 	 * as its running environment
@@ -41,6 +41,8 @@ public class CacheUtil {
 	private static final String PATH_SEP = File.separator;
 	private static final String TEST_MEM_BUFFER_SIZE = "birt.data.engine.test.memcachesize";
 	private static final int MAGIC_NUMBER = 2000000000;
+	// in MB, the cache is disabled unless configured
+	private static final long DEFAULT_CUBE_AGGREGATION_CACHE_SIZE = 0;
 	/**
 	 * timestamp.data file will be used in incremental cache, while time.data file
 	 * will be used in disk cache.
@@ -98,6 +100,20 @@ public class CacheUtil {
 		return memoryCacheSize > MAGIC_NUMBER;
 	}
 
+	/**
+	 * Return the memory size in bytes of the cube aggregation result cache.
+	 *
+	 * @param appContext
+	 * @return
+	 */
+	public static long getCubeAggregationCacheSize(Map appContext) {
+		Object cacheSize = appContext == null ? null : appContext.get(DataEngine.CUBE_AGGREGATION_CACHE_SIZE);
+		if (cacheSize == null) {
+			return DEFAULT_CUBE_AGGREGATION_CACHE_SIZE * 1024 * 1024;
+		}
+		return Long.parseLong(cacheSize.toString()) * 1024 * 1024;
+	}
+
 	public static int getMaxRows(Map appContext) {
 		if (appContext == null) {
 			return -1;
@@ -39,8 +39,10 @@ import org.eclipse.birt.data.engine.api.IDataScriptEngine;
 import org.eclipse.birt.data.engine.api.IShutdownListener;
 import org.eclipse.birt.data.engine.core.DataException;
 import org.eclipse.birt.data.engine.executor.DataSetCacheManager;
+import org.eclipse.birt.data.engine.executor.cache.CacheUtil;
 import org.eclipse.birt.data.engine.impl.document.NamingRelation;
 import org.eclipse.birt.data.engine.impl.document.QueryResultIDUtil;
+import org.eclipse.birt.data.engine.olap.data.impl.aggregation.AggregationResultCache;
 import org.mozilla.javascript.ImporterTopLevel;
 import org.mozilla.javascript.Scriptable;
 
@@ -56,6 +58,7 @@ public class DataEngineSession {
 	private Map context;
 	private Scriptable scope;
 	private DataSetCacheManager dataSetCacheManager;
+	private AggregationResultCache aggregationResultCache;
 	private DataEngineImpl engine;
 	private String tempDir;
 	private QueryResultIDUtil queryResultIDUtil;
@@ -332,6 +335,25 @@ public class DataEngineSession {
 		return this.dataSetCacheManager;
 	}
 
+	/**
+	 * Return the cache of cube aggregation results shared by the cube queries of
+	 * this session, or null if it is disabled. The cache is created by the first
+	 * call with the size configured in the application context.
+	 *
+	 * @param appContext
+	 * @return
+	 */
+	public synchronized AggregationResultCache getAggregationResultCache(Map appContext) {
+		if (aggregationResultCache == null) {
+			long cacheSize = CacheUtil.getCubeAggregationCacheSize(appContext);
+			if (cacheSize <= 0) {
+				return null;
+			}
+			aggregationResultCache = new AggregationResultCache(cacheSize);
+		}
+		return aggregationResultCache;
+	}
+
 	public static ClassLoader getCurrentClassLoader() {
 		return classLoaderHolder.get();
 	}
@@ -14,8 +14,6 @@
 
 package org.eclipse.birt.data.engine.olap.cursor;
 
-import java.util.List;
-
 import javax.olap.OLAPException;
 
 import org.eclipse.birt.data.engine.i18n.ResourceConstants;
@@ -87,15 +85,7 @@ class DimensionTraverse {
 				pos[i] = -1;
 				continue;
 			}
-			for (int j = position - 1; j >= 0; j--) {
-				EdgeInfo lastInfo = (EdgeInfo) this.relationMap.currentRelation[i].get(j);
-				if (info.parent == lastInfo.parent) {
-					count++;
-				} else {
-
-					break;
-				}
-			}
+			count = this.relationMap.getSiblingPosition(i, position);
 			position = info.parent;
 			pos[i] = count;
 
@@ -292,13 +282,11 @@ class DimensionTraverse {
 	 * @return
 	 */
 	int getCurrentRowPosition(int dimAxisIndex) {
-		EdgeInfo currentEdgeInfo = this.findCurrentEdgeInfo(dimAxisIndex);
-		if (currentEdgeInfo == null) {
+		int index = this.findCurrentEdgeInfoIndex(dimAxisIndex);
+		if (index < 0) {
 			return -1;
 		}
-		EdgeInfo outerMost = findOuterMostChildEdgeInfo(dimAxisIndex, currentEdgeInfo);
-
-		return outerMost.firstChild;
+		return findOuterMostChild(dimAxisIndex, index);
 	}
 
 	/**
@@ -313,21 +301,13 @@ class DimensionTraverse {
 			return -1;
 		}
 
-		int outer = this.dimAxis.length;
-		EdgeInfo edgeInfo = findCurrentEdgeInfo(dimAxisIndex);
-		if (edgeInfo == null) {
+		int index = findCurrentEdgeInfoIndex(dimAxisIndex);
+		if (index < 0) {
 			return -1;
 //		if( edgeInfo.isNull ==0 )
 //			return -1;
 		}
-
-		int endPosition = edgeInfo.firstChild, position;
-		EdgeInfo info = edgeInfo;
-		for (position = dimAxisIndex + 1; position < outer; position++) {
-			info = (EdgeInfo) ((List) this.relationMap.currentRelation[position]).get(endPosition);
-			endPosition = info.firstChild;
-		}
-		return info.firstChild;
+		return findOuterMostChild(dimAxisIndex, index);
 	}
 
 	/**
@@ -342,20 +322,16 @@ class DimensionTraverse {
 			return -1;
 		}
 
-		EdgeInfo edgeInfo = findCurrentEdgeInfo(dimAxisIndex);
-		if (edgeInfo == null) {
+		int index = findCurrentEdgeInfoIndex(dimAxisIndex);
+		if (index < 0) {
 			return -1;
 //		if( edgeInfo.isNull ==0 )
 //			return -1;
 		}
 
-		int endPosition = edgeInfo.firstChild;
-
-		int index = this.relationMap.currentRelation[dimAxisIndex].indexOf(edgeInfo);
+		int endPosition;
 		if (index < this.relationMap.currentRelation[dimAxisIndex].size() - 1) {
-			EdgeInfo nextEdgeInfo = (EdgeInfo) this.relationMap.currentRelation[dimAxisIndex].get(index + 1);
-			EdgeInfo nextOuterEdgeInfo = this.findOuterMostChildEdgeInfo(dimAxisIndex, nextEdgeInfo);
-			endPosition = nextOuterEdgeInfo.firstChild - 1;
+			endPosition = this.findOuterMostChild(dimAxisIndex, index + 1) - 1;
 		} else {
 			endPosition = this.relationMap.traverseLength - 1;
 		}
@@ -413,22 +389,19 @@ class DimensionTraverse {
 	}
 
 	/**
+	 * Return the first row in the aggregation result set of the EdgeInfo at index
+	 * of the dimension axis.
 	 *
 	 * @param dimAxisIndex
-	 * @param edgeInfo
+	 * @param index
 	 * @return
 	 */
-	private EdgeInfo findOuterMostChildEdgeInfo(int dimAxisIndex, EdgeInfo edgeInfo) {
-		if (dimAxisIndex < 0 || dimAxisIndex >= this.dimAxis.length || edgeInfo == null) {
-			return null;
+	private int findOuterMostChild(int dimAxisIndex, int index) {
+		int position = index;
+		for (int i = dimAxisIndex; i < this.dimAxis.length; i++) {
+			position = this.relationMap.getFirstChild(i, position);
 		}
-		int endPosition = edgeInfo.firstChild;
-		EdgeInfo info = edgeInfo;
-		for (int i = dimAxisIndex + 1; i < this.dimAxis.length; i++) {
-			info = (EdgeInfo) ((List) this.relationMap.currentRelation[i]).get(endPosition);
-			endPosition = info.firstChild;
-		}
-		return info;
+		return position;
 	}
 
 	/**
@@ -438,11 +411,11 @@ class DimensionTraverse {
 	 * @return
 	 */
 	private boolean hasNext(int dimAxisIndex) {
-		EdgeInfo currentEdgeInfo = findCurrentEdgeInfo(dimAxisIndex);
+		int index = findCurrentEdgeInfoIndex(dimAxisIndex);
 		// if current EdgeInfo is null, but the cursor is not initial,
 		// return true.
 		// else if current EdgeInfo is null, return false
-		if (currentEdgeInfo == null) {
+		if (index < 0) {
 			if (this.dimensionCursorPosition[dimAxisIndex] < 0 && this.relationMap.traverseLength > 0) {
 				return true;
 			} else {
@@ -450,7 +423,7 @@ class DimensionTraverse {
 			}
 		}
 
-		int index = this.relationMap.currentRelation[dimAxisIndex].indexOf(currentEdgeInfo);
+		EdgeInfo currentEdgeInfo = (EdgeInfo) this.relationMap.currentRelation[dimAxisIndex].get(index);
 		EdgeInfo nextEdgeInfo = null;
 		if (this.relationMap.currentRelation[dimAxisIndex].size() > index + 1) {
 			nextEdgeInfo = (EdgeInfo) this.relationMap.currentRelation[dimAxisIndex].get(index + 1);
@@ -474,11 +447,27 @@ class DimensionTraverse {
 	 * @return
 	 */
 	EdgeInfo findCurrentEdgeInfo(int dimensionAxis) {
-		if (dimensionAxis < 0 || dimensionAxis > this.dimAxis.length) {
+		int index = findCurrentEdgeInfoIndex(dimensionAxis);
+		if (index < 0) {
 			return null;
 		}
+		return (EdgeInfo) this.relationMap.currentRelation[dimensionAxis].get(index);
+	}
+
+	/**
+	 * Based on current dimensionCursor position, get the index of current edge info
+	 * for certain dimensionAxis, or -1 if there is no current edge info.
+	 *
+	 * @param dimensionAxis
+	 * @return
+	 */
+	private int findCurrentEdgeInfoIndex(int dimensionAxis) {
+		if (dimensionAxis < 0 || dimensionAxis > this.dimAxis.length) {
+			return -1;
+		}
 
-		EdgeInfo tempEdgeInfo1 = null, tempEdgeInfo2 = null, edgeInfo = null;
+		EdgeInfo tempEdgeInfo1 = null, tempEdgeInfo2 = null;
+		int edgeInfoIndex = -1;
 		int endPosition = 0;
 		for (int index = 0; index <= dimensionAxis; index++) {
 			if (dimensionAxis == index) {
@@ -489,10 +478,9 @@ class DimensionTraverse {
 								.size()
 						&& (tempEdgeInfo2 == null
 								|| this.dimensionCursorPosition[index] + endPosition < tempEdgeInfo2.firstChild)) {
-					edgeInfo = (EdgeInfo) this.relationMap.currentRelation[index]
-							.get(this.dimensionCursorPosition[index] + endPosition);
+					edgeInfoIndex = this.dimensionCursorPosition[index] + endPosition;
 				} else if (this.dimensionCursorPosition[index] == -1) {
-					return null;
+					return -1;
 				}
 				break;
 			} else {
@@ -507,14 +495,14 @@ class DimensionTraverse {
 								.get(this.dimensionCursorPosition[index] + endPosition + 1);
 					}
 				} else {
-					return null;
+					return -1;
 				}
 				if (tempEdgeInfo1 != null) {
 					endPosition = tempEdgeInfo1.firstChild;
 				}
 			}
 		}
-		return edgeInfo;
+		return edgeInfoIndex;
 	}
 
 	/**
@@ -536,28 +524,11 @@ class DimensionTraverse {
 			}
 		}
 
-		EdgeInfo currentInfo = this.findCurrentEdgeInfo(dimensionAxis);
-		if (currentInfo == null) {
+		int index = this.findCurrentEdgeInfoIndex(dimensionAxis);
+		if (index < 0) {
 			return range;
-		} else {
-			range = 0;
-			while (true) {
-				int index = this.relationMap.currentRelation[dimensionAxis].indexOf(currentInfo);
-				EdgeInfo nextEdgeInfo = null;
-				if (this.relationMap.currentRelation[dimensionAxis].size() > index + 1) {
-					nextEdgeInfo = (EdgeInfo) this.relationMap.currentRelation[dimensionAxis].get(index + 1);
-				} else {
-					break;
-				}
-				if (nextEdgeInfo != null && currentInfo.parent == nextEdgeInfo.parent) {
-					range++;
-					currentInfo = nextEdgeInfo;
-				} else {
-					break;
-				}
-			}
 		}
-		return range;
+		return this.relationMap.getLastSiblingIndex(dimensionAxis, index) - index;
 	}
 
 	/**
@@ -42,6 +42,10 @@ import org.eclipse.birt.data.engine.olap.driver.DimensionAxis;
  * basic sort definition. But in case of aggregation sort, we should try to keep
  * its original sort result.
  *
+ * In paged mode the EdgeInfo objects of the innermost level, one per edge tuple,
+ * are not kept. They are derived from the group boundaries of the outer levels
+ * in windows of a fixed size, see PagedEdgeInfoList.
+ *
  */
 class EdgeDimensionRelation {
 	List[] currentRelation;
@@ -56,6 +60,7 @@ class EdgeDimensionRelation {
 		this.sectionList = new ArrayList();
 		this.fetcher = fetcher;
 		int customDimSize = dimAxis.length;
+		int windowSize = service.getEdgeWindowSize();
 
 		this.traverseLength = rs.length();
 
@@ -67,7 +72,7 @@ class EdgeDimensionRelation {
 		int startId = 0;
 
 		if (this.traverseLength == 0) {
-			section = new Section(customDimSize, -1, -1);
+			section = new Section(customDimSize, -1, -1, windowSize);
 			this.sectionList.add(section);
 			this.currentRelation = ((Section) this.sectionList.get(0)).getRelation();
 		} else {
@@ -84,7 +89,7 @@ class EdgeDimensionRelation {
 				}
 				int breakLevel;
 				if (newSection) {
-					section = new Section(customDimSize, -1, -1);
+					section = new Section(customDimSize, -1, -1, windowSize);
 					newSection = false;
 					this.sectionList.add(section);
 					breakLevel = 0;
@@ -144,20 +149,9 @@ class EdgeDimensionRelation {
 		assert preValue != null && currValue != null;
 		int breakLevel = 0;
 		for (; breakLevel < currValue.length; breakLevel++) {
-			// get the first child of current group in level of breakLevel
-			List list = section.getRelation()[breakLevel];
-			EdgeInfo edgeInfo = (EdgeInfo) list.get(list.size() - 1);
-			int child = edgeInfo.firstChild;
-
 			Object currObjectValue = currValue[breakLevel];
 			Object prevObjectValue = preValue[breakLevel];
 
-			for (int level = breakLevel + 1; level < section.getRelation().length; level++) {
-				list = section.getRelation()[level];
-				edgeInfo = (EdgeInfo) list.get(child);
-				child = edgeInfo.firstChild;
-			}
-
 			// determines whether next row is in current group
 			if (!isEqualObject(currObjectValue, prevObjectValue)) {
 				break;
@@ -167,6 +161,58 @@ class EdgeDimensionRelation {
 		return breakLevel;
 	}
 
+	/**
+	 * Return the first child of the EdgeInfo at index of the level. For the
+	 * innermost level, it is the row of the edge tuple in the aggregation result
+	 * set.
+	 *
+	 * @param level
+	 * @param index
+	 * @return
+	 */
+	int getFirstChild(int level, int index) {
+		List list = this.currentRelation[level];
+		if (list instanceof PagedEdgeInfoList) {
+			return ((PagedEdgeInfoList) list).getFirstChild(index);
+		}
+		return ((EdgeInfo) list.get(index)).firstChild;
+	}
+
+	/**
+	 * Return the position of the EdgeInfo at index among the children of its
+	 * parent.
+	 *
+	 * @param level
+	 * @param index
+	 * @return
+	 */
+	int getSiblingPosition(int level, int index) {
+		if (level == 0) {
+			return index;
+		}
+		EdgeInfo edgeInfo = (EdgeInfo) this.currentRelation[level].get(index);
+		return index - getFirstChild(level - 1, edgeInfo.parent);
+	}
+
+	/**
+	 * Return the index of the last child of the parent of the EdgeInfo at index.
+	 *
+	 * @param level
+	 * @param index
+	 * @return
+	 */
+	int getLastSiblingIndex(int level, int index) {
+		int size = this.currentRelation[level].size();
+		if (level == 0) {
+			return size - 1;
+		}
+		EdgeInfo edgeInfo = (EdgeInfo) this.currentRelation[level].get(index);
+		if (edgeInfo.parent + 1 < this.currentRelation[level - 1].size()) {
+			return getFirstChild(level - 1, edgeInfo.parent + 1) - 1;
+		}
+		return size - 1;
+	}
+
 	/**
 	 *
 	 * @param position
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.birt.data.engine.olap.cursor;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The list of EdgeInfo objects of the innermost level of an edge in paged mode.
+ * The innermost level has one EdgeInfo per edge tuple, and its content can be
+ * derived from the group boundaries of the outer level: the first child of an
+ * innermost EdgeInfo is its row in the aggregation result set, and its parent
+ * is the outer group whose first child is the nearest one before it. So only
+ * the row of the first tuple and the null members are kept for the whole
+ * level, and EdgeInfo objects are created for one fixed-size window at a time.
+ *
+ * EdgeInfo objects returned by {@link #get(int)} stay the same while the
+ * window does not move, but should not be compared across windows.
+ */
+class PagedEdgeInfoList extends AbstractList {
+	// the EdgeInfo list of the outer level, null if the edge only has one level
+	private List parentList;
+	private int windowSize;
+
+	private int size;
+	private int firstRow = -1;
+	private BitSet nullMembers = new BitSet();
+
+	private EdgeInfo[] window;
+	private int windowStart = -1;
+
+	/**
+	 *
+	 * @param parentList
+	 * @param windowSize
+	 */
+	PagedEdgeInfoList(List parentList, int windowSize) {
+		this.parentList = parentList;
+		this.windowSize = windowSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.AbstractList#add(java.lang.Object)
+	 */
+	@Override
+	public boolean add(Object o) {
+		EdgeInfo edge = (EdgeInfo) o;
+		if (size == 0) {
+			firstRow = edge.firstChild;
+		}
+		assert edge.firstChild == firstRow + size;
+		if (edge.isNull == 0) {
+			nullMembers.set(size);
+		}
+		size++;
+		windowStart = -1;
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	public Object get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+		}
+		if (windowStart < 0 || index < windowStart || index >= windowStart + window.length) {
+			loadWindow(index / windowSize * windowSize);
+		}
+		return window[index - windowStart];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Return the first child of the EdgeInfo at index without creating it.
+	 *
+	 * @param index
+	 * @return
+	 */
+	int getFirstChild(int index) {
+		return firstRow + index;
+	}
+
+	/**
+	 *
+	 * @param start
+	 */
+	private void loadWindow(int start) {
+		int length = Math.min(windowSize, size - start);
+		if (window == null || window.length != length) {
+			window = new EdgeInfo[length];
+		}
+		int parent = findParent(start);
+		for (int i = 0; i < length; i++) {
+			int index = start + i;
+			if (parentList != null) {
+				while (parent + 1 < parentList.size()
+						&& ((EdgeInfo) parentList.get(parent + 1)).firstChild <= index) {
+					parent++;
+				}
+			}
+			EdgeInfo edge = new EdgeInfo();
+			edge.parent = parent;
+			edge.firstChild = firstRow + index;
+			if (nullMembers.get(index)) {
+				edge.isNull = 0;
+			}
+			window[i] = edge;
+		}
+		windowStart = start;
+	}
+
+	/**
+	 * Binary search the outer group which contains the innermost EdgeInfo at index.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private int findParent(int index) {
+		if (parentList == null) {
+			return -1;
+		}
+		int low = 0, high = parentList.size() - 1, parent = -1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (((EdgeInfo) parentList.get(mid)).firstChild <= index) {
+				parent = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return parent;
+	}
+}
@@ -14,7 +14,6 @@
 package org.eclipse.birt.data.engine.olap.cursor;
 
 import java.io.IOException;
-import java.util.List;
 
 import javax.olap.OLAPException;
 
@@ -448,19 +447,8 @@ public class RowDataAccessor implements IRowDataAccessor {
 	private void adjustDimensionPosition(int position) {
 		int index = position;
 		for (int i = dimAxis.length - 1; i >= 0; i--) {
-			List edgeInfoList = this.edgeDimensRelation.currentRelation[i];
-			EdgeInfo edgeInfo = (EdgeInfo) edgeInfoList.get(index);
-			int currentPosition = index;
-			int dimPosition = 0;
-			while (--currentPosition >= 0) {
-				EdgeInfo previousInfo = (EdgeInfo) edgeInfoList.get(currentPosition);
-				if (previousInfo.parent == edgeInfo.parent) {
-					dimPosition++;
-				} else {
-					break;
-				}
-			}
-			this.dimTraverse.setPosition(i, dimPosition);
+			EdgeInfo edgeInfo = (EdgeInfo) this.edgeDimensRelation.currentRelation[i].get(index);
+			this.dimTraverse.setPosition(i, this.edgeDimensRelation.getSiblingPosition(i, index));
 			index = edgeInfo.parent;
 		}
 	}
@@ -527,16 +515,7 @@ public class RowDataAccessor implements IRowDataAccessor {
 		if (size == 0) {
 			return -1;
 		}
-		int count = 1;
-		EdgeInfo edgeInfo = (EdgeInfo) this.edgeDimensRelation.currentRelation[dimIndex].get(size - 1);
-		EdgeInfo previousInfo;
-		for (int i = size - 2; i >= 0; i--) {
-			previousInfo = (EdgeInfo) this.edgeDimensRelation.currentRelation[dimIndex].get(i);
-			if (previousInfo.parent == edgeInfo.parent) {
-				count++;
-			}
-		}
-		return count;
+		return this.edgeDimensRelation.getSiblingPosition(dimIndex, size - 1) + 1;
 	}
 
 	/*
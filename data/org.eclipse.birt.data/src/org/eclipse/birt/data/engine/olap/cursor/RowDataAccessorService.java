@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.birt.data.engine.olap.cursor;
 
+import java.util.Map;
+
+import org.eclipse.birt.data.engine.api.DataEngine;
 import org.eclipse.birt.data.engine.olap.driver.DimensionAxis;
 import org.eclipse.birt.data.engine.olap.query.view.BirtEdgeView;
 
@@ -42,4 +45,22 @@ public class RowDataAccessorService {
 	public int getPagePosition() {
 		return this.view.getPageEndingIndex();
 	}
+
+	/**
+	 * Return the window size of the paged edge, or zero if the edge is fully
+	 * populated.
+	 *
+	 * @return
+	 */
+	public int getEdgeWindowSize() {
+		if (this.view.getOrdinateOwner() == null) {
+			return 0;
+		}
+		Map appContext = this.view.getOrdinateOwner().getAppContext();
+		Object windowSize = appContext == null ? null : appContext.get(DataEngine.CUBECURSOR_EDGE_WINDOW_SIZE);
+		if (windowSize == null) {
+			return 0;
+		}
+		return Math.max(Integer.parseInt(windowSize.toString()), 0);
+	}
 }
@@ -33,6 +33,22 @@ class Section {
 		}
 	}
 
+	/**
+	 *
+	 * @param customSize
+	 * @param baseStart
+	 * @param baseEnd
+	 * @param windowSize the window size of the innermost level, or a non-positive
+	 *                   number if the innermost level is not paged
+	 */
+	Section(int customSize, int baseStart, int baseEnd, int windowSize) {
+		this(customSize, baseStart, baseEnd);
+		if (windowSize > 0 && customSize > 0) {
+			relation[customSize - 1] = new PagedEdgeInfoList(customSize > 1 ? relation[customSize - 2] : null,
+					windowSize);
+		}
+	}
+
 	List[] getRelation() {
 		return this.relation;
 	}
@@ -52,6 +52,7 @@ import org.eclipse.birt.data.engine.olap.data.impl.AggregationResultSetSaveUtil;
 import org.eclipse.birt.data.engine.olap.data.impl.Cube;
 import org.eclipse.birt.data.engine.olap.data.impl.SecuredCube;
 import org.eclipse.birt.data.engine.olap.data.impl.aggregation.AggregationExecutor;
+import org.eclipse.birt.data.engine.olap.data.impl.aggregation.AggregationResultCache;
 import org.eclipse.birt.data.engine.olap.data.impl.aggregation.AggregationResultRow;
 import org.eclipse.birt.data.engine.olap.data.impl.aggregation.AggregationResultRowComparator;
 import org.eclipse.birt.data.engine.olap.data.impl.aggregation.AggregationResultSet;
@@ -74,6 +75,7 @@ import org.eclipse.birt.data.engine.olap.data.impl.facttable.FactTableRowIterato
 import org.eclipse.birt.data.engine.olap.data.util.BufferedStructureArray;
 import org.eclipse.birt.data.engine.olap.data.util.DiskSortedStack;
 import org.eclipse.birt.data.engine.olap.data.util.IDiskArray;
+import org.eclipse.birt.data.engine.olap.data.util.PositionBitmap;
 import org.eclipse.birt.data.engine.olap.impl.query.CubeQueryExecutor;
 import org.eclipse.birt.data.engine.olap.util.OlapExpressionCompiler;
 import org.eclipse.birt.data.engine.olap.util.filter.BaseDimensionFilterEvalHelper;
@@ -117,6 +119,8 @@ public class CubeQueryExecutorHelper implements ICubeQueryExcutorHelper {
 
 	private Map appContext;
 
+	private AggregationResultCache aggregationResultCache;
+
 	/**
 	 *
 	 * @param cube
@@ -832,6 +836,31 @@ public class CubeQueryExecutorHelper implements ICubeQueryExcutorHelper {
 			throws DataException, IOException, BirtException {
 		IDiskArray[] dimPosition = getFilterResult();
 
+		PositionBitmap[] selectedPositions = null;
+		IAggregationResultSet[] cachedResultSets = null;
+		AggregationDefinition[] calculatedAggregations = aggregations;
+		if (isAggregationCacheable(aggregations)) {
+			selectedPositions = new PositionBitmap[dimPosition.length];
+			for (int i = 0; i < dimPosition.length; i++) {
+				if (dimPosition[i] != null) {
+					selectedPositions[i] = PositionBitmap.valueOf(dimPosition[i]);
+				}
+			}
+			cachedResultSets = new IAggregationResultSet[aggregations.length];
+			List<AggregationDefinition> missedAggregations = new ArrayList<>();
+			for (int i = 0; i < aggregations.length; i++) {
+				cachedResultSets[i] = aggregationResultCache.get(cube.getFactTable(), selectedPositions,
+						aggregations[i]);
+				if (cachedResultSets[i] == null) {
+					missedAggregations.add(aggregations[i]);
+				}
+			}
+			if (missedAggregations.isEmpty()) {
+				return cachedResultSets;
+			}
+			calculatedAggregations = missedAggregations.toArray(new AggregationDefinition[0]);
+		}
+
 		FactTableRowIterator factTableRowIterator = populateFactTableIterator(stopSign, dimPosition);
 		DimensionResultIterator[] dimensionResultIterators = populateDimensionResultIterator(dimPosition, stopSign);
 
@@ -846,11 +875,46 @@ public class CubeQueryExecutorHelper implements ICubeQueryExcutorHelper {
 			}
 		}
 		AggregationExecutor aggregationCalculatorExecutor = new AggregationExecutor(new CubeDimensionReader(cube),
-				dataSet4Aggregation, aggregations, memoryCacheSize);
+				dataSet4Aggregation, calculatedAggregations, memoryCacheSize);
 
 		aggregationCalculatorExecutor.setMaxDataObjectRows(maxDataObjectRows);
 
-		return aggregationCalculatorExecutor.execute(stopSign);
+		IAggregationResultSet[] resultSets = aggregationCalculatorExecutor.execute(stopSign);
+		if (cachedResultSets == null) {
+			return resultSets;
+		}
+		int pos = 0;
+		for (int i = 0; i < cachedResultSets.length; i++) {
+			if (cachedResultSets[i] == null) {
+				cachedResultSets[i] = resultSets[pos++];
+				if (!stopSign.isStopped()) {
+					aggregationResultCache.put(cube.getFactTable(), selectedPositions, aggregations[i],
+							cachedResultSets[i]);
+				}
+			}
+		}
+		return cachedResultSets;
+	}
+
+	/**
+	 * Return whether the aggregation results of this query only depend on the
+	 * selected dimension positions, so that they can be shared through the
+	 * aggregation result cache.
+	 *
+	 * @param aggregations
+	 * @return
+	 */
+	private boolean isAggregationCacheable(AggregationDefinition[] aggregations) {
+		if (aggregationResultCache == null || computedMeasureHelper != null || !measureFilters.isEmpty()
+				|| (cubePosFilters != null && !cubePosFilters.isEmpty())) {
+			return false;
+		}
+		for (int i = 0; i < aggregations.length; i++) {
+			if (!AggregationResultCache.isCacheable(aggregations[i])) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -1037,6 +1101,16 @@ public class CubeQueryExecutorHelper implements ICubeQueryExcutorHelper {
 		this.memoryCacheSize = memoryCacheSize;
 	}
 
+	/**
+	 * Set the cache shared by the cube queries of the data engine. Caching is
+	 * disabled when it is null.
+	 *
+	 * @param aggregationResultCache
+	 */
+	public void setAggregationResultCache(AggregationResultCache aggregationResultCache) {
+		this.aggregationResultCache = aggregationResultCache;
+	}
+
 	public void setAppContext(Map appContext) {
 		this.appContext = appContext;
 	}
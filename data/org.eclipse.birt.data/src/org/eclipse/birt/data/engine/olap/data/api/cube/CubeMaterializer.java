@@ -35,6 +35,7 @@ import org.eclipse.birt.data.engine.olap.data.impl.Cube;
 import org.eclipse.birt.data.engine.olap.data.impl.NamingUtil;
 import org.eclipse.birt.data.engine.olap.data.impl.dimension.Dimension;
 import org.eclipse.birt.data.engine.olap.data.impl.dimension.Hierarchy;
+import org.eclipse.birt.data.engine.olap.data.impl.facttable.FactTable;
 
 /**
  *
@@ -217,6 +218,38 @@ public class CubeMaterializer {
 	}
 
 	/**
+	 * Append the rows of <code>factTable</code> to the existing cube
+	 * <code>name</code>. The rows are saved as a delta of the cube's fact table,
+	 * so the dimensions and the fact table segments already in the document are
+	 * left as they are. The dimension members referenced by the new rows must
+	 * already exist in the cube dimensions.
+	 *
+	 * @param name
+	 * @param factTableJointColumnNames
+	 * @param DimJointColumnNames
+	 * @param factTable
+	 * @param measureColumns
+	 * @param measureAggrFunctionNames
+	 * @param cacheSize
+	 * @param stopSign
+	 * @throws IOException
+	 * @throws BirtException
+	 */
+	public void appendToCube(String name, String[][] factTableJointColumnNames, String[][] DimJointColumnNames,
+			IDatasetIterator factTable, String[] measureColumns, String[] measureAggrFunctionNames, long cacheSize,
+			StopSign stopSign) throws IOException, BirtException {
+		Cube cube = new Cube(name, documentManager);
+		cube.load(stopSign);
+		cube.append(factTableJointColumnNames, DimJointColumnNames, factTable, measureColumns,
+				measureAggrFunctionNames, cacheSize, stopSign);
+		cube.close();
+		documentManager.flush();
+	}
+
+	/**
+	 * Save the cube to report document. The document objects which already exist
+	 * in the report document are not written again, so saving a cube after
+	 * {@link #appendToCube} only writes the appended delta.
 	 *
 	 * @param cubeName
 	 * @param writer
@@ -231,18 +264,18 @@ public class CubeMaterializer {
 		saveDocObjToReportDocument(NamingUtil.getCubeDocName(cubeName), writer, stopSign);
 		// save facttable
 		String factTableName = cube.getFactTable().getName();
-		saveDocObjToReportDocument(NamingUtil.getFactTableName(factTableName), writer, stopSign);
-		saveDocObjToReportDocument(NamingUtil.getFTSUListName(factTableName), writer, stopSign);
-		// save FTSU
-		IDocumentObject documentObject = documentManager.openDocumentObject(NamingUtil.getFTSUListName(factTableName));
-		try {
-			String FTSUName = documentObject.readString();
-			while (FTSUName != null) {
-				saveDocObjToReportDocument(FTSUName, writer, stopSign);
-				FTSUName = documentObject.readString();
+		saveFactTableToReportDocument(factTableName, writer, stopSign);
+		// save appended deltas, the delta list changes on every append
+		FactTable[] deltas = cube.getFactTable().getDeltas();
+		if (deltas.length > 0) {
+			for (int i = 0; i < deltas.length; i++) {
+				saveFactTableToReportDocument(deltas[i].getName(), writer, stopSign);
 			}
-		} catch (EOFException e) {
-
+			String deltaListName = NamingUtil.getFactTableDeltaListName(factTableName);
+			if (writer.exists(deltaListName)) {
+				writer.dropStream(deltaListName);
+			}
+			saveDocObjToReportDocument(deltaListName, writer, stopSign);
 		}
 		// save dimension
 		IDimension[] dimensions = cube.getDimesions();
@@ -269,6 +302,31 @@ public class CubeMaterializer {
 		writer.flush();
 	}
 
+	/**
+	 *
+	 * @param factTableName
+	 * @param writer
+	 * @param stopSign
+	 * @throws IOException
+	 * @throws DataException
+	 */
+	private void saveFactTableToReportDocument(String factTableName, IDocArchiveWriter writer, StopSign stopSign)
+			throws IOException, DataException {
+		saveDocObjToReportDocument(NamingUtil.getFactTableName(factTableName), writer, stopSign);
+		saveDocObjToReportDocument(NamingUtil.getFTSUListName(factTableName), writer, stopSign);
+		// save FTSU
+		IDocumentObject documentObject = documentManager.openDocumentObject(NamingUtil.getFTSUListName(factTableName));
+		try {
+			String FTSUName = documentObject.readString();
+			while (FTSUName != null) {
+				saveDocObjToReportDocument(FTSUName, writer, stopSign);
+				FTSUName = documentObject.readString();
+			}
+		} catch (EOFException e) {
+
+		}
+	}
+
 	/**
 	 *
 	 * @param name
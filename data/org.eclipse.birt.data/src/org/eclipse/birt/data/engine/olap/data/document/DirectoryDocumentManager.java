@@ -16,6 +16,9 @@ package org.eclipse.birt.data.engine.olap.data.document;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.birt.data.engine.core.DataException;
 import org.eclipse.birt.data.engine.core.security.FileSecurity;
@@ -30,6 +33,10 @@ import org.eclipse.birt.data.engine.i18n.ResourceConstants;
 
 public class DirectoryDocumentManager implements IDocumentManager {
 	private String documentDir = null;
+	private int accessMode;
+	// mapped segments of the document objects, shared by all readers. The
+	// segments of an object are dropped when it is created or written.
+	private Map<String, ByteBuffer[]> mappedSegments = new HashMap<>();
 
 	/**
 	 *
@@ -38,7 +45,20 @@ public class DirectoryDocumentManager implements IDocumentManager {
 	 * @throws DataException
 	 */
 	public DirectoryDocumentManager(String documentDir, boolean deleteOld) throws DataException {
+		this(documentDir, deleteOld, DocumentManagerFactory.ACCESS_MODE_STREAM);
+	}
+
+	/**
+	 *
+	 * @param documentDir
+	 * @param deleteOld
+	 * @param accessMode  one of the <code>ACCESS_MODE_*</code> constants of
+	 *                    <code>DocumentManagerFactory</code>
+	 * @throws DataException
+	 */
+	public DirectoryDocumentManager(String documentDir, boolean deleteOld, int accessMode) throws DataException {
 		this.documentDir = documentDir;
+		this.accessMode = accessMode;
 		File dir = new File(documentDir);
 		if (!FileSecurity.fileExist(dir) || !FileSecurity.fileIsDirectory(dir)) {
 			if (!FileSecurity.fileMakeDirs(dir)) {
@@ -55,7 +75,9 @@ public class DirectoryDocumentManager implements IDocumentManager {
 
 	@Override
 	public void close() throws IOException {
-
+		synchronized (mappedSegments) {
+			mappedSegments.clear();
+		}
 	}
 
 	/*
@@ -73,8 +95,12 @@ public class DirectoryDocumentManager implements IDocumentManager {
 			if (!FileSecurity.createNewFile(file)) {
 				return null;
 			}
-			return new DocumentObject(
-					new BufferedRandomDataAccessObject(new SimpleRandomAccessObject(file, "rw"), 1024));
+			if (accessMode == DocumentManagerFactory.ACCESS_MODE_MAPPED) {
+				dropMappedSegments(documentObjectName);
+				return new DocumentObject(new BufferedRandomDataAccessObject(
+						new MappedModeObject(documentObjectName, file, createWritableObject(file), true), 1024));
+			}
+			return new DocumentObject(new BufferedRandomDataAccessObject(createWritableObject(file), 1024));
 		}
 	}
 
@@ -92,7 +118,61 @@ public class DirectoryDocumentManager implements IDocumentManager {
 			return null;
 		}
 
-		return new DocumentObject(new BufferedRandomDataAccessObject(new SimpleRandomAccessObject(file, "rw"), 1024));
+		if (accessMode == DocumentManagerFactory.ACCESS_MODE_MAPPED) {
+			return new DocumentObject(new BufferedRandomDataAccessObject(
+					new MappedModeObject(documentObjectName, file, openMappedObject(documentObjectName, file), false),
+					1024));
+		}
+		return new DocumentObject(new BufferedRandomDataAccessObject(createWritableObject(file), 1024));
+	}
+
+	/**
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	private IRandomAccessObject createWritableObject(File file) throws IOException {
+		if (accessMode == DocumentManagerFactory.ACCESS_MODE_STREAM) {
+			return new SimpleRandomAccessObject(file, "rw");
+		}
+		return new FileChannelRandomAccessObject(file, "rw");
+	}
+
+	/**
+	 * Open a read-only object over the mapped segments of the document file. The
+	 * file is mapped on the first open and the segments are reused afterwards,
+	 * unless the length of the file no longer matches them.
+	 *
+	 * @param documentObjectName
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	private IRandomAccessObject openMappedObject(String documentObjectName, File file) throws IOException {
+		ByteBuffer[] segments;
+		synchronized (mappedSegments) {
+			segments = mappedSegments.get(documentObjectName);
+			if (segments == null || getLength(segments) != file.length()) {
+				segments = MappedRandomAccessObject.map(file);
+				mappedSegments.put(documentObjectName, segments);
+			}
+		}
+		return new MappedRandomAccessObject(segments, getLength(segments));
+	}
+
+	private static long getLength(ByteBuffer[] segments) {
+		long length = 0;
+		for (int i = 0; i < segments.length; i++) {
+			length += segments[i].capacity();
+		}
+		return length;
+	}
+
+	private void dropMappedSegments(String documentObjectName) {
+		synchronized (mappedSegments) {
+			mappedSegments.remove(documentObjectName);
+		}
 	}
 
 	/*
@@ -113,4 +193,96 @@ public class DirectoryDocumentManager implements IDocumentManager {
 
 	}
 
+	/**
+	 * The document object opened in the mapped mode. It reads over the shared
+	 * mapped segments until the first write, then reopens the file writable at the
+	 * same position. Once written, the mapped segments of the object are dropped,
+	 * and again on flush and close, so the later readers map the new content.
+	 */
+	private class MappedModeObject implements IRandomAccessObject {
+		private String documentObjectName;
+		private File file;
+		private IRandomAccessObject object;
+		private boolean writable;
+		private boolean written;
+
+		MappedModeObject(String documentObjectName, File file, IRandomAccessObject object, boolean writable) {
+			this.documentObjectName = documentObjectName;
+			this.file = file;
+			this.object = object;
+			this.writable = writable;
+		}
+
+		private IRandomAccessObject getWritableObject() throws IOException {
+			if (!writable) {
+				IRandomAccessObject writableObject = createWritableObject(file);
+				writableObject.seek(object.getFilePointer());
+				object.close();
+				object = writableObject;
+				writable = true;
+			}
+			if (!written) {
+				written = true;
+				dropMappedSegments(documentObjectName);
+			}
+			return object;
+		}
+
+		@Override
+		public long getFilePointer() throws IOException {
+			return object.getFilePointer();
+		}
+
+		@Override
+		public void setLength(long newLength) throws IOException {
+			getWritableObject().setLength(newLength);
+		}
+
+		@Override
+		public long length() throws IOException {
+			return object.length();
+		}
+
+		@Override
+		public void seek(long pos) throws IOException {
+			object.seek(pos);
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return object.read(b, off, len);
+		}
+
+		@Override
+		public int read(byte[] b) throws IOException {
+			return object.read(b);
+		}
+
+		@Override
+		public int read() throws IOException {
+			return object.read();
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			getWritableObject().write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			object.flush();
+			if (written) {
+				dropMappedSegments(documentObjectName);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			object.close();
+			if (written) {
+				dropMappedSegments(documentObjectName);
+			}
+		}
+	}
+
 }
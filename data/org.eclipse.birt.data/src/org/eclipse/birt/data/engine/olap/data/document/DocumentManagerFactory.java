@@ -28,6 +28,25 @@ import org.eclipse.birt.data.engine.core.security.PropertySecurity;
 
 public class DocumentManagerFactory {
 
+	/**
+	 * Document objects are accessed through <code>java.io.RandomAccessFile</code>.
+	 */
+	public static final int ACCESS_MODE_STREAM = 0;
+
+	/**
+	 * Document objects are accessed through <code>FileChannel</code> positional
+	 * reads, and writes go through a direct buffer.
+	 */
+	public static final int ACCESS_MODE_CHANNEL = 1;
+
+	/**
+	 * Document objects are created as in {@link #ACCESS_MODE_CHANNEL}, but opened
+	 * over memory-mapped segments shared by the readers. An opened object is
+	 * reopened through a <code>FileChannel</code> on its first write, and its
+	 * segments are mapped again by the next open.
+	 */
+	public static final int ACCESS_MODE_MAPPED = 2;
+
 	private static final String tmpPath = PropertySecurity.getSystemProperty("java.io.tmpdir");
 	private static final String DEFAULT_CUB_MANAGER_NAME = "cub1";
 
@@ -98,6 +117,19 @@ public class DocumentManagerFactory {
 		return new DirectoryDocumentManager(dirName, deleteOldDocument);
 	}
 
+	/**
+	 *
+	 * @param deleteOldDocument
+	 * @param dirName
+	 * @param accessMode        one of the <code>ACCESS_MODE_*</code> constants
+	 * @return
+	 * @throws DataException
+	 */
+	static public IDocumentManager createDirectoryDocumentManager(boolean deleteOldDocument, String dirName,
+			int accessMode) throws DataException {
+		return new DirectoryDocumentManager(dirName, deleteOldDocument, accessMode);
+	}
+
 	/**
 	 *
 	 * @return
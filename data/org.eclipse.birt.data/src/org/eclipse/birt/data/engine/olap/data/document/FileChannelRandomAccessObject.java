@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.birt.data.engine.olap.data.document;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.eclipse.birt.data.engine.core.security.FileSecurity;
+
+/**
+ * An implementation of the <tt>IRandomAccessObject</tt> interface over a
+ * <code>FileChannel</code>. Reads are positional, so the object keeps its own
+ * pointer and never moves the shared file pointer of the channel. Writes are
+ * collected in a direct buffer and written positionally when the buffer is
+ * full, when the pointer moves away from the buffered region, or on flush.
+ */
+
+public class FileChannelRandomAccessObject implements IRandomAccessObject {
+	private static final int DEFAULT_WRITE_BUFFER_SIZE = 8192;
+
+	private RandomAccessFile randomAccessFile;
+	private FileChannel channel;
+	private long position;
+	private long length;
+
+	// pending writes, starting at file offset writeBufferOffset
+	private ByteBuffer writeBuffer;
+	private long writeBufferOffset;
+
+	/**
+	 *
+	 * @param file
+	 * @param mode
+	 * @throws IOException
+	 */
+	public FileChannelRandomAccessObject(File file, String mode) throws IOException {
+		this(file, mode, DEFAULT_WRITE_BUFFER_SIZE);
+	}
+
+	/**
+	 *
+	 * @param file
+	 * @param mode
+	 * @param writeBufferSize
+	 * @throws IOException
+	 */
+	public FileChannelRandomAccessObject(File file, String mode, int writeBufferSize) throws IOException {
+		this.randomAccessFile = FileSecurity.createRandomAccessFile(file, mode);
+		if (this.randomAccessFile == null) {
+			throw new FileNotFoundException(file.getAbsolutePath());
+		}
+		this.channel = randomAccessFile.getChannel();
+		this.length = channel.size();
+		this.position = 0;
+		if (mode.indexOf('w') >= 0) {
+			this.writeBuffer = ByteBuffer.allocateDirect(Math.max(writeBufferSize, 1));
+		}
+		this.writeBufferOffset = -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		if (channel == null) {
+			return;
+		}
+		flushWriteBuffer();
+		channel.close();
+		randomAccessFile.close();
+		channel = null;
+		randomAccessFile = null;
+		writeBuffer = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#
+	 * getFilePointer()
+	 */
+	@Override
+	public long getFilePointer() throws IOException {
+		return position;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#length()
+	 */
+	@Override
+	public long length() throws IOException {
+		return length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#read(byte
+	 * [], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (position >= length) {
+			return -1;
+		}
+		flushWriteBuffer();
+		ByteBuffer dst = ByteBuffer.wrap(b, off, (int) Math.min(len, length - position));
+		int total = 0;
+		while (dst.hasRemaining()) {
+			int n = channel.read(dst, position + total);
+			if (n < 0) {
+				break;
+			}
+			total += n;
+		}
+		if (total == 0) {
+			return -1;
+		}
+		position += total;
+		return total;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#read(byte
+	 * [])
+	 */
+	@Override
+	public int read(byte[] b) throws IOException {
+		return read(b, 0, b.length);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#read()
+	 */
+	@Override
+	public int read() throws IOException {
+		byte[] b = new byte[1];
+		int len = read(b);
+		if (len < 0) {
+			return -1;
+		}
+		return b[0] & 0xff;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#seek(long)
+	 */
+	@Override
+	public void seek(long pos) throws IOException {
+		if (pos < 0) {
+			throw new IOException("Negative seek offset");
+		}
+		this.position = pos;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#
+	 * setLength(long)
+	 */
+	@Override
+	public void setLength(long newLength) throws IOException {
+		flushWriteBuffer();
+		if (newLength < channel.size()) {
+			channel.truncate(newLength);
+		} else {
+			randomAccessFile.setLength(newLength);
+		}
+		length = newLength;
+		if (position > newLength) {
+			position = newLength;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#write(
+	 * byte[], int, int)
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (writeBuffer == null) {
+			throw new IOException("Object is opened read-only");
+		}
+		if (len == 0) {
+			return;
+		}
+		if (writeBufferOffset >= 0 && writeBufferOffset + writeBuffer.position() != position) {
+			flushWriteBuffer();
+		}
+		while (len > 0) {
+			if (writeBufferOffset < 0) {
+				writeBufferOffset = position;
+			}
+			int size = Math.min(len, writeBuffer.remaining());
+			writeBuffer.put(b, off, size);
+			off += size;
+			len -= size;
+			position += size;
+			if (!writeBuffer.hasRemaining()) {
+				flushWriteBuffer();
+			}
+		}
+		if (position > length) {
+			length = position;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#flush()
+	 */
+	@Override
+	public void flush() throws IOException {
+		flushWriteBuffer();
+	}
+
+	/**
+	 * Write the pending bytes of the direct buffer to their file offset.
+	 *
+	 * @throws IOException
+	 */
+	private void flushWriteBuffer() throws IOException {
+		if (writeBuffer == null || writeBufferOffset < 0) {
+			return;
+		}
+		writeBuffer.flip();
+		long offset = writeBufferOffset;
+		while (writeBuffer.hasRemaining()) {
+			offset += channel.write(writeBuffer, offset);
+		}
+		writeBuffer.clear();
+		writeBufferOffset = -1;
+	}
+}
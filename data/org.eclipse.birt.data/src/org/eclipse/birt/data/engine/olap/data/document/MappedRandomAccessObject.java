@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.birt.data.engine.olap.data.document;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.eclipse.birt.data.engine.core.security.FileSecurity;
+
+/**
+ * A read-only implementation of the <tt>IRandomAccessObject</tt> interface over
+ * memory-mapped segments of a finalized document file. The segments are
+ * immutable once mapped and can be shared by any number of readers; each reader
+ * only owns its position, so concurrent queries on the same document do not
+ * contend on a file pointer.
+ */
+
+public class MappedRandomAccessObject implements IRandomAccessObject {
+	/**
+	 * Size of one mapped segment. A single <code>MappedByteBuffer</code> can not
+	 * address more than 2G bytes, so bigger files are mapped in several segments.
+	 */
+	static final int SEGMENT_SIZE = 1 << 30;
+
+	private ByteBuffer[] segments;
+	private long length;
+	private long position;
+
+	/**
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public MappedRandomAccessObject(File file) throws IOException {
+		this(map(file), file.length());
+	}
+
+	/**
+	 * Create a reader over segments returned by {@link #map(File)}.
+	 *
+	 * @param segments
+	 * @param length
+	 */
+	public MappedRandomAccessObject(ByteBuffer[] segments, long length) {
+		this.segments = segments;
+		this.length = length;
+		this.position = 0;
+	}
+
+	/**
+	 * Map the whole file read-only in segments of at most {@link #SEGMENT_SIZE}
+	 * bytes. The file is closed on return; the mapping stays valid until the
+	 * buffers are garbage collected.
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static ByteBuffer[] map(File file) throws IOException {
+		RandomAccessFile randomAccessFile = FileSecurity.createRandomAccessFile(file, "r");
+		if (randomAccessFile == null) {
+			throw new FileNotFoundException(file.getAbsolutePath());
+		}
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			long size = channel.size();
+			int count = (int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+			ByteBuffer[] segments = new ByteBuffer[count];
+			for (int i = 0; i < count; i++) {
+				long offset = (long) i * SEGMENT_SIZE;
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+						Math.min(SEGMENT_SIZE, size - offset));
+			}
+			return segments;
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		segments = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#
+	 * getFilePointer()
+	 */
+	@Override
+	public long getFilePointer() throws IOException {
+		return position;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#length()
+	 */
+	@Override
+	public long length() throws IOException {
+		return length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#read(byte
+	 * [], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (segments == null) {
+			throw new IOException("Object is closed");
+		}
+		if (len == 0) {
+			return 0;
+		}
+		if (position >= length) {
+			return -1;
+		}
+		int total = (int) Math.min(len, length - position);
+		int remain = total;
+		while (remain > 0) {
+			int segment = (int) (position / SEGMENT_SIZE);
+			int posInSegment = (int) (position % SEGMENT_SIZE);
+			// duplicate so readers sharing the segment never touch each other's position
+			ByteBuffer src = segments[segment].duplicate();
+			src.position(posInSegment);
+			int size = Math.min(remain, src.remaining());
+			src.get(b, off, size);
+			off += size;
+			remain -= size;
+			position += size;
+		}
+		return total;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#read(byte
+	 * [])
+	 */
+	@Override
+	public int read(byte[] b) throws IOException {
+		return read(b, 0, b.length);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#read()
+	 */
+	@Override
+	public int read() throws IOException {
+		if (segments == null) {
+			throw new IOException("Object is closed");
+		}
+		if (position >= length) {
+			return -1;
+		}
+		int value = segments[(int) (position / SEGMENT_SIZE)].get((int) (position % SEGMENT_SIZE)) & 0xff;
+		position++;
+		return value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#seek(long)
+	 */
+	@Override
+	public void seek(long pos) throws IOException {
+		if (pos < 0) {
+			throw new IOException("Negative seek offset");
+		}
+		this.position = pos;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#
+	 * setLength(long)
+	 */
+	@Override
+	public void setLength(long newLength) throws IOException {
+		throw new IOException("Object is opened read-only");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#write(
+	 * byte[], int, int)
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		throw new IOException("Object is opened read-only");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.birt.data.engine.olap.data.document.IRandomAccessObject#flush()
+	 */
+	@Override
+	public void flush() throws IOException {
+	}
+}
@@ -153,6 +153,34 @@ public class Cube implements ICube {
 		documentObject.close();
 	}
 
+	/**
+	 * Append the rows of <code>iterator</code> to the fact table of this loaded
+	 * cube as a new delta. The dimensions of the cube are not changed.
+	 *
+	 * @param factTableJointColumnNames
+	 * @param DimJointColumnNames
+	 * @param iterator
+	 * @param measureColumnName
+	 * @param measureColumnAggregations
+	 * @param cacheSize
+	 * @param stopSign
+	 * @throws IOException
+	 * @throws BirtException
+	 */
+	public void append(String[][] factTableJointColumnNames, String[][] DimJointColumnNames,
+			IDatasetIterator iterator, String[] measureColumnName, String[] measureColumnAggregations, long cacheSize,
+			StopSign stopSign) throws IOException, BirtException {
+		Dimension[] tDimensions = new Dimension[dimension.length];
+		for (int i = 0; i < tDimensions.length; i++) {
+			tDimensions[i] = (Dimension) dimension[i];
+		}
+		FactTableAccessor factTableConstructor = new FactTableAccessor(documentManager);
+		factTableConstructor.setMemoryCacheSize(cacheSize);
+		factTable = factTableConstructor.appendFactTable(name, factTableJointColumnNames, DimJointColumnNames,
+				iterator, tDimensions, measureColumnName, measureColumnAggregations, stopSign);
+		documentManager.flush();
+	}
+
 	protected IDimension loadDimension(String name) throws DataException, IOException {
 		return DimensionFactory.loadDimension(name, documentManager);
 	}
@@ -27,6 +27,8 @@ public class NamingUtil {
 	private static final String HIERARCHY_OFFSET = OLAP_PREFIX + "hierarchy_offset_";
 	private static final String FACT_TABLE = OLAP_PREFIX + "fact_table_";
 	private static final String FTSU_LIST = OLAP_PREFIX + "ftsu_list_";
+	private static final String FACT_TABLE_DELTA_LIST = OLAP_PREFIX + "fact_table_delta_list_";
+	private static final String FACT_TABLE_DELTA = "_delta_";
 	private static final String AGGREGATION_RS_DOC = OLAP_PREFIX + "rs_doc_";
 
 	public static final String DERIVED_MEASURE_PREFIX = "_${DERIVED_MEASURE}$_";
@@ -128,6 +130,27 @@ public class NamingUtil {
 		return FTSU_LIST + factTableName;
 	}
 
+	/**
+	 *
+	 * @param factTableName
+	 * @return
+	 */
+	public static String getFactTableDeltaListName(String factTableName) {
+		return FACT_TABLE_DELTA_LIST + factTableName;
+	}
+
+	/**
+	 * Name of the fact table which holds the rows of the appended delta
+	 * <code>deltaIndex</code>.
+	 *
+	 * @param factTableName
+	 * @param deltaIndex
+	 * @return
+	 */
+	public static String getFactTableDeltaName(String factTableName, int deltaIndex) {
+		return factTableName + FACT_TABLE_DELTA + deltaIndex;
+	}
+
 	/**
 	 *
 	 * @param ID
@@ -0,0 +1,550 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.birt.data.engine.olap.data.impl.aggregation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import org.eclipse.birt.data.engine.api.aggregation.Accumulator;
+import org.eclipse.birt.data.engine.api.aggregation.AggregationManager;
+import org.eclipse.birt.data.engine.api.aggregation.IAggrFunction;
+import org.eclipse.birt.data.engine.cache.Constants;
+import org.eclipse.birt.data.engine.core.DataException;
+import org.eclipse.birt.data.engine.olap.data.api.DimLevel;
+import org.eclipse.birt.data.engine.olap.data.api.IAggregationResultRow;
+import org.eclipse.birt.data.engine.olap.data.api.IAggregationResultSet;
+import org.eclipse.birt.data.engine.olap.data.document.IDocumentManager;
+import org.eclipse.birt.data.engine.olap.data.impl.AggregationDefinition;
+import org.eclipse.birt.data.engine.olap.data.impl.AggregationFunctionDefinition;
+import org.eclipse.birt.data.engine.olap.data.impl.dimension.Member;
+import org.eclipse.birt.data.engine.olap.data.impl.facttable.FactTable;
+import org.eclipse.birt.data.engine.olap.data.util.BufferedStructureArray;
+import org.eclipse.birt.data.engine.olap.data.util.IDiskArray;
+import org.eclipse.birt.data.engine.olap.data.util.PositionBitmap;
+
+/**
+ * A cache of cube aggregation results shared by the queries of one data engine.
+ * A result is identified by the fact table it is calculated from, the selected
+ * dimension positions after all dimension filters are applied, the aggregation
+ * levels with their sort types, and the aggregation functions. Resolved
+ * positions are used instead of the filter definitions, so filters written
+ * differently but selecting the same members share one entry.
+ * <p>
+ * A request is answered from a cached result with the same levels whose
+ * functions include the requested ones. When no such result exists, a cached
+ * result whose levels start with the requested levels is rolled up, provided
+ * all requested functions can be combined from partial results.
+ * <p>
+ * Entries are evicted in least recently used order once the estimated memory
+ * size exceeds the budget.
+ */
+
+public class AggregationResultCache {
+	private static final String SUM_FUNC = "SUM";
+	private static final String COUNT_FUNC = "COUNT";
+	private static final String MAX_FUNC = "MAX";
+	private static final String MIN_FUNC = "MIN";
+
+	// rough per-row memory estimate of a cached aggregation result row
+	private static final int ROW_SIZE = 48;
+	private static final int MEMBER_SIZE = 64;
+	private static final int VALUE_SIZE = 24;
+
+	private long maxMemorySize;
+	private long memorySize;
+	private LinkedHashMap<CacheKey, CacheEntry> entries;
+
+	private static Logger logger = Logger.getLogger(AggregationResultCache.class.getName());
+
+	/**
+	 *
+	 * @param maxMemorySize the memory budget in bytes
+	 */
+	public AggregationResultCache(long maxMemorySize) {
+		this.maxMemorySize = maxMemorySize;
+		this.memorySize = 0;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Return whether the result of the aggregation only depends on the fact
+	 * table rows, the levels and the measures, so that it can be shared between
+	 * queries.
+	 *
+	 * @param aggregation
+	 * @return
+	 */
+	public static boolean isCacheable(AggregationDefinition aggregation) {
+		if (aggregation.getDrilledInfo() != null) {
+			return false;
+		}
+		if (aggregation.getAggregationTimeFunctions() != null
+				&& aggregation.getAggregationTimeFunctions().length > 0) {
+			return false;
+		}
+		AggregationFunctionDefinition[] functions = aggregation.getAggregationFunctions();
+		if (functions == null) {
+			return true;
+		}
+		for (int i = 0; i < functions.length; i++) {
+			if (functions[i].getFunctionName() == null || functions[i].getFilterEvalHelper() != null
+					|| functions[i].getTimeFunction() != null || functions[i].getTimeFunctionFilter() != null
+					|| functions[i].getParaCol() != null || functions[i].getParaValue() != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return a new result set for the aggregation, or null if it can not be
+	 * answered from the cache.
+	 *
+	 * @param factTable
+	 * @param selectedPositions the selected positions of each dimension, null
+	 *                          for a dimension which is not filtered
+	 * @param aggregation
+	 * @return
+	 * @throws IOException
+	 * @throws DataException
+	 */
+	public synchronized IAggregationResultSet get(FactTable factTable, PositionBitmap[] selectedPositions,
+			AggregationDefinition aggregation) throws IOException, DataException {
+		QueryScope scope = new QueryScope(factTable, selectedPositions);
+		String[] functions = getFunctionSignatures(aggregation);
+		DimLevel[] levels = getLevels(aggregation);
+
+		CacheEntry rollUpSource = null;
+		for (Iterator<CacheEntry> i = entries.values().iterator(); i.hasNext();) {
+			CacheEntry entry = i.next();
+			if (!entry.key.scope.equals(scope)) {
+				continue;
+			}
+			int[] valueIndex = getValueIndex(entry.key.functions, functions);
+			if (valueIndex == null) {
+				continue;
+			}
+			if (entry.key.levels.length == levels.length && entry.key.matchLevels(levels, aggregation.getSortTypes())) {
+				entries.get(entry.key);
+				logger.fine("Aggregation result is found in cache");
+				return createResultSet(entry, aggregation, valueIndex);
+			}
+			if (entry.key.levels.length > levels.length && entry.key.matchLevels(levels, aggregation.getSortTypes())
+					&& isCombinable(functions) && (levels.length > 0 || entry.rows.size() > 0)
+					&& (rollUpSource == null || rollUpSource.rows.size() > entry.rows.size())) {
+				rollUpSource = entry;
+			}
+		}
+		if (rollUpSource != null) {
+			entries.get(rollUpSource.key);
+			logger.fine("Aggregation result is rolled up from a cached result");
+			return rollUp(rollUpSource, aggregation, getValueIndex(rollUpSource.key.functions, functions),
+					getFunctionNames(functions));
+		}
+		return null;
+	}
+
+	/**
+	 * Cache a copy of the result of the aggregation.
+	 *
+	 * @param factTable
+	 * @param selectedPositions
+	 * @param aggregation
+	 * @param resultSet
+	 * @throws IOException
+	 */
+	public synchronized void put(FactTable factTable, PositionBitmap[] selectedPositions,
+			AggregationDefinition aggregation, IAggregationResultSet resultSet) throws IOException {
+		if (!(resultSet instanceof AggregationResultSet)) {
+			return;
+		}
+		IDiskArray rows = ((AggregationResultSet) resultSet).getAggregationResultRows();
+		DimLevel[] levels = getLevels(aggregation);
+		String[] functions = getFunctionSignatures(aggregation);
+		long size = (long) rows.size() * (ROW_SIZE + levels.length * MEMBER_SIZE + functions.length * VALUE_SIZE);
+		if (size > maxMemorySize) {
+			return;
+		}
+		CacheKey key = new CacheKey(new QueryScope(factTable, selectedPositions), levels, aggregation.getSortTypes(),
+				functions);
+		if (entries.containsKey(key)) {
+			return;
+		}
+		List<IAggregationResultRow> copy = new ArrayList<>(rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			IAggregationResultRow row = (IAggregationResultRow) rows.get(i);
+			copy.add(new AggregationResultRow(copyOf(row.getLevelMembers()), copyOf(row.getAggregationValues())));
+		}
+		Iterator<CacheEntry> i = entries.values().iterator();
+		while (memorySize + size > maxMemorySize && i.hasNext()) {
+			memorySize -= i.next().size;
+			i.remove();
+		}
+		entries.put(key, new CacheEntry(key, copy, resultSet.getKeyNames(), resultSet.getAttributeNames(), size));
+		memorySize += size;
+	}
+
+	/**
+	 * Remove all cached results.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		memorySize = 0;
+	}
+
+	/**
+	 *
+	 * @param entry
+	 * @param aggregation
+	 * @param valueIndex
+	 * @return
+	 * @throws IOException
+	 */
+	private static IAggregationResultSet createResultSet(CacheEntry entry, AggregationDefinition aggregation,
+			int[] valueIndex) throws IOException {
+		IDiskArray result = new BufferedStructureArray(AggregationResultRow.getCreator(), Constants.LIST_BUFFER_SIZE);
+		for (int i = 0; i < entry.rows.size(); i++) {
+			IAggregationResultRow row = entry.rows.get(i);
+			result.add(new AggregationResultRow(copyOf(row.getLevelMembers()),
+					project(row.getAggregationValues(), aggregation, valueIndex)));
+		}
+		return new AggregationResultSet(aggregation, result, entry.keyNames, entry.attributeNames);
+	}
+
+	/**
+	 * Combine the rows of a finer result into the rows of the requested levels.
+	 * The requested levels are a prefix of the cached levels with the same sort
+	 * types, so the rows of one requested group are adjacent.
+	 *
+	 * @param entry
+	 * @param aggregation
+	 * @param valueIndex
+	 * @param functionNames
+	 * @return
+	 * @throws IOException
+	 * @throws DataException
+	 */
+	private static IAggregationResultSet rollUp(CacheEntry entry, AggregationDefinition aggregation,
+			int[] valueIndex, String[] functionNames) throws IOException, DataException {
+		int levelCount = getLevels(aggregation).length;
+		IDiskArray result = new BufferedStructureArray(AggregationResultRow.getCreator(), Constants.LIST_BUFFER_SIZE);
+		Member[] groupMembers = null;
+		List<Object[]> groupValues = new ArrayList<>();
+		for (int i = 0; i < entry.rows.size(); i++) {
+			IAggregationResultRow row = entry.rows.get(i);
+			Member[] members = levelCount == 0 ? null : Arrays.copyOf(row.getLevelMembers(), levelCount);
+			if (i > 0 && !sameMembers(groupMembers, members)) {
+				result.add(new AggregationResultRow(groupMembers, combine(groupValues, aggregation, functionNames)));
+				groupValues.clear();
+			}
+			groupMembers = members;
+			groupValues.add(project(row.getAggregationValues(), aggregation, valueIndex));
+		}
+		if (!entry.rows.isEmpty()) {
+			result.add(new AggregationResultRow(groupMembers, combine(groupValues, aggregation, functionNames)));
+		}
+		String[][] keyNames = entry.keyNames == null ? null : Arrays.copyOf(entry.keyNames, levelCount);
+		String[][] attributeNames = entry.attributeNames == null ? null
+				: Arrays.copyOf(entry.attributeNames, levelCount);
+		return new AggregationResultSet(aggregation, result, keyNames, attributeNames);
+	}
+
+	/**
+	 *
+	 * @param values
+	 * @param aggregation
+	 * @param functionNames
+	 * @return
+	 * @throws DataException
+	 */
+	private static Object[] combine(List<Object[]> values, AggregationDefinition aggregation, String[] functionNames)
+			throws DataException {
+		if (aggregation.getAggregationFunctions() == null) {
+			return null;
+		}
+		Object[] result = new Object[functionNames.length];
+		for (int i = 0; i < functionNames.length; i++) {
+			if (COUNT_FUNC.equals(functionNames[i])) {
+				int count = 0;
+				for (int j = 0; j < values.size(); j++) {
+					if (values.get(j)[i] != null) {
+						count += ((Number) values.get(j)[i]).intValue();
+					}
+				}
+				result[i] = Integer.valueOf(count);
+				continue;
+			}
+			IAggrFunction function = AggregationManager.getInstance().getAggregation(functionNames[i]);
+			Accumulator accumulator = function.newAccumulator();
+			accumulator.start();
+			for (int j = 0; j < values.size(); j++) {
+				accumulator.onRow(new Object[] { values.get(j)[i] });
+			}
+			accumulator.finish();
+			result[i] = accumulator.getValue();
+		}
+		return result;
+	}
+
+	/**
+	 *
+	 * @param values
+	 * @param aggregation
+	 * @param valueIndex
+	 * @return
+	 */
+	private static Object[] project(Object[] values, AggregationDefinition aggregation, int[] valueIndex) {
+		if (aggregation.getAggregationFunctions() == null || values == null) {
+			return null;
+		}
+		Object[] result = new Object[valueIndex.length];
+		for (int i = 0; i < valueIndex.length; i++) {
+			result[i] = values[valueIndex[i]];
+		}
+		return result;
+	}
+
+	/**
+	 *
+	 * @param members1
+	 * @param members2
+	 * @return
+	 */
+	private static boolean sameMembers(Member[] members1, Member[] members2) {
+		if (members1 == null || members2 == null) {
+			return members1 == members2;
+		}
+		for (int i = 0; i < members1.length; i++) {
+			if (members1[i] == null || members2[i] == null) {
+				if (members1[i] != members2[i]) {
+					return false;
+				}
+			} else if (members1[i].compareTo(members2[i]) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return for each requested function the index of the same function in the
+	 * cached functions, or null if one of them is not cached.
+	 *
+	 * @param cachedFunctions
+	 * @param functions
+	 * @return
+	 */
+	private static int[] getValueIndex(String[] cachedFunctions, String[] functions) {
+		int[] result = new int[functions.length];
+		for (int i = 0; i < functions.length; i++) {
+			result[i] = Arrays.asList(cachedFunctions).indexOf(functions[i]);
+			if (result[i] < 0) {
+				return null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 *
+	 * @param functions
+	 * @return
+	 */
+	private static boolean isCombinable(String[] functions) {
+		String[] names = getFunctionNames(functions);
+		for (int i = 0; i < names.length; i++) {
+			if (!SUM_FUNC.equals(names[i]) && !COUNT_FUNC.equals(names[i]) && !MAX_FUNC.equals(names[i])
+					&& !MIN_FUNC.equals(names[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 *
+	 * @param aggregation
+	 * @return
+	 */
+	private static String[] getFunctionSignatures(AggregationDefinition aggregation) {
+		AggregationFunctionDefinition[] functions = aggregation.getAggregationFunctions();
+		if (functions == null) {
+			return new String[0];
+		}
+		String[] result = new String[functions.length];
+		for (int i = 0; i < functions.length; i++) {
+			result[i] = functions[i].getFunctionName().toUpperCase(Locale.ENGLISH) + '\u0000'
+					+ functions[i].getMeasureName();
+		}
+		return result;
+	}
+
+	/**
+	 *
+	 * @param signatures
+	 * @return
+	 */
+	private static String[] getFunctionNames(String[] signatures) {
+		String[] result = new String[signatures.length];
+		for (int i = 0; i < signatures.length; i++) {
+			result[i] = signatures[i].substring(0, signatures[i].indexOf('\u0000'));
+		}
+		return result;
+	}
+
+	/**
+	 *
+	 * @param aggregation
+	 * @return
+	 */
+	private static DimLevel[] getLevels(AggregationDefinition aggregation) {
+		return aggregation.getLevels() == null ? new DimLevel[0] : aggregation.getLevels();
+	}
+
+	private static Member[] copyOf(Member[] members) {
+		return members == null ? null : members.clone();
+	}
+
+	private static Object[] copyOf(Object[] values) {
+		return values == null ? null : values.clone();
+	}
+
+	/**
+	 * The fact table rows an aggregation is calculated from. The names of the
+	 * appended deltas are part of the scope, so the results of a fact table are
+	 * not shared across incremental refreshes.
+	 */
+	private static class QueryScope {
+		private IDocumentManager documentManager;
+		private String factTableName;
+		private String[] deltaNames;
+		private PositionBitmap[] selectedPositions;
+		private int hashCode;
+
+		QueryScope(FactTable factTable, PositionBitmap[] selectedPositions) {
+			this.documentManager = factTable.getDocumentManager();
+			this.factTableName = factTable.getName();
+			FactTable[] deltas = factTable.getDeltas();
+			this.deltaNames = new String[deltas.length];
+			for (int i = 0; i < deltas.length; i++) {
+				this.deltaNames[i] = deltas[i].getName();
+			}
+			this.selectedPositions = selectedPositions;
+			this.hashCode = Objects.hash(System.identityHashCode(documentManager), factTableName,
+					Arrays.hashCode(deltaNames)) * 31 + Arrays.hashCode(selectedPositions);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof QueryScope)) {
+				return false;
+			}
+			QueryScope other = (QueryScope) obj;
+			return documentManager == other.documentManager && hashCode == other.hashCode
+					&& factTableName.equals(other.factTableName) && Arrays.equals(deltaNames, other.deltaNames)
+					&& Arrays.equals(selectedPositions, other.selectedPositions);
+		}
+	}
+
+	private static class CacheKey {
+		private QueryScope scope;
+		private DimLevel[] levels;
+		private int[] sortTypes;
+		private String[] functions;
+
+		CacheKey(QueryScope scope, DimLevel[] levels, int[] sortTypes, String[] functions) {
+			this.scope = scope;
+			this.levels = levels;
+			this.sortTypes = sortTypes;
+			this.functions = functions;
+		}
+
+		/**
+		 * Return whether the levels and sort types start with the given ones.
+		 *
+		 * @param prefix
+		 * @param prefixSortTypes
+		 * @return
+		 */
+		boolean matchLevels(DimLevel[] prefix, int[] prefixSortTypes) {
+			for (int i = 0; i < prefix.length; i++) {
+				if (!levels[i].equals(prefix[i])) {
+					return false;
+				}
+			}
+			if (sortTypes == null || prefixSortTypes == null) {
+				return sortTypes == prefixSortTypes;
+			}
+			int count = Math.min(prefix.length, prefixSortTypes.length);
+			if (sortTypes.length < count) {
+				return false;
+			}
+			for (int i = 0; i < count; i++) {
+				if (sortTypes[i] != prefixSortTypes[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return scope.hashCode() * 31 + Arrays.hashCode(levels) * 17 + Arrays.hashCode(functions);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return scope.equals(other.scope) && Arrays.equals(levels, other.levels)
+					&& Arrays.equals(sortTypes, other.sortTypes) && Arrays.equals(functions, other.functions);
+		}
+	}
+
+	private static class CacheEntry {
+		private CacheKey key;
+		private List<IAggregationResultRow> rows;
+		private String[][] keyNames;
+		private String[][] attributeNames;
+		private long size;
+
+		CacheEntry(CacheKey key, List<IAggregationResultRow> rows, String[][] keyNames, String[][] attributeNames,
+				long size) {
+			this.key = key;
+			this.rows = rows;
+			this.keyNames = keyNames;
+			this.attributeNames = attributeNames;
+			this.size = size;
+		}
+	}
+}
@@ -15,14 +15,12 @@
 package org.eclipse.birt.data.engine.olap.data.impl.dimension;
 
 import java.io.IOException;
-import java.util.ArrayList;
 
 import org.eclipse.birt.data.engine.core.DataException;
 import org.eclipse.birt.data.engine.olap.data.api.ISelection;
-import org.eclipse.birt.data.engine.olap.data.util.BaseDiskSortedStack;
 import org.eclipse.birt.data.engine.olap.data.util.IDiskArray;
 import org.eclipse.birt.data.engine.olap.data.util.IndexKey;
-import org.eclipse.birt.data.engine.olap.data.util.PrimitiveDiskSortedStack;
+import org.eclipse.birt.data.engine.olap.data.util.PositionBitmap;
 import org.eclipse.birt.data.engine.olap.data.util.SetUtil;
 
 /**
@@ -39,20 +37,26 @@ public class DimensionFilterHelper {
 	 * @throws DataException
 	 */
 	public static IDiskArray find(Level[] levels, ISelection[][] filters) throws IOException, DataException {
-		ArrayList filterResults = new ArrayList();
+		return findBitmap(levels, filters).toDiskArray();
+	}
+
+	/**
+	 * Find the dimension positions selected by the filters of all levels. The
+	 * positions of each level are collected in a bitmap and the level results are
+	 * intersected with bitwise operations.
+	 *
+	 * @param levels
+	 * @param filters
+	 * @return
+	 * @throws IOException
+	 * @throws DataException
+	 */
+	public static PositionBitmap findBitmap(Level[] levels, ISelection[][] filters) throws IOException, DataException {
+		PositionBitmap[] filterResults = new PositionBitmap[levels.length];
 		for (int i = 0; i < levels.length; i++) {
-			filterResults.add(find(levels[i], filters[i]));
-		}
-		PrimitiveDiskSortedStack[] stackResults = new PrimitiveDiskSortedStack[filterResults.size()];
-		System.arraycopy(filterResults.toArray(), 0, stackResults, 0, stackResults.length);
-		int maxLen = 0;
-		for (int i = 0; i < stackResults.length; i++) {
-			if (maxLen < stackResults[i].size()) {
-				maxLen = stackResults[i].size();
-			}
+			filterResults[i] = find(levels[i], filters[i]);
 		}
-		IDiskArray AndFilterResults = SetUtil.getIntersection(stackResults, maxLen);
-		return AndFilterResults;
+		return SetUtil.getIntersection(filterResults);
 	}
 
 	/**
@@ -63,28 +67,21 @@ public class DimensionFilterHelper {
 	 * @throws IOException
 	 * @throws DataException
 	 */
-	private static BaseDiskSortedStack find(Level level, ISelection[] filter) throws IOException, DataException {
+	private static PositionBitmap find(Level level, ISelection[] filter) throws IOException, DataException {
+		PositionBitmap result = new PositionBitmap();
 		IDiskArray indexKeyArray = null;
 		if (level.getDiskIndex() != null) {
 			indexKeyArray = level.getDiskIndex().find(filter);
 		}
 		if (indexKeyArray != null) {
-			int len = 0;
-			for (int i = 0; i < indexKeyArray.size(); i++) {
-				IndexKey key = (IndexKey) indexKeyArray.get(i);
-				len += key.getDimensionPos().length;
-			}
-			PrimitiveDiskSortedStack resultStack = new PrimitiveDiskSortedStack(len, true, true);
 			for (int i = 0; i < indexKeyArray.size(); i++) {
 				IndexKey key = (IndexKey) indexKeyArray.get(i);
 				int[] pos = key.getDimensionPos();
 				for (int j = 0; j < pos.length; j++) {
-					resultStack.push(Integer.valueOf(pos[j]));
+					result.add(pos[j]);
 				}
 			}
-			return resultStack;
-		} else {
-			return new PrimitiveDiskSortedStack(1, true, true);
 		}
+		return result;
 	}
 }
@@ -31,6 +31,7 @@ public class FactTable {
 	private MeasureInfo[] measureInfo, calculatedMeasureInfo;
 	private int segmentCount;
 	private DimensionDivision[] dimensionDivision;
+	private FactTable[] deltas = new FactTable[0];
 
 	private IDocumentManager documentManager;
 	private CombinedPositionContructor combinedPositionCalculator;
@@ -173,4 +174,23 @@ public class FactTable {
 		return name;
 	}
 
+	/**
+	 * Return the fact tables appended to this fact table by incremental refresh,
+	 * in the order they were appended. Each delta has its own segments and
+	 * dimension division.
+	 *
+	 * @return
+	 */
+	public FactTable[] getDeltas() {
+		return deltas;
+	}
+
+	/**
+	 *
+	 * @param deltas
+	 */
+	void setDeltas(FactTable[] deltas) {
+		this.deltas = deltas;
+	}
+
 }
@@ -581,6 +581,23 @@ public class FactTableAccessor {
 	 * @throws IOException
 	 */
 	public FactTable load(String factTableName, StopSign stopSign) throws IOException {
+		FactTable factTable = loadFactTable(factTableName);
+		String[] deltaNames = loadDeltaNames(factTableName);
+		FactTable[] deltas = new FactTable[deltaNames.length];
+		for (int i = 0; i < deltaNames.length; i++) {
+			deltas[i] = loadFactTable(deltaNames[i]);
+		}
+		factTable.setDeltas(deltas);
+		return factTable;
+	}
+
+	/**
+	 *
+	 * @param factTableName
+	 * @return
+	 * @throws IOException
+	 */
+	private FactTable loadFactTable(String factTableName) throws IOException {
 		int segmentNumber;
 		IDocumentObject documentObject = documentManager.openDocumentObject(NamingUtil.getFactTableName(factTableName));
 		DimensionInfo[] dimensionInfo = new DimensionInfo[documentObject.readInt()];
@@ -617,6 +634,93 @@ public class FactTableAccessor {
 				subDimensions);
 	}
 
+	/**
+	 * Append rows to an existing fact table. The rows are saved as a delta fact
+	 * table with its own segments and dimension division, and the delta is
+	 * registered in the delta list of the fact table. None of the existing
+	 * documents of the fact table are rewritten. The dimensions must be the ones
+	 * the fact table was created with; rows referencing unknown dimension members
+	 * are skipped like in {@link #saveFactTable}.
+	 *
+	 * @param factTableName
+	 * @param factTableJointColumnNames
+	 * @param DimJointColumnNames
+	 * @param iterator
+	 * @param dimensions
+	 * @param measureColumnName
+	 * @param measureColumnAggregations
+	 * @param stopSign
+	 * @return the fact table with all its deltas, including the new one
+	 * @throws BirtException
+	 * @throws IOException
+	 */
+	public FactTable appendFactTable(String factTableName, String[][] factTableJointColumnNames,
+			String[][] DimJointColumnNames, IDatasetIterator iterator, Dimension[] dimensions,
+			String[] measureColumnName, String[] measureColumnAggregations, StopSign stopSign)
+			throws BirtException, IOException {
+		FactTable factTable = loadFactTable(factTableName);
+		if (!Arrays.equals(factTable.getMeasureNames(), measureColumnName)
+				|| factTable.getDimensionInfo().length != dimensions.length) {
+			throw new DataException(ResourceConstants.FACTTABLE_DELTA_NOT_COMPATIBLE, factTableName);
+		}
+		for (int i = 0; i < dimensions.length; i++) {
+			DimensionInfo dimensionInfo = factTable.getDimensionInfo()[i];
+			if (!dimensionInfo.dimensionName.equals(dimensions[i].getName())
+					|| dimensionInfo.dimensionLength != dimensions[i].length()) {
+				throw new DataException(ResourceConstants.FACTTABLE_DELTA_NOT_COMPATIBLE, factTableName);
+			}
+		}
+		String[] deltaNames = loadDeltaNames(factTableName);
+		String deltaName = NamingUtil.getFactTableDeltaName(factTableName, deltaNames.length);
+		saveFactTable(deltaName, factTableJointColumnNames, DimJointColumnNames, iterator, dimensions,
+				measureColumnName, null, measureColumnAggregations, stopSign);
+
+		String[] newDeltaNames = new String[deltaNames.length + 1];
+		System.arraycopy(deltaNames, 0, newDeltaNames, 0, deltaNames.length);
+		newDeltaNames[deltaNames.length] = deltaName;
+		saveDeltaNames(factTableName, newDeltaNames);
+		documentManager.flush();
+		return load(factTableName, stopSign);
+	}
+
+	/**
+	 *
+	 * @param factTableName
+	 * @return
+	 * @throws IOException
+	 */
+	private String[] loadDeltaNames(String factTableName) throws IOException {
+		String listName = NamingUtil.getFactTableDeltaListName(factTableName);
+		if (!documentManager.exist(listName)) {
+			return new String[0];
+		}
+		IDocumentObject documentObject = documentManager.openDocumentObject(listName);
+		String[] deltaNames = new String[documentObject.readInt()];
+		for (int i = 0; i < deltaNames.length; i++) {
+			deltaNames[i] = documentObject.readString();
+		}
+		documentObject.close();
+		return deltaNames;
+	}
+
+	/**
+	 *
+	 * @param factTableName
+	 * @param deltaNames
+	 * @throws IOException
+	 */
+	private void saveDeltaNames(String factTableName, String[] deltaNames) throws IOException {
+		String listName = NamingUtil.getFactTableDeltaListName(factTableName);
+		IDocumentObject documentObject = documentManager.exist(listName) ? documentManager.openDocumentObject(listName)
+				: documentManager.createDocumentObject(listName);
+		documentObject.seek(0);
+		documentObject.writeInt(deltaNames.length);
+		for (int i = 0; i < deltaNames.length; i++) {
+			documentObject.writeString(deltaNames[i]);
+		}
+		documentObject.close();
+	}
+
 	/**
 	 *
 	 * @author Administrator
@@ -40,6 +40,7 @@ import org.eclipse.birt.data.engine.olap.data.impl.facttable.FactTableAccessor.F
 import org.eclipse.birt.data.engine.olap.data.util.Bytes;
 import org.eclipse.birt.data.engine.olap.data.util.DataType;
 import org.eclipse.birt.data.engine.olap.data.util.IDiskArray;
+import org.eclipse.birt.data.engine.olap.data.util.PositionBitmap;
 import org.eclipse.birt.data.engine.olap.util.filter.ICubePosFilter;
 import org.eclipse.birt.data.engine.olap.util.filter.IFacttableRow;
 import org.eclipse.birt.data.engine.olap.util.filter.IJSFacttableFilterEvalHelper;
@@ -50,6 +51,9 @@ import org.eclipse.birt.data.engine.olap.util.filter.IJSFacttableFilterEvalHelpe
 
 public class FactTableRowIterator implements IFactTableRowIterator {
 	private FactTable factTable;
+	// the fact table followed by its appended deltas, and the one being read
+	private FactTable[] factTableParts;
+	private int currentPartIndex;
 	private MeasureInfo[] computedMeasureInfo;
 	private MeasureInfo[] allMeasureInfo; // include measures and computed measures
 
@@ -67,7 +71,7 @@ public class FactTableRowIterator implements IFactTableRowIterator {
 	private Traversalor traversalor;
 	private StopSign stopSign;
 
-	private int[][] selectedPosOfCurSegment;
+	private PositionBitmap[] selectedPosBitmap;
 
 	private IComputedMeasureHelper computedMeasureHelper;
 
@@ -117,9 +121,13 @@ public class FactTableRowIterator implements IFactTableRowIterator {
 		Object[] params = { factTable, dimensionName, dimensionPos, stopSign };
 		logger.entering(FactTableRowIterator.class.getName(), "FactTableRowIterator", params);
 		this.factTable = factTable;
+		this.factTableParts = new FactTable[factTable.getDeltas().length + 1];
+		this.factTableParts[0] = factTable;
+		System.arraycopy(factTable.getDeltas(), 0, factTableParts, 1, factTable.getDeltas().length);
+		this.currentPartIndex = 0;
 		this.selectedPos = dimensionPos;
 		this.selectedSubDim = new List[factTable.getDimensionInfo().length];
-		this.selectedPosOfCurSegment = new int[factTable.getDimensionInfo().length][];
+		this.selectedPosBitmap = new PositionBitmap[factTable.getDimensionInfo().length];
 		this.stopSign = stopSign;
 		this.measureFilters = new ArrayList();
 		this.cubePosFilters = new ArrayList();
@@ -143,6 +151,11 @@ public class FactTableRowIterator implements IFactTableRowIterator {
 		caculateMeasuerSize();
 
 		filterSubDimension();
+		for (int i = 0; i < dimensionIndex.length; i++) {
+			if (dimensionIndex[i] != -1) {
+				selectedPosBitmap[i] = PositionBitmap.valueOf(selectedPos[dimensionIndex[i]]);
+			}
+		}
 		this.currentPos = new int[factTable.getDimensionInfo().length];
 		this.currentMeasureValues = new Object[factTable.getMeasureInfo().length];
 		this.currentMeasureMap = new MeasureMap(this.factTable.getMeasureInfo());
@@ -157,17 +170,18 @@ public class FactTableRowIterator implements IFactTableRowIterator {
 	}
 
 	/**
-	 * Filter sub dimensions by dimension position array. The filter result is saved
-	 * in the variable selectedSubDim.
+	 * Filter sub dimensions of the current fact table part by dimension position
+	 * array. The filter result is saved in the variable selectedSubDim.
 	 *
 	 * @throws IOException
 	 */
 	private void filterSubDimension() throws IOException {
-		DimensionDivision[] dimensionDivisions = factTable.getDimensionDivision();
+		DimensionDivision[] dimensionDivisions = factTableParts[currentPartIndex].getDimensionDivision();
 		SelectedSubDimension selectedSubDimension = null;
 		int[] selectedSubDimensionCount = new int[selectedSubDim.length];
 
 		for (int i = 0; i < selectedSubDim.length; i++) {
+			selectedSubDim[i].clear();
 			int pointer = 0;
 			for (int j = 0; j < dimensionDivisions[i].getRanges().length; j++) {
 				if (dimensionIndex[i] > -1) {
@@ -223,8 +237,8 @@ public class FactTableRowIterator implements IFactTableRowIterator {
 				Bytes combinedDimensionPosition = currentSegment.readBytes();
 				if (this.lastCombinedDimensionPosition == null) {
 					this.lastCombinedDimensionPosition = combinedDimensionPosition;
-					currentPos = factTable.getCombinedPositionCalculator().calculateDimensionPosition(subDimensionIndex,
-							combinedDimensionPosition.bytesValue());
+					currentPos = factTableParts[currentPartIndex].getCombinedPositionCalculator()
+							.calculateDimensionPosition(subDimensionIndex, combinedDimensionPosition.bytesValue());
 					this.lastCurrentPos = currentPos;
 					this.isDuplicatedRow = false;
 				} else if (this.lastCombinedDimensionPosition.equals(combinedDimensionPosition)) {
@@ -232,8 +246,8 @@ public class FactTableRowIterator implements IFactTableRowIterator {
 					this.isDuplicatedRow = true;
 				} else {
 					this.lastCombinedDimensionPosition = combinedDimensionPosition;
-					currentPos = factTable.getCombinedPositionCalculator().calculateDimensionPosition(subDimensionIndex,
-							combinedDimensionPosition.bytesValue());
+					currentPos = factTableParts[currentPartIndex].getCombinedPositionCalculator()
+							.calculateDimensionPosition(subDimensionIndex, combinedDimensionPosition.bytesValue());
 					this.lastCurrentPos = currentPos;
 					this.isDuplicatedRow = false;
 				}
@@ -348,7 +362,7 @@ public class FactTableRowIterator implements IFactTableRowIterator {
 		if (!this.isDuplicatedRow) {
 			for (int i = 0; i < currentPos.length; i++) {
 				if (dimensionIndex[i] != -1) {
-					if (Arrays.binarySearch(selectedPosOfCurSegment[i], currentPos[i]) < 0) {
+					if (!selectedPosBitmap[i].contains(currentPos[i])) {
 						lastFilterResult = false;
 						return false;
 					}
@@ -432,21 +446,34 @@ public class FactTableRowIterator implements IFactTableRowIterator {
 	}
 
 	/**
-	 * Moves down one segment from its current segment of the iterator.
+	 * Moves down one segment from its current segment of the iterator. When the
+	 * segments of the current fact table part are exhausted, continues with the
+	 * next appended delta.
 	 *
 	 * @return
 	 * @throws IOException
 	 */
 	private boolean nextSegment() throws IOException {
 		while (true) {
-			if (stopSign.isStopped() || !traversalor.next()) {
+			if (stopSign.isStopped()) {
 				return false;
 			}
+			if (!traversalor.next()) {
+				if (currentPartIndex + 1 >= factTableParts.length) {
+					return false;
+				}
+				currentPartIndex++;
+				filterSubDimension();
+				// combined positions of different parts are not comparable
+				lastCombinedDimensionPosition = null;
+				continue;
+			}
+			FactTable currentPart = factTableParts[currentPartIndex];
 			currentSubDim = traversalor.getIntArray();
 			subDimensionIndex = getSubDimensionIndex();
 			String FTSUDocName = FTSUDocumentObjectNamingUtil
-					.getDocumentObjectName(NamingUtil.getFactTableName(factTable.getName()), subDimensionIndex);
-			if (!factTable.getDocumentManager().exist(FTSUDocName)) {
+					.getDocumentObjectName(NamingUtil.getFactTableName(currentPart.getName()), subDimensionIndex);
+			if (!currentPart.getDocumentManager().exist(FTSUDocName)) {
 				continue;
 			}
 
@@ -454,19 +481,7 @@ public class FactTableRowIterator implements IFactTableRowIterator {
 				currentSegment.close();
 			}
 
-			currentSegment = factTable.getDocumentManager().openDocumentObject(FTSUDocName);
-
-			for (int i = 0; i < dimensionIndex.length; i++) {
-				if (dimensionIndex[i] != -1) {
-					SelectedSubDimension selectedSubDimension = ((SelectedSubDimension) selectedSubDim[i]
-							.get(currentSubDim[i]));
-					selectedPosOfCurSegment[i] = new int[selectedSubDimension.end - selectedSubDimension.start + 1];
-					for (int j = 0; j < selectedSubDimension.end - selectedSubDimension.start + 1; j++) {
-						selectedPosOfCurSegment[i][j] = ((Integer) selectedPos[dimensionIndex[i]]
-								.get(selectedSubDimension.start + j)).intValue();
-					}
-				}
-			}
+			currentSegment = currentPart.getDocumentManager().openDocumentObject(FTSUDocName);
 			break;
 		}
 		return true;
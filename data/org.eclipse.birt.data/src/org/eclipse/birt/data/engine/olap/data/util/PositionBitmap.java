@@ -0,0 +1,580 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.birt.data.engine.olap.data.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A compressed bitmap of non-negative dimension positions. Positions are
+ * partitioned by their high 16 bits; each partition is stored either as a
+ * sorted <code>char</code> array when it is sparse, or as a 65536 bits bitmap
+ * when it is dense. Intersection and union are computed partition by partition
+ * with merge or bitwise operations, and membership tests take constant time.
+ */
+
+public class PositionBitmap {
+	// a sparse container holds at most this many values before becoming a bitmap
+	private static final int MAX_ARRAY_CARDINALITY = 4096;
+	private static final int BITMAP_WORDS = 1 << 10;
+
+	private char[] keys;
+	private Container[] containers;
+	private int size;
+
+	/**
+	 *
+	 */
+	public PositionBitmap() {
+		this.keys = new char[4];
+		this.containers = new Container[4];
+		this.size = 0;
+	}
+
+	/**
+	 * Create a bitmap from an array of Integer positions.
+	 *
+	 * @param positions
+	 * @return
+	 * @throws IOException
+	 */
+	public static PositionBitmap valueOf(IDiskArray positions) throws IOException {
+		PositionBitmap bitmap = new PositionBitmap();
+		if (positions == null) {
+			return bitmap;
+		}
+		for (int i = 0; i < positions.size(); i++) {
+			bitmap.add(((Integer) positions.get(i)).intValue());
+		}
+		return bitmap;
+	}
+
+	/**
+	 * Create a bitmap from an array of positions.
+	 *
+	 * @param positions
+	 * @return
+	 */
+	public static PositionBitmap valueOf(int[] positions) {
+		PositionBitmap bitmap = new PositionBitmap();
+		for (int i = 0; i < positions.length; i++) {
+			bitmap.add(positions[i]);
+		}
+		return bitmap;
+	}
+
+	/**
+	 * Add a position to this bitmap.
+	 *
+	 * @param position
+	 */
+	public void add(int position) {
+		assert position >= 0;
+		char key = (char) (position >>> 16);
+		int index = indexOf(key);
+		if (index < 0) {
+			index = -index - 1;
+			insertContainer(index, key, new ArrayContainer());
+		}
+		containers[index] = containers[index].add((char) position);
+	}
+
+	/**
+	 * Return true if the position is in this bitmap.
+	 *
+	 * @param position
+	 * @return
+	 */
+	public boolean contains(int position) {
+		if (position < 0) {
+			return false;
+		}
+		int index = indexOf((char) (position >>> 16));
+		return index >= 0 && containers[index].contains((char) position);
+	}
+
+	/**
+	 * Return the number of positions in this bitmap.
+	 *
+	 * @return
+	 */
+	public int cardinality() {
+		int cardinality = 0;
+		for (int i = 0; i < size; i++) {
+			cardinality += containers[i].cardinality();
+		}
+		return cardinality;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Return a new bitmap holding the positions present in both bitmaps.
+	 *
+	 * @param other
+	 * @return
+	 */
+	public PositionBitmap and(PositionBitmap other) {
+		PositionBitmap result = new PositionBitmap();
+		int i = 0, j = 0;
+		while (i < size && j < other.size) {
+			if (keys[i] < other.keys[j]) {
+				i++;
+			} else if (keys[i] > other.keys[j]) {
+				j++;
+			} else {
+				Container c = containers[i].and(other.containers[j]);
+				if (c.cardinality() > 0) {
+					result.insertContainer(result.size, keys[i], c);
+				}
+				i++;
+				j++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Return a new bitmap holding the positions present in either bitmap.
+	 *
+	 * @param other
+	 * @return
+	 */
+	public PositionBitmap or(PositionBitmap other) {
+		PositionBitmap result = new PositionBitmap();
+		int i = 0, j = 0;
+		while (i < size || j < other.size) {
+			if (j >= other.size || (i < size && keys[i] < other.keys[j])) {
+				result.insertContainer(result.size, keys[i], containers[i].copy());
+				i++;
+			} else if (i >= size || keys[i] > other.keys[j]) {
+				result.insertContainer(result.size, other.keys[j], other.containers[j].copy());
+				j++;
+			} else {
+				result.insertContainer(result.size, keys[i], containers[i].or(other.containers[j]));
+				i++;
+				j++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Return the positions in ascending order.
+	 *
+	 * @return
+	 */
+	public int[] toArray() {
+		int[] result = new int[cardinality()];
+		int offset = 0;
+		for (int i = 0; i < size; i++) {
+			offset = containers[i].fill(result, offset, keys[i] << 16);
+		}
+		return result;
+	}
+
+	/**
+	 * Return the positions in ascending order as a disk array of Integer.
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	public IDiskArray toDiskArray() throws IOException {
+		int[] positions = toArray();
+		IDiskArray result = new BufferedPrimitiveDiskArray(Math.max(1, positions.length));
+		for (int i = 0; i < positions.length; i++) {
+			result.add(Integer.valueOf(positions[i]));
+		}
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		// the same as the hash code of the positions array
+		int hashCode = 1;
+		for (int i = 0; i < size; i++) {
+			hashCode = containers[i].hashCode(hashCode, keys[i] << 16);
+		}
+		return hashCode;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PositionBitmap)) {
+			return false;
+		}
+		PositionBitmap other = (PositionBitmap) obj;
+		if (size != other.size) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			if (keys[i] != other.keys[i] || !containers[i].sameValues(other.containers[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 *
+	 * @param key
+	 * @return
+	 */
+	private int indexOf(char key) {
+		// positions are usually added in ascending order
+		if (size > 0 && keys[size - 1] == key) {
+			return size - 1;
+		}
+		return Arrays.binarySearch(keys, 0, size, key);
+	}
+
+	/**
+	 *
+	 * @param index
+	 * @param key
+	 * @param container
+	 */
+	private void insertContainer(int index, char key, Container container) {
+		if (size == keys.length) {
+			keys = Arrays.copyOf(keys, size * 2);
+			containers = Arrays.copyOf(containers, size * 2);
+		}
+		System.arraycopy(keys, index, keys, index + 1, size - index);
+		System.arraycopy(containers, index, containers, index + 1, size - index);
+		keys[index] = key;
+		containers[index] = container;
+		size++;
+	}
+
+	/**
+	 * The positions sharing the same high 16 bits.
+	 */
+	private static abstract class Container {
+		abstract Container add(char value);
+
+		abstract boolean contains(char value);
+
+		abstract int cardinality();
+
+		abstract Container and(Container other);
+
+		abstract Container or(Container other);
+
+		abstract Container copy();
+
+		abstract int fill(int[] target, int offset, int high);
+
+		abstract int hashCode(int hashCode, int high);
+
+		abstract boolean sameValues(Container other);
+	}
+
+	/**
+	 * Sparse container: the low 16 bits of the positions in a sorted array.
+	 */
+	private static class ArrayContainer extends Container {
+		private char[] values;
+		private int cardinality;
+
+		ArrayContainer() {
+			this(new char[4], 0);
+		}
+
+		ArrayContainer(char[] values, int cardinality) {
+			this.values = values;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		Container add(char value) {
+			int index;
+			if (cardinality == 0 || values[cardinality - 1] < value) {
+				index = cardinality;
+			} else {
+				index = Arrays.binarySearch(values, 0, cardinality, value);
+				if (index >= 0) {
+					return this;
+				}
+				index = -index - 1;
+			}
+			if (cardinality == MAX_ARRAY_CARDINALITY) {
+				return toBitmap().add(value);
+			}
+			if (cardinality == values.length) {
+				values = Arrays.copyOf(values, Math.min(Math.max(cardinality * 2, 4), MAX_ARRAY_CARDINALITY));
+			}
+			System.arraycopy(values, index, values, index + 1, cardinality - index);
+			values[index] = value;
+			cardinality++;
+			return this;
+		}
+
+		@Override
+		boolean contains(char value) {
+			return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		Container and(Container other) {
+			char[] result = new char[Math.min(cardinality, other.cardinality())];
+			int count = 0;
+			if (other instanceof BitmapContainer) {
+				for (int i = 0; i < cardinality; i++) {
+					if (other.contains(values[i])) {
+						result[count++] = values[i];
+					}
+				}
+			} else {
+				ArrayContainer o = (ArrayContainer) other;
+				int i = 0, j = 0;
+				while (i < cardinality && j < o.cardinality) {
+					if (values[i] < o.values[j]) {
+						i++;
+					} else if (values[i] > o.values[j]) {
+						j++;
+					} else {
+						result[count++] = values[i];
+						i++;
+						j++;
+					}
+				}
+			}
+			return new ArrayContainer(result, count);
+		}
+
+		@Override
+		Container or(Container other) {
+			if (other instanceof BitmapContainer) {
+				return other.or(this);
+			}
+			ArrayContainer o = (ArrayContainer) other;
+			char[] result = new char[cardinality + o.cardinality];
+			int i = 0, j = 0, count = 0;
+			while (i < cardinality || j < o.cardinality) {
+				if (j >= o.cardinality || (i < cardinality && values[i] < o.values[j])) {
+					result[count++] = values[i++];
+				} else if (i >= cardinality || values[i] > o.values[j]) {
+					result[count++] = o.values[j++];
+				} else {
+					result[count++] = values[i];
+					i++;
+					j++;
+				}
+			}
+			ArrayContainer union = new ArrayContainer(result, count);
+			return count > MAX_ARRAY_CARDINALITY ? union.toBitmap() : union;
+		}
+
+		@Override
+		Container copy() {
+			return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+		}
+
+		@Override
+		int fill(int[] target, int offset, int high) {
+			for (int i = 0; i < cardinality; i++) {
+				target[offset++] = high | values[i];
+			}
+			return offset;
+		}
+
+		@Override
+		int hashCode(int hashCode, int high) {
+			for (int i = 0; i < cardinality; i++) {
+				hashCode = 31 * hashCode + (high | values[i]);
+			}
+			return hashCode;
+		}
+
+		@Override
+		boolean sameValues(Container other) {
+			if (cardinality != other.cardinality()) {
+				return false;
+			}
+			if (other instanceof ArrayContainer) {
+				char[] o = ((ArrayContainer) other).values;
+				for (int i = 0; i < cardinality; i++) {
+					if (values[i] != o[i]) {
+						return false;
+					}
+				}
+				return true;
+			}
+			for (int i = 0; i < cardinality; i++) {
+				if (!other.contains(values[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		BitmapContainer toBitmap() {
+			BitmapContainer bitmap = new BitmapContainer();
+			for (int i = 0; i < cardinality; i++) {
+				bitmap.add(values[i]);
+			}
+			return bitmap;
+		}
+	}
+
+	/**
+	 * Dense container: one bit for each of the 65536 low 16 bits values.
+	 */
+	private static class BitmapContainer extends Container {
+		private long[] words;
+		private int cardinality;
+
+		BitmapContainer() {
+			this(new long[BITMAP_WORDS], 0);
+		}
+
+		BitmapContainer(long[] words, int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		Container add(char value) {
+			long bit = 1L << value;
+			int index = value >>> 6;
+			if ((words[index] & bit) == 0) {
+				words[index] |= bit;
+				cardinality++;
+			}
+			return this;
+		}
+
+		@Override
+		boolean contains(char value) {
+			return (words[value >>> 6] & (1L << value)) != 0;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		Container and(Container other) {
+			if (other instanceof ArrayContainer) {
+				return other.and(this);
+			}
+			long[] o = ((BitmapContainer) other).words;
+			long[] result = new long[BITMAP_WORDS];
+			int count = 0;
+			for (int i = 0; i < BITMAP_WORDS; i++) {
+				result[i] = words[i] & o[i];
+				count += Long.bitCount(result[i]);
+			}
+			BitmapContainer intersection = new BitmapContainer(result, count);
+			return count <= MAX_ARRAY_CARDINALITY ? intersection.toArrayContainer() : intersection;
+		}
+
+		@Override
+		Container or(Container other) {
+			long[] result = words.clone();
+			if (other instanceof ArrayContainer) {
+				BitmapContainer union = new BitmapContainer(result, cardinality);
+				ArrayContainer o = (ArrayContainer) other;
+				for (int i = 0; i < o.cardinality; i++) {
+					union.add(o.values[i]);
+				}
+				return union;
+			}
+			long[] o = ((BitmapContainer) other).words;
+			int count = 0;
+			for (int i = 0; i < BITMAP_WORDS; i++) {
+				result[i] |= o[i];
+				count += Long.bitCount(result[i]);
+			}
+			return new BitmapContainer(result, count);
+		}
+
+		@Override
+		Container copy() {
+			return new BitmapContainer(words.clone(), cardinality);
+		}
+
+		@Override
+		int fill(int[] target, int offset, int high) {
+			for (int i = 0; i < BITMAP_WORDS; i++) {
+				long word = words[i];
+				while (word != 0) {
+					target[offset++] = high | (i << 6) + Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+				}
+			}
+			return offset;
+		}
+
+		@Override
+		int hashCode(int hashCode, int high) {
+			for (int i = 0; i < BITMAP_WORDS; i++) {
+				long word = words[i];
+				while (word != 0) {
+					hashCode = 31 * hashCode + (high | (i << 6) + Long.numberOfTrailingZeros(word));
+					word &= word - 1;
+				}
+			}
+			return hashCode;
+		}
+
+		@Override
+		boolean sameValues(Container other) {
+			if (cardinality != other.cardinality()) {
+				return false;
+			}
+			if (other instanceof ArrayContainer) {
+				return other.sameValues(this);
+			}
+			return Arrays.equals(words, ((BitmapContainer) other).words);
+		}
+
+		ArrayContainer toArrayContainer() {
+			char[] values = new char[Math.max(cardinality, 1)];
+			int count = 0;
+			for (int i = 0; i < BITMAP_WORDS; i++) {
+				long word = words[i];
+				while (word != 0) {
+					values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+					word &= word - 1;
+				}
+			}
+			return new ArrayContainer(values, count);
+		}
+	}
+}
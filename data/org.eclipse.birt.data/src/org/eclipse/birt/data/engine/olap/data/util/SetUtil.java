@@ -15,6 +15,8 @@
 package org.eclipse.birt.data.engine.olap.data.util;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
 
 import org.eclipse.birt.data.engine.cache.Constants;
 
@@ -145,6 +147,49 @@ public class SetUtil {
 		return result;
 	}
 
+	/**
+	 * Get intersection from position bitmaps. The smallest bitmaps are intersected
+	 * first so that the intermediate results stay small.
+	 *
+	 * @param bitmaps
+	 * @return
+	 */
+	public static PositionBitmap getIntersection(PositionBitmap[] bitmaps) {
+		if (bitmaps == null || bitmaps.length == 0) {
+			return new PositionBitmap();
+		}
+		PositionBitmap[] sorted = bitmaps.clone();
+		Arrays.sort(sorted, new Comparator<PositionBitmap>() {
+
+			@Override
+			public int compare(PositionBitmap o1, PositionBitmap o2) {
+				return Integer.compare(o1.cardinality(), o2.cardinality());
+			}
+		});
+		PositionBitmap result = sorted[0];
+		for (int i = 1; i < sorted.length && !result.isEmpty(); i++) {
+			result = result.and(sorted[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Get union from position bitmaps.
+	 *
+	 * @param bitmaps
+	 * @return
+	 */
+	public static PositionBitmap getUnion(PositionBitmap[] bitmaps) {
+		PositionBitmap result = new PositionBitmap();
+		if (bitmaps == null) {
+			return result;
+		}
+		for (int i = 0; i < bitmaps.length; i++) {
+			result = result.or(bitmaps[i]);
+		}
+		return result;
+	}
+
 	/**
 	 *
 	 * @param a
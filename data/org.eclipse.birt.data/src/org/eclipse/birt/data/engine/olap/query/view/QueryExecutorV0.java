@@ -108,6 +108,8 @@ public class QueryExecutorV0 implements IQueryExecutor {
 		cubeQueryExecutorHelper.setMemoryCacheSize(CacheUtil.computeMemoryBufferSize(view.getAppContext()));
 		cubeQueryExecutorHelper.setAppContext(view.getAppContext());
 		cubeQueryExecutorHelper.setMaxDataObjectRows(CacheUtil.getMaxRows(view.getAppContext()));
+		cubeQueryExecutorHelper.setAggregationResultCache(
+				executor.getSession().getAggregationResultCache(view.getAppContext()));
 
 		cubeQueryExecutorHelper.addJSFilter(executor.getDimensionFilterEvalHelpers());
 		cubeQueryExecutorHelper.addSimpleLevelFilter(executor.getdimensionSimpleFilter());
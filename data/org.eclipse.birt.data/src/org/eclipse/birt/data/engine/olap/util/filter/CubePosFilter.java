@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.birt.data.engine.olap.data.util.IDiskArray;
+import org.eclipse.birt.data.engine.olap.data.util.PositionBitmap;
 
 /**
  *
@@ -76,95 +77,26 @@ public abstract class CubePosFilter implements ICubePosFilter {
  *
  */
 class CubePositionRangeFilter {
-	private Range[][] dimPosRanges;
+	private PositionBitmap[] dimPosBitmaps;
 
 	CubePositionRangeFilter(IDiskArray[] invalidDimPosArray) throws IOException {
-		dimPosRanges = new Range[invalidDimPosArray.length][];
+		dimPosBitmaps = new PositionBitmap[invalidDimPosArray.length];
 		for (int i = 0; i < invalidDimPosArray.length; i++) {
-			dimPosRanges[i] = convertToRanges(invalidDimPosArray[i]);
+			dimPosBitmaps[i] = PositionBitmap.valueOf(invalidDimPosArray[i]);
 		}
 	}
 
-	/**
-	 *
-	 * @param dimPosArray
-	 * @return
-	 * @throws IOException
-	 */
-	private Range[] convertToRanges(IDiskArray dimPosArray) throws IOException {
-		List rangeList = new ArrayList();
-		int start;
-		int last;
-		Range range;
-
-		start = ((Integer) dimPosArray.get(0)).intValue();
-		last = start;
-		for (int i = 1; i < dimPosArray.size(); i++) {
-			int currentPos = ((Integer) dimPosArray.get(i)).intValue();
-			if (currentPos != last + 1) {
-				range = new Range(start, last);
-				rangeList.add(range);
-				start = currentPos;
-			}
-			last = currentPos;
-		}
-		range = new Range(start, last);
-		rangeList.add(range);
-
-		Range[] result = new Range[rangeList.size()];
-		for (int i = 0; i < rangeList.size(); i++) {
-			result[i] = (Range) rangeList.get(i);
-		}
-		return result;
-	}
-
 	/**
 	 *
 	 * @param dimPositions
 	 * @return
 	 */
 	boolean match(int[] dimPositions) {
-		for (int i = 0; i < dimPosRanges.length; i++) {
-			boolean match = false;
-			for (int j = 0; j < dimPosRanges[i].length; j++) {
-				if (dimPosRanges[i][j].match(dimPositions[i])) {
-					match = true;
-					break;
-				}
-			}
-			if (!match) {
+		for (int i = 0; i < dimPosBitmaps.length; i++) {
+			if (!dimPosBitmaps[i].contains(dimPositions[i])) {
 				return false;
 			}
 		}
 		return true;
 	}
 }
-
-/**
- *
- * @author Administrator
- *
- */
-class Range {
-	private int start;
-	private int end;
-
-	/**
-	 *
-	 * @param start
-	 * @param end
-	 */
-	Range(int start, int end) {
-		this.start = start;
-		this.end = end;
-	}
-
-	/**
-	 *
-	 * @param iValue
-	 * @return
-	 */
-	boolean match(int iValue) {
-		return iValue <= end && iValue >= start;
-	}
-}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.javascript;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.mozilla.javascript.Script;
+
+/**
+ * LRU cache of the compiled scripts, shared by all the script engines created
+ * by a factory.
+ *
+ * The compiled script doesn't keep any state of the context and scope it is
+ * executed in, so the same script can be executed by several engines at the
+ * same time. The script is keyed by its text, the source name and line number
+ * reported in its errors, the security domain and the optimization level of
+ * the context.
+ *
+ * The engines only cache the scripts compiled in interpreted mode, which is
+ * the optimization level -1. A script compiled to a java class is defined by a
+ * class loader created on the application class loader of the context, and
+ * the cache would keep it alive.
+ */
+public class CompiledScriptCache {
+
+	public static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final int cacheSize;
+
+	// access-ordered LRU cache
+	private final LinkedHashMap<ScriptKey, Script> scripts;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	public CompiledScriptCache() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	public CompiledScriptCache(int size) {
+		this.cacheSize = size;
+		this.scripts = new LinkedHashMap<ScriptKey, Script>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ScriptKey, Script> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * get the compiled script from the cache.
+	 *
+	 * @return the compiled script, null if it is not cached.
+	 */
+	public Script get(String script, String sourceName, int lineNumber, Object securityDomain,
+			int optimizationLevel) {
+		Script compiledScript;
+		synchronized (scripts) {
+			compiledScript = scripts
+					.get(new ScriptKey(script, sourceName, lineNumber, securityDomain, optimizationLevel));
+		}
+		if (compiledScript != null) {
+			hitCount.incrementAndGet();
+		} else {
+			missCount.incrementAndGet();
+		}
+		return compiledScript;
+	}
+
+	/**
+	 * put the compiled script into the cache. The script compiled by another
+	 * thread in the meantime is kept.
+	 *
+	 * @return the cached script
+	 */
+	public Script put(String script, String sourceName, int lineNumber, Object securityDomain,
+			int optimizationLevel, Script compiledScript) {
+		if (cacheSize <= 0) {
+			return compiledScript;
+		}
+		ScriptKey key = new ScriptKey(script, sourceName, lineNumber, securityDomain, optimizationLevel);
+		synchronized (scripts) {
+			Script cachedScript = scripts.get(key);
+			if (cachedScript != null) {
+				return cachedScript;
+			}
+			scripts.put(key, compiledScript);
+		}
+		return compiledScript;
+	}
+
+	public void clear() {
+		synchronized (scripts) {
+			scripts.clear();
+		}
+	}
+
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	public int size() {
+		synchronized (scripts) {
+			return scripts.size();
+		}
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "CompiledScriptCache[size=" + size() + ", hit=" + hitCount.get() + ", miss=" + missCount.get() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	private static class ScriptKey {
+
+		private final String script;
+		private final String sourceName;
+		private final int lineNumber;
+		private final Object securityDomain;
+		private final int optimizationLevel;
+		private final int hashCode;
+
+		ScriptKey(String script, String sourceName, int lineNumber, Object securityDomain, int optimizationLevel) {
+			this.script = script;
+			this.sourceName = sourceName;
+			this.lineNumber = lineNumber;
+			this.securityDomain = securityDomain;
+			this.optimizationLevel = optimizationLevel;
+			int hash = (script.hashCode() * 31 + lineNumber) * 31 + optimizationLevel;
+			if (sourceName != null) {
+				hash = hash * 31 + sourceName.hashCode();
+			}
+			if (securityDomain != null) {
+				hash = hash * 31 + securityDomain.hashCode();
+			}
+			this.hashCode = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ScriptKey)) {
+				return false;
+			}
+			ScriptKey key = (ScriptKey) obj;
+			if (hashCode != key.hashCode || lineNumber != key.lineNumber || optimizationLevel != key.optimizationLevel
+					|| !script.equals(key.script)) {
+				return false;
+			}
+			if (sourceName == null ? key.sourceName != null : !sourceName.equals(key.sourceName)) {
+				return false;
+			}
+			if (securityDomain == null) {
+				return key.securityDomain == null;
+			}
+			return securityDomain.equals(key.securityDomain);
+		}
+	}
+}
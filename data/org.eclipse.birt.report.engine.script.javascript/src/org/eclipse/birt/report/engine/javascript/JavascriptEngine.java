@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.birt.core.exception.BirtException;
@@ -33,8 +34,10 @@ import org.eclipse.birt.core.script.IScriptEngine;
 import org.eclipse.birt.core.script.JavascriptEvalUtil;
 import org.eclipse.birt.core.script.ScriptContext;
 import org.eclipse.birt.core.script.functionservice.IScriptFunctionContext;
+import org.eclipse.birt.core.script.functionservice.impl.FunctionProvider;
 import org.eclipse.birt.data.engine.api.IDataScriptEngine;
 import org.eclipse.birt.report.model.core.JavaScriptExecutionStatus;
+import org.mozilla.javascript.ClassCache;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ImporterTopLevel;
 import org.mozilla.javascript.LazilyLoadedCtor;
@@ -98,6 +101,9 @@ public class JavascriptEngine implements IScriptEngine, IDataScriptEngine {
 				global.exportAsJSClass(3, global, false);
 				global.delete("constructor");
 				global.setPrototype(root);
+				// the root scope is shared, keep the java class cache of the
+				// engine in its own scope.
+				new ClassCache().associate(global);
 			} else {
 				global.initStandardObjects(context, true);
 			}
@@ -140,7 +146,16 @@ public class JavascriptEngine implements IScriptEngine, IDataScriptEngine {
 			}
 		};
 		context.setWrapFactory(wrapFactory);
-		new CoreJavaScriptInitializer().initialize(context, global);
+		if (root != null) {
+			// the script function categories are registered in the root scope
+			try {
+				FunctionProvider.registerScriptLibraries(context, global);
+			} catch (BirtException ex) {
+				logger.log(Level.WARNING, ex.getMessage(), ex);
+			}
+		} else {
+			new CoreJavaScriptInitializer().initialize(context, global);
+		}
 	}
 
 	@Override
@@ -164,10 +179,7 @@ public class JavascriptEngine implements IScriptEngine, IDataScriptEngine {
 	 */
 	@Override
 	public void close() {
-		if (root != null) {
-			factory.releaseRootScope(root);
-			root = null;
-		}
+		root = null;
 		if (context != null) {
 			Context.exit();
 			context = null;
@@ -202,13 +214,28 @@ public class JavascriptEngine implements IScriptEngine, IDataScriptEngine {
 	@Override
 	public CompiledJavascript compile(ScriptContext scriptContext, final String id, final int lineNumber,
 			final String script) throws BirtException {
-		Script scriptObject = AccessController.doPrivileged(new PrivilegedAction<Script>() {
+		final Object securityDomain = ScriptUtil.getSecurityDomain(id);
+		// only the interpreted scripts are shared, a script compiled to a java
+		// class is defined on the application class loader of this engine
+		int optimizationLevel = context.getOptimizationLevel();
+		CompiledScriptCache scriptCache = optimizationLevel == -1 ? factory.getScriptCache() : null;
+		Script scriptObject = null;
+		if (scriptCache != null) {
+			scriptObject = scriptCache.get(script, id, lineNumber, securityDomain, optimizationLevel);
+		}
+		if (scriptObject == null) {
+			scriptObject = AccessController.doPrivileged(new PrivilegedAction<Script>() {
 
-			@Override
-			public Script run() {
-				return context.compileString(script, id, lineNumber, ScriptUtil.getSecurityDomain(id));
+				@Override
+				public Script run() {
+					return context.compileString(script, id, lineNumber, securityDomain);
+				}
+			});
+			if (scriptCache != null) {
+				scriptObject = scriptCache.put(script, id, lineNumber, securityDomain, optimizationLevel,
+						scriptObject);
 			}
-		});
+		}
 		return new CompiledJavascript(id, lineNumber, script, scriptObject);
 	}
 
@@ -15,14 +15,13 @@
 package org.eclipse.birt.report.engine.javascript;
 
 import java.lang.reflect.Field;
-import java.util.LinkedList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.birt.core.exception.BirtException;
 import org.eclipse.birt.core.script.IScriptEngine;
 import org.eclipse.birt.core.script.IScriptEngineFactory;
-import org.mozilla.javascript.ClassCache;
+import org.eclipse.birt.core.script.functionservice.impl.FunctionProvider;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.ScriptableObject;
@@ -38,7 +37,12 @@ public class JavascriptEngineFactory implements IScriptEngineFactory {
 	/**
 	 * root script scope. contains objects shared by the whole engine.
 	 */
-	private LinkedList<ScriptableObject> rootScopes = new LinkedList<>();
+	private ScriptableObject rootScope;
+
+	/**
+	 * compiled scripts shared by the whole engine.
+	 */
+	private CompiledScriptCache scriptCache = new CompiledScriptCache();
 
 	public static void initMyFactory() {
 		ContextFactory.initGlobal(new MyFactory());
@@ -61,15 +65,23 @@ public class JavascriptEngineFactory implements IScriptEngineFactory {
 	public JavascriptEngineFactory() {
 	}
 
+	/**
+	 * create the root scope. The root scope contains the standard objects, the
+	 * global functions and the script function categories. It is sealed and shared
+	 * by all the script engines created by this factory, each engine creates its
+	 * own top level scope on it.
+	 */
 	protected ScriptableObject createRootScope() throws BirtException {
 		Context context = Context.enter();
 		try {
-			ScriptableObject rootScope = context.initStandardObjects();
+			ScriptableObject rootScope = context.initStandardObjects(null, true);
 			context.evaluateString(rootScope,
 					"function registerGlobal( name, value) { _jsContext.registerGlobalBean(name, value); }", "<inline>",
 					0, null);
 			context.evaluateString(rootScope,
 					"function unregisterGlobal(name) { _jsContext.unregisterGlobalBean(name); }", "<inline>", 0, null);
+			FunctionProvider.registerScriptCategories(rootScope);
+			rootScope.sealObject();
 			return rootScope;
 		} catch (Exception ex) {
 			logger.log(Level.WARNING, "Error occurs while initialze script scope", ex);
@@ -80,20 +92,25 @@ public class JavascriptEngineFactory implements IScriptEngineFactory {
 	}
 
 	synchronized protected ScriptableObject getRootScope() throws BirtException {
-		if (!rootScopes.isEmpty()) {
-			return rootScopes.remove();
+		if (rootScope == null) {
+			rootScope = createRootScope();
 		}
-		return createRootScope();
+		return rootScope;
 	}
 
-	synchronized protected void releaseRootScope(ScriptableObject rootScope) {
-		if (rootScope != null) {
-			ClassCache classCache = ClassCache.get(rootScope);
-			if (classCache != null) {
-				classCache.clearCaches();
-			}
-			rootScopes.add(rootScope);
-		}
+	/**
+	 * @deprecated the root scope is shared by the script engines, it needn't be
+	 *             released.
+	 */
+	@Deprecated
+	protected void releaseRootScope(ScriptableObject rootScope) {
+	}
+
+	/**
+	 * return the cache of the compiled scripts shared by the script engines.
+	 */
+	public CompiledScriptCache getScriptCache() {
+		return scriptCache;
 	}
 
 	@Override
@@ -20,10 +20,10 @@ import org.eclipse.birt.core.data.DataType;
 import org.eclipse.birt.core.exception.BirtException;
 import org.eclipse.birt.core.format.AutoFormatter;
 import org.eclipse.birt.core.format.DateFormatter;
+import org.eclipse.birt.core.format.FormatterFactory;
 import org.eclipse.birt.core.format.IFormatter;
 import org.eclipse.birt.core.format.IFormatter.DefaultFormatter;
 import org.eclipse.birt.core.format.LocaleNeutralFormatter;
-import org.eclipse.birt.core.format.NumberFormatter;
 import org.eclipse.birt.core.format.StringFormatter;
 import org.eclipse.birt.report.engine.api.IDataExtractionOption;
 import org.eclipse.birt.report.engine.api.IDataIterator;
@@ -177,10 +177,10 @@ public class CommonDataExtractionImpl extends DataExtractionExtensionBase {
 				case DataType.DECIMAL_TYPE:
 				case DataType.DOUBLE_TYPE:
 				case DataType.INTEGER_TYPE:
-					valueFormatters[i] = new NumberFormatter(patterns[i], this.locale);
+					valueFormatters[i] = FormatterFactory.getNumberFormatter(patterns[i], this.locale);
 					break;
 				case DataType.STRING_TYPE:
-					StringFormatter strFormatter = new StringFormatter(patterns[i], this.locale);
+					StringFormatter strFormatter = FormatterFactory.getStringFormatter(patterns[i], this.locale);
 					if (patterns[i] == null) {
 						strFormatter.setTrim(false);
 					}
@@ -237,7 +237,7 @@ public class CommonDataExtractionImpl extends DataExtractionExtensionBase {
 	 * @param pattern date format string or null for default
 	 */
 	protected DateFormatter createDateFormatter(String pattern, ULocale locale, TimeZone timeZone) {
-		return new DateFormatter(pattern, locale, timeZone);
+		return FormatterFactory.getDateFormatter(pattern, locale, timeZone);
 	}
 
 	/**
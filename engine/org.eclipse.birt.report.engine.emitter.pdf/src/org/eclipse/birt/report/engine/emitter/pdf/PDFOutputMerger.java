@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.emitter.pdf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.birt.report.engine.emitter.IOutputMerger;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.pdf.PdfCopy;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+import com.lowagie.text.pdf.SimpleBookmark;
+
+/**
+ * Merges the PDF files of the page ranges rendered in parallel.
+ *
+ * The pages are copied in order, the named destinations of each file are
+ * replaced by the page destinations first so the links and outlines inside a
+ * range still work after the merge. The document information, the PDF version
+ * and the compression are copied from the first file, so the merged file is
+ * written as the PDF emitter writes a file rendered by a single task.
+ *
+ * A range repeats the outline entries of the groups it continues, the entry
+ * starting a file is merged into the last entry of the previous files if they
+ * have the same title, so a group split by the ranges has a single entry.
+ */
+public class PDFOutputMerger implements IOutputMerger {
+
+	@Override
+	public void merge(List<InputStream> outputs, OutputStream out) throws IOException {
+		Document document = null;
+		PdfCopy copy = null;
+		List<Map<String, Object>> outlines = new ArrayList<>();
+		int pageOffset = 0;
+		try {
+			for (InputStream output : outputs) {
+				PdfReader reader = new PdfReader(output);
+				try {
+					reader.consolidateNamedDestinations();
+					int pageCount = reader.getNumberOfPages();
+					if (document == null) {
+						document = new Document(reader.getPageSizeWithRotation(1));
+						Map<String, String> info = reader.getInfo();
+						if (info.get("Title") != null) { //$NON-NLS-1$
+							document.addTitle(info.get("Title")); //$NON-NLS-1$
+						}
+						if (info.get("Author") != null) { //$NON-NLS-1$
+							document.addAuthor(info.get("Author")); //$NON-NLS-1$
+						}
+						if (info.get("Subject") != null) { //$NON-NLS-1$
+							document.addSubject(info.get("Subject")); //$NON-NLS-1$
+						}
+						if (info.get("Keywords") != null) { //$NON-NLS-1$
+							document.addKeywords(info.get("Keywords")); //$NON-NLS-1$
+						}
+						if (info.get("Creator") != null) { //$NON-NLS-1$
+							document.addCreator(info.get("Creator")); //$NON-NLS-1$
+						}
+						copy = new PdfCopy(document, out);
+						copy.setCloseStream(false);
+						copy.setPdfVersion(reader.getPdfVersion());
+						if (reader.isNewXrefType()) {
+							copy.setFullCompression();
+						}
+						document.open();
+					}
+					List<Map<String, Object>> bookmarks = SimpleBookmark.getBookmark(reader);
+					if (bookmarks != null) {
+						if (pageOffset != 0) {
+							SimpleBookmark.shiftPageNumbers(bookmarks, pageOffset, null);
+						}
+						mergeOutlines(outlines, bookmarks);
+					}
+					for (int i = 1; i <= pageCount; i++) {
+						copy.addPage(copy.getImportedPage(reader, i));
+					}
+					copy.freeReader(reader);
+					pageOffset += pageCount;
+				} finally {
+					reader.close();
+				}
+			}
+			if (document == null) {
+				return;
+			}
+			if (!outlines.isEmpty()) {
+				copy.setOutlines(outlines);
+				copy.setViewerPreferences(PdfWriter.PageModeUseOutlines);
+			}
+			document.close();
+		} catch (DocumentException ex) {
+			throw new IOException(ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * append the outlines of a file, the first outline is merged into the last
+	 * outline of the previous files if it continues it.
+	 */
+	@SuppressWarnings("unchecked")
+	static void mergeOutlines(List<Map<String, Object>> outlines, List<Map<String, Object>> next) {
+		int start = 0;
+		if (!outlines.isEmpty() && !next.isEmpty()) {
+			Map<String, Object> last = outlines.get(outlines.size() - 1);
+			Map<String, Object> first = next.get(0);
+			Object title = last.get("Title"); //$NON-NLS-1$
+			if (title != null && title.equals(first.get("Title"))) { //$NON-NLS-1$
+				List<Map<String, Object>> kids = (List<Map<String, Object>>) first.get("Kids"); //$NON-NLS-1$
+				if (kids != null) {
+					List<Map<String, Object>> lastKids = (List<Map<String, Object>>) last.get("Kids"); //$NON-NLS-1$
+					if (lastKids == null) {
+						last.put("Kids", kids); //$NON-NLS-1$
+					} else {
+						mergeOutlines(lastKids, kids);
+					}
+				}
+				start = 1;
+			}
+		}
+		for (int i = start; i < next.size(); i++) {
+			outlines.add(next.get(i));
+		}
+	}
+}
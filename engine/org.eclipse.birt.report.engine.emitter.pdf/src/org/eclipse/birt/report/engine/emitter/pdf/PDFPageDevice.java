@@ -33,6 +33,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.birt.core.exception.BirtException;
+import org.eclipse.birt.report.engine.api.IRenderOption;
 import org.eclipse.birt.report.engine.api.ITOCTree;
 import org.eclipse.birt.report.engine.api.TOCNode;
 import org.eclipse.birt.report.engine.api.script.IReportContext;
@@ -134,8 +135,9 @@ public class PDFPageDevice implements IPageDevice {
 			// String list = (String) context.getDesignHandle().getProperty("AppendList");
 			Map<String, Expression> props = report.getDesign().getUserProperties();
 
-			// added null check
-			if (props != null) {
+			// added null check, the files are prepended to the first range only if
+			// the pages are rendered in parallel
+			if (props != null && isFirstRange()) {
 				Object listObject = props.get(PDFPageDevice.PREPEND_PROPERTY_NAME);
 
 				if (listObject != null) {
@@ -238,6 +240,28 @@ public class PDFPageDevice implements IPageDevice {
 		}
 	}
 
+	private boolean isFirstRange() {
+		IRenderOption options = context.getRenderOption();
+		if (options == null) {
+			return true;
+		}
+		Object rangeIndex = options.getOption(IRenderOption.RENDER_RANGE_INDEX);
+		return !(rangeIndex instanceof Integer) || ((Integer) rangeIndex).intValue() == 0;
+	}
+
+	private boolean isLastRange() {
+		IRenderOption options = context.getRenderOption();
+		if (options == null) {
+			return true;
+		}
+		Object rangeIndex = options.getOption(IRenderOption.RENDER_RANGE_INDEX);
+		Object rangeCount = options.getOption(IRenderOption.RENDER_RANGE_COUNT);
+		if (rangeIndex instanceof Integer && rangeCount instanceof Integer) {
+			return ((Integer) rangeIndex).intValue() == ((Integer) rangeCount).intValue() - 1;
+		}
+		return true;
+	}
+
 	public void setPDFTemplate(Float scale, PdfTemplate totalPageTemplate) {
 		templateMap.put(scale, totalPageTemplate);
 	}
@@ -278,8 +302,9 @@ public class PDFPageDevice implements IPageDevice {
 		// String list = (String) context.getDesignHandle().getProperty("AppendList");
 		Map<String, Expression> props = report.getDesign().getUserProperties();
 
-		// added null check
-		if (props != null) {
+		// added null check, the files are appended to the last range only if the
+		// pages are rendered in parallel
+		if (props != null && isLastRange()) {
 			Object listObject = props.get(PDFPageDevice.APPEND_PROPERTY_NAME);
 
 			if (listObject != null) {
@@ -84,6 +84,7 @@ public class AllTests {
 		suite.addTestSuite(org.eclipse.birt.report.engine.api.ReportParameterConverterTest.class);
 		suite.addTestSuite(org.eclipse.birt.report.engine.api.ReportRunnableTest.class);
 		suite.addTestSuite(org.eclipse.birt.report.engine.api.ReportRunnerTest.class);
+		suite.addTestSuite(org.eclipse.birt.report.engine.api.RunAndRenderTaskTest.class);
 		suite.addTestSuite(org.eclipse.birt.report.engine.api.RunTaskTest.class);
 		suite.addTestSuite(org.eclipse.birt.report.engine.api.TimeZoneTest.class);
 		suite.addTestSuite(org.eclipse.birt.report.engine.content.ReportContentReaderAndWriterTest.class);
@@ -163,6 +164,7 @@ public class AllTests {
 		suite.addTestSuite(org.eclipse.birt.report.engine.layout.pdf.PDFTableLMTest.class);
 		suite.addTestSuite(org.eclipse.birt.report.engine.layout.pdf.PDFTextLMTest.class);
 		suite.addTestSuite(org.eclipse.birt.report.engine.layout.pdf.WordRecognizerWrapperTest.class);
+		suite.addTestSuite(org.eclipse.birt.report.engine.layout.pdf.util.HTML2ContentTest.class);
 		suite.addTestSuite(org.eclipse.birt.report.engine.parser.DataDesignTest.class);
 		suite.addTestSuite(org.eclipse.birt.report.engine.parser.DynamicTextItemDesignTest.class);
 		suite.addTestSuite(org.eclipse.birt.report.engine.parser.EngineIRParserTest.class);
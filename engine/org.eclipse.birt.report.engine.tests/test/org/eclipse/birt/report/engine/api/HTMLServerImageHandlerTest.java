@@ -14,9 +14,11 @@
  *******************************************************************************/
 package org.eclipse.birt.report.engine.api;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Arrays;
 
 import org.eclipse.birt.report.engine.EngineCase;
 import org.eclipse.birt.report.engine.api.impl.Image;
@@ -154,6 +156,27 @@ public class HTMLServerImageHandlerTest extends EngineCase {
 		removeFile(resultPath);
 	}
 
+	/**
+	 * API test on HTMLServerImageHandler.getImage( ) method
+	 */
+	public void testGetImage() throws EngineException {
+		HTMLRenderContext context = new HTMLRenderContext();
+		context.setImageDirectory(".");
+		context.setBaseImageURL(".");
+		Image image = (Image) runnable.getImage("img.jpg");
+		image.setRenderOption(new RenderOptionBase());
+		HTMLServerImageHandler imageHandler = new HTMLServerImageHandler();
+		String resultPath = imageHandler.onDesignImage(image, context);
+		File resultFile = new File(resultPath);
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			imageHandler.getImage(out, resultFile.getParent(), resultFile.getName());
+			assertTrue(Arrays.equals(image.getImageData(), out.toByteArray()));
+		} finally {
+			removeFile(resultPath);
+		}
+	}
+
 	private boolean isFileAbsolute(String path) {
 		assert (path != null);
 		return (new File(path)).isAbsolute();
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.birt.core.archive.compound.ArchiveFile;
 import org.eclipse.birt.core.archive.compound.ArchiveReader;
@@ -29,6 +31,10 @@ import org.eclipse.birt.core.archive.compound.ArchiveWriter;
 import org.eclipse.birt.report.engine.EngineCase;
 import org.eclipse.birt.report.engine.api.impl.ReportDocumentConstants;
 
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.SimpleBookmark;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+
 public class RenderTaskTest extends EngineCase {
 
 	static final String REPORT_DESIGN_RESOURCE = "org/eclipse/birt/report/engine/api/render_task_design.xml"; //$NON-NLS-1$
@@ -333,6 +339,55 @@ public class RenderTaskTest extends EngineCase {
 		reportDoc.close();
 	}
 
+	public void testRenderInParallel() throws Exception {
+		String design = "org/eclipse/birt/report/engine/api/parallel_render.rptdesign";
+		IReportDocument document = createReportDocument(design);
+		long pageCount = document.getPageCount();
+		assertTrue(pageCount >= 100);
+
+		ByteArrayOutputStream serial = new ByteArrayOutputStream();
+		assertEquals(pageCount, renderPDF(document, 1, serial));
+		// the pages are split into 6 ranges rendered by 4 threads
+		ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+		assertEquals(pageCount, renderPDF(document, 4, parallel));
+		document.close();
+
+		PdfReader serialReader = new PdfReader(serial.toByteArray());
+		PdfReader parallelReader = new PdfReader(parallel.toByteArray());
+		assertEquals(pageCount, serialReader.getNumberOfPages());
+		assertEquals(pageCount, parallelReader.getNumberOfPages());
+		assertEquals(serialReader.getPdfVersion(), parallelReader.getPdfVersion());
+		assertEquals(serialReader.isNewXrefType(), parallelReader.isNewXrefType());
+
+		PdfTextExtractor serialText = new PdfTextExtractor(serialReader);
+		PdfTextExtractor parallelText = new PdfTextExtractor(parallelReader);
+		for (int i = 1; i <= pageCount; i++) {
+			assertEquals(serialText.getTextFromPage(i), parallelText.getTextFromPage(i));
+		}
+
+		// the groups split by the ranges have a single outline
+		serialReader.consolidateNamedDestinations();
+		List<Map<String, Object>> outlines = SimpleBookmark.getBookmark(serialReader);
+		assertEquals(15, outlines.size());
+		assertEquals(outlines, SimpleBookmark.getBookmark(parallelReader));
+		serialReader.close();
+		parallelReader.close();
+	}
+
+	private long renderPDF(IReportDocument document, int threadCount, OutputStream out) throws EngineException {
+		IRenderTask task = engine.createRenderTask(document);
+		RenderOption options = new RenderOption();
+		options.setOutputFormat("pdf"); //$NON-NLS-1$
+		options.setOutputStream(out);
+		options.setOption(IRenderOption.RENDER_THREAD_COUNT, Integer.valueOf(threadCount));
+		task.setRenderOption(options);
+		task.render();
+		assertTrue(task.getErrors().isEmpty());
+		long pageCount = task.getPageCount();
+		task.close();
+		return pageCount;
+	}
+
 	public void testCloseOnExitRenderOption() throws EngineException {
 		String design = "org/eclipse/birt/report/engine/api/testCloseOnExit.rptdesign";
 		IReportDocument document = createReportDocument(design);
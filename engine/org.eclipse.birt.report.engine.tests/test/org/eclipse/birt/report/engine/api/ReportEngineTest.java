@@ -14,15 +14,30 @@
  *******************************************************************************/
 package org.eclipse.birt.report.engine.api;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.net.URLDecoder;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.birt.report.engine.EngineCase;
 import org.eclipse.birt.report.engine.api.impl.ReportDocumentReader;
+import org.eclipse.birt.report.engine.api.impl.ReportRunnable;
 import org.eclipse.birt.report.engine.api.impl.ScalarParameterDefn;
+import org.eclipse.birt.report.engine.ir.Report;
+import org.eclipse.birt.report.model.api.ModuleHandle;
+import org.eclipse.birt.report.model.api.ModuleOption;
 
 /**
  *
@@ -77,6 +92,82 @@ public class ReportEngineTest extends EngineCase {
 		}
 	}
 
+	/**
+	 * API test on the design cache of IReportEngine.openReportDesign( ) method
+	 */
+	public void testOpenCachedReportDesign() throws Exception {
+		EngineConfig config = new EngineConfig();
+		config.setDesignCacheSize(10);
+		ReportEngine engine = new ReportEngine(config);
+		try {
+			IReportRunnable runnable = engine.openReportDesign(REPORT_DESIGN);
+			assertSame(runnable, engine.openReportDesign(REPORT_DESIGN));
+
+			// each call returns a new IR parsed from the cached IR
+			ReportRunnable reportRunnable = (ReportRunnable) runnable;
+			Report reportIR = reportRunnable.getReportIR();
+			Report cachedIR = reportRunnable.getReportIR();
+			assertNotSame(reportIR, cachedIR);
+			assertEquals(reportIR.getContentCount(), cachedIR.getContentCount());
+			assertSame(runnable.getDesignHandle(), cachedIR.getReportDesign());
+
+			// the changed design is opened again
+			File file = new File(REPORT_DESIGN);
+			file.setLastModified(file.lastModified() - 10000);
+			IReportRunnable changedRunnable = engine.openReportDesign(REPORT_DESIGN);
+			assertNotSame(runnable, changedRunnable);
+			assertSame(changedRunnable, engine.openReportDesign(REPORT_DESIGN));
+
+			engine.evictReportDesign(REPORT_DESIGN);
+			assertNotSame(changedRunnable, engine.openReportDesign(REPORT_DESIGN));
+		} finally {
+			engine.destroy();
+		}
+
+		// the cache is disabled by default
+		engine = new ReportEngine(new EngineConfig());
+		try {
+			IReportRunnable runnable = engine.openReportDesign(REPORT_DESIGN);
+			assertNotSame(runnable, engine.openReportDesign(REPORT_DESIGN));
+		} finally {
+			engine.destroy();
+		}
+	}
+
+	/**
+	 * the task overriding the design options doesn't change the cached design
+	 */
+	public void testCachedReportDesignOptions() throws Exception {
+		String resourcePath = new File(".").getCanonicalPath();
+		EngineConfig config = new EngineConfig();
+		config.setDesignCacheSize(10);
+		config.setResourcePath(resourcePath);
+		ReportEngine engine = new ReportEngine(config);
+		try {
+			IReportRunnable runnable = engine.openReportDesign(REPORT_DESIGN);
+			ModuleHandle design = (ModuleHandle) runnable.getDesignHandle();
+			assertEquals(resourcePath, design.getOptions().get(ModuleOption.RESOURCE_FOLDER_KEY));
+
+			IRunAndRenderTask task = engine.createRunAndRenderTask(runnable);
+			try {
+				Map appContext = new HashMap();
+				appContext.put(ModuleOption.RESOURCE_FOLDER_KEY, new File("other").getCanonicalPath());
+				task.setAppContext(appContext);
+				HTMLRenderOption option = new HTMLRenderOption();
+				option.setOutputFormat("html");
+				option.setOutputStream(new ByteArrayOutputStream());
+				task.setRenderOption(option);
+				task.run();
+			} finally {
+				task.close();
+			}
+			assertSame(runnable, engine.openReportDesign(REPORT_DESIGN));
+			assertEquals(resourcePath, design.getOptions().get(ModuleOption.RESOURCE_FOLDER_KEY));
+		} finally {
+			engine.destroy();
+		}
+	}
+
 	/**
 	 * API test on IReportEngine.createGetParameterDefinitionTask( ) method
 	 */
@@ -199,6 +290,328 @@ public class ReportEngineTest extends EngineCase {
 		}
 	}
 
+	/**
+	 * API test on IReportEngine.submit( ) method
+	 */
+	public void testSubmit() throws Exception {
+		EngineConfig config = new EngineConfig();
+		config.setSchedulerMaxTasks(2);
+		config.setSchedulerQueueLimit("export", 1);
+		ReportEngine engine = new ReportEngine(config);
+		try {
+			IReportRunnable runnable = engine.openReportDesign(REPORT_DESIGN);
+			List<Future<IEngineTask>> futures = new ArrayList<>();
+			List<ByteArrayOutputStream> outputs = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				HTMLRenderOption options = new HTMLRenderOption();
+				options.setOutputFormat(IRenderOption.OUTPUT_FORMAT_HTML);
+				options.setOutputStream(out);
+				IRunAndRenderTask task = engine.createRunAndRenderTask(runnable);
+				task.setRenderOption(options);
+
+				SubmitOption option = new SubmitOption();
+				option.setQueue("export");
+				option.setTenant("tenant" + (i % 2));
+				option.setPriority(i);
+				futures.add(engine.submit(task, option));
+				outputs.add(out);
+			}
+			for (int i = 0; i < 4; i++) {
+				IEngineTask task = futures.get(i).get();
+				assertTrue(task.getErrors().isEmpty());
+				task.close();
+				assertTrue(outputs.get(i).toString("UTF-8").indexOf("</html>") != -1);
+			}
+		} finally {
+			engine.destroy();
+		}
+	}
+
+	public void testSubmitQueueLimit() throws Exception {
+		EngineConfig config = new EngineConfig();
+		config.setSchedulerMaxTasks(4);
+		config.setSchedulerQueueLimit("export", 1);
+		ReportEngine engine = new ReportEngine(config);
+		BlockingQueue<String> started = new LinkedBlockingQueue<>();
+		try {
+			BlockingTask export1 = new BlockingTask("export1", started);
+			BlockingTask export2 = new BlockingTask("export2", started);
+			BlockingTask view = new BlockingTask("view", started);
+			Future<IEngineTask> future1 = submit(engine, export1, "export", null, 0);
+			Future<IEngineTask> future2 = submit(engine, export2, "export", null, 0);
+			submit(engine, view, null, null, 0);
+			assertStarted(started, "export1", "view");
+			// the second export waits for the first one
+			assertNull(started.poll(200, TimeUnit.MILLISECONDS));
+			export1.finish();
+			assertSame(export1.getTask(), future1.get(10, TimeUnit.SECONDS));
+			assertStarted(started, "export2");
+			export2.finish();
+			view.finish();
+			assertSame(export2.getTask(), future2.get(10, TimeUnit.SECONDS));
+		} finally {
+			engine.destroy();
+		}
+	}
+
+	public void testSubmitPriority() throws Exception {
+		EngineConfig config = new EngineConfig();
+		config.setSchedulerMaxTasks(1);
+		ReportEngine engine = new ReportEngine(config);
+		BlockingQueue<String> started = new LinkedBlockingQueue<>();
+		try {
+			BlockingTask running = new BlockingTask("running", started);
+			submit(engine, running, null, null, 0);
+			assertStarted(started, "running");
+			BlockingTask low = new BlockingTask("low", started);
+			BlockingTask high = new BlockingTask("high", started);
+			BlockingTask normal = new BlockingTask("normal", started);
+			submit(engine, low, null, null, 1);
+			submit(engine, high, null, null, 5);
+			submit(engine, normal, null, null, 3);
+
+			// the pending task with the highest priority starts first
+			running.finish();
+			assertStarted(started, "high");
+			high.finish();
+			assertStarted(started, "normal");
+			normal.finish();
+			assertStarted(started, "low");
+			low.finish();
+		} finally {
+			engine.destroy();
+		}
+	}
+
+	public void testSubmitTenantFairness() throws Exception {
+		EngineConfig config = new EngineConfig();
+		config.setSchedulerMaxTasks(2);
+		ReportEngine engine = new ReportEngine(config);
+		BlockingQueue<String> started = new LinkedBlockingQueue<>();
+		try {
+			BlockingTask a1 = new BlockingTask("a1", started);
+			BlockingTask a2 = new BlockingTask("a2", started);
+			BlockingTask a3 = new BlockingTask("a3", started);
+			BlockingTask a4 = new BlockingTask("a4", started);
+			BlockingTask b1 = new BlockingTask("b1", started);
+			submit(engine, a1, null, "a", 0);
+			submit(engine, a2, null, "a", 0);
+			assertStarted(started, "a1", "a2");
+			submit(engine, a3, null, "a", 0);
+			submit(engine, a4, null, "a", 0);
+			submit(engine, b1, null, "b", 0);
+
+			// tenant b has no running task, so it goes before the tasks of tenant a
+			// submitted earlier
+			a1.finish();
+			assertStarted(started, "b1");
+			// then the tenants have one running task each, the submit order is used
+			a2.finish();
+			assertStarted(started, "a3");
+			b1.finish();
+			assertStarted(started, "a4");
+			a3.finish();
+			a4.finish();
+		} finally {
+			engine.destroy();
+		}
+	}
+
+	public void testSubmitCancel() throws Exception {
+		EngineConfig config = new EngineConfig();
+		config.setSchedulerMaxTasks(1);
+		ReportEngine engine = new ReportEngine(config);
+		BlockingQueue<String> started = new LinkedBlockingQueue<>();
+		try {
+			BlockingTask running = new BlockingTask("running", started);
+			BlockingTask pending = new BlockingTask("pending", started);
+			BlockingTask next = new BlockingTask("next", started);
+			Future<IEngineTask> runningFuture = submit(engine, running, null, null, 0);
+			assertStarted(started, "running");
+			Future<IEngineTask> pendingFuture = submit(engine, pending, null, null, 1);
+
+			// the pending task is removed from the queue, it is never started
+			assertTrue(pendingFuture.cancel(true));
+			assertTrue(pendingFuture.isCancelled());
+			assertFalse(pending.isCancelled());
+
+			// the running task is cancelled by IEngineTask.cancel()
+			submit(engine, next, null, null, 0);
+			assertTrue(runningFuture.cancel(true));
+			assertTrue(runningFuture.isCancelled());
+			assertTrue(running.isCancelled());
+			assertStarted(started, "next");
+			next.finish();
+			assertNull(started.poll(200, TimeUnit.MILLISECONDS));
+		} finally {
+			engine.destroy();
+		}
+	}
+
+	public void testSubmitDestroy() throws Exception {
+		EngineConfig config = new EngineConfig();
+		config.setSchedulerMaxTasks(1);
+		ReportEngine engine = new ReportEngine(config);
+		BlockingQueue<String> started = new LinkedBlockingQueue<>();
+		BlockingTask running = new BlockingTask("running", started);
+		BlockingTask pending = new BlockingTask("pending", started);
+		Future<IEngineTask> runningFuture = submit(engine, running, null, null, 0);
+		assertStarted(started, "running");
+		Future<IEngineTask> pendingFuture = submit(engine, pending, null, null, 0);
+
+		// the queued and the running tasks are cancelled
+		engine.destroy();
+		assertTrue(runningFuture.isCancelled());
+		assertTrue(running.isCancelled());
+		assertTrue(pendingFuture.isCancelled());
+		assertNull(started.poll(200, TimeUnit.MILLISECONDS));
+
+		try {
+			submit(engine, new BlockingTask("late", started), null, null, 0);
+			fail();
+		} catch (IllegalStateException ex) {
+		}
+	}
+
+	private Future<IEngineTask> submit(ReportEngine engine, BlockingTask task, String queue, String tenant,
+			int priority) {
+		SubmitOption option = new SubmitOption();
+		if (queue != null) {
+			option.setQueue(queue);
+		}
+		option.setTenant(tenant);
+		option.setPriority(priority);
+		return engine.submit(task.getTask(), option);
+	}
+
+	private void assertStarted(BlockingQueue<String> started, String... names) throws InterruptedException {
+		List<String> expected = new ArrayList<>();
+		List<String> actual = new ArrayList<>();
+		for (String name : names) {
+			expected.add(name);
+			actual.add(started.poll(10, TimeUnit.SECONDS));
+		}
+		// the tasks started by the same dispatch run in any order
+		assertTrue(actual.containsAll(expected));
+	}
+
+	/**
+	 * a run and render task which runs until it is finished or cancelled.
+	 */
+	private static class BlockingTask implements InvocationHandler {
+
+		private final String name;
+		private final BlockingQueue<String> started;
+		private final CountDownLatch finished = new CountDownLatch(1);
+		private final IRunAndRenderTask task;
+		private volatile boolean cancelled;
+
+		BlockingTask(String name, BlockingQueue<String> started) {
+			this.name = name;
+			this.started = started;
+			this.task = (IRunAndRenderTask) Proxy.newProxyInstance(IRunAndRenderTask.class.getClassLoader(),
+					new Class[] { IRunAndRenderTask.class }, this);
+		}
+
+		IRunAndRenderTask getTask() {
+			return task;
+		}
+
+		boolean isCancelled() {
+			return cancelled;
+		}
+
+		void finish() {
+			finished.countDown();
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String methodName = method.getName();
+			if ("run".equals(methodName)) {
+				started.add(name);
+				finished.await(10, TimeUnit.SECONDS);
+				return null;
+			}
+			if ("cancel".equals(methodName)) {
+				cancelled = true;
+				finished.countDown();
+				return null;
+			}
+			if ("toString".equals(methodName)) {
+				return name;
+			}
+			if ("hashCode".equals(methodName)) {
+				return Integer.valueOf(System.identityHashCode(proxy));
+			}
+			if ("equals".equals(methodName)) {
+				return Boolean.valueOf(proxy == args[0]);
+			}
+			Class<?> type = method.getReturnType();
+			if (type == boolean.class) {
+				return Boolean.FALSE;
+			}
+			if (type == int.class) {
+				return Integer.valueOf(0);
+			}
+			if (type == long.class) {
+				return Long.valueOf(0);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * API test on IEngineTask.getPerformanceSummary( ) method
+	 */
+	public void testPerformanceSummary() throws Exception {
+		final List<Integer> phases = new ArrayList<>();
+		EngineConfig config = new EngineConfig();
+		config.setPerformanceListener(new IPerformanceListener() {
+
+			@Override
+			public synchronized void onPhase(int phase, String name, long elapsedTime, long count) {
+				phases.add(Integer.valueOf(phase));
+			}
+		});
+		ReportEngine engine = new ReportEngine(config);
+		try {
+			IReportRunnable runnable = engine.openReportDesign(REPORT_DESIGN);
+			assertTrue(phases.contains(Integer.valueOf(IPerformanceListener.DESIGN_LOAD)));
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			HTMLRenderOption options = new HTMLRenderOption();
+			options.setOutputFormat(IRenderOption.OUTPUT_FORMAT_HTML);
+			options.setOutputStream(out);
+			IRunAndRenderTask task = engine.createRunAndRenderTask(runnable);
+			task.setRenderOption(options);
+			task.run();
+			assertTrue(task.getErrors().isEmpty());
+
+			IPerformanceSummary summary = task.getPerformanceSummary();
+			assertNotNull(summary);
+			assertEquals(1, summary.getCount(IPerformanceListener.TASK));
+			assertEquals(1, summary.getCount(IPerformanceListener.LAYOUT));
+			assertTrue(summary.getCount(IPerformanceListener.EMIT) > 0);
+			assertEquals(out.size(), summary.getCount(IPerformanceListener.OUTPUT));
+			assertTrue(summary.getElapsedTime(IPerformanceListener.TASK) >= summary
+					.getElapsedTime(IPerformanceListener.LAYOUT));
+			assertTrue(phases.contains(Integer.valueOf(IPerformanceListener.TASK)));
+			assertTrue(phases.contains(Integer.valueOf(IPerformanceListener.EMIT)));
+			task.close();
+
+			// the instrumentation is disabled by default
+			engine.destroy();
+			engine = new ReportEngine(new EngineConfig());
+			task = engine.createRunAndRenderTask(engine.openReportDesign(REPORT_DESIGN));
+			assertNull(task.getPerformanceSummary());
+			task.close();
+		} finally {
+			engine.destroy();
+		}
+	}
+
 	public void testCloseDocument() throws EngineException {
 		org.eclipse.birt.report.engine.api.impl.ReportEngine engine = new org.eclipse.birt.report.engine.api.impl.ReportEngine(
 				new EngineConfig());
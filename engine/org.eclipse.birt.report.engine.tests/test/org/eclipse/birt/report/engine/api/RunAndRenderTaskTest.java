@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.api;
+
+import java.io.ByteArrayOutputStream;
+
+import org.eclipse.birt.report.engine.EngineCase;
+
+public class RunAndRenderTaskTest extends EngineCase {
+
+	static final String REPORT_DESIGN_RESOURCE = "org/eclipse/birt/report/engine/api/render_task_design.xml"; //$NON-NLS-1$
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		removeFile(REPORT_DESIGN);
+		copyResource(REPORT_DESIGN_RESOURCE, REPORT_DESIGN);
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		removeFile(REPORT_DESIGN);
+		super.tearDown();
+	}
+
+	public void testRunToOutputs() throws Exception {
+		IReportRunnable report = engine.openReportDesign(REPORT_DESIGN);
+
+		ByteArrayOutputStream pagedOutput = new ByteArrayOutputStream();
+		HTMLRenderOption pagedOptions = new HTMLRenderOption();
+		pagedOptions.setOutputFormat(IRenderOption.OUTPUT_FORMAT_HTML);
+		pagedOptions.setOutputStream(pagedOutput);
+		pagedOptions.setHtmlPagination(true);
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		HTMLRenderOption options = new HTMLRenderOption();
+		options.setOutputFormat(IRenderOption.OUTPUT_FORMAT_HTML);
+		options.setOutputStream(output);
+		options.setHtmlPagination(false);
+
+		IRunAndRenderTask task = engine.createRunAndRenderTask(report);
+		task.setRenderOptions(new IRenderOption[] { pagedOptions, options });
+		assertEquals(2, task.getRenderOptions().length);
+		task.run();
+		assertTrue(task.getErrors().isEmpty());
+		task.close();
+
+		// both outputs are rendered from the same execution
+		assertTrue(pagedOutput.toString("UTF-8").indexOf("</html>") != -1);
+		assertTrue(output.toString("UTF-8").indexOf("</html>") != -1);
+	}
+}
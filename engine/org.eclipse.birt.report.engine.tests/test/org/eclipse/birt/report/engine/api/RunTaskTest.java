@@ -14,6 +14,9 @@
 
 package org.eclipse.birt.report.engine.api;
 
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+
 import org.eclipse.birt.core.archive.compound.ArchiveView;
 import org.eclipse.birt.core.archive.compound.ArchiveWriter;
 import org.eclipse.birt.report.engine.EngineCase;
@@ -32,6 +35,8 @@ public class RunTaskTest extends EngineCase {
 	static final String REPORT_DESIGN = "./utest/design.rptdesign";
 	static final String REPORT_DOCUMENT = "./utest/reportdocument/";
 	static final String REPORT_DOCUMENT_ZIP = "./utest/reportdocument.zip";
+	static final String COMPRESSED_REPORT_DOCUMENT = "./utest/compressed.rptdocument";
+	static final String PLAIN_REPORT_DOCUMENT = "./utest/plain.rptdocument";
 
 	static final String REPORT_DESIGN_RESOURCE1 = "org/eclipse/birt/report/engine/api/render_task_design.xml";
 	static final String REPORT_DESIGN1 = "./utest/design.rptdesign";
@@ -66,6 +71,45 @@ public class RunTaskTest extends EngineCase {
 		}
 	}
 
+	public void testRunCompressed() throws Exception {
+		IReportRunnable report = engine.openReportDesign(REPORT_DESIGN);
+		IRunTask task = engine.createRunTask(report);
+		task.run(PLAIN_REPORT_DOCUMENT);
+		task.close();
+
+		task = engine.createRunTask(report);
+		HashMap<String, Object> appContext = new HashMap<>();
+		appContext.put(EngineConstants.APPCONTEXT_COMPRESS_DOCUMENT, Boolean.TRUE);
+		task.setAppContext(appContext);
+		task.run(COMPRESSED_REPORT_DOCUMENT);
+		task.close();
+
+		assertEquals(0, getArchiveVersion(PLAIN_REPORT_DOCUMENT));
+		// the archives with compressed streams are saved as version 1
+		assertEquals(1, getArchiveVersion(COMPRESSED_REPORT_DOCUMENT));
+
+		IReportDocument plain = engine.openReportDocument(PLAIN_REPORT_DOCUMENT);
+		IReportDocument compressed = engine.openReportDocument(COMPRESSED_REPORT_DOCUMENT);
+		try {
+			assertTrue(compressed.isComplete());
+			assertEquals(plain.getPageCount(), compressed.getPageCount());
+		} finally {
+			plain.close();
+			compressed.close();
+		}
+	}
+
+	private int getArchiveVersion(String fileName) throws Exception {
+		RandomAccessFile file = new RandomAccessFile(fileName, "r");
+		try {
+			// the version follows the magic tag
+			file.seek(8);
+			return file.readInt();
+		} finally {
+			file.close();
+		}
+	}
+
 	public void testRunWithArchiveView() {
 		try {
 			ArchiveView view = new ArchiveView(VIEW_DOCUMENT, BLANK_REPORT_DOCUMENT, "rw");
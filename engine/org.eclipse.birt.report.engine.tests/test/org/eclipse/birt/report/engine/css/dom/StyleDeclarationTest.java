@@ -14,6 +14,8 @@
 
 package org.eclipse.birt.report.engine.css.dom;
 
+import org.eclipse.birt.report.engine.content.IContent;
+import org.eclipse.birt.report.engine.content.impl.ReportContent;
 import org.eclipse.birt.report.engine.css.engine.BIRTCSSEngine;
 import org.eclipse.birt.report.engine.css.engine.CSSEngine;
 
@@ -42,4 +44,34 @@ public class StyleDeclarationTest extends TestCase {
 		String output = style.getFontFamily();
 		assertEquals(golden, output);
 	}
+
+	public void testHashCode() {
+		CSSEngine engine = new BIRTCSSEngine();
+		StyleDeclaration style = new StyleDeclaration(engine);
+		style.setFontWeight("bold");
+		style.setColor("red");
+		StyleDeclaration style1 = new StyleDeclaration(engine);
+		style1.setColor("red");
+		style1.setFontWeight("bold");
+		assertEquals(style, style1);
+		assertEquals(style.hashCode(), style1.hashCode());
+	}
+
+	public void testInlineComputedStyleCache() {
+		ReportContent report = new ReportContent();
+		IContent container = report.createContainerContent();
+		IContent label = report.createLabelContent();
+		label.setParent(container);
+		label.getStyle().setFontWeight("bold");
+		IContent label1 = report.createLabelContent();
+		label1.setParent(container);
+		label1.getStyle().setFontWeight("bold");
+		IContent label2 = report.createLabelContent();
+		label2.setParent(container);
+		label2.getStyle().setFontStyle("italic");
+
+		// the children with the same inline style share the computed style
+		assertSame(label.getComputedStyle(), label1.getComputedStyle());
+		assertNotSame(label.getComputedStyle(), label2.getComputedStyle());
+	}
 }
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.internal.document;
+
+import java.io.DataOutputStream;
+
+import org.eclipse.birt.core.archive.FileArchiveReader;
+import org.eclipse.birt.core.archive.FileArchiveWriter;
+import org.eclipse.birt.core.archive.RAOutputStream;
+import org.eclipse.birt.core.util.IOUtil;
+import org.eclipse.birt.report.engine.EngineCase;
+import org.eclipse.birt.report.engine.api.impl.ReportDocumentConstants;
+
+public class PageIndexReaderTest extends EngineCase {
+
+	final static String REPORT_DOCUMENT_NAME = ".internal.pageindex.rptdocument";
+
+	@Override
+	public void setUp() {
+		removeFile(REPORT_DOCUMENT_NAME);
+	}
+
+	@Override
+	public void tearDown() {
+		removeFile(REPORT_DOCUMENT_NAME);
+	}
+
+	public void testGetPageOffset() throws Exception {
+		FileArchiveWriter writer = new FileArchiveWriter(REPORT_DOCUMENT_NAME);
+		RAOutputStream stream = writer.createRandomAccessStream(ReportDocumentConstants.PAGE_INDEX_STREAM);
+		DataOutputStream out = new DataOutputStream(stream);
+		IOUtil.writeString(out, "page1");
+		IOUtil.writeLong(out, 10);
+		IOUtil.writeString(out, "page2");
+		IOUtil.writeLong(out, 20);
+		out.flush();
+		stream.close();
+		writer.finish();
+
+		FileArchiveReader archive = new FileArchiveReader(REPORT_DOCUMENT_NAME);
+		PageIndexReader reader = new PageIndexReader(archive);
+		try {
+			assertEquals(20, reader.getPageOffset("page2"));
+			assertEquals(10, reader.getPageOffset("page1"));
+			// the unknown master page uses one of the saved pages
+			long offset = reader.getPageOffset("page3");
+			assertTrue(offset == 10 || offset == 20);
+			assertEquals(20, reader.getPageOffset("page2"));
+		} finally {
+			reader.close();
+			archive.close();
+		}
+	}
+}
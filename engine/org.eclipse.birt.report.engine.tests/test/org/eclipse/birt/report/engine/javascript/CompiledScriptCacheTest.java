@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.javascript;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.eclipse.birt.core.exception.BirtException;
+import org.eclipse.birt.core.script.ScriptContext;
+import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.Script;
+
+import junit.framework.TestCase;
+
+public class CompiledScriptCacheTest extends TestCase {
+
+	public void testGetPut() {
+		CompiledScriptCache cache = new CompiledScriptCache(10);
+		Script script = new DummyScript();
+		assertNull(cache.get("1 + 1", "a.js", 1, null, -1));
+		assertSame(script, cache.put("1 + 1", "a.js", 1, null, -1, script));
+		assertSame(script, cache.get("1 + 1", "a.js", 1, null, -1));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		// the script compiled by another thread in the meantime is kept
+		assertSame(script, cache.put("1 + 1", "a.js", 1, null, -1, new DummyScript()));
+		assertEquals(1, cache.size());
+
+		// the source, the line number, the security domain and the optimization
+		// level are in the key
+		assertNull(cache.get("1 + 2", "a.js", 1, null, -1));
+		assertNull(cache.get("1 + 1", "b.js", 1, null, -1));
+		assertNull(cache.get("1 + 1", null, 1, null, -1));
+		assertNull(cache.get("1 + 1", "a.js", 2, null, -1));
+		assertNull(cache.get("1 + 1", "a.js", 1, "domain", -1));
+		assertNull(cache.get("1 + 1", "a.js", 1, null, 0));
+		assertEquals(7, cache.getMissCount());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNull(cache.get("1 + 1", "a.js", 1, null, -1));
+	}
+
+	public void testEviction() {
+		CompiledScriptCache cache = new CompiledScriptCache(2);
+		Script a = new DummyScript();
+		Script b = new DummyScript();
+		Script c = new DummyScript();
+		cache.put("a", null, 1, null, -1, a);
+		cache.put("b", null, 1, null, -1, b);
+		// a is used recently, so b is evicted
+		assertSame(a, cache.get("a", null, 1, null, -1));
+		cache.put("c", null, 1, null, -1, c);
+		assertEquals(2, cache.size());
+		assertSame(a, cache.get("a", null, 1, null, -1));
+		assertNull(cache.get("b", null, 1, null, -1));
+		assertSame(c, cache.get("c", null, 1, null, -1));
+
+		CompiledScriptCache disabled = new CompiledScriptCache(0);
+		assertSame(a, disabled.put("a", null, 1, null, -1, a));
+		assertEquals(0, disabled.size());
+	}
+
+	public void testCompile() throws BirtException {
+		ScriptContext context = new ScriptContext();
+		ScriptContext other = new ScriptContext();
+		ScriptContext compiled = new ScriptContext();
+		try {
+			ClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+			context.setApplicationClassLoader(loader);
+			other.setApplicationClassLoader(loader);
+			compiled.setApplicationClassLoader(loader);
+			JavascriptEngine engine = (JavascriptEngine) context.getScriptEngine("javascript");
+			CompiledScriptCache cache = engine.getFactory().getScriptCache();
+			engine.getJSContext(context).setOptimizationLevel(-1);
+			((JavascriptEngine) other.getScriptEngine("javascript")).getJSContext(other).setOptimizationLevel(-1);
+
+			long hitCount = cache.getHitCount();
+			Script script = compile(context, "a.js", "undefinedValue + 1");
+			// the cached script is interpreted, it is not a class defined on the
+			// application class loader
+			assertSame(Script.class.getClassLoader(), script.getClass().getClassLoader());
+
+			// the engines created by the same factory share the script
+			assertSame(script, compile(context, "a.js", "undefinedValue + 1"));
+			assertSame(script, compile(other, "a.js", "undefinedValue + 1"));
+			assertEquals(hitCount + 2, cache.getHitCount());
+
+			// the script compiled from another source reports its own source
+			Script script2 = compile(other, "b.js", "undefinedValue + 1");
+			assertNotSame(script, script2);
+			assertEquals("a.js", getErrorSource(context, "a.js"));
+			assertEquals("b.js", getErrorSource(other, "b.js"));
+
+			// the scripts compiled to java classes are not cached
+			JavascriptEngine compiledEngine = (JavascriptEngine) compiled.getScriptEngine("javascript");
+			compiledEngine.getJSContext(compiled).setOptimizationLevel(0);
+			hitCount = cache.getHitCount();
+			int size = cache.size();
+			Script compiledScript = compile(compiled, "a.js", "undefinedValue + 1");
+			assertNotSame(script, compiledScript);
+			assertNotSame(compiledScript, compile(compiled, "a.js", "undefinedValue + 1"));
+			assertEquals(hitCount, cache.getHitCount());
+			assertEquals(size, cache.size());
+		} finally {
+			context.close();
+			other.close();
+			compiled.close();
+		}
+	}
+
+	private Script compile(ScriptContext context, String sourceName, String script) throws BirtException {
+		return ((CompiledJavascript) context.compile("javascript", sourceName, 1, script)).getCompiledScript();
+	}
+
+	private String getErrorSource(ScriptContext context, String sourceName) throws BirtException {
+		try {
+			context.evaluate(context.compile("javascript", sourceName, 1, "undefinedValue + 1"));
+		} catch (BirtException ex) {
+			assertTrue(ex.getCause() instanceof RhinoException);
+			return ((RhinoException) ex.getCause()).sourceName();
+		}
+		fail();
+		return null;
+	}
+
+	private static class DummyScript implements Script {
+
+		@Override
+		public Object exec(org.mozilla.javascript.Context cx, org.mozilla.javascript.Scriptable scope) {
+			return null;
+		}
+	}
+}
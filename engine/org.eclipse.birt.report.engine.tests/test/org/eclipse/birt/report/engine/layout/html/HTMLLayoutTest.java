@@ -14,10 +14,14 @@
 
 package org.eclipse.birt.report.engine.layout.html;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.birt.report.engine.EngineCase;
 import org.eclipse.birt.report.engine.api.EngineException;
+import org.eclipse.birt.report.engine.api.HTMLRenderOption;
 import org.eclipse.birt.report.engine.api.IReportDocument;
 import org.eclipse.birt.report.engine.api.TOCNode;
 
@@ -61,6 +65,110 @@ public class HTMLLayoutTest extends EngineCase {
 		document.close();
 	}
 
+	private static final Pattern CELL_PATTERN = Pattern.compile("<t[dh](\\s[^>]*)?>"); //$NON-NLS-1$
+
+	private static final Pattern SPAN_PATTERN = Pattern.compile("(colspan|rowspan)=\"(\\d+)\""); //$NON-NLS-1$
+
+	/**
+	 * Tests the streaming table layout outputs the same rows as the buffered
+	 * layout, the drop cells are truncated once the row limit is exceeded.
+	 *
+	 * @throws Exception
+	 */
+	public void testStreamingRender() throws Exception {
+		String designFile = "org/eclipse/birt/report/engine/executor/table1.xml";
+		String buffered = renderUnpaginated(designFile, false, 0);
+		String streaming = renderUnpaginated(designFile, true, 1000);
+		assertEquals(buffered, streaming);
+		assertTrue(checkRowSpans(buffered, 3) > 2);
+
+		// the drop cells are truncated at the second row, the following rows of
+		// the drop cells get empty cells, so each row still has 3 columns
+		String truncated = renderUnpaginated(designFile, true, 2);
+		assertEquals(getCount(buffered, "<tr"), getCount(truncated, "<tr"));
+		assertEquals(2, checkRowSpans(truncated, 3));
+		assertEquals(getTableText(buffered), getTableText(truncated));
+	}
+
+	/**
+	 * check each row of the table covers all the columns and no cell spans the
+	 * rows after the table.
+	 *
+	 * @return the max row span of the cells
+	 */
+	private int checkRowSpans(String html, int columnCount) {
+		String table = getTable(html);
+		String[] rows = table.split("<tr"); //$NON-NLS-1$
+		int[] spans = new int[columnCount];
+		int maxRowSpan = 1;
+		for (int i = 1; i < rows.length; i++) {
+			int column = 0;
+			Matcher cell = CELL_PATTERN.matcher(rows[i]);
+			while (cell.find()) {
+				while (column < columnCount && spans[column] > 0) {
+					column++;
+				}
+				int colSpan = 1;
+				int rowSpan = 1;
+				if (cell.group(1) != null) {
+					Matcher span = SPAN_PATTERN.matcher(cell.group(1));
+					while (span.find()) {
+						if ("colspan".equals(span.group(1))) { //$NON-NLS-1$
+							colSpan = Integer.parseInt(span.group(2));
+						} else {
+							rowSpan = Integer.parseInt(span.group(2));
+						}
+					}
+				}
+				assertTrue(column + colSpan <= columnCount);
+				for (int j = 0; j < colSpan; j++) {
+					spans[column++] = rowSpan;
+				}
+				maxRowSpan = Math.max(maxRowSpan, rowSpan);
+			}
+			while (column < columnCount && spans[column] > 0) {
+				column++;
+			}
+			assertEquals(columnCount, column);
+			for (int j = 0; j < columnCount; j++) {
+				spans[j]--;
+			}
+		}
+		for (int j = 0; j < columnCount; j++) {
+			assertEquals(0, spans[j]);
+		}
+		return maxRowSpan;
+	}
+
+	private String getTableText(String html) {
+		return getTable(html).replaceAll("<[^>]*>", " ").replaceAll("\\s+", " "); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @return the innermost table of the output, it is the table of the report
+	 */
+	private String getTable(String html) {
+		int start = html.lastIndexOf("<table"); //$NON-NLS-1$
+		assertTrue(start != -1);
+		int end = html.indexOf("</table>", start); //$NON-NLS-1$
+		assertTrue(end != -1);
+		return html.substring(start, end);
+	}
+
+	private String renderUnpaginated(String designFile, boolean streaming, int rowLimit) throws Exception {
+		HTMLRenderOption options = new HTMLRenderOption();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		options.setOutputStream(out);
+		options.setOutputFormat("html");
+		options.setHtmlPagination(false);
+		options.setHtmlTableStreaming(streaming);
+		if (rowLimit > 0) {
+			options.setHtmlTableStreamingRowLimit(rowLimit);
+		}
+		render(designFile, options);
+		return new String(out.toByteArray());
+	}
+
 	/**
 	 * Check there are 2 bookmarks with name <code>bookmark</code> int the document.
 	 * And there are both in the specified page.
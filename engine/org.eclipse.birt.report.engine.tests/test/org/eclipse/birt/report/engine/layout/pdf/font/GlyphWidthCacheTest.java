@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.layout.pdf.font;
+
+import com.lowagie.text.pdf.BaseFont;
+
+import junit.framework.TestCase;
+
+public class GlyphWidthCacheTest extends TestCase {
+
+	public void testGetWidthPoint() throws Exception {
+		String[] texts = { "", "a", "Total", "Hello, World!", "repeated values repeated values", "été",
+				"中文", "😀smile" };
+		String[] fonts = { BaseFont.HELVETICA, BaseFont.TIMES_BOLD, BaseFont.COURIER };
+		for (String fontName : fonts) {
+			BaseFont bf = BaseFont.createFont(fontName, BaseFont.WINANSI, false);
+			GlyphWidthCache cache = GlyphWidthCache.getInstance(bf);
+			assertSame(cache, GlyphWidthCache.getInstance(bf));
+			for (String text : texts) {
+				// measure twice to read the cached widths
+				assertEquals(bf.getWidthPoint(text, 10f), cache.getWidthPoint(bf, text, 10f), 0f);
+				assertEquals(bf.getWidthPoint(text, 12.5f), cache.getWidthPoint(bf, text, 12.5f), 0f);
+			}
+		}
+	}
+
+	public void testFontInfo() throws Exception {
+		BaseFont bf = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, false);
+		FontInfo fontInfo = new FontInfo(bf, 9f, 0, 400, false);
+		assertEquals(bf.getWidthPoint("measured text", 9f), fontInfo.getWordWidth("measured text"), 0f);
+		FontInfo copy = new FontInfo(fontInfo);
+		copy.setFontSize(18f);
+		assertEquals(bf.getWidthPoint("measured text", 18f), copy.getWordWidth("measured text"), 0f);
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.layout.pdf.util;
+
+import java.util.Collection;
+
+import org.eclipse.birt.report.engine.content.IContent;
+import org.eclipse.birt.report.engine.content.IForeignContent;
+import org.eclipse.birt.report.engine.content.ILabelContent;
+import org.eclipse.birt.report.engine.content.IReportContent;
+import org.eclipse.birt.report.engine.content.IStyle;
+import org.eclipse.birt.report.engine.content.impl.ReportContent;
+import org.eclipse.birt.report.engine.ir.Report;
+
+import junit.framework.TestCase;
+
+public class HTML2ContentTest extends TestCase {
+
+	final static String TEXT = "<u>a<b>b</b></u>";
+
+	public void testParsedHTML() {
+		IReportContent report = new ReportContent(new Report());
+
+		IForeignContent first = createForeign(report, TEXT);
+		HTML2Content.html2Content(first);
+		IStyle underline = findContainer(first, "a").getInlineStyle();
+		IStyle bold = findContainer(first, "b").getInlineStyle();
+		assertEquals(IStyle.UNDERLINE_VALUE, underline.getProperty(IStyle.STYLE_TEXT_UNDERLINE));
+		assertEquals(IStyle.BOLD_VALUE, bold.getProperty(IStyle.STYLE_FONT_WEIGHT));
+		assertNull(bold.getProperty(IStyle.STYLE_TEXT_UNDERLINE));
+
+		// the styles of the first instance are changed after the layout
+		underline.setProperty(IStyle.STYLE_TEXT_UNDERLINE, IStyle.NONE_VALUE);
+		bold.setProperty(IStyle.STYLE_FONT_WEIGHT, IStyle.NORMAL_VALUE);
+
+		// the second instance reuses the parse but gets the styles of the tags
+		IForeignContent second = createForeign(report, TEXT);
+		HTML2Content.html2Content(second);
+		IStyle underline2 = findContainer(second, "a").getInlineStyle();
+		IStyle bold2 = findContainer(second, "b").getInlineStyle();
+		assertNotSame(underline, underline2);
+		assertNotSame(bold, bold2);
+		assertEquals(IStyle.UNDERLINE_VALUE, underline2.getProperty(IStyle.STYLE_TEXT_UNDERLINE));
+		assertEquals(IStyle.BOLD_VALUE, bold2.getProperty(IStyle.STYLE_FONT_WEIGHT));
+		assertNull(bold2.getProperty(IStyle.STYLE_TEXT_UNDERLINE));
+
+		// the text with another value is parsed again
+		IForeignContent other = createForeign(report, "<u>a<b>c</b></u>");
+		HTML2Content.html2Content(other);
+		assertNull(findContainer(other, "b"));
+		assertEquals(IStyle.BOLD_VALUE, findContainer(other, "c").getInlineStyle().getProperty(IStyle.STYLE_FONT_WEIGHT));
+
+		// the contents of another report content get their own styles
+		IReportContent report2 = new ReportContent(new Report());
+		IForeignContent third = createForeign(report2, TEXT);
+		HTML2Content.html2Content(third);
+		IStyle underline3 = findContainer(third, "a").getInlineStyle();
+		assertNotSame(underline, underline3);
+		assertNotSame(underline2, underline3);
+		assertEquals(IStyle.UNDERLINE_VALUE, underline3.getProperty(IStyle.STYLE_TEXT_UNDERLINE));
+		assertEquals(IStyle.BOLD_VALUE,
+				findContainer(third, "b").getInlineStyle().getProperty(IStyle.STYLE_FONT_WEIGHT));
+	}
+
+	private IForeignContent createForeign(IReportContent report, String text) {
+		IForeignContent foreign = report.createForeignContent();
+		foreign.setRawType(IForeignContent.HTML_TYPE);
+		foreign.setRawValue(text);
+		return foreign;
+	}
+
+	/**
+	 * find the content which contains the label of the text.
+	 */
+	private IContent findContainer(IContent content, String text) {
+		Collection<?> children = content.getChildren();
+		for (Object child : children) {
+			if (child instanceof ILabelContent && text.equals(((ILabelContent) child).getText())) {
+				return content;
+			}
+			IContent container = findContainer((IContent) child, text);
+			if (container != null) {
+				return container;
+			}
+		}
+		return null;
+	}
+}
@@ -18,6 +18,7 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -434,6 +435,164 @@ public class EngineConfig extends PlatformConfig implements IEngineConfig {
 		return 0;
 	}
 
+	/**
+	 * Set the max count of the report designs cached by the engine, the cache is
+	 * disabled by default.
+	 *
+	 * @param size the max count of the cached designs, 0 to disable the cache.
+	 */
+	public void setDesignCacheSize(int size) {
+		setProperty(DESIGN_CACHE_SIZE, Integer.valueOf(size));
+	}
+
+	/**
+	 * Get the max count of the report designs cached by the engine
+	 *
+	 * @return the max count of the cached designs
+	 */
+	public int getDesignCacheSize() {
+		Object size = getProperty(DESIGN_CACHE_SIZE);
+		if (size instanceof Integer) {
+			return ((Integer) size).intValue();
+		}
+		if (size instanceof String) {
+			try {
+				return Integer.parseInt((String) size);
+			} catch (NumberFormatException ex) {
+				return 0;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Set the max count of the submitted tasks running at the same time.
+	 *
+	 * @param maxTasks the max count of the running tasks
+	 */
+	public void setSchedulerMaxTasks(int maxTasks) {
+		setProperty(SCHEDULER_MAX_TASKS, Integer.valueOf(maxTasks));
+	}
+
+	/**
+	 * Get the max count of the submitted tasks running at the same time.
+	 *
+	 * @return the max count of the running tasks, the count of the available
+	 *         processors if it is not set.
+	 */
+	public int getSchedulerMaxTasks() {
+		Object maxTasks = getProperty(SCHEDULER_MAX_TASKS);
+		if (maxTasks instanceof Integer && ((Integer) maxTasks).intValue() > 0) {
+			return ((Integer) maxTasks).intValue();
+		}
+		if (maxTasks instanceof String) {
+			try {
+				int value = Integer.parseInt((String) maxTasks);
+				if (value > 0) {
+					return value;
+				}
+			} catch (NumberFormatException ex) {
+				// use the count of the processors
+			}
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Set the max count of the running tasks of a scheduler queue.
+	 *
+	 * @param queue    the queue name
+	 * @param maxTasks the max count of the running tasks of the queue
+	 */
+	public void setSchedulerQueueLimit(String queue, int maxTasks) {
+		Map<String, Integer> limits = getSchedulerQueueLimits();
+		limits.put(queue, Integer.valueOf(maxTasks));
+		setProperty(SCHEDULER_QUEUE_LIMITS, limits);
+	}
+
+	/**
+	 * Get the max count of the running tasks of the scheduler queues.
+	 *
+	 * @return the map from the queue name to the max count
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, Integer> getSchedulerQueueLimits() {
+		Object limits = getProperty(SCHEDULER_QUEUE_LIMITS);
+		if (limits instanceof Map) {
+			return (Map<String, Integer>) limits;
+		}
+		return new HashMap<>();
+	}
+
+	/**
+	 * Set the thread factory of the scheduler.
+	 *
+	 * @param factory the thread factory, null to use the daemon platform threads.
+	 */
+	public void setSchedulerThreadFactory(ThreadFactory factory) {
+		setProperty(SCHEDULER_THREAD_FACTORY, factory);
+	}
+
+	/**
+	 * Get the thread factory of the scheduler.
+	 *
+	 * @return the thread factory, null if it is not set.
+	 */
+	public ThreadFactory getSchedulerThreadFactory() {
+		Object factory = getProperty(SCHEDULER_THREAD_FACTORY);
+		if (factory instanceof ThreadFactory) {
+			return (ThreadFactory) factory;
+		}
+		return null;
+	}
+
+	/**
+	 * Set if the engine measures the phases of the tasks.
+	 *
+	 * @param enabled true to measure the phases.
+	 */
+	public void setPerformanceInstrumentation(boolean enabled) {
+		setProperty(PERFORMANCE_INSTRUMENTATION, Boolean.valueOf(enabled));
+	}
+
+	/**
+	 * Get if the engine measures the phases of the tasks.
+	 *
+	 * @return true if the instrumentation or the performance listener is set.
+	 */
+	public boolean isPerformanceInstrumentation() {
+		if (getPerformanceListener() != null) {
+			return true;
+		}
+		Object enabled = getProperty(PERFORMANCE_INSTRUMENTATION);
+		if (enabled instanceof Boolean) {
+			return ((Boolean) enabled).booleanValue();
+		}
+		return false;
+	}
+
+	/**
+	 * Set the listener notified of the phases of all the tasks.
+	 *
+	 * @param listener the performance listener.
+	 */
+	public void setPerformanceListener(IPerformanceListener listener) {
+		setProperty(PERFORMANCE_LISTENER, listener);
+	}
+
+	/**
+	 * Get the listener notified of the phases of all the tasks.
+	 *
+	 * @return the performance listener, null if it is not set.
+	 */
+	public IPerformanceListener getPerformanceListener() {
+		Object listener = getProperty(PERFORMANCE_LISTENER);
+		if (listener instanceof IPerformanceListener) {
+			return (IPerformanceListener) listener;
+		}
+		return null;
+	}
+
 	/**
 	 * Sets default emitter for an output format.
 	 *
@@ -80,6 +80,21 @@ public class EngineConstants {
 	 */
 	public final static String APPCONTEXT_MAX_PAGE_BREAK_INTERVAL = "MAX_PAGE_BREAK_INTERVAL"; //$NON-NLS-1$
 
+	/**
+	 * write the report document in a background thread. If this option is set to
+	 * True, the run task writes the document streams asynchronously. The default
+	 * value is false.
+	 */
+	public final static String APPCONTEXT_ASYNC_DOCUMENT_WRITE = "ASYNC_DOCUMENT_WRITE"; //$NON-NLS-1$
+
+	/**
+	 * compress the streams of the report document. If this option is set to True,
+	 * the run task creates the document file with compressed streams, which are
+	 * smaller but slower to read. It only applies to the document files created
+	 * by the task. The default value is false.
+	 */
+	public final static String APPCONTEXT_COMPRESS_DOCUMENT = "COMPRESS_DOCUMENT"; //$NON-NLS-1$
+
 	/**
 	 * The Engine task owning the application context
 	 */
@@ -12,10 +12,10 @@
 package org.eclipse.birt.report.engine.api;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.eclipse.birt.core.archive.RAFileInputStream;
 import org.eclipse.birt.report.engine.i18n.MessageConstants;
 
 /**
@@ -288,30 +289,13 @@ public class HTMLServerImageHandler extends HTMLImageHandler {
 		if (!imageFile.exists()) {
 			throw new EngineException(MessageConstants.MISSING_IMAGE_FILE_ERROR); // $NON-NLS-1$
 		}
-		InputStream in = null;
-		try {
-			in = new FileInputStream(imageFile);
-			byte[] buffer = new byte[1024];
-			int size = 0;
-			do {
-				size = in.read(buffer);
-				if (size > 0) {
-					out.write(buffer, 0, size);
-				}
-
-			} while (size > 0);
-			in.close();
+		// transfer the image by the file channel instead of copying it through a
+		// small buffer
+		try (RandomAccessFile file = new RandomAccessFile(imageFile, "r")) { //$NON-NLS-1$
+			RAFileInputStream in = new RAFileInputStream(file, 0, file.length());
+			in.transferTo(Channels.newChannel(out));
 		} catch (IOException ex) {
 			throw new EngineException(MessageConstants.ERROR, ex);
-		} finally {
-			try {
-				if (in != null) {
-					in.close();
-				}
-			} catch (IOException er) {
-
-			}
 		}
-
 	}
 }
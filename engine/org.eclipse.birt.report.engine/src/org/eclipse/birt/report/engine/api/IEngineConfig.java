@@ -66,4 +66,43 @@ public interface IEngineConfig extends IPlatformConfig {
 	 * The max rows per query
 	 */
 	String MAX_ROWS_PER_QUERY = "maxRowsPerQuery";
+
+	/**
+	 * the max count of the report designs cached by openReportDesign(String). The
+	 * cached runnable is shared by all the callers opening the same design file,
+	 * it is parsed again once the file is changed. 0 disables the cache.
+	 */
+	String DESIGN_CACHE_SIZE = "designCacheSize"; //$NON-NLS-1$
+
+	/**
+	 * the max count of the tasks submitted by IReportEngine.submit() running at
+	 * the same time. The default is the count of the available processors.
+	 */
+	String SCHEDULER_MAX_TASKS = "schedulerMaxTasks"; //$NON-NLS-1$
+
+	/**
+	 * the max count of the running tasks of each scheduler queue, the value is a
+	 * Map from the queue name to an Integer object. The queues not in the map are
+	 * only limited by SCHEDULER_MAX_TASKS.
+	 */
+	String SCHEDULER_QUEUE_LIMITS = "schedulerQueueLimits"; //$NON-NLS-1$
+
+	/**
+	 * the java.util.concurrent.ThreadFactory creating the threads of the scheduler,
+	 * for example a virtual thread factory for the I/O bound reports.
+	 */
+	String SCHEDULER_THREAD_FACTORY = "schedulerThreadFactory"; //$NON-NLS-1$
+
+	/**
+	 * should the engine measure the phases of the tasks. The value is a Boolean
+	 * object, default is <code>Boolean.FALSE</code>. The summary is returned by
+	 * IEngineTask.getPerformanceSummary().
+	 */
+	String PERFORMANCE_INSTRUMENTATION = "performanceInstrumentation"; //$NON-NLS-1$
+
+	/**
+	 * the IPerformanceListener notified of the phases of all the tasks and the
+	 * engine, it enables the instrumentation too.
+	 */
+	String PERFORMANCE_LISTENER = "performanceListener"; //$NON-NLS-1$
 }
@@ -367,4 +367,20 @@ public interface IEngineTask {
 	 * @param handler a user defined status handler
 	 */
 	void setStatusHandler(IStatusHandler handler);
+
+	/**
+	 * set a task-level performance listener, it is notified of the phases of the
+	 * task when the task stops, besides the engine-level one.
+	 *
+	 * @param listener a user defined performance listener
+	 */
+	void setPerformanceListener(IPerformanceListener listener);
+
+	/**
+	 * get the time spent in the phases of the task. The summary is updated when
+	 * the task stops.
+	 *
+	 * @return the summary, null if the instrumentation is not enabled.
+	 */
+	IPerformanceSummary getPerformanceSummary();
 }
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.api;
+
+/**
+ * This interface is to trace where BIRT spends the time of a report. If a
+ * performance listener is set (by IEngineTask.setPerformanceListener() or
+ * IEngineConfig.PERFORMANCE_LISTENER), the engine measures the phases of the
+ * task and notifies the listener of the totals of each phase when the task
+ * stops. The engine level phases (loading the designs and opening the
+ * documents) are notified to the engine listener at once.
+ *
+ * The events are recorded as JDK Flight Recorder events too, named
+ * org.eclipse.birt.report.engine.Phase, if the flight recorder is available.
+ */
+public interface IPerformanceListener {
+
+	/**
+	 * the whole task
+	 */
+	int TASK = 1;
+
+	/**
+	 * parsing a report design
+	 */
+	int DESIGN_LOAD = 2;
+
+	/**
+	 * building the engine IR of the report design
+	 */
+	int IR_BUILD = 3;
+
+	/**
+	 * executing a data set or cube query
+	 */
+	int QUERY = 4;
+
+	/**
+	 * reusing the cached results of a query
+	 */
+	int QUERY_CACHE_HIT = 5;
+
+	/**
+	 * fetching the rows of a query
+	 */
+	int DATA_FETCH = 6;
+
+	/**
+	 * evaluating the expressions and event handler scripts in the engine
+	 */
+	int SCRIPT = 7;
+
+	/**
+	 * laying out the report, including executing the report items
+	 */
+	int LAYOUT = 8;
+
+	/**
+	 * calling the emitter
+	 */
+	int EMIT = 9;
+
+	/**
+	 * writing the output of the emitter
+	 */
+	int OUTPUT = 10;
+
+	/**
+	 * opening and closing the report document archive
+	 */
+	int ARCHIVE = 11;
+
+	/**
+	 * The 'phase' specifies the measured phase, the 'name' the measured object
+	 * and the 'count' a proper value to the phase. It's like:
+	 * <table>
+	 * <tr>
+	 * <th align=left>phase
+	 * <th align=left>name
+	 * <th align=left>count
+	 * <tr>
+	 * <td>TASK
+	 * <td>null
+	 * <td>1
+	 * <tr>
+	 * <td>DESIGN_LOAD, IR_BUILD
+	 * <td>report name
+	 * <td>1
+	 * <tr>
+	 * <td>QUERY, QUERY_CACHE_HIT
+	 * <td>data set or cube name
+	 * <td>the executed queries
+	 * <tr>
+	 * <td>DATA_FETCH
+	 * <td>data set name
+	 * <td>the fetched rows
+	 * <tr>
+	 * <td>SCRIPT
+	 * <td>null
+	 * <td>the evaluated scripts
+	 * <tr>
+	 * <td>LAYOUT
+	 * <td>output format, null for the report document
+	 * <td>1
+	 * <tr>
+	 * <td>EMIT
+	 * <td>emitter id
+	 * <td>the emitter calls
+	 * <tr>
+	 * <td>OUTPUT
+	 * <td>emitter id
+	 * <td>the output bytes
+	 * <tr>
+	 * <td>ARCHIVE
+	 * <td>document name
+	 * <td>1
+	 * </table>
+	 *
+	 * @param phase       the phase
+	 * @param name        the measured object
+	 * @param elapsedTime the time spent in the phase, in nanoseconds
+	 * @param count       the count of the phase
+	 */
+	void onPhase(int phase, String name, long elapsedTime, long count);
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.api;
+
+import java.util.Collection;
+
+/**
+ * The totals of the phases measured in a task, see IPerformanceListener for the
+ * phases.
+ */
+public interface IPerformanceSummary {
+
+	/**
+	 * get the time spent in the phase.
+	 *
+	 * @param phase the phase
+	 * @return the time in nanoseconds
+	 */
+	long getElapsedTime(int phase);
+
+	/**
+	 * get the count of the phase, such as the fetched rows or the output bytes.
+	 *
+	 * @param phase the phase
+	 * @return the count
+	 */
+	long getCount(int phase);
+
+	/**
+	 * get the names measured in the phase, such as the data sets of the queries.
+	 *
+	 * @param phase the phase
+	 * @return the names, the null name is not included.
+	 */
+	Collection<String> getNames(int phase);
+
+	/**
+	 * get the time spent in the phase by the named object.
+	 *
+	 * @param phase the phase
+	 * @param name  the name
+	 * @return the time in nanoseconds
+	 */
+	long getElapsedTime(int phase, String name);
+
+	/**
+	 * get the count of the phase of the named object.
+	 *
+	 * @param phase the phase
+	 * @param name  the name
+	 * @return the count
+	 */
+	long getCount(int phase, String name);
+}
@@ -75,6 +75,42 @@ public interface IRenderOption extends ITaskOption {
 
 	String REPORTLET_SIZE = "reportletSize";
 
+	/**
+	 * The number of threads used to render the pages of a report document. The
+	 * value is an Integer object, default is 1. The pages are rendered in parallel
+	 * only if the emitter supports merging the outputs.
+	 */
+	String RENDER_THREAD_COUNT = "renderThreadCount"; //$NON-NLS-1$
+
+	/**
+	 * The index of the page range rendered in parallel, set by the render task to
+	 * the emitter of each range. The value is an Integer object.
+	 */
+	String RENDER_RANGE_INDEX = "renderRangeIndex"; //$NON-NLS-1$
+
+	/**
+	 * The number of the page ranges rendered in parallel, set by the render task
+	 * to the emitter of each range. The value is an Integer object.
+	 */
+	String RENDER_RANGE_COUNT = "renderRangeCount"; //$NON-NLS-1$
+
+	/**
+	 * Should the table layout of the HTML layout engine output the rows as soon as
+	 * they are completed. The value is a Boolean object, default is
+	 * <code>Boolean.FALSE</code>. It only takes effect if the output is not
+	 * paginated: the table layout keeps only the rows of the unresolved row spans
+	 * and drop cells. The other buffers of the layout and of the emitters, such as
+	 * the repeated table headers, are not changed.
+	 */
+	String HTML_TABLE_STREAMING = "htmlTableStreaming"; //$NON-NLS-1$
+
+	/**
+	 * The max rows buffered by the table layout to resolve the row spans and drop
+	 * cells if HTML_TABLE_STREAMING is set. The cells are truncated at the row once
+	 * the limit is exceeded. The value is an Integer object, default is 1000.
+	 */
+	String HTML_TABLE_STREAMING_ROW_LIMIT = "htmlTableStreamingRowLimit"; //$NON-NLS-1$
+
 	/**
 	 * @return
 	 * @deprecated use getOptions instead
@@ -16,6 +16,7 @@ package org.eclipse.birt.report.engine.api;
 
 import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -389,4 +390,29 @@ public interface IReportEngine {
 	 * @return the version of BIRT
 	 */
 	String getVersion();
+
+	/**
+	 * removes the report design from the design cache, so the next
+	 * openReportDesign() parses the design file again. The cache is enabled by
+	 * IEngineConfig.DESIGN_CACHE_SIZE.
+	 *
+	 * @param designName the full path of the report design file, null to remove
+	 *                   all the cached designs.
+	 */
+	void evictReportDesign(String designName);
+
+	/**
+	 * submits the task to the engine scheduler and returns at once. The task is
+	 * run, render, run and render or data extraction task, it is started once the
+	 * limits of IEngineConfig.SCHEDULER_MAX_TASKS and SCHEDULER_QUEUE_LIMITS
+	 * allow. Cancelling the future cancels the task by IEngineTask.cancel(). The
+	 * task is not closed by the engine.
+	 *
+	 * @param task   the task to run
+	 * @param option the queue, tenant and priority of the task, null to use the
+	 *               default queue.
+	 * @return the future of the task, its value is the finished task.
+	 * @throws IllegalStateException if the engine has been destroyed.
+	 */
+	Future<IEngineTask> submit(IEngineTask task, ISubmitOption option);
 }
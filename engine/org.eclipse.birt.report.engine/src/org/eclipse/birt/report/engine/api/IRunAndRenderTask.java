@@ -31,6 +31,26 @@ public interface IRunAndRenderTask extends IEngineTask {
 	 */
 	IRenderOption getRenderOption();
 
+	/**
+	 * set the render options of several outputs. The report is executed only once
+	 * into a transient report document in the temp directory of the engine, then
+	 * the document is rendered to each output by its own render task, so the
+	 * paginated and unpaginated outputs can be created by one task. Each option
+	 * should define its own output file or output stream.
+	 *
+	 * As with a run task followed by render tasks, the onRender scripts are
+	 * executed for each output and only the serializable persistent global
+	 * variables are available to them.
+	 *
+	 * @param options the render options of the outputs
+	 */
+	void setRenderOptions(IRenderOption[] options);
+
+	/**
+	 * @return the render options of the outputs
+	 */
+	IRenderOption[] getRenderOptions();
+
 	/**
 	 * runs the task to generate report document or other output format
 	 */
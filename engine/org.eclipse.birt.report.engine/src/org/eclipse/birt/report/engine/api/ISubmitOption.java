@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.api;
+
+/**
+ * Defines the options of the task submitted to the engine scheduler.
+ *
+ * The tasks are started in the order of the priority. The tasks with the same
+ * priority are shared between the tenants, the task of the tenant with the
+ * fewest running tasks is started first. Each queue may limit the count of its
+ * running tasks by IEngineConfig.SCHEDULER_QUEUE_LIMITS.
+ */
+public interface ISubmitOption extends ITaskOption {
+
+	/**
+	 * the queue of the task, the value is a String, default is "default".
+	 */
+	String QUEUE = "queue"; //$NON-NLS-1$
+
+	/**
+	 * the tenant of the task, the value is a String, default is null.
+	 */
+	String TENANT = "tenant"; //$NON-NLS-1$
+
+	/**
+	 * the priority of the task, the value is an Integer object, the tasks with
+	 * higher priority are started first. Default is 0.
+	 */
+	String PRIORITY = "priority"; //$NON-NLS-1$
+
+	String DEFAULT_QUEUE = "default"; //$NON-NLS-1$
+
+	void setQueue(String queue);
+
+	String getQueue();
+
+	void setTenant(String tenant);
+
+	String getTenant();
+
+	void setPriority(int priority);
+
+	int getPriority();
+}
@@ -290,4 +290,61 @@ public class RenderOption extends TaskOption implements IRenderOption {
 	public void closeOutputStreamOnExit(boolean closeOnExit) {
 		setOption(CLOSE_OUTPUTSTREAM_ON_EXIT, Boolean.valueOf(closeOnExit));
 	}
+
+	/**
+	 * Set the number of threads used to render the pages.
+	 *
+	 * @param threadCount the thread count, 1 renders the pages in the task thread
+	 */
+	public void setRenderThreadCount(int threadCount) {
+		setOption(RENDER_THREAD_COUNT, Integer.valueOf(threadCount));
+	}
+
+	/**
+	 * Get the number of threads used to render the pages.
+	 *
+	 * @return the thread count
+	 */
+	public int getRenderThreadCount() {
+		return getIntOption(RENDER_THREAD_COUNT, 1);
+	}
+
+	/**
+	 * Set if the table layout outputs the rows as soon as they are completed.
+	 *
+	 * @param streaming true to enable the streaming table layout of the
+	 *                  unpaginated output
+	 */
+	public void setHtmlTableStreaming(boolean streaming) {
+		setOption(HTML_TABLE_STREAMING, Boolean.valueOf(streaming));
+	}
+
+	/**
+	 * Get if the table layout outputs the rows as soon as they are completed.
+	 *
+	 * @return the streaming table layout flag
+	 */
+	public boolean isHtmlTableStreaming() {
+		return getBooleanOption(HTML_TABLE_STREAMING, false);
+	}
+
+	/**
+	 * Set the max rows buffered by the streaming table layout to resolve the row
+	 * spans and drop cells.
+	 *
+	 * @param limit the max rows
+	 */
+	public void setHtmlTableStreamingRowLimit(int limit) {
+		setOption(HTML_TABLE_STREAMING_ROW_LIMIT, Integer.valueOf(limit));
+	}
+
+	/**
+	 * Get the max rows buffered by the streaming table layout to resolve the row
+	 * spans and drop cells.
+	 *
+	 * @return the max rows
+	 */
+	public int getHtmlTableStreamingRowLimit() {
+		return getIntOption(HTML_TABLE_STREAMING_ROW_LIMIT, 1000);
+	}
 }
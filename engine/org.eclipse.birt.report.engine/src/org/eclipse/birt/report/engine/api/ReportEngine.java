@@ -16,6 +16,7 @@ package org.eclipse.birt.report.engine.api;
 
 import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -509,6 +510,19 @@ public class ReportEngine implements IReportEngine {
 		return engine.getVersion();
 	}
 
+	@Override
+	public void evictReportDesign(String designName) {
+		engine.evictReportDesign(designName);
+	}
+
+	@Override
+	public Future<IEngineTask> submit(IEngineTask task, ISubmitOption option) {
+		if (engine == null) {
+			throw new IllegalStateException("The report engine has been destroyed."); //$NON-NLS-1$
+		}
+		return engine.submit(task, option);
+	}
+
 	@Override
 	public IEngineTask createEngineTask(String taskName) throws EngineException {
 		return engine.createEngineTask(taskName);
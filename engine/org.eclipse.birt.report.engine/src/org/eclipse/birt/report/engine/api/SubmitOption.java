@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.api;
+
+import java.util.Map;
+
+/**
+ * The options of the task submitted to the engine scheduler.
+ */
+public class SubmitOption extends TaskOption implements ISubmitOption {
+
+	/**
+	 * constructor
+	 */
+	public SubmitOption() {
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param options
+	 */
+	public SubmitOption(Map options) {
+		super(options);
+	}
+
+	@Override
+	public void setQueue(String queue) {
+		setOption(QUEUE, queue);
+	}
+
+	@Override
+	public String getQueue() {
+		String queue = getStringOption(QUEUE);
+		if (queue == null) {
+			return DEFAULT_QUEUE;
+		}
+		return queue;
+	}
+
+	@Override
+	public void setTenant(String tenant) {
+		setOption(TENANT, tenant);
+	}
+
+	@Override
+	public String getTenant() {
+		return getStringOption(TENANT);
+	}
+
+	@Override
+	public void setPriority(int priority) {
+		setOption(PRIORITY, Integer.valueOf(priority));
+	}
+
+	@Override
+	public int getPriority() {
+		return getIntOption(PRIORITY, 0);
+	}
+}
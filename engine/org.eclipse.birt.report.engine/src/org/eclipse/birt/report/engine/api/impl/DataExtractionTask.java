@@ -28,6 +28,8 @@ import org.eclipse.birt.report.engine.api.EngineException;
 import org.eclipse.birt.report.engine.api.IDataExtractionTask;
 import org.eclipse.birt.report.engine.api.IExtractionOption;
 import org.eclipse.birt.report.engine.api.IExtractionResults;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
+import org.eclipse.birt.report.engine.api.IPerformanceSummary;
 import org.eclipse.birt.report.engine.api.IProgressMonitor;
 import org.eclipse.birt.report.engine.api.IReportDocument;
 import org.eclipse.birt.report.engine.api.IReportEngine;
@@ -311,6 +313,16 @@ public class DataExtractionTask implements IDataExtractionTask {
 		task.setStatusHandler(handler);
 	}
 
+	@Override
+	public void setPerformanceListener(IPerformanceListener listener) {
+		task.setPerformanceListener(listener);
+	}
+
+	@Override
+	public IPerformanceSummary getPerformanceSummary() {
+		return task.getPerformanceSummary();
+	}
+
 	@Override
 	public void setSorts(ISortDefinition[] simpleSortExpression, boolean overrideExistingSorts) {
 		task.setSorts(simpleSortExpression, overrideExistingSorts);
@@ -56,7 +56,12 @@ public class DocumentWriter implements IDocumentWriter {
 			out.close();
 
 			// rewrite internal report
-			Report report = new ReportParser().parse((ReportDesignHandle) runnable.getDesignHandle());
+			Report report;
+			if (runnable instanceof ReportRunnable) {
+				report = ((ReportRunnable) runnable).getReportIR();
+			} else {
+				report = new ReportParser().parse((ReportDesignHandle) runnable.getDesignHandle());
+			}
 			out = writer.createRandomAccessStream(ReportDocumentConstants.DESIGN_IR_STREAM);
 			new EngineIRWriter().write(out, report);
 			out.close();
@@ -39,6 +39,7 @@ import org.eclipse.birt.core.script.ParameterAttribute;
 import org.eclipse.birt.core.util.LocaleUtil;
 import org.eclipse.birt.data.engine.api.IQueryResults;
 import org.eclipse.birt.report.data.adapter.api.DataRequestSession;
+import org.eclipse.birt.report.engine.api.EngineConfig;
 import org.eclipse.birt.report.engine.api.EngineConstants;
 import org.eclipse.birt.report.engine.api.EngineException;
 import org.eclipse.birt.report.engine.api.HTMLRenderContext;
@@ -48,6 +49,8 @@ import org.eclipse.birt.report.engine.api.IEngineTask;
 import org.eclipse.birt.report.engine.api.IHTMLRenderOption;
 import org.eclipse.birt.report.engine.api.IPDFRenderOption;
 import org.eclipse.birt.report.engine.api.IPageHandler;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
+import org.eclipse.birt.report.engine.api.IPerformanceSummary;
 import org.eclipse.birt.report.engine.api.IProgressMonitor;
 import org.eclipse.birt.report.engine.api.IRenderOption;
 import org.eclipse.birt.report.engine.api.IReportDocument;
@@ -77,6 +80,8 @@ import org.eclipse.birt.report.engine.extension.internal.ExtensionManager;
 import org.eclipse.birt.report.engine.i18n.MessageConstants;
 import org.eclipse.birt.report.engine.internal.document.DocumentExtension;
 import org.eclipse.birt.report.engine.internal.document.v3.ReportContentReaderV3;
+import org.eclipse.birt.report.engine.internal.instrument.InstrumentedContentEmitter;
+import org.eclipse.birt.report.engine.internal.instrument.PerformanceRecorder;
 import org.eclipse.birt.report.engine.ir.Expression.Script;
 import org.eclipse.birt.report.engine.ir.Report;
 import org.eclipse.birt.report.engine.layout.IReportLayoutEngine;
@@ -209,6 +214,13 @@ public abstract class EngineTask implements IEngineTask {
 
 	protected IStatusHandler statusHandler;
 
+	/**
+	 * the recorder of the phases, null if the task is not measured.
+	 */
+	protected PerformanceRecorder performanceRecorder;
+
+	private long startTime;
+
 	protected String[] userAcls;
 
 	protected String cancelReason;
@@ -238,6 +250,11 @@ public abstract class EngineTask implements IEngineTask {
 		// set the default app context
 		setAppContext(null);
 
+		EngineConfig config = engine.getConfig();
+		if (config != null && config.isPerformanceInstrumentation()) {
+			setPerformanceRecorder(new PerformanceRecorder(config.getPerformanceListener()));
+		}
+
 		cancelFlag = false;
 
 		resourceLocator = new ResourceLocatorWrapper();
@@ -1429,6 +1446,9 @@ public abstract class EngineTask implements IEngineTask {
 					emitterID); // $NON-NLS-1$
 			throw new EngineException(MessageConstants.CANNOT_CREATE_EMITTER_EXCEPTION, emitterID);
 		}
+		if (performanceRecorder != null) {
+			emitter = new InstrumentedContentEmitter(emitter, emitterID, performanceRecorder);
+		}
 
 		return emitter;
 	}
@@ -1496,6 +1516,16 @@ public abstract class EngineTask implements IEngineTask {
 				layoutEngine.setOption(IHTMLRenderOption.USER_AGENT, userAgent);
 			}
 
+			Object streaming = renderOptions.getOption(IRenderOption.HTML_TABLE_STREAMING);
+			if (streaming != null) {
+				layoutEngine.setOption(IRenderOption.HTML_TABLE_STREAMING, streaming);
+			}
+
+			Object rowLimit = renderOptions.getOption(IRenderOption.HTML_TABLE_STREAMING_ROW_LIMIT);
+			if (rowLimit != null) {
+				layoutEngine.setOption(IRenderOption.HTML_TABLE_STREAMING_ROW_LIMIT, rowLimit);
+			}
+
 		}
 		layoutEngine.setOption(TASK_TYPE, Integer.valueOf(taskType));
 		return layoutEngine;
@@ -1606,6 +1636,17 @@ public abstract class EngineTask implements IEngineTask {
 					}
 				}
 			}
+			if (newOptions.equals(options)) {
+				return;
+			}
+			ReportRunnable runnable = executionContext.getRunnable();
+			if (runnable.isCacheReportIR()) {
+				// the runnable is shared by the design cache, change the options of
+				// a copy used by this task only
+				ReportRunnable newRunnable = runnable.cloneRunnable();
+				executionContext.updateRunnable(newRunnable);
+				handle = newRunnable.getReport();
+			}
 			handle.setOptions(newOptions);
 		}
 	}
@@ -1833,6 +1874,7 @@ public abstract class EngineTask implements IEngineTask {
 		IReportContext reportContext = executionContext.getReportContext();
 		IRenderOption options = executionContext.getRenderOption();
 		EngineEmitterServices services = new EngineEmitterServices(reportContext, options, configs);
+		services.setPerformanceRecorder(performanceRecorder);
 
 		// emitter is not null
 		emitter.initialize(services);
@@ -1845,6 +1887,7 @@ public abstract class EngineTask implements IEngineTask {
 
 	protected void changeStatusToRunning() {
 		runningStatus = STATUS_RUNNING;
+		startTime = PerformanceRecorder.start();
 	}
 
 	protected void changeStatusToStopped() {
@@ -1855,6 +1898,10 @@ public abstract class EngineTask implements IEngineTask {
 		} else {
 			runningStatus = STATUS_SUCCEEDED;
 		}
+		if (performanceRecorder != null) {
+			performanceRecorder.end(IPerformanceListener.TASK, null, startTime);
+			performanceRecorder.flush();
+		}
 	}
 
 	protected void handleFatalExceptions(Throwable t) throws EngineException {
@@ -2120,6 +2167,37 @@ public abstract class EngineTask implements IEngineTask {
 		statusHandler = handler;
 	}
 
+	@Override
+	public void setPerformanceListener(IPerformanceListener listener) {
+		if (performanceRecorder == null) {
+			setPerformanceRecorder(new PerformanceRecorder(null));
+		}
+		performanceRecorder.addListener(listener);
+	}
+
+	@Override
+	public IPerformanceSummary getPerformanceSummary() {
+		return performanceRecorder;
+	}
+
+	protected void setPerformanceRecorder(PerformanceRecorder recorder) {
+		performanceRecorder = recorder;
+		executionContext.setPerformanceRecorder(recorder);
+	}
+
+	/**
+	 * record a phase started at the start time if the task is measured.
+	 *
+	 * @param phase     the phase
+	 * @param name      the measured object
+	 * @param startTime the start time returned by PerformanceRecorder.start()
+	 */
+	protected void recordPhase(int phase, String name, long startTime) {
+		if (performanceRecorder != null) {
+			performanceRecorder.end(phase, name, startTime);
+		}
+	}
+
 	public IStatusHandler getStatusHandler() {
 		return statusHandler;
 	}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.api.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.birt.report.engine.api.IDataExtractionTask;
+import org.eclipse.birt.report.engine.api.IEngineTask;
+import org.eclipse.birt.report.engine.api.IRenderTask;
+import org.eclipse.birt.report.engine.api.IRunAndRenderTask;
+import org.eclipse.birt.report.engine.api.IRunTask;
+import org.eclipse.birt.report.engine.api.ISubmitOption;
+
+/**
+ * Runs the tasks submitted to the report engine.
+ *
+ * The scheduler is the admission control of the engine: at most maxTasks tasks
+ * are running at the same time, and each queue may have a lower limit. The
+ * pending task with the highest priority is started first, the tasks with the
+ * same priority are shared between the tenants by starting the task of the
+ * tenant with the fewest running tasks, then in the submit order.
+ *
+ * The future of the task cancels it by IEngineTask.cancel(), the task stops at
+ * its next cancel check. The submitted task is not closed by the scheduler.
+ */
+class EngineTaskScheduler {
+
+	static protected Logger logger = Logger.getLogger(EngineTaskScheduler.class.getName());
+
+	private final int maxTasks;
+
+	private final Map<String, Integer> queueLimits;
+
+	private final ExecutorService executor;
+
+	/**
+	 * the tasks waiting to start, in the submit order
+	 */
+	private final LinkedList<ScheduledTask> pendingTasks = new LinkedList<>();
+
+	private final HashSet<ScheduledTask> runningTasks = new HashSet<>();
+
+	private final Map<String, Integer> runningQueues = new HashMap<>();
+
+	private final Map<String, Integer> runningTenants = new HashMap<>();
+
+	private boolean shutdown;
+
+	EngineTaskScheduler(int maxTasks, Map<String, Integer> queueLimits, ThreadFactory threadFactory) {
+		this.maxTasks = maxTasks;
+		this.queueLimits = new HashMap<>(queueLimits);
+		if (threadFactory == null) {
+			threadFactory = new ThreadFactory() {
+
+				private final AtomicInteger threadNumber = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "BIRT Engine Task " + threadNumber.incrementAndGet()); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				}
+			};
+		}
+		// the count of the running tasks is limited by the scheduler
+		this.executor = Executors.newCachedThreadPool(threadFactory);
+	}
+
+	static boolean isSupported(IEngineTask task) {
+		return task instanceof IRunAndRenderTask || task instanceof IRunTask || task instanceof IRenderTask
+				|| task instanceof IDataExtractionTask;
+	}
+
+	/**
+	 * submit the task.
+	 *
+	 * @param task   the run, render, run and render or data extraction task
+	 * @param option the scheduler options of the task
+	 * @return the future of the task, its value is the finished task.
+	 */
+	ScheduledTask submit(IEngineTask task, ISubmitOption option) {
+		ScheduledTask scheduledTask = new ScheduledTask(task, option.getQueue(), option.getTenant(),
+				option.getPriority());
+		synchronized (this) {
+			if (shutdown) {
+				throw new IllegalStateException("The report engine has been shut down."); //$NON-NLS-1$
+			}
+			pendingTasks.add(scheduledTask);
+			dispatch();
+		}
+		return scheduledTask;
+	}
+
+	/**
+	 * start the pending tasks until the limits are reached.
+	 */
+	private void dispatch() {
+		while (!shutdown && runningTasks.size() < maxTasks) {
+			ScheduledTask next = selectNext();
+			if (next == null) {
+				return;
+			}
+			pendingTasks.remove(next);
+			runningTasks.add(next);
+			increase(runningQueues, next.queue, 1);
+			increase(runningTenants, next.tenant, 1);
+			executor.execute(new TaskRunner(next));
+		}
+	}
+
+	private ScheduledTask selectNext() {
+		ScheduledTask selected = null;
+		int selectedRunning = 0;
+		for (ScheduledTask task : pendingTasks) {
+			Integer limit = queueLimits.get(task.queue);
+			if (limit != null && getCount(runningQueues, task.queue) >= limit.intValue()) {
+				continue;
+			}
+			int running = getCount(runningTenants, task.tenant);
+			if (selected == null || task.priority > selected.priority
+					|| (task.priority == selected.priority && running < selectedRunning)) {
+				selected = task;
+				selectedRunning = running;
+			}
+		}
+		return selected;
+	}
+
+	private synchronized void finished(ScheduledTask task) {
+		runningTasks.remove(task);
+		increase(runningQueues, task.queue, -1);
+		increase(runningTenants, task.tenant, -1);
+		dispatch();
+	}
+
+	private synchronized boolean removePending(ScheduledTask task) {
+		return pendingTasks.remove(task);
+	}
+
+	/**
+	 * cancel all the tasks and stop the threads.
+	 */
+	void shutdown() {
+		ArrayList<ScheduledTask> tasks;
+		synchronized (this) {
+			shutdown = true;
+			tasks = new ArrayList<>(pendingTasks);
+			tasks.addAll(runningTasks);
+		}
+		for (ScheduledTask task : tasks) {
+			task.cancel(true);
+		}
+		executor.shutdown();
+	}
+
+	private static int getCount(Map<String, Integer> counts, String key) {
+		Integer count = counts.get(key);
+		return count == null ? 0 : count.intValue();
+	}
+
+	private static void increase(Map<String, Integer> counts, String key, int delta) {
+		int count = getCount(counts, key) + delta;
+		if (count > 0) {
+			counts.put(key, Integer.valueOf(count));
+		} else {
+			counts.remove(key);
+		}
+	}
+
+	private class TaskRunner implements Runnable {
+
+		private final ScheduledTask task;
+
+		TaskRunner(ScheduledTask task) {
+			this.task = task;
+		}
+
+		@Override
+		public void run() {
+			try {
+				task.run();
+			} finally {
+				finished(task);
+			}
+		}
+	}
+
+	class ScheduledTask extends FutureTask<IEngineTask> {
+
+		final IEngineTask task;
+		final String queue;
+		final String tenant;
+		final int priority;
+
+		ScheduledTask(final IEngineTask task, String queue, String tenant, int priority) {
+			super(new Callable<IEngineTask>() {
+
+				@Override
+				public IEngineTask call() throws Exception {
+					if (task instanceof IRunAndRenderTask) {
+						((IRunAndRenderTask) task).run();
+					} else if (task instanceof IRunTask) {
+						((IRunTask) task).run();
+					} else if (task instanceof IRenderTask) {
+						((IRenderTask) task).render();
+					} else if (task instanceof IDataExtractionTask) {
+						((IDataExtractionTask) task).extract();
+					}
+					return task;
+				}
+			});
+			this.task = task;
+			this.queue = queue;
+			this.tenant = tenant;
+			this.priority = priority;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			// the running task is cancelled by the engine cancel flag, not by
+			// interrupting the thread which may be in the middle of a query.
+			if (!super.cancel(false)) {
+				return false;
+			}
+			if (!removePending(this)) {
+				try {
+					task.cancel();
+				} catch (RuntimeException ex) {
+					logger.log(Level.WARNING, ex.getMessage(), ex);
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -14,11 +14,23 @@
 
 package org.eclipse.birt.report.engine.api.impl;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import org.eclipse.birt.core.exception.BirtException;
@@ -27,6 +39,7 @@ import org.eclipse.birt.report.engine.api.HTMLRenderOption;
 import org.eclipse.birt.report.engine.api.IEngineTask;
 import org.eclipse.birt.report.engine.api.IHTMLRenderOption;
 import org.eclipse.birt.report.engine.api.IPDFRenderOption;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
 import org.eclipse.birt.report.engine.api.IProgressMonitor;
 import org.eclipse.birt.report.engine.api.IRenderOption;
 import org.eclipse.birt.report.engine.api.IRenderTask;
@@ -35,8 +48,12 @@ import org.eclipse.birt.report.engine.api.IReportDocumentInfo;
 import org.eclipse.birt.report.engine.api.IReportRunnable;
 import org.eclipse.birt.report.engine.api.ITOCTree;
 import org.eclipse.birt.report.engine.api.InstanceID;
+import org.eclipse.birt.report.engine.api.RenderOption;
 import org.eclipse.birt.report.engine.content.IReportContent;
+import org.eclipse.birt.report.engine.emitter.EmitterUtil;
+import org.eclipse.birt.report.engine.emitter.EngineEmitterServices;
 import org.eclipse.birt.report.engine.emitter.IContentEmitter;
+import org.eclipse.birt.report.engine.emitter.IOutputMerger;
 import org.eclipse.birt.report.engine.executor.EngineExtensionManager;
 import org.eclipse.birt.report.engine.executor.IReportExecutor;
 import org.eclipse.birt.report.engine.executor.PageVariable;
@@ -52,6 +69,7 @@ import org.eclipse.birt.report.engine.internal.document.ReportletExecutor;
 import org.eclipse.birt.report.engine.internal.document.v4.PageRangeIterator;
 import org.eclipse.birt.report.engine.internal.executor.dup.SuppressDuplciateReportExecutor;
 import org.eclipse.birt.report.engine.internal.executor.l18n.LocalizedReportExecutor;
+import org.eclipse.birt.report.engine.internal.instrument.PerformanceRecorder;
 import org.eclipse.birt.report.engine.internal.presentation.ReportDocumentInfo;
 import org.eclipse.birt.report.engine.ir.MasterPageDesign;
 import org.eclipse.birt.report.engine.ir.Report;
@@ -61,7 +79,6 @@ import org.eclipse.birt.report.engine.layout.html.HTMLLayoutContext;
 import org.eclipse.birt.report.engine.layout.html.HTMLReportLayoutEngine;
 import org.eclipse.birt.report.engine.layout.pdf.emitter.LayoutEngineContext;
 import org.eclipse.birt.report.engine.nLayout.LayoutEngine;
-import org.eclipse.birt.report.engine.parser.ReportParser;
 import org.eclipse.birt.report.engine.presentation.IPageHint;
 import org.eclipse.birt.report.engine.toc.ITOCReader;
 import org.eclipse.birt.report.engine.toc.ITreeNode;
@@ -89,6 +106,12 @@ public class RenderTask extends EngineTask implements IRenderTask {
 	// the html layout engine
 	private IReportLayoutEngine layoutEngine = null;
 
+	// the minimum page count of a range rendered in parallel
+	private static final int MIN_PARALLEL_PAGES = 20;
+
+	// the tasks rendering the page ranges in parallel
+	private final List<RenderTask> rangeTasks = new ArrayList<>();
+
 	/**
 	 * @param engine    the report engine
 	 * @param reportDoc the report document instance
@@ -134,12 +157,16 @@ public class RenderTask extends EngineTask implements IRenderTask {
 			// load the report runnable from the document
 			IReportRunnable documentRunnable = getOnPreparedRunnable(reportDocument);
 			setReportRunnable(documentRunnable);
+			long startTime = PerformanceRecorder.start();
 			Report reportIR = internalReportDoc.getReportIR((ReportDesignHandle) documentRunnable.getDesignHandle());
+			recordPhase(IPerformanceListener.IR_BUILD, documentRunnable.getReportName(), startTime);
 			executionContext.setReport(reportIR);
 		} else {
 			// the report runnable is set by the user
 			setReportRunnable(reportRunnable);
-			Report reportIR = new ReportParser().parse((ReportDesignHandle) reportRunnable.getDesignHandle());
+			long startTime = PerformanceRecorder.start();
+			Report reportIR = executionContext.getRunnable().getReportIR();
+			recordPhase(IPerformanceListener.IR_BUILD, reportRunnable.getReportName(), startTime);
 			executionContext.setReport(reportIR);
 		}
 
@@ -354,6 +381,11 @@ public class RenderTask extends EngineTask implements IRenderTask {
 		if (layoutEngine != null) {
 			layoutEngine.cancel();
 		}
+		synchronized (rangeTasks) {
+			for (RenderTask task : rangeTasks) {
+				task.cancel();
+			}
+		}
 	}
 
 	private interface InnerRender {
@@ -467,6 +499,9 @@ public class RenderTask extends EngineTask implements IRenderTask {
 		public void render() throws Exception {
 			// start the render
 			setupRenderOption();
+			if (renderInParallel()) {
+				return;
+			}
 			startRender();
 			IContentEmitter emitter = createContentEmitter();
 			supportHtmlPagination();
@@ -522,6 +557,7 @@ public class RenderTask extends EngineTask implements IRenderTask {
 			executor = new LocalizedReportExecutor(executionContext, executor);
 			executionContext.setExecutor(executor);
 
+			long layoutTime = PerformanceRecorder.start();
 			IReportContent report = executor.execute();
 			emitter.start(report);
 			layoutEngine.setTotalPageCount(getTotalPage());
@@ -578,11 +614,222 @@ public class RenderTask extends EngineTask implements IRenderTask {
 			layoutEngine.close();
 			layoutEngine = null;
 			emitter.end(report);
+			recordPhase(IPerformanceListener.LAYOUT, format, layoutTime);
 			closeRender();
 			executor.close();
 
 		}
 
+		/**
+		 * render the pages in parallel if the emitter can merge the outputs.
+		 *
+		 * The pages are split into continuous ranges, each range is rendered into a
+		 * temporary file by its own render task, then the files are merged into the
+		 * output in the page order. The output keeps the pagination of the report
+		 * document as rendering a page range does, the links between the ranges are
+		 * not resolved.
+		 *
+		 * @return true if the pages have been rendered in parallel.
+		 */
+		protected boolean renderInParallel() throws Exception {
+			IRenderOption options = executionContext.getRenderOption();
+			int threadCount = getRenderThreadCount(options);
+			if (threadCount <= 1) {
+				return false;
+			}
+			Object repaginateForPDF = options.getOption(IPDFRenderOption.REPAGINATE_FOR_PDF);
+			if (repaginateForPDF instanceof Boolean && ((Boolean) repaginateForPDF).booleanValue()) {
+				return false;
+			}
+			long pageCount = getPageCount();
+			int rangeCount = (int) Math.min(threadCount * 2L, (pageCount + MIN_PARALLEL_PAGES - 1) / MIN_PARALLEL_PAGES);
+			if (rangeCount < 2) {
+				return false;
+			}
+			IOutputMerger merger = ExtensionManager.getInstance().createOutputMerger(emitterID);
+			if (merger == null) {
+				return false;
+			}
+
+			List<List<long[]>> ranges = splitPageSequences(rangeCount);
+			File tempDir = new File(engine.getConfig().getTempDir());
+			tempDir.mkdirs();
+			ExecutorService threads = Executors.newFixedThreadPool(Math.min(threadCount, ranges.size()),
+					new ThreadFactory() {
+
+						private int index;
+
+						@Override
+						public synchronized Thread newThread(Runnable task) {
+							Thread thread = new Thread(task, "Render Task - " + (++index)); //$NON-NLS-1$
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+			ArrayList<File> files = new ArrayList<>();
+			try {
+				ArrayList<Future<Long>> results = new ArrayList<>();
+				for (int i = 0; i < ranges.size(); i++) {
+					File file = File.createTempFile("render", "." + format, tempDir); //$NON-NLS-1$ //$NON-NLS-2$
+					files.add(file);
+					final RenderTask task = createRangeTask(ranges.get(i), i, ranges.size(), file);
+					synchronized (rangeTasks) {
+						if (executionContext.isCanceled()) {
+							task.close();
+							return true;
+						}
+						rangeTasks.add(task);
+					}
+					results.add(threads.submit(new Callable<Long>() {
+
+						@Override
+						public Long call() throws Exception {
+							// the fatal error of the range is thrown by render(), the other errors
+							// are copied to this task once the ranges are finished. getPageCount()
+							// is not used as it fails for a range ended with errors and hides them.
+							task.render();
+							if (task.getStatus() == STATUS_CANCELLED) {
+								return Long.valueOf(0);
+							}
+							return Long.valueOf(task.outputPageCount);
+						}
+					}));
+				}
+
+				long pages = 0;
+				for (Future<Long> result : results) {
+					try {
+						pages += result.get().longValue();
+					} catch (ExecutionException ex) {
+						Throwable cause = ex.getCause();
+						if (executionContext.isCanceled()) {
+							return true;
+						}
+						if (cause instanceof Exception) {
+							throw (Exception) cause;
+						}
+						throw new EngineException(MessageConstants.REPORT_RUN_ERROR, cause);
+					}
+				}
+				for (RenderTask task : rangeTasks) {
+					for (Object error : task.getErrors()) {
+						if (error instanceof BirtException) {
+							executionContext.addException((BirtException) error);
+						}
+					}
+				}
+				if (executionContext.isCanceled()) {
+					return true;
+				}
+
+				// merge the outputs in the page order
+				EngineEmitterServices services = new EngineEmitterServices(executionContext.getReportContext(),
+						options, engine.getConfig().getEmitterConfigs());
+				OutputStream out = EmitterUtil.getOuputStream(services, "report." + format); //$NON-NLS-1$
+				ArrayList<InputStream> outputs = new ArrayList<>();
+				try {
+					for (File file : files) {
+						outputs.add(new BufferedInputStream(new FileInputStream(file)));
+					}
+					merger.merge(outputs, out);
+				} finally {
+					for (InputStream output : outputs) {
+						output.close();
+					}
+					out.close();
+				}
+				outputPageCount = pages;
+				return true;
+			} finally {
+				// stop the tasks still running if the render fails
+				synchronized (rangeTasks) {
+					for (RenderTask task : rangeTasks) {
+						if (task.getStatus() == STATUS_RUNNING) {
+							task.cancel();
+						}
+					}
+				}
+				threads.shutdownNow();
+				try {
+					threads.awaitTermination(1, TimeUnit.MINUTES);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				synchronized (rangeTasks) {
+					for (RenderTask task : rangeTasks) {
+						task.close();
+					}
+					rangeTasks.clear();
+				}
+				for (File file : files) {
+					file.delete();
+				}
+			}
+		}
+
+		private int getRenderThreadCount(IRenderOption options) {
+			Object threadCount = options.getOption(IRenderOption.RENDER_THREAD_COUNT);
+			if (threadCount instanceof Number) {
+				return ((Number) threadCount).intValue();
+			}
+			if (threadCount instanceof String) {
+				try {
+					return Integer.parseInt((String) threadCount);
+				} catch (NumberFormatException ex) {
+					return 1;
+				}
+			}
+			return 1;
+		}
+
+		/**
+		 * split the page sequences into continuous ranges of the same size.
+		 */
+		private List<List<long[]>> splitPageSequences(int rangeCount) {
+			long rangeSize = (getPageCount() + rangeCount - 1) / rangeCount;
+			List<List<long[]>> ranges = new ArrayList<>();
+			List<long[]> range = new ArrayList<>();
+			long size = 0;
+			for (long[] pageSeg : pageSequences) {
+				long start = pageSeg[0];
+				while (start <= pageSeg[1]) {
+					long end = Math.min(pageSeg[1], start + rangeSize - size - 1);
+					range.add(new long[] { start, end });
+					size += end - start + 1;
+					if (size == rangeSize) {
+						ranges.add(range);
+						range = new ArrayList<>();
+						size = 0;
+					}
+					start = end + 1;
+				}
+			}
+			if (!range.isEmpty()) {
+				ranges.add(range);
+			}
+			return ranges;
+		}
+
+		/**
+		 * create the task which renders the page range into the file.
+		 */
+		private RenderTask createRangeTask(List<long[]> range, int rangeIndex, int rangeCount, File file)
+				throws EngineException {
+			RenderTask task = new RenderTask(engine, reportRunnable, reportDocument);
+			task.setLocale(getULocale());
+			task.setTimeZone(getTimeZone());
+			task.setAppContext(executionContext.getAppContext());
+			HashMap options = new HashMap(renderOptions.getOptions());
+			options.remove(IRenderOption.OUTPUT_STREAM);
+			options.put(IRenderOption.OUTPUT_FILE_NAME, file.getPath());
+			options.put(IRenderOption.RENDER_THREAD_COUNT, Integer.valueOf(1));
+			options.put(IRenderOption.RENDER_RANGE_INDEX, Integer.valueOf(rangeIndex));
+			options.put(IRenderOption.RENDER_RANGE_COUNT, Integer.valueOf(rangeCount));
+			task.setRenderOption(new RenderOption(options));
+			task.innerRender = task.new PageRangeRender(range);
+			return task;
+		}
+
 		private void setFilteredPageNumber(long filteredTotalPage, long totalPage, long pageNumber)
 				throws EngineException {
 			if (filteredTotalPage != totalPage) {
@@ -634,12 +881,14 @@ public class RenderTask extends EngineTask implements IRenderTask {
 			executor = new LocalizedReportExecutor(executionContext, executor);
 			executionContext.setExecutor(executor);
 
+			long layoutTime = PerformanceRecorder.start();
 			IReportContent report = executor.execute();
 			emitter.start(report);
 			// output the reportlet without pagination
 			layoutEngine.layout(executor, report, emitter, false);
 			layoutEngine.close();
 			emitter.end(report);
+			recordPhase(IPerformanceListener.LAYOUT, format, layoutTime);
 			closeRender();
 			executor.close();
 			outputPageCount = layoutEngine.getPageCount();
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.api.impl;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.birt.report.model.api.IResourceLocator;
+
+/**
+ * LRU cache of the report runnables opened from the design files.
+ *
+ * The runnable is keyed by the design file, the resource path and the resource
+ * locator used to parse it. The length and last modified time of the design
+ * file are checked by each get, the runnable is removed if the file has been
+ * changed.
+ *
+ * The cached runnable is shared by the tasks. It caches the engine IR and the
+ * compiled scripts, the tasks which change the design in onPrepare, or which
+ * override the design options by the application context, clone the runnable
+ * before the change.
+ */
+class ReportDesignCache {
+
+	private final int cacheSize;
+
+	// access-ordered LRU cache
+	private final LinkedHashMap<DesignKey, Entry> entries;
+
+	private static class Entry {
+
+		final ReportRunnable runnable;
+		final long length;
+		final long lastModified;
+
+		Entry(ReportRunnable runnable, long length, long lastModified) {
+			this.runnable = runnable;
+			this.length = length;
+			this.lastModified = lastModified;
+		}
+	}
+
+	ReportDesignCache(int size) {
+		this.cacheSize = size;
+		this.entries = new LinkedHashMap<DesignKey, Entry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<DesignKey, Entry> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * get the cached runnable of the design file.
+	 *
+	 * @return the runnable, null if the design is not cached or has been changed.
+	 */
+	ReportRunnable get(File file, String resourcePath, IResourceLocator locator) {
+		DesignKey key = new DesignKey(file, resourcePath, locator);
+		long length = file.length();
+		long lastModified = file.lastModified();
+		synchronized (entries) {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.length != length || entry.lastModified != lastModified) {
+				entries.remove(key);
+				return null;
+			}
+			return entry.runnable;
+		}
+	}
+
+	/**
+	 * put the runnable into the cache.
+	 *
+	 * @param length       the length of the file before it is parsed
+	 * @param lastModified the last modified time of the file before it is parsed
+	 */
+	void put(File file, String resourcePath, IResourceLocator locator, ReportRunnable runnable, long length,
+			long lastModified) {
+		DesignKey key = new DesignKey(file, resourcePath, locator);
+		synchronized (entries) {
+			entries.put(key, new Entry(runnable, length, lastModified));
+		}
+	}
+
+	/**
+	 * remove all the cached runnables of the design file.
+	 */
+	void remove(File file) {
+		String path = file.getAbsolutePath();
+		synchronized (entries) {
+			Iterator<DesignKey> iter = entries.keySet().iterator();
+			while (iter.hasNext()) {
+				if (iter.next().path.equals(path)) {
+					iter.remove();
+				}
+			}
+		}
+	}
+
+	void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private static class DesignKey {
+
+		private final String path;
+		private final String resourcePath;
+		private final IResourceLocator locator;
+		private final int hashCode;
+
+		DesignKey(File file, String resourcePath, IResourceLocator locator) {
+			this.path = file.getAbsolutePath();
+			this.resourcePath = resourcePath;
+			this.locator = locator;
+			int hash = path.hashCode();
+			if (resourcePath != null) {
+				hash = hash * 31 + resourcePath.hashCode();
+			}
+			if (locator != null) {
+				hash = hash * 31 + locator.hashCode();
+			}
+			this.hashCode = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof DesignKey)) {
+				return false;
+			}
+			DesignKey key = (DesignKey) obj;
+			if (hashCode != key.hashCode || !path.equals(key.path)) {
+				return false;
+			}
+			if (resourcePath == null ? key.resourcePath != null : !resourcePath.equals(key.resourcePath)) {
+				return false;
+			}
+			return locator == null ? key.locator == null : locator.equals(key.locator);
+		}
+	}
+}
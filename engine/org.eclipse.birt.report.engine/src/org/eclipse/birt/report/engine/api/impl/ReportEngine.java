@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -48,6 +49,8 @@ import org.eclipse.birt.report.engine.api.IRunAndRenderTask;
 import org.eclipse.birt.report.engine.api.IRunTask;
 import org.eclipse.birt.report.engine.api.IRunnable;
 import org.eclipse.birt.report.engine.api.IStatusHandler;
+import org.eclipse.birt.report.engine.api.ISubmitOption;
+import org.eclipse.birt.report.engine.api.SubmitOption;
 import org.eclipse.birt.report.engine.api.impl.LinkedObjectManager.LinkedEntry;
 import org.eclipse.birt.report.engine.data.DataEngineFactory;
 import org.eclipse.birt.report.engine.extension.engine.IReportEngineExtension;
@@ -113,6 +116,16 @@ public class ReportEngine implements IReportEngine {
 
 	private LoggerSetting loggerSetting;
 
+	/**
+	 * the scheduler of the submitted tasks, created by the first submit.
+	 */
+	private EngineTaskScheduler scheduler;
+
+	/**
+	 * the engine is destroyed, no more task can be submitted.
+	 */
+	private boolean destroyed;
+
 	/**
 	 * Create a Report Engine using a configuration.
 	 *
@@ -377,12 +390,53 @@ public class ReportEngine implements IReportEngine {
 		return helper.getMIMEType(format);
 	}
 
+	@Override
+	public void evictReportDesign(String designName) {
+		logger.log(Level.FINE, "ReportEngine.evictReportDesign: designName={0} ", designName);
+		ReportEngineHelper helper = this.helper;
+		if (helper != null) {
+			helper.evictReportDesign(designName);
+		}
+	}
+
+	@Override
+	public Future<IEngineTask> submit(IEngineTask task, ISubmitOption option) {
+		logger.log(Level.FINE, "ReportEngine.submit: task={0} ", task);
+		if (!EngineTaskScheduler.isSupported(task)) {
+			throw new IllegalArgumentException("The task can not be submitted: " + task); //$NON-NLS-1$
+		}
+		if (option == null) {
+			option = new SubmitOption();
+		}
+		EngineTaskScheduler scheduler;
+		synchronized (this) {
+			if (destroyed) {
+				throw new IllegalStateException("The report engine has been destroyed."); //$NON-NLS-1$
+			}
+			if (this.scheduler == null) {
+				this.scheduler = new EngineTaskScheduler(config.getSchedulerMaxTasks(),
+						config.getSchedulerQueueLimits(), config.getSchedulerThreadFactory());
+			}
+			scheduler = this.scheduler;
+		}
+		return scheduler.submit(task, option);
+	}
+
 	/**
 	 * shuts down the report engine
 	 */
 	@Override
 	public void destroy() {
 		logger.fine("ReportEngine.destroy");
+		EngineTaskScheduler scheduler;
+		synchronized (this) {
+			destroyed = true;
+			scheduler = this.scheduler;
+			this.scheduler = null;
+		}
+		if (scheduler != null) {
+			scheduler.shutdown();
+		}
 		rootScope = null;
 		helper = null;
 		synchronized (openedDocuments) {
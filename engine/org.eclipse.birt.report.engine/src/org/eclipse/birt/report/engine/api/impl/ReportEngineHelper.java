@@ -37,6 +37,7 @@ import org.eclipse.birt.report.engine.api.IDataExtractionTask;
 import org.eclipse.birt.report.engine.api.IDatasetPreviewTask;
 import org.eclipse.birt.report.engine.api.IDocumentWriter;
 import org.eclipse.birt.report.engine.api.IGetParameterDefinitionTask;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
 import org.eclipse.birt.report.engine.api.IRenderTask;
 import org.eclipse.birt.report.engine.api.IReportDocument;
 import org.eclipse.birt.report.engine.api.IReportRunnable;
@@ -44,6 +45,7 @@ import org.eclipse.birt.report.engine.api.IRunAndRenderTask;
 import org.eclipse.birt.report.engine.api.IRunTask;
 import org.eclipse.birt.report.engine.extension.internal.ExtensionManager;
 import org.eclipse.birt.report.engine.i18n.MessageConstants;
+import org.eclipse.birt.report.engine.internal.instrument.PerformanceRecorder;
 import org.eclipse.birt.report.engine.parser.ReportParser;
 import org.eclipse.birt.report.model.api.DesignFileException;
 import org.eclipse.birt.report.model.api.IResourceLocator;
@@ -71,6 +73,17 @@ public class ReportEngineHelper {
 
 	private EmitterInfo[] emitterInfos;
 
+	/**
+	 * the cache of the designs opened from the files, null if it is disabled.
+	 */
+	private ReportDesignCache designCache;
+
+	/**
+	 * the recorder of the designs and documents opened by the engine, null if it
+	 * is not measured.
+	 */
+	private PerformanceRecorder performanceRecorder;
+
 	/**
 	 * constructor
 	 *
@@ -80,6 +93,23 @@ public class ReportEngineHelper {
 		this.engine = engine;
 		this.logger = engine.getLogger();
 		this.extensionMgr = ExtensionManager.getInstance();
+		EngineConfig config = engine.getConfig();
+		if (config != null && config.getDesignCacheSize() > 0) {
+			this.designCache = new ReportDesignCache(config.getDesignCacheSize());
+		}
+		if (config != null && config.isPerformanceInstrumentation()) {
+			this.performanceRecorder = new PerformanceRecorder(config.getPerformanceListener());
+		}
+	}
+
+	/**
+	 * record a phase of the engine, the listener is notified at once.
+	 */
+	private void recordPhase(int phase, String name, long startTime) {
+		if (performanceRecorder != null) {
+			performanceRecorder.end(phase, name, startTime);
+			performanceRecorder.flush();
+		}
 	}
 
 	/**
@@ -103,7 +133,31 @@ public class ReportEngineHelper {
 			logger.log(Level.SEVERE, "{0} not found!", file.getAbsolutePath()); //$NON-NLS-1$
 			throw new EngineException(MessageConstants.DESIGN_FILE_NOT_FOUND_EXCEPTION, designName);
 		}
+		if (designCache == null) {
+			return openReportDesign(file, designName, locator);
+		}
 
+		String resourcePath = null;
+		EngineConfig config = engine.getConfig();
+		if (config != null) {
+			resourcePath = config.getResourcePath();
+		}
+		ReportRunnable runnable = designCache.get(file, resourcePath, locator);
+		if (runnable != null) {
+			return runnable;
+		}
+		// get the stamp before parsing, so a change during the parsing is detected
+		// by the next get
+		long length = file.length();
+		long lastModified = file.lastModified();
+		runnable = (ReportRunnable) openReportDesign(file, designName, locator);
+		runnable.setCacheReportIR(true);
+		designCache.put(file, resourcePath, locator, runnable, length, lastModified);
+		return runnable;
+	}
+
+	private IReportRunnable openReportDesign(File file, String designName, IResourceLocator locator)
+			throws EngineException {
 		try {
 			InputStream in = new FileInputStream(file);
 			String systemId = designName;
@@ -119,6 +173,22 @@ public class ReportEngineHelper {
 		}
 	}
 
+	/**
+	 * remove the design file from the design cache.
+	 *
+	 * @param designName the full path of the report design file, null to remove
+	 *                   all the cached designs.
+	 */
+	public void evictReportDesign(String designName) {
+		if (designCache != null) {
+			if (designName == null) {
+				designCache.clear();
+			} else {
+				designCache.remove(new File(designName));
+			}
+		}
+	}
+
 	/**
 	 * opens a report design stream and creates a report design runnable. From the
 	 * ReportRunnable object, embedded images and parameter definitions can be
@@ -207,8 +277,10 @@ public class ReportEngineHelper {
 				options = new HashMap();
 			}
 			intializeModuleOptions(options);
+			long startTime = PerformanceRecorder.start();
 			ReportParser parser = new ReportParser(options);
 			designHandle = parser.getDesignHandle(designName, designStream);
+			recordPhase(IPerformanceListener.DESIGN_LOAD, designName, startTime);
 		} catch (DesignFileException e) {
 			logger.log(Level.SEVERE, "invalid design file {0}", designName); //$NON-NLS-1$
 			throw new EngineException(MessageConstants.INVALID_DESIGN_FILE_EXCEPTION, designName, e);
@@ -376,7 +448,9 @@ public class ReportEngineHelper {
 		}
 		intializeModuleOptions(options);
 
+		long startTime = PerformanceRecorder.start();
 		ReportDocumentReader reader = new ReportDocumentReader(systemId, engine, archive, options);
+		recordPhase(IPerformanceListener.ARCHIVE, archive.getName(), startTime);
 		engine.cacheOpenedDocument(reader);
 
 		return reader;
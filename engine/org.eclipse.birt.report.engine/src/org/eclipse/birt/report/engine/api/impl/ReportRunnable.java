@@ -11,13 +11,22 @@
 
 package org.eclipse.birt.report.engine.api.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Hashtable;
 import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.eclipse.birt.core.script.ICompiledScript;
 import org.eclipse.birt.report.engine.api.IReportEngine;
 import org.eclipse.birt.report.engine.api.IReportRunnable;
 import org.eclipse.birt.report.engine.api.script.element.IReportDesign;
+import org.eclipse.birt.report.engine.ir.EngineIRReader;
+import org.eclipse.birt.report.engine.ir.EngineIRWriter;
+import org.eclipse.birt.report.engine.ir.Report;
+import org.eclipse.birt.report.engine.parser.ReportParser;
 import org.eclipse.birt.report.engine.script.internal.element.ReportDesign;
 import org.eclipse.birt.report.model.api.DesignElementHandle;
 import org.eclipse.birt.report.model.api.ModuleHandle;
@@ -28,6 +37,8 @@ import org.eclipse.birt.report.model.api.ReportDesignHandle;
  */
 public class ReportRunnable extends DesignRunnable implements IReportRunnable {
 
+	private static Logger logger = Logger.getLogger(ReportRunnable.class.getName());
+
 	/**
 	 * report file name
 	 */
@@ -37,6 +48,67 @@ public class ReportRunnable extends DesignRunnable implements IReportRunnable {
 
 	protected Hashtable<String, Map<String, ICompiledScript>> cachedScripts = new Hashtable<>();
 
+	/**
+	 * if the engine IR should be cached, it is set if the runnable is shared by
+	 * the design cache.
+	 */
+	protected boolean cacheReportIR = false;
+
+	/**
+	 * the cached engine IR written by EngineIRWriter.
+	 */
+	protected byte[] reportIRData;
+
+	public void setCacheReportIR(boolean cacheReportIR) {
+		this.cacheReportIR = cacheReportIR;
+	}
+
+	public boolean isCacheReportIR() {
+		return cacheReportIR;
+	}
+
+	/**
+	 * get the engine IR of the design.
+	 *
+	 * The executors change the IR (the queries, the script checking results), so
+	 * each task must use its own IR. If the IR is cached, the IR is parsed from the
+	 * design once and the following calls read a new copy from the cached IR data,
+	 * which is much faster than parsing the design again.
+	 *
+	 * @return the engine IR used by the caller only.
+	 */
+	public Report getReportIR() {
+		ReportDesignHandle design = (ReportDesignHandle) designHandle;
+		if (!cacheReportIR) {
+			return new ReportParser().parse(design);
+		}
+		byte[] data;
+		synchronized (this) {
+			data = reportIRData;
+			if (data == null) {
+				Report reportIR = new ReportParser().parse(design);
+				try {
+					ByteArrayOutputStream out = new ByteArrayOutputStream();
+					new EngineIRWriter().write(out, reportIR);
+					reportIRData = out.toByteArray();
+				} catch (IOException ex) {
+					logger.log(Level.WARNING, "Failed to cache the engine IR of " + reportName, ex);
+				}
+				return reportIR;
+			}
+		}
+		try {
+			EngineIRReader reader = new EngineIRReader();
+			Report reportIR = reader.read(new ByteArrayInputStream(data));
+			reportIR.setVersion(ReportDocumentConstants.BIRT_ENGINE_VERSION);
+			reader.link(reportIR, design);
+			return reportIR;
+		} catch (IOException ex) {
+			logger.log(Level.WARNING, "Failed to read the cached engine IR of " + reportName, ex);
+			return new ReportParser().parse(design);
+		}
+	}
+
 	public void setPrepared(boolean prepared) {
 		this.prepared = prepared;
 	}
@@ -105,6 +177,9 @@ public class ReportRunnable extends DesignRunnable implements IReportRunnable {
 			throw new IllegalArgumentException("the argument must be a instanceof ReportDesignHandle");
 		}
 		this.designHandle = handle;
+		synchronized (this) {
+			this.reportIRData = null;
+		}
 	}
 
 	/**
@@ -14,11 +14,23 @@
 
 package org.eclipse.birt.report.engine.api.impl;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import org.eclipse.birt.core.archive.compound.ArchiveFile;
+import org.eclipse.birt.core.archive.compound.ArchiveReader;
+import org.eclipse.birt.core.archive.compound.ArchiveWriter;
+import org.eclipse.birt.core.exception.BirtException;
 import org.eclipse.birt.report.engine.api.EngineException;
 import org.eclipse.birt.report.engine.api.HTMLRenderOption;
 import org.eclipse.birt.report.engine.api.IEngineTask;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
 import org.eclipse.birt.report.engine.api.IProgressMonitor;
 import org.eclipse.birt.report.engine.api.IRenderOption;
+import org.eclipse.birt.report.engine.api.IReportDocument;
 import org.eclipse.birt.report.engine.api.IReportRunnable;
 import org.eclipse.birt.report.engine.api.IRunAndRenderTask;
 import org.eclipse.birt.report.engine.api.RenderOption;
@@ -32,6 +44,7 @@ import org.eclipse.birt.report.engine.executor.ReportExecutor;
 import org.eclipse.birt.report.engine.extension.internal.ExtensionManager;
 import org.eclipse.birt.report.engine.internal.executor.dup.SuppressDuplciateReportExecutor;
 import org.eclipse.birt.report.engine.internal.executor.l18n.LocalizedReportExecutor;
+import org.eclipse.birt.report.engine.internal.instrument.PerformanceRecorder;
 import org.eclipse.birt.report.engine.layout.CompositeLayoutPageHandler;
 import org.eclipse.birt.report.engine.layout.ILayoutPageHandler;
 import org.eclipse.birt.report.engine.layout.IReportLayoutEngine;
@@ -45,6 +58,22 @@ public class RunAndRenderTask extends EngineTask implements IRunAndRenderTask {
 
 	protected IReportLayoutEngine layoutEngine;
 
+	/**
+	 * the render options of the outputs, null if the report is rendered to a
+	 * single output.
+	 */
+	protected IRenderOption[] outputOptions;
+
+	/**
+	 * the scriptable objects, they are registered to the run task of the outputs.
+	 */
+	private HashMap<String, Object> scriptableObjects = new HashMap<>();
+
+	/**
+	 * the task running or rendering the report for the outputs.
+	 */
+	private IEngineTask outputTask;
+
 	/**
 	 * @param engine   reference to the report engine
 	 * @param runnable the runnable report design reference
@@ -66,7 +95,11 @@ public class RunAndRenderTask extends EngineTask implements IRunAndRenderTask {
 		try {
 			switchToOsgiClassLoader();
 			changeStatusToRunning();
-			doRun();
+			if (outputOptions != null) {
+				doRunOutputs();
+			} else {
+				doRun();
+			}
 		} finally {
 			changeStatusToStopped();
 			switchClassLoaderBack();
@@ -140,11 +173,14 @@ public class RunAndRenderTask extends EngineTask implements IRunAndRenderTask {
 				outputEmitters.addEmitter(emitter);
 				outputEmitters.addEmitter(handle.getEmitter());
 
+				// the layout includes the execution of the report as in the render task
+				long layoutTime = PerformanceRecorder.start();
 				IReportContent report = executor.execute();
 				outputEmitters.start(report);
 				layoutEngine.layout(executor, report, outputEmitters, paginate);
 				layoutEngine.close();
 				outputEmitters.end(report);
+				recordPhase(IPerformanceListener.LAYOUT, format, layoutTime);
 			}
 			closeRender();
 			executionContext.closeDataEngine();
@@ -154,12 +190,144 @@ public class RunAndRenderTask extends EngineTask implements IRunAndRenderTask {
 		}
 	}
 
+	/**
+	 * run the report once into a transient report document, then render the
+	 * document to each output.
+	 *
+	 * The contents are localized and laid out for each output format, so the
+	 * document is used to share the execution result. Each output is rendered by
+	 * its own emitter and layout engine.
+	 */
+	void doRunOutputs() throws EngineException {
+		File file = null;
+		ArchiveFile archive = null;
+		try {
+			File tempDir = new File(engine.getConfig().getTempDir());
+			tempDir.mkdirs();
+			file = File.createTempFile("output", ".rptdocument", tempDir); //$NON-NLS-1$ //$NON-NLS-2$
+			archive = new ArchiveFile(file.getPath(), "rwt"); //$NON-NLS-1$
+
+			RunTask runTask = new RunTask(engine, executionContext.getRunnable());
+			runTask.setLocale(getULocale());
+			runTask.setTimeZone(getTimeZone());
+			runTask.setAppContext(getAppContext());
+			runTask.setParameters(inputValues);
+			runTask.setMaxRowsPerQuery(executionContext.getMaxRowsPerQuery());
+			runTask.setPageHandler(pageHandler);
+			for (Map.Entry<String, Object> entry : scriptableObjects.entrySet()) {
+				runTask.addScriptableJavaObject(entry.getKey(), entry.getValue());
+			}
+			if (!startOutputTask(runTask)) {
+				return;
+			}
+			try {
+				runTask.run(new ArchiveWriter(archive));
+				addOutputErrors(runTask);
+			} finally {
+				stopOutputTask(runTask);
+			}
+
+			IReportDocument document = engine.openReportDocument(file.getPath(), new ArchiveReader(archive), null);
+			try {
+				for (IRenderOption options : outputOptions) {
+					RenderTask renderTask = new RenderTask(engine, document);
+					renderTask.setLocale(getULocale());
+					renderTask.setTimeZone(getTimeZone());
+					renderTask.setAppContext(getAppContext());
+					renderTask.setRenderOption(options);
+					if (!startOutputTask(renderTask)) {
+						return;
+					}
+					try {
+						renderTask.render();
+						addOutputErrors(renderTask);
+					} finally {
+						stopOutputTask(renderTask);
+					}
+				}
+			} finally {
+				document.close();
+			}
+		} catch (Throwable t) {
+			handleFatalExceptions(t);
+		} finally {
+			if (archive != null) {
+				try {
+					archive.close();
+				} catch (IOException ex) {
+					log.log(Level.WARNING, ex.getLocalizedMessage(), ex);
+				}
+			}
+			if (file != null) {
+				file.delete();
+			}
+		}
+	}
+
+	private synchronized boolean startOutputTask(IEngineTask task) {
+		if (executionContext.isCanceled()) {
+			task.close();
+			return false;
+		}
+		outputTask = task;
+		return true;
+	}
+
+	private void stopOutputTask(IEngineTask task) {
+		synchronized (this) {
+			outputTask = null;
+		}
+		task.close();
+	}
+
+	private void addOutputErrors(IEngineTask task) {
+		for (Object error : task.getErrors()) {
+			if (error instanceof BirtException) {
+				executionContext.addException((BirtException) error);
+			}
+		}
+	}
+
+	@Override
+	public void setRenderOptions(IRenderOption[] options) {
+		if (options == null || options.length == 0) {
+			outputOptions = null;
+		} else if (options.length == 1) {
+			outputOptions = null;
+			setRenderOption(options[0]);
+		} else {
+			outputOptions = options.clone();
+		}
+	}
+
+	@Override
+	public IRenderOption[] getRenderOptions() {
+		if (outputOptions != null) {
+			return outputOptions.clone();
+		}
+		if (renderOptions != null) {
+			return new IRenderOption[] { renderOptions };
+		}
+		return new IRenderOption[0];
+	}
+
+	@Override
+	public void addScriptableJavaObject(String jsName, Object obj) {
+		super.addScriptableJavaObject(jsName, obj);
+		scriptableObjects.put(jsName, obj);
+	}
+
 	@Override
 	public void cancel() {
 		super.cancel();
 		if (layoutEngine != null) {
 			layoutEngine.cancel();
 		}
+		synchronized (this) {
+			if (outputTask != null) {
+				outputTask.cancel();
+			}
+		}
 	}
 
 	@Override
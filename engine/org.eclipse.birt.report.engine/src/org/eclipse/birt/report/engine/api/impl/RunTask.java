@@ -25,8 +25,10 @@ import org.eclipse.birt.core.archive.FolderArchiveWriter;
 import org.eclipse.birt.core.archive.IDocArchiveWriter;
 import org.eclipse.birt.core.archive.compound.ArchiveWriter;
 import org.eclipse.birt.core.archive.compound.IArchiveFile;
+import org.eclipse.birt.report.engine.api.EngineConstants;
 import org.eclipse.birt.report.engine.api.EngineException;
 import org.eclipse.birt.report.engine.api.IEngineTask;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
 import org.eclipse.birt.report.engine.api.IProgressMonitor;
 import org.eclipse.birt.report.engine.api.IReportDocumentInfo;
 import org.eclipse.birt.report.engine.api.IReportRunnable;
@@ -40,6 +42,7 @@ import org.eclipse.birt.report.engine.i18n.MessageConstants;
 import org.eclipse.birt.report.engine.internal.executor.dup.SuppressDuplciateReportExecutor;
 import org.eclipse.birt.report.engine.internal.executor.emitter.ReportEmitterExecutor;
 import org.eclipse.birt.report.engine.internal.executor.l18n.LocalizedReportExecutor;
+import org.eclipse.birt.report.engine.internal.instrument.PerformanceRecorder;
 import org.eclipse.birt.report.engine.internal.presentation.ReportDocumentInfo;
 import org.eclipse.birt.report.engine.presentation.ReportDocumentBuilder;
 import org.eclipse.birt.report.model.api.ReportDesignHandle;
@@ -113,8 +116,10 @@ public class RunTask extends AbstractRunTask implements IRunTask {
 	}
 
 	private void openArchive() throws IOException {
+		boolean async = Boolean.TRUE.equals(getAppContext().get(EngineConstants.APPCONTEXT_ASYNC_DOCUMENT_WRITE));
+		boolean compress = Boolean.TRUE.equals(getAppContext().get(EngineConstants.APPCONTEXT_COMPRESS_DOCUMENT));
 		if (archive != null) {
-			archiveWriter = new ArchiveWriter(archive);
+			archiveWriter = new ArchiveWriter(archive, async);
 			return;
 		}
 		File file = new File(documentName);
@@ -122,12 +127,12 @@ public class RunTask extends AbstractRunTask implements IRunTask {
 			if (file.isDirectory()) {
 				archiveWriter = new FolderArchiveWriter(documentName);
 			} else {
-				archiveWriter = new FileArchiveWriter(documentName);
+				archiveWriter = new FileArchiveWriter(documentName, async, compress);
 			}
 		} else if (documentName.endsWith("\\") || documentName.endsWith("/")) {
 			archiveWriter = new FolderArchiveWriter(documentName);
 		} else {
-			archiveWriter = new FileArchiveWriter(documentName);
+			archiveWriter = new FileArchiveWriter(documentName, async, compress);
 		}
 	}
 
@@ -187,7 +192,9 @@ public class RunTask extends AbstractRunTask implements IRunTask {
 			updateRtLFlag();
 		}
 		startFactory();
+		long archiveTime = PerformanceRecorder.start();
 		openReportDocument();
+		recordPhase(IPerformanceListener.ARCHIVE, documentName, archiveTime);
 		ArrayList<String> errList = new ArrayList<>();
 		ReportRunnable newRunnable = null;
 		try {
@@ -221,7 +228,9 @@ public class RunTask extends AbstractRunTask implements IRunTask {
 				executionContext.setExecutor(executor);
 
 				initializeContentEmitter(emitter);
+				long layoutTime = PerformanceRecorder.start();
 				documentBuilder.build();
+				recordPhase(IPerformanceListener.LAYOUT, null, layoutTime);
 			}
 
 			executionContext.closeDataEngine();
@@ -259,6 +268,7 @@ public class RunTask extends AbstractRunTask implements IRunTask {
 				archiveWriter.dropStream(ReportDocumentConstants.RUN_STATUS_STREAM);
 			}
 
+			archiveTime = PerformanceRecorder.start();
 			writer.savePersistentObjects(executionContext.getGlobalBeans());
 			writer.finish();
 
@@ -272,6 +282,7 @@ public class RunTask extends AbstractRunTask implements IRunTask {
 				progressMonitor.onProgress(IProgressMonitor.END_TASK, TASK_RUN);
 			}
 			closeReportDocument();
+			recordPhase(IPerformanceListener.ARCHIVE, documentName, archiveTime);
 		}
 	}
 
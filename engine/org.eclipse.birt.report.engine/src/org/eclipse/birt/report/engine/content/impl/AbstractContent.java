@@ -324,7 +324,14 @@ abstract public class AbstractContent extends AbstractElement implements IConten
 				}
 				computedStyle = cs;
 			} else {
-				computedStyle = new ComputedStyle(this);
+				String styleClass = getStyleClass();
+				ComputedStyle pcs = (ComputedStyle) ((IContent) parent).getComputedStyle();
+				ComputedStyle cs = pcs.getCachedStyle(styleClass, inlineStyle);
+				if (cs == null) {
+					cs = new ComputedStyle(this);
+					pcs.addCachedStyle(styleClass, inlineStyle, cs);
+				}
+				computedStyle = cs;
 			}
 		}
 		return computedStyle;
@@ -226,21 +226,20 @@ public class CellContent extends AbstractContent implements ICellContent {
 	@Override
 	public IStyle getComputedStyle() {
 		if (computedStyle == null) {
-			if (inlineStyle == null || inlineStyle.isEmpty()) {
-				String cacheKey = getStyleClass();
-				ITableContent table = ((IRowContent) parent).getTable();
-				int column = getColumn();
-				if (column >= 0 && column < table.getColumnCount()) {
-					IColumn tblColumn = table.getColumn(column);
-					if (tblColumn != null) {
-						String columnStyleClass = tblColumn.getStyleClass();
-						if (columnStyleClass != null) {
-							cacheKey = cacheKey + columnStyleClass;
-						}
+			String cacheKey = getStyleClass();
+			ITableContent table = ((IRowContent) parent).getTable();
+			int column = getColumn();
+			if (column >= 0 && column < table.getColumnCount()) {
+				IColumn tblColumn = table.getColumn(column);
+				if (tblColumn != null) {
+					String columnStyleClass = tblColumn.getStyleClass();
+					if (columnStyleClass != null) {
+						cacheKey = cacheKey + columnStyleClass;
 					}
 				}
-
-				ComputedStyle pcs = (ComputedStyle) ((IContent) parent).getComputedStyle();
+			}
+			ComputedStyle pcs = (ComputedStyle) ((IContent) parent).getComputedStyle();
+			if (inlineStyle == null || inlineStyle.isEmpty()) {
 				ComputedStyle cs = pcs.getCachedStyle(cacheKey);
 				if (cs == null) {
 					cs = new CellComputedStyle(this);
@@ -248,7 +247,12 @@ public class CellContent extends AbstractContent implements ICellContent {
 				}
 				computedStyle = cs;
 			} else {
-				computedStyle = new CellComputedStyle(this);
+				ComputedStyle cs = pcs.getCachedStyle(cacheKey, inlineStyle);
+				if (cs == null) {
+					cs = new CellComputedStyle(this);
+					pcs.addCachedStyle(cacheKey, inlineStyle, cs);
+				}
+				computedStyle = cs;
 			}
 		}
 		return computedStyle;
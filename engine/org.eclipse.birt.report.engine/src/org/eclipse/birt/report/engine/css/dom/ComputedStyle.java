@@ -13,7 +13,9 @@
 
 package org.eclipse.birt.report.engine.css.dom;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.birt.report.engine.content.IStyle;
@@ -22,7 +24,15 @@ import org.eclipse.birt.report.engine.css.engine.value.Value;
 import org.w3c.dom.css.CSSValue;
 
 public class ComputedStyle extends AbstractStyle {
+
+	/**
+	 * the max computed styles of the children with inline styles cached by a
+	 * computed style.
+	 */
+	private static final int MAX_INLINE_STYLES = 64;
+
 	Map<String, ComputedStyle> cachedStyles = new HashMap<>();
+	Map<InlineStyleKey, ComputedStyle> inlineStyles;
 	boolean[] caculated;
 	CSSStylableElement elt;
 	CSSValue[] values;
@@ -87,4 +97,84 @@ public class ComputedStyle extends AbstractStyle {
 	public ComputedStyle getCachedStyle(String styleClass) {
 		return (ComputedStyle) cachedStyles.get(styleClass);
 	}
+
+	/**
+	 * cache the computed style of the children with the style class and the
+	 * inline style. The inline styles are created by the highlights and the
+	 * expression styles for each content, so they are compared by the values. The
+	 * cache keeps the recently used styles only.
+	 *
+	 * @param styleClass  the style class of the child
+	 * @param inlineStyle the inline style of the child
+	 * @param style       the computed style of the child
+	 */
+	public void addCachedStyle(String styleClass, IStyle inlineStyle, ComputedStyle style) {
+		if (!(inlineStyle instanceof StyleDeclaration)) {
+			return;
+		}
+		if (inlineStyles == null) {
+			inlineStyles = new LinkedHashMap<InlineStyleKey, ComputedStyle>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<InlineStyleKey, ComputedStyle> eldest) {
+					return size() > MAX_INLINE_STYLES;
+				}
+			};
+		}
+		inlineStyles.put(new InlineStyleKey(styleClass, (StyleDeclaration) inlineStyle), style);
+	}
+
+	/**
+	 * get the computed style of the children with the style class and the inline
+	 * style.
+	 *
+	 * @param styleClass  the style class of the child
+	 * @param inlineStyle the inline style of the child
+	 * @return the cached computed style, null if not cached.
+	 */
+	public ComputedStyle getCachedStyle(String styleClass, IStyle inlineStyle) {
+		if (inlineStyles == null || !(inlineStyle instanceof StyleDeclaration)) {
+			return null;
+		}
+		return inlineStyles.get(new InlineStyleKey(styleClass, (StyleDeclaration) inlineStyle));
+	}
+
+	/**
+	 * the key of the inline styles, it keeps a copy of the values so the key
+	 * doesn't change with the inline style.
+	 */
+	private static class InlineStyleKey {
+
+		private final String styleClass;
+		private final CSSValue[] values;
+		private final int hashCode;
+
+		InlineStyleKey(String styleClass, StyleDeclaration style) {
+			this.styleClass = styleClass;
+			this.values = style.values.clone();
+			this.hashCode = (styleClass == null ? 0 : styleClass.hashCode()) * 31 + style.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof InlineStyleKey)) {
+				return false;
+			}
+			InlineStyleKey key = (InlineStyleKey) obj;
+			if (hashCode != key.hashCode) {
+				return false;
+			}
+			if (styleClass == null ? key.styleClass != null : !styleClass.equals(key.styleClass)) {
+				return false;
+			}
+			return Arrays.equals(values, key.values);
+		}
+	}
 }
@@ -103,6 +103,19 @@ public class StyleDeclaration extends AbstractStyle {
 		return false;
 	}
 
+	@Override
+	public int hashCode() {
+		int hashCode = propertyCount;
+		for (int i = 0; i < NUMBER_OF_STYLE; i++) {
+			CSSValue value = values[i];
+			if (value != null) {
+				hashCode = hashCode * 31 + i;
+				hashCode = hashCode * 31 + value.hashCode();
+			}
+		}
+		return hashCode;
+	}
+
 	@Override
 	public void write(DataOutputStream out) throws IOException {
 		// count how many valid value in the style
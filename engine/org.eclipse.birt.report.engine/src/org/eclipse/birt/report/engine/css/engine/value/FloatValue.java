@@ -348,6 +348,13 @@ public class FloatValue extends Value implements CSSPrimitiveValue {
 		}
 	}
 
+	@Override
+	public int hashCode() {
+		// 0.0f equals -0.0f
+		int bits = floatValue == 0 ? 0 : Float.floatToIntBits(floatValue);
+		return bits * 31 + unitType;
+	}
+
 	@Override
 	public boolean equals(Object value) {
 		if (value instanceof FloatValue) {
@@ -175,6 +175,16 @@ public class ListValue extends Value implements CSSValueList {
 		items[length++] = v;
 	}
 
+	@Override
+	public int hashCode() {
+		int hashCode = length;
+		for (int i = 0; i < length; i++) {
+			CSSValue item = items[i];
+			hashCode = hashCode * 31 + (item == null ? 0 : item.hashCode());
+		}
+		return hashCode;
+	}
+
 	@Override
 	public boolean equals(Object value) {
 		if (value instanceof ListValue) {
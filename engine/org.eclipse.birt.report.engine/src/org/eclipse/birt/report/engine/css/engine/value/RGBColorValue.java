@@ -101,6 +101,11 @@ public class RGBColorValue extends Value implements RGBColor {
 		return getCssText();
 	}
 
+	@Override
+	public int hashCode() {
+		return (red.hashCode() * 31 + green.hashCode()) * 31 + blue.hashCode();
+	}
+
 	@Override
 	public boolean equals(Object value) {
 		if (value instanceof RGBColorValue) {
@@ -37,6 +37,7 @@ import org.eclipse.birt.report.data.adapter.api.DataRequestSession;
 import org.eclipse.birt.report.engine.adapter.ModelDteApiAdapter;
 import org.eclipse.birt.report.engine.api.EngineConfig;
 import org.eclipse.birt.report.engine.api.EngineException;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
 import org.eclipse.birt.report.engine.api.IReportEngine;
 import org.eclipse.birt.report.engine.data.DataEngineFactory;
 import org.eclipse.birt.report.engine.data.IDataEngine;
@@ -46,6 +47,7 @@ import org.eclipse.birt.report.engine.extension.IBaseResultSet;
 import org.eclipse.birt.report.engine.extension.ICubeResultSet;
 import org.eclipse.birt.report.engine.extension.IQueryResultSet;
 import org.eclipse.birt.report.engine.i18n.MessageConstants;
+import org.eclipse.birt.report.engine.internal.instrument.PerformanceRecorder;
 import org.eclipse.birt.report.engine.ir.Report;
 import org.eclipse.birt.report.model.api.DataSetHandle;
 import org.eclipse.birt.report.model.api.ReportDesignHandle;
@@ -251,9 +253,27 @@ public abstract class AbstractDataEngine implements IDataEngine {
 			}
 			return doExecuteSubQuery((IQueryResultSet) parent, (ISubqueryDefinition) query);
 		} else if (query instanceof IQueryDefinition) {
-			return doExecuteQuery(parent, (IQueryDefinition) query, queryOwner, useCache);
+			PerformanceRecorder recorder = context.getPerformanceRecorder();
+			if (recorder == null) {
+				return doExecuteQuery(parent, (IQueryDefinition) query, queryOwner, useCache);
+			}
+			long startTime = PerformanceRecorder.start();
+			try {
+				return doExecuteQuery(parent, (IQueryDefinition) query, queryOwner, useCache);
+			} finally {
+				recorder.end(IPerformanceListener.QUERY, ((IQueryDefinition) query).getDataSetName(), startTime);
+			}
 		} else if (query instanceof ICubeQueryDefinition) {
-			return doExecuteCube(parent, (ICubeQueryDefinition) query, queryOwner, useCache);
+			PerformanceRecorder recorder = context.getPerformanceRecorder();
+			if (recorder == null) {
+				return doExecuteCube(parent, (ICubeQueryDefinition) query, queryOwner, useCache);
+			}
+			long startTime = PerformanceRecorder.start();
+			try {
+				return doExecuteCube(parent, (ICubeQueryDefinition) query, queryOwner, useCache);
+			} finally {
+				recorder.end(IPerformanceListener.QUERY, ((ICubeQueryDefinition) query).getName(), startTime);
+			}
 		} else if (query instanceof ISubCubeQueryDefinition) {
 			return doExecuteSubCubeQuery((ICubeResultSet) parent, (ISubCubeQueryDefinition) query);
 		}
@@ -365,10 +385,17 @@ public abstract class AbstractDataEngine implements IDataEngine {
 		Object rsetId = queryCache.getCachedQuery(query);
 
 		if (rsetId != null) {
+			long startTime = PerformanceRecorder.start();
 			((QueryDefinition) query).setQueryResultsID((String) rsetId);
 			IBasePreparedQuery pQuery = dteSession.prepare(query, null);
-			return dteSession.execute(pQuery, outer == null ? null : outer.getQueryResults(),
+			IBaseQueryResults results = dteSession.execute(pQuery, outer == null ? null : outer.getQueryResults(),
 					context.getScriptContext());
+			PerformanceRecorder recorder = context.getPerformanceRecorder();
+			if (recorder != null) {
+				recorder.end(IPerformanceListener.QUERY_CACHE_HIT, ((QueryDefinition) query).getDataSetName(),
+						startTime);
+			}
+			return results;
 		} else {
 			return null;
 		}
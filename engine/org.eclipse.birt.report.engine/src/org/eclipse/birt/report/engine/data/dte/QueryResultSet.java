@@ -33,10 +33,12 @@ import org.eclipse.birt.data.engine.api.IResultMetaData;
 import org.eclipse.birt.data.engine.api.IScriptExpression;
 import org.eclipse.birt.data.engine.api.ISubqueryDefinition;
 import org.eclipse.birt.report.engine.api.DataSetID;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
 import org.eclipse.birt.report.engine.data.IDataEngine;
 import org.eclipse.birt.report.engine.executor.ExecutionContext;
 import org.eclipse.birt.report.engine.extension.IBaseResultSet;
 import org.eclipse.birt.report.engine.extension.IQueryResultSet;
+import org.eclipse.birt.report.engine.internal.instrument.PerformanceRecorder;
 
 public class QueryResultSet implements IQueryResultSet {
 
@@ -75,6 +77,14 @@ public class QueryResultSet implements IQueryResultSet {
 	 */
 	private String queryResultsID;
 
+	/**
+	 * the time spent in fetching the rows and the fetched rows, added to the
+	 * recorder of the task once the result set is closed.
+	 */
+	private long fetchTime;
+
+	private long fetchCount;
+
 	/**
 	 *
 	 */
@@ -144,6 +154,16 @@ public class QueryResultSet implements IQueryResultSet {
 		return queryResultsID;
 	}
 
+	private String getDataSetName() {
+		if (queryDefn instanceof IQueryDefinition) {
+			return ((IQueryDefinition) queryDefn).getDataSetName();
+		}
+		if (parent instanceof QueryResultSet) {
+			return ((QueryResultSet) parent).getDataSetName();
+		}
+		return null;
+	}
+
 	private void initializeRowIdOfGroups(int groupCount) {
 		this.rowIdOfGroups = new long[groupCount + 2];
 	}
@@ -175,7 +195,16 @@ public class QueryResultSet implements IQueryResultSet {
 	@Override
 	public boolean next() throws BirtException {
 		boolean flag;
-		flag = rs == null ? false : rs.next();
+		if (rs != null && context != null && context.getPerformanceRecorder() != null) {
+			long startTime = PerformanceRecorder.start();
+			flag = rs.next();
+			fetchTime += System.nanoTime() - startTime;
+			if (flag) {
+				fetchCount++;
+			}
+		} else {
+			flag = rs == null ? false : rs.next();
+		}
 		if (flag) {
 			rowId++;
 			updateRowIdOfGroups();
@@ -249,6 +278,12 @@ public class QueryResultSet implements IQueryResultSet {
 
 	@Override
 	public void close() {
+		if (context != null && context.getPerformanceRecorder() != null) {
+			context.getPerformanceRecorder().add(IPerformanceListener.DATA_FETCH, getDataSetName(), fetchTime,
+					fetchCount);
+			fetchTime = 0;
+			fetchCount = 0;
+		}
 		// FIXME: use try-catch for each close.
 		// remove the data set from the data set list
 		try {
@@ -35,6 +35,7 @@ import javax.swing.ImageIcon;
 
 import org.eclipse.birt.report.engine.api.EngineException;
 import org.eclipse.birt.report.engine.api.IHTMLActionHandler;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
 import org.eclipse.birt.report.engine.api.IReportRunnable;
 import org.eclipse.birt.report.engine.api.RenderOption;
 import org.eclipse.birt.report.engine.api.impl.Action;
@@ -46,6 +47,7 @@ import org.eclipse.birt.report.engine.content.impl.ReportContent;
 import org.eclipse.birt.report.engine.css.engine.StyleConstants;
 import org.eclipse.birt.report.engine.executor.ExecutionContext;
 import org.eclipse.birt.report.engine.i18n.MessageConstants;
+import org.eclipse.birt.report.engine.internal.instrument.PerformanceRecorder;
 import org.eclipse.birt.report.engine.layout.emitter.util.Position;
 import org.eclipse.birt.report.engine.layout.pdf.util.PropertyUtil;
 import org.eclipse.birt.report.engine.util.ResourceLocatorWrapper;
@@ -95,9 +97,77 @@ public class EmitterUtil {
 				}
 			}
 		}
+		if (services instanceof EngineEmitterServices) {
+			PerformanceRecorder recorder = ((EngineEmitterServices) services).getPerformanceRecorder();
+			if (recorder != null) {
+				Object emitterId = services.getOption(RenderOption.EMITTER_ID);
+				if (emitterId == null) {
+					emitterId = services.getOption(RenderOption.OUTPUT_FORMAT);
+				}
+				out = new RecordedOutputStream(out, recorder, emitterId == null ? null : emitterId.toString());
+			}
+		}
 		return out;
 	}
 
+	/**
+	 * adds the bytes written and the time spent in the writes to the OUTPUT phase
+	 * once the stream is closed.
+	 */
+	private static class RecordedOutputStream extends FilterOutputStream {
+		private PerformanceRecorder recorder;
+		private String emitterId;
+		private long elapsedTime;
+		private long count;
+
+		public RecordedOutputStream(OutputStream out, PerformanceRecorder recorder, String emitterId) {
+			super(out);
+			this.recorder = recorder;
+			this.emitterId = emitterId;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			long startTime = System.nanoTime();
+			out.write(b);
+			elapsedTime += System.nanoTime() - startTime;
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b) throws IOException {
+			write(b, 0, b.length);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			long startTime = System.nanoTime();
+			out.write(b, off, len);
+			elapsedTime += System.nanoTime() - startTime;
+			count += len;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			long startTime = System.nanoTime();
+			out.flush();
+			elapsedTime += System.nanoTime() - startTime;
+		}
+
+		@Override
+		public void close() throws IOException {
+			long startTime = System.nanoTime();
+			try {
+				out.close();
+			} finally {
+				elapsedTime += System.nanoTime() - startTime;
+				recorder.add(IPerformanceListener.OUTPUT, emitterId, elapsedTime, count);
+				elapsedTime = 0;
+				count = 0;
+			}
+		}
+	}
+
 	private static class EmitterOutputStream extends FilterOutputStream {
 		private boolean closeOutputStreamOnExit;
 
@@ -20,6 +20,7 @@ import org.eclipse.birt.report.engine.api.IRenderOption;
 import org.eclipse.birt.report.engine.api.IReportEngine;
 import org.eclipse.birt.report.engine.api.IReportRunnable;
 import org.eclipse.birt.report.engine.api.script.IReportContext;
+import org.eclipse.birt.report.engine.internal.instrument.PerformanceRecorder;
 
 /**
  * Provides necessray information to emitters
@@ -41,6 +42,11 @@ public class EngineEmitterServices implements IEmitterServices {
 	 */
 	protected IReportContext reportContext;
 
+	/**
+	 * the recorder of the output, null if it is not measured
+	 */
+	protected PerformanceRecorder performanceRecorder;
+
 	/**
 	 * @param task he engine task that results in the creation of emitter
 	 */
@@ -130,4 +136,12 @@ public class EngineEmitterServices implements IEmitterServices {
 		}
 		return null;
 	}
+
+	public void setPerformanceRecorder(PerformanceRecorder recorder) {
+		this.performanceRecorder = recorder;
+	}
+
+	public PerformanceRecorder getPerformanceRecorder() {
+		return performanceRecorder;
+	}
 }
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.emitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Merges the outputs of the page ranges rendered in parallel.
+ *
+ * The emitter supports the parallel render by defining the outputMerger
+ * attribute in the emitters extension. The render task then renders the page
+ * ranges of the document concurrently, each by its own emitter, and merges the
+ * outputs by the merger in the page order.
+ */
+public interface IOutputMerger {
+
+	/**
+	 * merge the outputs into one.
+	 *
+	 * @param outputs the outputs of the page ranges, in the page order.
+	 * @param out     the stream to write the merged output, it is not closed by
+	 *                the merger.
+	 * @throws IOException
+	 */
+	void merge(List<InputStream> outputs, OutputStream out) throws IOException;
+}
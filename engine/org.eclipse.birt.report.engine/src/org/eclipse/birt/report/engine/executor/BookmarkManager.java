@@ -156,9 +156,7 @@ public class BookmarkManager {
 					inlineMap.entrySet());
 			Collections.sort(entries, Comparator.comparing(Entry::getKey));
 
-			for (Map.Entry<String, Integer> entry : entries) {
-				btree.insert(entry.getKey(), VALUE);
-			}
+			btree.bulkLoad(entries.iterator());
 		}
 
 		protected BTree<String, Integer> createBtree() throws IOException {
@@ -170,6 +168,9 @@ public class BookmarkManager {
 			option.setKeySerializer(new StringSerializer());
 			option.setValueSerializer(new IntegerSerializer());
 			option.setValueSize(4);
+			// the tree is only used by this run, so the newer format is safe
+			option.setPrefixCompression(true);
+			option.setPinnedLevels(2);
 			option.setFile(file);
 			return new BTree<>(option);
 		}
@@ -33,6 +33,7 @@ import java.util.logging.Logger;
 
 import org.eclipse.birt.core.exception.BirtException;
 import org.eclipse.birt.core.format.DateFormatter;
+import org.eclipse.birt.core.format.FormatterFactory;
 import org.eclipse.birt.core.format.NumberFormatter;
 import org.eclipse.birt.core.format.StringFormatter;
 import org.eclipse.birt.core.script.BirtHashMap;
@@ -57,6 +58,7 @@ import org.eclipse.birt.report.engine.api.EngineException;
 import org.eclipse.birt.report.engine.api.IEngineTask;
 import org.eclipse.birt.report.engine.api.IHTMLActionHandler;
 import org.eclipse.birt.report.engine.api.IHTMLImageHandler;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
 import org.eclipse.birt.report.engine.api.IProgressMonitor;
 import org.eclipse.birt.report.engine.api.IRenderOption;
 import org.eclipse.birt.report.engine.api.IReportDocument;
@@ -79,11 +81,11 @@ import org.eclipse.birt.report.engine.extension.ICubeResultSet;
 import org.eclipse.birt.report.engine.extension.IQueryResultSet;
 import org.eclipse.birt.report.engine.i18n.EngineResourceHandle;
 import org.eclipse.birt.report.engine.i18n.MessageConstants;
+import org.eclipse.birt.report.engine.internal.instrument.PerformanceRecorder;
 import org.eclipse.birt.report.engine.ir.Expression;
 import org.eclipse.birt.report.engine.ir.Report;
 import org.eclipse.birt.report.engine.ir.ReportElementDesign;
 import org.eclipse.birt.report.engine.ir.ReportItemDesign;
-import org.eclipse.birt.report.engine.parser.ReportParser;
 import org.eclipse.birt.report.engine.toc.TOCBuilder;
 import org.eclipse.birt.report.engine.util.ResourceLocatorWrapper;
 import org.eclipse.birt.report.model.api.DesignElementHandle;
@@ -313,6 +315,11 @@ public class ExecutionContext {
 
 	private IProgressMonitor progressMonitor;
 
+	/**
+	 * the recorder of the phases of the task, null if it is not measured.
+	 */
+	private PerformanceRecorder performanceRecorder;
+
 	private boolean needOutputResultSet;
 
 	private boolean isFixedLayout = false;
@@ -700,7 +707,15 @@ public class ExecutionContext {
 	}
 
 	private Object evaluate(ICompiledScript compiledScript) throws BirtException {
-		return getScriptContext().evaluate(compiledScript);
+		if (performanceRecorder == null) {
+			return getScriptContext().evaluate(compiledScript);
+		}
+		long startTime = PerformanceRecorder.start();
+		try {
+			return getScriptContext().evaluate(compiledScript);
+		} finally {
+			performanceRecorder.end(IPerformanceListener.SCRIPT, null, startTime);
+		}
 	}
 
 	/**
@@ -720,10 +735,15 @@ public class ExecutionContext {
 		if (testExpr == null) {
 			return Boolean.FALSE;
 		}
+		long startTime = performanceRecorder != null ? PerformanceRecorder.start() : 0;
 		try {
 			return ScriptEvalUtil.evalExpr(expr, scriptContext, ScriptExpression.defaultID, 0);
 		} catch (Throwable e) {
 			throw new EngineException(MessageConstants.INVALID_EXPRESSION_ERROR, testExpr.getText(), e);
+		} finally {
+			if (performanceRecorder != null) {
+				performanceRecorder.end(IPerformanceListener.SCRIPT, null, startTime);
+			}
 		}
 	}
 
@@ -735,10 +755,15 @@ public class ExecutionContext {
 	 * @param lineNo   line no
 	 */
 	public void execute(ICompiledScript script) {
+		long startTime = performanceRecorder != null ? PerformanceRecorder.start() : 0;
 		try {
 			scriptContext.evaluate(script);
 		} catch (BirtException ex) {
 			addException(this.design, ex);
+		} finally {
+			if (performanceRecorder != null) {
+				performanceRecorder.end(IPerformanceListener.SCRIPT, null, startTime);
+			}
 		}
 	}
 
@@ -1431,7 +1456,7 @@ public class ExecutionContext {
 		StringFormatter fmt = stringFormatters.get(key);
 		if (fmt == null) {
 			ULocale loc = determineLocale(locale);
-			fmt = new StringFormatter(pattern, loc);
+			fmt = FormatterFactory.getStringFormatter(pattern, loc);
 			stringFormatters.put(key, fmt);
 		}
 		return fmt;
@@ -1452,7 +1477,7 @@ public class ExecutionContext {
 		NumberFormatter fmt = numberFormatters.get(key);
 		if (fmt == null) {
 			ULocale loc = determineLocale(locale);
-			fmt = new NumberFormatter(pattern, loc);
+			fmt = FormatterFactory.getNumberFormatter(pattern, loc);
 			numberFormatters.put(key, fmt);
 		}
 		return fmt;
@@ -1473,7 +1498,7 @@ public class ExecutionContext {
 		DateFormatter fmt = dateFormatters.get(key);
 		if (fmt == null) {
 			ULocale loc = determineLocale(locale);
-			fmt = new DateFormatter(pattern, loc, timeZone);
+			fmt = FormatterFactory.getDateFormatter(pattern, loc, timeZone);
 			dateFormatters.put(key, fmt);
 		}
 
@@ -1843,7 +1868,11 @@ public class ExecutionContext {
 			return reportIR;
 		}
 		if (runnable != null) {
-			reportIR = new ReportParser().parse((ReportDesignHandle) runnable.getDesignHandle());
+			long startTime = PerformanceRecorder.start();
+			reportIR = runnable.getReportIR();
+			if (performanceRecorder != null) {
+				performanceRecorder.end(IPerformanceListener.IR_BUILD, runnable.getReportName(), startTime);
+			}
 			setupFromReport();
 		}
 		return reportIR;
@@ -1935,6 +1964,19 @@ public class ExecutionContext {
 		return progressMonitor;
 	}
 
+	public void setPerformanceRecorder(PerformanceRecorder recorder) {
+		performanceRecorder = recorder;
+	}
+
+	/**
+	 * get the recorder of the phases of the task.
+	 *
+	 * @return the recorder, null if the task is not measured.
+	 */
+	public PerformanceRecorder getPerformanceRecorder() {
+		return performanceRecorder;
+	}
+
 	public boolean needOutputResultSet() {
 		return needOutputResultSet;
 	}
@@ -31,6 +31,7 @@ import org.eclipse.birt.core.framework.Platform;
 import org.eclipse.birt.report.engine.api.DataExtractionFormatInfo;
 import org.eclipse.birt.report.engine.api.EmitterInfo;
 import org.eclipse.birt.report.engine.emitter.IContentEmitter;
+import org.eclipse.birt.report.engine.emitter.IOutputMerger;
 import org.eclipse.birt.report.engine.executor.ExecutorManager;
 import org.eclipse.birt.report.engine.executor.ExtendedGenerateExecutor;
 import org.eclipse.birt.report.engine.extension.IDataExtractionExtension;
@@ -274,6 +275,27 @@ public class ExtensionManager {
 		return null;
 	}
 
+	/**
+	 * create the output merger of the emitter.
+	 *
+	 * @param id the emitter id
+	 * @return the output merger, null if the emitter doesn't support the parallel
+	 *         render.
+	 */
+	public IOutputMerger createOutputMerger(String id) {
+		EmitterInfo emitterInfo = getEmitter(id);
+		if (emitterInfo != null) {
+			IConfigurationElement config = emitterInfo.getEmitter();
+			if (config != null && config.getAttribute("outputMerger") != null) { //$NON-NLS-1$
+				Object object = createObject(config, "outputMerger"); //$NON-NLS-1$
+				if (object instanceof IOutputMerger) {
+					return (IOutputMerger) object;
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Creates a data extraction extension according to its extension id.
 	 *
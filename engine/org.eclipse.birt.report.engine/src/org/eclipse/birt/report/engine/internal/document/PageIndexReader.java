@@ -25,68 +25,88 @@ import org.eclipse.birt.core.archive.RAInputStream;
 import org.eclipse.birt.core.util.IOUtil;
 import org.eclipse.birt.report.engine.api.impl.ReportDocumentConstants;
 
+/**
+ * Reads the offsets of the master page contents saved in the page index
+ * stream.
+ *
+ * The stream is read once and kept open, a master page that is not loaded only
+ * reads the entries appended since the last read, so looking up the offset of a
+ * page doesn't scan the stream again.
+ */
 public class PageIndexReader {
 	IDocArchiveReader reader;
-	protected HashMap pages = new HashMap();
+	protected HashMap<String, Long> pages = new HashMap<>();
 
 	long offset = 0;
 
+	RAInputStream indexStream;
+
 	public PageIndexReader(IDocArchiveReader reader) throws IOException {
 		this.reader = reader;
 	}
 
 	protected long getOffset(String masterPage) {
-		Object value = pages.get(masterPage);
-		if (value instanceof Long) {
-			return ((Long) value).longValue();
-		} else {
-			return -1;
+		Long value = pages.get(masterPage);
+		if (value != null) {
+			return value.longValue();
 		}
+		return -1;
 	}
 
-	public long getPageOffset(String masterPage) throws IOException {
-		Object value = pages.get(masterPage);
-		if (value instanceof Long) {
-			return ((Long) value).longValue();
-		} else {
-			RAInputStream indexStream = null;
-			try {
-				indexStream = reader.getStream(ReportDocumentConstants.PAGE_INDEX_STREAM);
-				DataInputStream input = new DataInputStream(indexStream);
-				while (true) {
-					String masterPageName = IOUtil.readString(input);
-					long pageOffset = IOUtil.readLong(input);
-					pages.put(masterPageName, new Long(pageOffset));
-				}
-			} catch (EOFException eef) {
-
-			} catch (IOException ex) {
-				throw ex;
-			} finally {
-				if (indexStream != null) {
-					try {
-						indexStream.close();
-					} catch (IOException e) {
+	synchronized public long getPageOffset(String masterPage) throws IOException {
+		Long value = pages.get(masterPage);
+		if (value != null) {
+			return value.longValue();
+		}
+		loadPageIndex();
+		value = pages.get(masterPage);
+		if (value != null) {
+			return value.longValue();
+		}
+		Iterator<Long> iterator = pages.values().iterator();
+		if (iterator.hasNext()) {
+			return iterator.next().longValue();
+		}
+		return 0;
+	}
 
-					}
-					indexStream = null;
-				}
+	/**
+	 * load the entries written after the last load. The document may be still
+	 * written, so the stream is refreshed and the incomplete entry at the end is
+	 * read again next time.
+	 */
+	protected void loadPageIndex() throws IOException {
+		if (indexStream == null) {
+			indexStream = reader.getStream(ReportDocumentConstants.PAGE_INDEX_STREAM);
+		} else {
+			indexStream.refresh();
+		}
+		if (indexStream.length() <= offset) {
+			return;
+		}
+		indexStream.seek(offset);
+		DataInputStream input = new DataInputStream(indexStream);
+		try {
+			while (true) {
+				String masterPageName = IOUtil.readString(input);
+				long pageOffset = IOUtil.readLong(input);
+				pages.put(masterPageName, Long.valueOf(pageOffset));
+				offset = indexStream.getOffset();
 			}
+		} catch (EOFException eef) {
 
-			value = pages.get(masterPage);
-			if (value instanceof Long) {
-				return ((Long) value).longValue();
-			}
-			Iterator iterator = pages.values().iterator();
-			if (iterator.hasNext()) {
-				return ((Long) iterator.next()).longValue();
-			}
 		}
-		return 0;
 	}
 
-	public void close() {
+	synchronized public void close() {
+		if (indexStream != null) {
+			try {
+				indexStream.close();
+			} catch (IOException e) {
 
+			}
+			indexStream = null;
+		}
 	}
 
 }
@@ -114,8 +114,6 @@ public class IndexWriter implements IndexConstants {
 		ArrayList<Map.Entry<String, Object>> entries = new ArrayList<>(inlineMap.entrySet());
 		Collections.sort(entries, Comparator.comparing(Entry::getKey));
 
-		for (Map.Entry<String, Object> entry : entries) {
-			btree.insert(entry.getKey(), entry.getValue());
-		}
+		btree.bulkLoad(entries.iterator());
 	}
 }
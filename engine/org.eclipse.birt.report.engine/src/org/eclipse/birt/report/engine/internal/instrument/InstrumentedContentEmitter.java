@@ -0,0 +1,430 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.internal.instrument;
+
+import org.eclipse.birt.core.exception.BirtException;
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
+import org.eclipse.birt.report.engine.content.IAutoTextContent;
+import org.eclipse.birt.report.engine.content.ICellContent;
+import org.eclipse.birt.report.engine.content.IContainerContent;
+import org.eclipse.birt.report.engine.content.IContent;
+import org.eclipse.birt.report.engine.content.IDataContent;
+import org.eclipse.birt.report.engine.content.IForeignContent;
+import org.eclipse.birt.report.engine.content.IGroupContent;
+import org.eclipse.birt.report.engine.content.IImageContent;
+import org.eclipse.birt.report.engine.content.ILabelContent;
+import org.eclipse.birt.report.engine.content.IListBandContent;
+import org.eclipse.birt.report.engine.content.IListContent;
+import org.eclipse.birt.report.engine.content.IListGroupContent;
+import org.eclipse.birt.report.engine.content.IPageContent;
+import org.eclipse.birt.report.engine.content.IReportContent;
+import org.eclipse.birt.report.engine.content.IRowContent;
+import org.eclipse.birt.report.engine.content.ITableBandContent;
+import org.eclipse.birt.report.engine.content.ITableContent;
+import org.eclipse.birt.report.engine.content.ITableGroupContent;
+import org.eclipse.birt.report.engine.content.ITextContent;
+import org.eclipse.birt.report.engine.emitter.ContentEmitterAdapter;
+import org.eclipse.birt.report.engine.emitter.IContentEmitter;
+import org.eclipse.birt.report.engine.emitter.IEmitterServices;
+
+/**
+ * Measures the time spent in the calls of an emitter. The time and the calls
+ * are added to the recorder as the EMIT phase of the emitter once the report
+ * ends.
+ */
+public class InstrumentedContentEmitter extends ContentEmitterAdapter {
+
+	private IContentEmitter emitter;
+
+	private PerformanceRecorder recorder;
+
+	private String emitterId;
+
+	private long elapsedTime;
+
+	private long calls;
+
+	/**
+	 * constructor
+	 *
+	 * @param emitter   the measured emitter
+	 * @param emitterId the id of the emitter
+	 * @param recorder  the recorder
+	 */
+	public InstrumentedContentEmitter(IContentEmitter emitter, String emitterId, PerformanceRecorder recorder) {
+		this.emitter = emitter;
+		this.emitterId = emitterId;
+		this.recorder = recorder;
+	}
+
+	/**
+	 * get the measured emitter.
+	 *
+	 * @return the emitter
+	 */
+	public IContentEmitter getEmitter() {
+		return emitter;
+	}
+
+	private void end(long startTime) {
+		elapsedTime += System.nanoTime() - startTime;
+		calls++;
+	}
+
+	@Override
+	public String getOutputFormat() {
+		return emitter.getOutputFormat();
+	}
+
+	@Override
+	public boolean isMultiplePagesEnabled() {
+		if (emitter instanceof ContentEmitterAdapter) {
+			return ((ContentEmitterAdapter) emitter).isMultiplePagesEnabled();
+		}
+		return true;
+	}
+
+	@Override
+	public void initialize(IEmitterServices service) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.initialize(service);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void start(IReportContent report) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.start(report);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void end(IReportContent report) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.end(report);
+		} finally {
+			end(startTime);
+		}
+		recorder.add(IPerformanceListener.EMIT, emitterId, elapsedTime, calls);
+		elapsedTime = 0;
+		calls = 0;
+	}
+
+	@Override
+	public void startPage(IPageContent page) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startPage(page);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endPage(IPageContent page) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endPage(page);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startTable(ITableContent table) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startTable(table);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endTable(ITableContent table) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endTable(table);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startTableBand(ITableBandContent band) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startTableBand(band);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endTableBand(ITableBandContent band) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endTableBand(band);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startRow(IRowContent row) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startRow(row);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endRow(IRowContent row) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endRow(row);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startCell(ICellContent cell) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startCell(cell);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endCell(ICellContent cell) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endCell(cell);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startList(IListContent list) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startList(list);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endList(IListContent list) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endList(list);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startListBand(IListBandContent listBand) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startListBand(listBand);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endListBand(IListBandContent listBand) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endListBand(listBand);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startContainer(IContainerContent container) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startContainer(container);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endContainer(IContainerContent container) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endContainer(container);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startText(ITextContent text) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startText(text);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startData(IDataContent data) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startData(data);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startLabel(ILabelContent label) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startLabel(label);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startAutoText(IAutoTextContent autoText) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startAutoText(autoText);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startForeign(IForeignContent foreign) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startForeign(foreign);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startImage(IImageContent image) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startImage(image);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startContent(IContent content) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startContent(content);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endContent(IContent content) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endContent(content);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startGroup(IGroupContent group) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startGroup(group);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endGroup(IGroupContent group) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endGroup(group);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startTableGroup(ITableGroupContent group) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startTableGroup(group);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endTableGroup(ITableGroupContent group) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endTableGroup(group);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void startListGroup(IListGroupContent group) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.startListGroup(group);
+		} finally {
+			end(startTime);
+		}
+	}
+
+	@Override
+	public void endListGroup(IListGroupContent group) throws BirtException {
+		long startTime = System.nanoTime();
+		try {
+			emitter.endListGroup(group);
+		} finally {
+			end(startTime);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.internal.instrument;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The flight recorder event of a phase, it is only loaded by the recorder if
+ * the jdk.jfr module is available.
+ */
+@Name("org.eclipse.birt.report.engine.Phase")
+@Label("Report Engine Phase")
+@Category({ "BIRT", "Report Engine" })
+@Description("The time spent in a phase of a report engine task")
+@StackTrace(false)
+final class PerformanceEvent extends Event {
+
+	@Label("Phase")
+	String phase;
+
+	@Label("Name")
+	String name;
+
+	@Label("Elapsed Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long elapsedTime;
+
+	@Label("Count")
+	long count;
+
+	static void emit(String phase, String name, long elapsedTime, long count) {
+		PerformanceEvent event = new PerformanceEvent();
+		if (event.isEnabled()) {
+			event.phase = phase;
+			event.name = name;
+			event.elapsedTime = elapsedTime;
+			event.count = count;
+			event.commit();
+		}
+	}
+}
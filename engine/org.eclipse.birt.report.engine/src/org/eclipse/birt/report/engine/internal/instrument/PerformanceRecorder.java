@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.internal.instrument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.birt.report.engine.api.IPerformanceListener;
+import org.eclipse.birt.report.engine.api.IPerformanceSummary;
+
+/**
+ * Records the time spent in the phases of a task.
+ *
+ * Each phase has its own counters, the measures without name are added to them
+ * without any lock or lookup. The named measures, such as the data sets and the
+ * emitters, are kept in a map of the phase. The listeners and the flight
+ * recorder are notified of the changes of the totals in flush(), so the hot
+ * paths only add to the counters. The recorder is thread safe as the pages may
+ * be rendered in parallel.
+ */
+public class PerformanceRecorder implements IPerformanceSummary {
+
+	private static final Logger logger = Logger.getLogger(PerformanceRecorder.class.getName());
+
+	private static final String[] PHASE_NAMES = { null, "task", "designLoad", "irBuild", "query", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"queryCacheHit", "dataFetch", "script", "layout", "emit", "output", "archive" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+
+	private static final boolean FLIGHT_RECORDER = isFlightRecorderAvailable();
+
+	private static class Measure {
+
+		final LongAdder elapsedTime = new LongAdder();
+		final LongAdder count = new LongAdder();
+
+		/**
+		 * the totals notified by the last flush, guarded by the recorder.
+		 */
+		long flushedTime;
+		long flushedCount;
+	}
+
+	/**
+	 * the measures without name, indexed by the phase.
+	 */
+	private final Measure[] measures = new Measure[PHASE_NAMES.length];
+
+	/**
+	 * the named measures, indexed by the phase.
+	 */
+	@SuppressWarnings("unchecked")
+	private final Map<String, Measure>[] namedMeasures = new Map[PHASE_NAMES.length];
+
+	private final List<IPerformanceListener> listeners = new ArrayList<>();
+
+	/**
+	 * constructor
+	 *
+	 * @param listener the listener notified in flush, may be null.
+	 */
+	public PerformanceRecorder(IPerformanceListener listener) {
+		for (int i = 1; i < PHASE_NAMES.length; i++) {
+			measures[i] = new Measure();
+			namedMeasures[i] = new ConcurrentHashMap<>();
+		}
+		addListener(listener);
+	}
+
+	/**
+	 * add a listener notified in flush.
+	 *
+	 * @param listener the listener, null is ignored.
+	 */
+	public synchronized void addListener(IPerformanceListener listener) {
+		if (listener != null && !listeners.contains(listener)) {
+			listeners.add(listener);
+		}
+	}
+
+	/**
+	 * get the start time of a measure.
+	 *
+	 * @return the start time in nanoseconds
+	 */
+	public static long start() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * end a measure started by start(), the count of the phase is increased by
+	 * one.
+	 *
+	 * @param phase     the phase
+	 * @param name      the measured object, may be null.
+	 * @param startTime the start time returned by start()
+	 */
+	public void end(int phase, String name, long startTime) {
+		add(phase, name, System.nanoTime() - startTime, 1);
+	}
+
+	/**
+	 * add a measure to the totals. The measure of an unknown phase is ignored.
+	 *
+	 * @param phase       the phase
+	 * @param name        the measured object, may be null.
+	 * @param elapsedTime the time in nanoseconds
+	 * @param count       the count
+	 */
+	public void add(int phase, String name, long elapsedTime, long count) {
+		if (phase <= 0 || phase >= PHASE_NAMES.length) {
+			return;
+		}
+		Measure measure;
+		if (name == null) {
+			measure = measures[phase];
+		} else {
+			Map<String, Measure> named = namedMeasures[phase];
+			measure = named.get(name);
+			if (measure == null) {
+				Measure newMeasure = new Measure();
+				measure = named.putIfAbsent(name, newMeasure);
+				if (measure == null) {
+					measure = newMeasure;
+				}
+			}
+		}
+		measure.elapsedTime.add(elapsedTime);
+		measure.count.add(count);
+	}
+
+	/**
+	 * notify the listeners and the flight recorder of the measures added since
+	 * the last flush.
+	 */
+	public void flush() {
+		List<Object[]> events = new ArrayList<>();
+		IPerformanceListener[] notified;
+		synchronized (this) {
+			for (int phase = 1; phase < PHASE_NAMES.length; phase++) {
+				addEvent(events, phase, null, measures[phase]);
+				for (Map.Entry<String, Measure> entry : namedMeasures[phase].entrySet()) {
+					addEvent(events, phase, entry.getKey(), entry.getValue());
+				}
+			}
+			notified = listeners.toArray(new IPerformanceListener[listeners.size()]);
+		}
+		for (Object[] event : events) {
+			int phase = ((Integer) event[0]).intValue();
+			String name = (String) event[1];
+			long elapsedTime = ((Long) event[2]).longValue();
+			long count = ((Long) event[3]).longValue();
+			if (FLIGHT_RECORDER) {
+				PerformanceEvent.emit(getPhaseName(phase), name, elapsedTime, count);
+			}
+			for (IPerformanceListener listener : notified) {
+				try {
+					listener.onPhase(phase, name, elapsedTime, count);
+				} catch (RuntimeException ex) {
+					logger.log(Level.WARNING, ex.getMessage(), ex);
+				}
+			}
+		}
+	}
+
+	private void addEvent(List<Object[]> events, int phase, String name, Measure measure) {
+		long elapsedTime = measure.elapsedTime.sum();
+		long count = measure.count.sum();
+		if (elapsedTime != measure.flushedTime || count != measure.flushedCount) {
+			events.add(new Object[] { Integer.valueOf(phase), name, Long.valueOf(elapsedTime - measure.flushedTime),
+					Long.valueOf(count - measure.flushedCount) });
+			measure.flushedTime = elapsedTime;
+			measure.flushedCount = count;
+		}
+	}
+
+	@Override
+	public long getElapsedTime(int phase) {
+		if (phase <= 0 || phase >= PHASE_NAMES.length) {
+			return 0;
+		}
+		long elapsedTime = measures[phase].elapsedTime.sum();
+		for (Measure measure : namedMeasures[phase].values()) {
+			elapsedTime += measure.elapsedTime.sum();
+		}
+		return elapsedTime;
+	}
+
+	@Override
+	public long getCount(int phase) {
+		if (phase <= 0 || phase >= PHASE_NAMES.length) {
+			return 0;
+		}
+		long count = measures[phase].count.sum();
+		for (Measure measure : namedMeasures[phase].values()) {
+			count += measure.count.sum();
+		}
+		return count;
+	}
+
+	@Override
+	public Collection<String> getNames(int phase) {
+		if (phase <= 0 || phase >= PHASE_NAMES.length) {
+			return new ArrayList<>();
+		}
+		return new ArrayList<>(namedMeasures[phase].keySet());
+	}
+
+	@Override
+	public long getElapsedTime(int phase, String name) {
+		Measure measure = getMeasure(phase, name);
+		return measure == null ? 0 : measure.elapsedTime.sum();
+	}
+
+	@Override
+	public long getCount(int phase, String name) {
+		Measure measure = getMeasure(phase, name);
+		return measure == null ? 0 : measure.count.sum();
+	}
+
+	private Measure getMeasure(int phase, String name) {
+		if (phase <= 0 || phase >= PHASE_NAMES.length) {
+			return null;
+		}
+		if (name == null) {
+			return measures[phase];
+		}
+		return namedMeasures[phase].get(name);
+	}
+
+	/**
+	 * get the name of the phase used in the flight recorder events.
+	 *
+	 * @param phase the phase
+	 * @return the name of the phase
+	 */
+	public static String getPhaseName(int phase) {
+		if (phase > 0 && phase < PHASE_NAMES.length) {
+			return PHASE_NAMES[phase];
+		}
+		return String.valueOf(phase);
+	}
+
+	private static boolean isFlightRecorderAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, PerformanceRecorder.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (Throwable ex) {
+			return false;
+		}
+	}
+}
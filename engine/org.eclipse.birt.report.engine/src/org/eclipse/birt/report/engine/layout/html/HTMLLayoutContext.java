@@ -63,6 +63,15 @@ public class HTMLLayoutContext {
 
 	protected boolean isHorizontalPageBreak = false;
 
+	/**
+	 * the table layout outputs the rows as soon as they are completed, only the
+	 * rows of the unresolved row spans are buffered, at most tableStreamingRowLimit
+	 * rows.
+	 */
+	protected boolean tableStreaming = false;
+
+	protected int tableStreamingRowLimit = 1000;
+
 	public boolean isSoftRowBreak() {
 		return softRowBreak;
 	}
@@ -79,6 +88,22 @@ public class HTMLLayoutContext {
 		this.softRowBreak = softRowBreak;
 	}
 
+	public boolean isTableStreaming() {
+		return tableStreaming;
+	}
+
+	public void setTableStreaming(boolean tableStreaming) {
+		this.tableStreaming = tableStreaming;
+	}
+
+	public int getTableStreamingRowLimit() {
+		return tableStreamingRowLimit;
+	}
+
+	public void setTableStreamingRowLimit(int tableStreamingRowLimit) {
+		this.tableStreamingRowLimit = tableStreamingRowLimit;
+	}
+
 	public PageBufferFactory getBufferFactory() {
 		return bufferFactory;
 	}
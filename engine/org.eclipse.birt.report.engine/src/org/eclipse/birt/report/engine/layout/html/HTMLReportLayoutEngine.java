@@ -21,6 +21,7 @@ import org.eclipse.birt.core.exception.BirtException;
 import org.eclipse.birt.report.engine.api.IEngineTask;
 import org.eclipse.birt.report.engine.api.IHTMLRenderOption;
 import org.eclipse.birt.report.engine.api.IPDFRenderOption;
+import org.eclipse.birt.report.engine.api.IRenderOption;
 import org.eclipse.birt.report.engine.api.impl.EngineTask;
 import org.eclipse.birt.report.engine.content.IContent;
 import org.eclipse.birt.report.engine.content.IReportContent;
@@ -165,6 +166,15 @@ public class HTMLReportLayoutEngine implements IReportLayoutEngine {
 			}
 		}
 
+		// the streaming table layout only works on the unpaginated output
+		Object streaming = options.get(IRenderOption.HTML_TABLE_STREAMING);
+		if (Boolean.TRUE.equals(streaming) && !context.allowPageBreak()) {
+			context.setTableStreaming(true);
+			Object rowLimit = options.get(IRenderOption.HTML_TABLE_STREAMING_ROW_LIMIT);
+			if (rowLimit instanceof Integer && ((Integer) rowLimit).intValue() > 0) {
+				context.setTableStreamingRowLimit(((Integer) rowLimit).intValue());
+			}
+		}
 	}
 
 	@Override
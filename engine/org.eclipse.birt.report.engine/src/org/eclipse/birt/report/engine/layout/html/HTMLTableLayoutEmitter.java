@@ -514,6 +514,15 @@ public class HTMLTableLayoutEmitter extends ContentEmitterAdapter {
 				lastRowId = row.getRowID();
 				hasDropCell = layout.hasDropCell();
 				if (hasDropCell()) {
+					// truncate the row spans and drop cells at this row if the
+					// streaming cache exceeds the max limit
+					if (context.isTableStreaming()) {
+						if (layout.getRowCount() >= context.getTableStreamingRowLimit()) {
+							resolveAll(true);
+							flush();
+						}
+						return;
+					}
 					// Page break only if multiple page is enabled and cache exceed max limit
 					if (emitter instanceof ContentEmitterAdapter
 							&& !((ContentEmitterAdapter) emitter).isMultiplePagesEnabled()) {
@@ -528,6 +537,10 @@ public class HTMLTableLayoutEmitter extends ContentEmitterAdapter {
 					flush();
 					return;
 				}
+				if (context.isTableStreaming()) {
+					// the row is output directly, no following row spans it.
+					resetLayout();
+				}
 			}
 			// For fixed layout reports and in run task, we need to emit the
 			// invisible content to PDF layout engine.
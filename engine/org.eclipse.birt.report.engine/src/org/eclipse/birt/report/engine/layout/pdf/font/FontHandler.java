@@ -59,6 +59,12 @@ public class FontHandler {
 
 	private Map fonts = new HashMap();
 
+	/**
+	 * the fonts mapped to the characters by the font families, shared by the font
+	 * handlers of the same families.
+	 */
+	private MappedFontCache mappedFonts;
+
 	/**
 	 * the characters which prefer to use the font of their previous character.
 	 */
@@ -181,6 +187,18 @@ public class FontHandler {
 				return bf;
 			}
 		}
+		if (mappedFonts == null) {
+			mappedFonts = fontManager.getMappedFontCache(fontFamilies, fontStyle);
+		}
+		BaseFont font = mappedFonts.get(c);
+		if (font == null) {
+			font = searchMappedFont(c);
+			mappedFonts.put(c, font);
+		}
+		return font;
+	}
+
+	private BaseFont searchMappedFont(char c) {
 		// search in the font family to find one to display the character
 		for (int i = 0; i < fontFamilies.length; i++) {
 			// Translate the font alias to font family
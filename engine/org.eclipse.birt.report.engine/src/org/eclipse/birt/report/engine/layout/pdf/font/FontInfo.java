@@ -23,6 +23,8 @@ import com.lowagie.text.pdf.BaseFont;
 public class FontInfo {
 	private BaseFont bf;
 
+	private GlyphWidthCache widthCache;
+
 	private float fontSize;
 
 	private int fontStyle;
@@ -49,6 +51,7 @@ public class FontInfo {
 
 	public FontInfo(FontInfo fontInfo) {
 		this.bf = fontInfo.bf;
+		this.widthCache = fontInfo.widthCache;
 		this.fontStyle = fontInfo.fontStyle;
 		this.simulation = fontInfo.simulation;
 		this.fontSize = fontInfo.fontSize;
@@ -169,7 +172,10 @@ public class FontInfo {
 			return word.length() * (fontSize / 2);
 		}
 
-		return bf.getWidthPoint(word, fontSize);
+		if (widthCache == null) {
+			widthCache = GlyphWidthCache.getInstance(bf);
+		}
+		return widthCache.getWidthPoint(bf, word, fontSize);
 	}
 
 	public int getItalicAdjust() {
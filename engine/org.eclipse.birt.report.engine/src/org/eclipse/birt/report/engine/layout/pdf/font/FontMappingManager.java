@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.lowagie.text.pdf.BaseFont;
 
@@ -45,6 +46,11 @@ public class FontMappingManager {
 	 */
 	private Map compositeFonts = new HashMap();
 
+	/**
+	 * the fonts mapped to the characters, keyed by the font style and families.
+	 */
+	private ConcurrentHashMap<String, MappedFontCache> mappedFonts = new ConcurrentHashMap<>();
+
 	FontMappingManager(FontMappingManagerFactory factory, FontMappingManager parent, FontMappingConfig config,
 			Locale locale) {
 		this.factory = factory;
@@ -105,6 +111,31 @@ public class FontMappingManager {
 		return null;
 	}
 
+	/**
+	 * get the cache of the fonts mapped to the characters by the font families.
+	 *
+	 * @param fontFamilies the font families
+	 * @param fontStyle    the font style
+	 * @return the cache shared by the font handlers of the same families.
+	 */
+	MappedFontCache getMappedFontCache(String[] fontFamilies, int fontStyle) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(fontStyle);
+		for (int i = 0; i < fontFamilies.length; i++) {
+			sb.append(',').append(fontFamilies[i]);
+		}
+		String key = sb.toString();
+		MappedFontCache cache = mappedFonts.get(key);
+		if (cache == null) {
+			cache = new MappedFontCache();
+			MappedFontCache existing = mappedFonts.putIfAbsent(key, cache);
+			if (existing != null) {
+				cache = existing;
+			}
+		}
+		return cache;
+	}
+
 	public CompositeFont getCompositeFont(String name) {
 		return (CompositeFont) compositeFonts.get(name);
 	}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.layout.pdf.font;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.lowagie.text.pdf.BaseFont;
+
+/**
+ * Caches the advance widths of the glyphs of a base font.
+ *
+ * The widths are kept in the glyph space (1/1000 of the font size), so one
+ * table serves all the font sizes. The width of a text is the sum of the widths
+ * of its characters as BaseFont.getWidth(String) does, the texts with surrogate
+ * pairs are measured by the base font. The widths of the longer words are kept
+ * in a LRU as the same values are measured again and again in a report.
+ *
+ * The caches are shared by the tasks, so they are thread safe. The cache
+ * doesn't refer to the font, so the font is passed to the measure methods.
+ */
+public class GlyphWidthCache {
+
+	/**
+	 * the shortest word kept in the LRU, the shorter ones are summed faster than
+	 * looked up.
+	 */
+	private static final int MIN_CACHED_WORD = 8;
+
+	private static final int MAX_CACHED_WORDS = 1024;
+
+	private static final int PAGE_SIZE = 256;
+
+	private static final Map<BaseFont, GlyphWidthCache> caches = Collections
+			.synchronizedMap(new WeakHashMap<BaseFont, GlyphWidthCache>());
+
+	/**
+	 * the widths of the BMP characters, in pages of 256 characters. The width is
+	 * stored plus one so zero means not measured yet.
+	 */
+	private final AtomicReferenceArray<AtomicIntegerArray> pages = new AtomicReferenceArray<>(
+			Character.MAX_VALUE / PAGE_SIZE + 1);
+
+	private final Map<String, Integer> words = new LinkedHashMap<String, Integer>(MAX_CACHED_WORDS, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+			return size() > MAX_CACHED_WORDS;
+		}
+	};
+
+	private GlyphWidthCache() {
+	}
+
+	/**
+	 * get the cache of the base font.
+	 *
+	 * @param bf the base font
+	 * @return the cache shared by all the users of the font
+	 */
+	public static GlyphWidthCache getInstance(BaseFont bf) {
+		synchronized (caches) {
+			GlyphWidthCache cache = caches.get(bf);
+			if (cache == null) {
+				cache = new GlyphWidthCache();
+				caches.put(bf, cache);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * get the width of the text, the same as BaseFont.getWidthPoint().
+	 *
+	 * @param bf       the base font of the cache
+	 * @param text     the text
+	 * @param fontSize the font size
+	 * @return the points of the width
+	 */
+	public float getWidthPoint(BaseFont bf, String text, float fontSize) {
+		return getWidth(bf, text) * 0.001f * fontSize;
+	}
+
+	/**
+	 * get the width of the text in the glyph space.
+	 *
+	 * @param bf   the base font of the cache
+	 * @param text the text
+	 * @return the width, the same as BaseFont.getWidth(String)
+	 */
+	public int getWidth(BaseFont bf, String text) {
+		if (text.length() < MIN_CACHED_WORD) {
+			return measure(bf, text);
+		}
+		synchronized (words) {
+			Integer width = words.get(text);
+			if (width != null) {
+				return width.intValue();
+			}
+		}
+		int width = measure(bf, text);
+		synchronized (words) {
+			words.put(text, Integer.valueOf(width));
+		}
+		return width;
+	}
+
+	private int measure(BaseFont bf, String text) {
+		int total = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isSurrogate(c)) {
+				return bf.getWidth(text);
+			}
+			total += getWidth(bf, c);
+		}
+		return total;
+	}
+
+	/**
+	 * get the width of the character in the glyph space.
+	 *
+	 * @param bf the base font of the cache
+	 * @param c  the character
+	 * @return the width, the same as BaseFont.getWidth(char)
+	 */
+	public int getWidth(BaseFont bf, char c) {
+		int index = c / PAGE_SIZE;
+		AtomicIntegerArray page = pages.get(index);
+		if (page == null) {
+			pages.compareAndSet(index, null, new AtomicIntegerArray(PAGE_SIZE));
+			page = pages.get(index);
+		}
+		int width = page.get(c % PAGE_SIZE);
+		if (width == 0) {
+			width = bf.getWidth(c) + 1;
+			page.set(c % PAGE_SIZE, width);
+		}
+		return width - 1;
+	}
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.birt.report.engine.layout.pdf.font;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.lowagie.text.pdf.BaseFont;
+
+/**
+ * The fonts selected to display the characters by a list of font families, so
+ * the font families and the fallback fonts are searched once per character.
+ *
+ * The fonts are kept in pages of 256 characters, the pages are created on
+ * demand. It's shared by the tasks using the same font mapping manager.
+ */
+class MappedFontCache {
+
+	private static final int PAGE_SIZE = 256;
+
+	private final AtomicReferenceArray<AtomicReferenceArray<BaseFont>> pages = new AtomicReferenceArray<>(
+			Character.MAX_VALUE / PAGE_SIZE + 1);
+
+	/**
+	 * get the font mapped to the character.
+	 *
+	 * @param c the character
+	 * @return the font, null if it is not mapped yet.
+	 */
+	BaseFont get(char c) {
+		AtomicReferenceArray<BaseFont> page = pages.get(c / PAGE_SIZE);
+		if (page == null) {
+			return null;
+		}
+		return page.get(c % PAGE_SIZE);
+	}
+
+	/**
+	 * map the character to the font.
+	 *
+	 * @param c    the character
+	 * @param font the font
+	 */
+	void put(char c, BaseFont font) {
+		int index = c / PAGE_SIZE;
+		AtomicReferenceArray<BaseFont> page = pages.get(index);
+		if (page == null) {
+			pages.compareAndSet(index, null, new AtomicReferenceArray<BaseFont>(PAGE_SIZE));
+			page = pages.get(index);
+		}
+		page.set(c % PAGE_SIZE, font);
+	}
+}
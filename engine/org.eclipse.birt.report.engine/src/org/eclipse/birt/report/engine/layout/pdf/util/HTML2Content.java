@@ -20,8 +20,10 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.birt.report.engine.content.ICellContent;
 import org.eclipse.birt.report.engine.content.IContainerContent;
@@ -362,6 +364,17 @@ public class HTML2Content implements HTMLConstants {
 
 	private static final String LIST_STYLE_TYPE = "list-style-type";
 
+	/**
+	 * the max parsed HTML cached for a report content.
+	 */
+	private static final int MAX_PARSED_HTML = 256;
+
+	/**
+	 * the parsed HTML of the report contents, keyed by the text type and the
+	 * text.
+	 */
+	private static final Map<IReportContent, Map<String, ParsedHTML>> parsedHTMLs = new WeakHashMap<>();
+
 	static {
 		htmlInlineDisplay.add(TAG_I);
 		htmlInlineDisplay.add(TAG_FONT);
@@ -434,16 +447,46 @@ public class HTML2Content implements HTMLConstants {
 			return;
 		}
 
-		HashMap styleMap = new HashMap();
-		ReportDesignHandle reportDesign = foreign.getReportContent().getDesign().getReportDesign();
-		HTMLStyleProcessor htmlProcessor = new HTMLStyleProcessor(reportDesign);
 		Object rawValue = foreign.getRawValue();
-		Document doc = null;
+		ParsedHTML html = null;
 		if (null != rawValue) {
-			doc = new TextParser().parse(foreign.getRawValue().toString(),
-					(String) textTypeMapping.get(foreign.getRawType()));
+			html = getParsedHTML(foreign, rawValue.toString(), (String) textTypeMapping.get(foreign.getRawType()));
+		}
+		if (html != null) {
+			Element body = html.body;
+			HashMap<Element, StyleProperties> styleMap = html.copyStyles();
+			IContainerContent container = foreign.getReportContent().createContainerContent();
+
+			IStyle parentStyle = foreign.getStyle();
+			if (CSSValueConstants.INLINE_VALUE.equals(parentStyle.getProperty(IStyle.STYLE_DISPLAY))) {
+				container.getStyle().setProperty(IStyle.STYLE_DISPLAY, CSSValueConstants.INLINE_VALUE);
+			}
+			addChild(foreign, container);
+			processNodes(body, styleMap, container, null, 0);
+			// formalizeInlineContainer( new ArrayList( ), foreign, container );
+		}
+	}
+
+	/**
+	 * get the parsed HTML of the text. The text of the same text item is often
+	 * the same in each instance, such as the HTML without value-of or with the
+	 * same values, so the DOM tree and the styles are parsed only once for a
+	 * report content.
+	 */
+	private static ParsedHTML getParsedHTML(IForeignContent foreign, String text, String textType) {
+		IReportContent report = foreign.getReportContent();
+		String key = textType + ":" + text;
+		synchronized (parsedHTMLs) {
+			Map<String, ParsedHTML> htmls = parsedHTMLs.get(report);
+			if (htmls != null) {
+				ParsedHTML html = htmls.get(key);
+				if (html != null) {
+					return html;
+				}
+			}
 		}
 
+		Document doc = new TextParser().parse(text, textType);
 		Element body = null;
 		if (doc != null) {
 			Node node = doc.getFirstChild();
@@ -452,18 +495,56 @@ public class HTML2Content implements HTMLConstants {
 				body = (Element) node;
 			}
 		}
-		if (body != null) {
-			htmlProcessor.execute(body, styleMap, foreign.getReportContent().getReportContext() == null ? null
-					: foreign.getReportContent().getReportContext().getAppContext());
-			IContainerContent container = foreign.getReportContent().createContainerContent();
+		if (body == null) {
+			return null;
+		}
+		HashMap<Element, StyleProperties> styleMap = new HashMap<>();
+		ReportDesignHandle reportDesign = report.getDesign().getReportDesign();
+		HTMLStyleProcessor htmlProcessor = new HTMLStyleProcessor(reportDesign);
+		htmlProcessor.execute(body, styleMap,
+				report.getReportContext() == null ? null : report.getReportContext().getAppContext());
+		ParsedHTML html = new ParsedHTML(body, styleMap);
 
-			IStyle parentStyle = foreign.getStyle();
-			if (CSSValueConstants.INLINE_VALUE.equals(parentStyle.getProperty(IStyle.STYLE_DISPLAY))) {
-				container.getStyle().setProperty(IStyle.STYLE_DISPLAY, CSSValueConstants.INLINE_VALUE);
+		synchronized (parsedHTMLs) {
+			Map<String, ParsedHTML> htmls = parsedHTMLs.get(report);
+			if (htmls == null) {
+				htmls = new LinkedHashMap<String, ParsedHTML>(16, 0.75f, true) {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected boolean removeEldestEntry(Map.Entry<String, ParsedHTML> eldest) {
+						return size() > MAX_PARSED_HTML;
+					}
+				};
+				parsedHTMLs.put(report, htmls);
 			}
-			addChild(foreign, container);
-			processNodes(body, styleMap, container, null, 0);
-			// formalizeInlineContainer( new ArrayList( ), foreign, container );
+			htmls.put(key, html);
+		}
+		return html;
+	}
+
+	/**
+	 * the DOM tree and the styles of the parsed HTML. The DOM tree is only read
+	 * while creating the contents, but the styles are assigned to the contents,
+	 * so each instance gets its own copy.
+	 */
+	private static class ParsedHTML {
+
+		private final Element body;
+		private final HashMap<Element, StyleProperties> styles;
+
+		ParsedHTML(Element body, HashMap<Element, StyleProperties> styles) {
+			this.body = body;
+			this.styles = styles;
+		}
+
+		HashMap<Element, StyleProperties> copyStyles() {
+			HashMap<Element, StyleProperties> copy = new HashMap<>();
+			for (Map.Entry<Element, StyleProperties> entry : styles.entrySet()) {
+				copy.put(entry.getKey(), new StyleProperties(entry.getValue()));
+			}
+			return copy;
 		}
 	}
 
@@ -18,6 +18,7 @@ import java.util.HashMap;
 
 import org.eclipse.birt.report.engine.content.IContent;
 import org.eclipse.birt.report.engine.content.IStyle;
+import org.eclipse.birt.report.engine.css.dom.StyleDeclaration;
 import org.eclipse.birt.report.engine.ir.DimensionType;
 
 public class StyleProperties {
@@ -32,6 +33,11 @@ public class StyleProperties {
 		this.style = style;
 	}
 
+	public StyleProperties(StyleProperties sp) {
+		this.style = new StyleDeclaration((StyleDeclaration) sp.style);
+		this.properties.putAll(sp.properties);
+	}
+
 	public boolean isEmpty() {
 		if (style == null) {
 			return properties.isEmpty();